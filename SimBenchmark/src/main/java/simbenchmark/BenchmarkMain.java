@@ -0,0 +1,68 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simbenchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import simulator.editmodel.EditModel;
+
+/**
+ * Startet die JMH-Benchmarks.<br>
+ * Alle Kommandozeilenparameter werden an JMH weitergereicht. Sofern nicht anders angegeben,
+ * werden die Ergebnisse im json-Format in der Datei <code>SimBenchmark-&lt;Version&gt;.json</code>
+ * gespeichert, so dass die Ergebnisse verschiedener Programmversionen maschinell verglichen werden knnen.<br>
+ * Beispiele:<br>
+ * <code>java -jar SimBenchmark.jar</code> (alle Benchmarks)<br>
+ * <code>java -jar SimBenchmark.jar EventManagerBenchmark -p eventManager=IndexedHeap</code><br>
+ * <code>java -jar SimBenchmark.jar -l</code> (Liste der Benchmarks)
+ * @author Alexander Herzog
+ */
+public class BenchmarkMain {
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Diese Klasse kann nicht instanziert werden. Sie stellt nur die statische Methode {@link #main(String[])} zur Verfgung.
+	 */
+	private BenchmarkMain() {
+	}
+
+	/**
+	 * Liefert den Namen der Ausgabedatei fr die Ergebnisse.
+	 * @return	Name der Ausgabedatei
+	 */
+	public static String getDefaultResultFileName() {
+		return "SimBenchmark-"+EditModel.systemVersion+".json";
+	}
+
+	/**
+	 * Hauptroutine
+	 * @param args	Kommandozeilenparameter (werden an JMH weitergereicht)
+	 * @throws Exception	Fehler beim Ausfhren der Benchmarks
+	 */
+	public static void main(final String[] args) throws Exception {
+		final List<String> arguments=new ArrayList<>(Arrays.asList(args));
+		if (!arguments.contains("-rf")) {
+			arguments.add("-rf");
+			arguments.add("json");
+		}
+		if (!arguments.contains("-rff")) {
+			arguments.add("-rff");
+			arguments.add(getDefaultResultFileName());
+		}
+		org.openjdk.jmh.Main.main(arguments.toArray(new String[0]));
+	}
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simbenchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mathtools.distribution.tools.AbstractDistributionWrapper;
+import mathtools.distribution.tools.DistributionRandomNumber;
+import mathtools.distribution.tools.DistributionTools;
+
+/**
+ * Misst die Geschwindigkeit von {@link DistributionRandomNumber#random(AbstractRealDistribution)}
+ * fr verschiedene Verteilungen.<br>
+ * Die Verteilungen werden ber ihre (von der Sprache unabhngigen) Standardnamen aus
+ * {@link DistributionTools} ausgewhlt. Sofern mglich, wird jeweils eine Verteilung mit
+ * Erwartungswert 60 und Standardabweichung 20 verwendet, sonst die Vorgabeverteilung des Wrappers.
+ * @author Alexander Herzog
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+@State(Scope.Thread)
+public class DistributionBenchmark {
+	/**
+	 * Name der Verteilung
+	 */
+	@Param({"Exponentialverteilung","Gleichverteilung","Normalverteilung","Lognormalverteilung","Erlang-Verteilung","Gamma-Verteilung","Beta-Verteilung","Weibull-Verteilung","Dreiecksverteilung","Pert-Verteilung","Empirische Daten","Poisson-Verteilung"})
+	public String distributionName;
+
+	/**
+	 * Verteilung
+	 */
+	private AbstractRealDistribution distribution;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public DistributionBenchmark() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Erstellt die Verteilung.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		final AbstractDistributionWrapper wrapper=DistributionTools.getWrapper(distributionName);
+		if (wrapper==null) throw new IllegalArgumentException("Unknown distribution: "+distributionName);
+		AbstractRealDistribution dist=null;
+		if (wrapper.canBuildDistributionFromMeanAndSD) dist=wrapper.getDistribution(60,20);
+		if (dist==null) dist=wrapper.getDefaultDistribution();
+		distribution=dist;
+	}
+
+	/**
+	 * Erzeugt eine Zufallszahl gem der Verteilung.
+	 * @return	Zufallszahl
+	 */
+	@Benchmark
+	public double random() {
+		return DistributionRandomNumber.random(distribution);
+	}
+}
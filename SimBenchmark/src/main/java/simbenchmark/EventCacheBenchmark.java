@@ -0,0 +1,190 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simbenchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simcore.Event;
+import simcore.SimData;
+import simcore.eventcache.AssociativeEventCache;
+import simcore.eventcache.EventCache;
+import simcore.eventcache.HashMapEventCache;
+import simcore.eventcache.ListEventCache;
+import simcore.eventcache.ListEventCacheLocked;
+import simcore.eventcache.NoEventCache;
+
+/**
+ * Misst den Durchsatz der {@link EventCache}-Implementierungen.<br>
+ * Es wird eine feste Anzahl an Ereignissen "in Benutzung" gehalten (entsprechend den Ereignissen
+ * in der Ereignisliste). Pro Operation wird ein Ereignis an den Cache zurckgegeben und ein
+ * Ereignis einer (zufllig gewhlten) Ereignisklasse aus dem Cache entnommen.
+ * @author Alexander Herzog
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventCacheBenchmark {
+	/** Anzahl an Ereignissen, die sich gleichzeitig in Benutzung befinden (muss eine Zweierpotenz sein) */
+	private static final int EVENTS_IN_USE=1024;
+
+	/** Verwendete Ereignisklassen */
+	private static final Class<?>[] EVENT_CLASSES=new Class<?>[] {
+		CacheEvent1.class, CacheEvent2.class, CacheEvent3.class, CacheEvent4.class,
+		CacheEvent5.class, CacheEvent6.class, CacheEvent7.class, CacheEvent8.class
+	};
+
+	/**
+	 * Zu untersuchender Ereignis-Cache
+	 */
+	@Param({"Associative","HashMap","List","ListLocked","No"})
+	public String eventCache;
+
+	/**
+	 * Anzahl an verschiedenen Ereignisklassen (1 bis 8)
+	 */
+	@Param({"1","8"})
+	public int eventClasses;
+
+	/**
+	 * Ereignis-Cache
+	 */
+	private EventCache cache;
+
+	/**
+	 * Ereignisse, die sich aktuell in Benutzung befinden
+	 */
+	private Event[] eventsInUse;
+
+	/**
+	 * Klassen der als nchstes an den Positionen in {@link #eventsInUse} anzufordernden Ereignisse
+	 */
+	private Class<? extends Event>[] nextEventClass;
+
+	/**
+	 * Nchste zu bearbeitende Position in {@link #eventsInUse}
+	 */
+	private int position;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public EventCacheBenchmark() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Erstellt den zu untersuchenden Ereignis-Cache.
+	 * @param name	Name des Ereignis-Caches
+	 * @return	Neuer Ereignis-Cache
+	 */
+	private static EventCache getEventCache(final String name) {
+		switch (name) {
+		case "Associative": return new AssociativeEventCache(128);
+		case "HashMap": return new HashMapEventCache();
+		case "List": return new ListEventCache();
+		case "ListLocked": return new ListEventCacheLocked();
+		case "No": return new NoEventCache();
+		default: throw new IllegalArgumentException("Unknown event cache: "+name);
+		}
+	}
+
+	/**
+	 * Bereitet den Ereignis-Cache und die in Benutzung befindlichen Ereignisse vor.
+	 */
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void setup() {
+		cache=getEventCache(eventCache);
+		final Random random=new Random(42);
+		eventsInUse=new Event[EVENTS_IN_USE];
+		nextEventClass=(Class<? extends Event>[])new Class<?>[EVENTS_IN_USE];
+		for (int i=0;i<EVENTS_IN_USE;i++) {
+			nextEventClass[i]=(Class<? extends Event>)EVENT_CLASSES[random.nextInt(Math.max(1,Math.min(EVENT_CLASSES.length,eventClasses)))];
+			eventsInUse[i]=cache.get(nextEventClass[i]);
+		}
+		position=0;
+	}
+
+	/**
+	 * Gibt ein Ereignis an den Cache zurck und fordert ein neues Ereignis an.
+	 * @return	Neues Ereignis
+	 */
+	@Benchmark
+	public Event putAndGet() {
+		final int pos=position;
+		position=(pos+1)&(EVENTS_IN_USE-1);
+		cache.put(eventsInUse[pos]);
+		final Event event=cache.get(nextEventClass[pos]);
+		eventsInUse[pos]=event;
+		return event;
+	}
+
+	/**
+	 * Basisklasse fr die Test-Ereignisse
+	 */
+	public abstract static class CacheEvent extends Event {
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public CacheEvent() {
+			/*
+			 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+			 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+			 */
+		}
+
+		@Override
+		public void run(final SimData data) {
+		}
+	}
+
+	/** Test-Ereignis 1 */
+	public static final class CacheEvent1 extends CacheEvent {}
+	/** Test-Ereignis 2 */
+	public static final class CacheEvent2 extends CacheEvent {}
+	/** Test-Ereignis 3 */
+	public static final class CacheEvent3 extends CacheEvent {}
+	/** Test-Ereignis 4 */
+	public static final class CacheEvent4 extends CacheEvent {}
+	/** Test-Ereignis 5 */
+	public static final class CacheEvent5 extends CacheEvent {}
+	/** Test-Ereignis 6 */
+	public static final class CacheEvent6 extends CacheEvent {}
+	/** Test-Ereignis 7 */
+	public static final class CacheEvent7 extends CacheEvent {}
+	/** Test-Ereignis 8 */
+	public static final class CacheEvent8 extends CacheEvent {}
+}
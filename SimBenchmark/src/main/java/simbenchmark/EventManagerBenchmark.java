@@ -0,0 +1,220 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simbenchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simcore.Event;
+import simcore.SimData;
+import simcore.eventcache.AssociativeEventCache;
+import simcore.eventmanager.CalendarQueueEventManager;
+import simcore.eventmanager.EventManager;
+import simcore.eventmanager.IndexedHeapEventManager;
+import simcore.eventmanager.LongRunMultiPriorityQueueEventManager;
+import simcore.eventmanager.LongRunMultiSortedArrayListEventManager;
+import simcore.eventmanager.MapEventManager;
+import simcore.eventmanager.MultiArrayEventManager;
+import simcore.eventmanager.MultiPriorityQueueEventManager;
+import simcore.eventmanager.PriorityQueueEventManager;
+
+/**
+ * Misst den Durchsatz der {@link EventManager}-Implementierungen (in Ereignissen pro Sekunde).<br>
+ * Verwendet wird das klassische "Hold"-Modell: Die Ereignisliste enthlt stets {@link #queueLength}
+ * Ereignisse; jedes ausgefhrte Ereignis plant ein neues Ereignis in der Zukunft ein. Die Abstnde
+ * zwischen Ausfhrungszeitpunkt und neuem Ereignis folgen dabei einer von {@link #timeDistribution}
+ * vorgegebenen, in Simulationsmodellen typischen Verteilung.
+ * @author Alexander Herzog
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventManagerBenchmark {
+	/** Anzahl an Ereignissen, die pro Benchmark-Aufruf ausgefhrt werden */
+	private static final int EVENTS_PER_INVOCATION=100_000;
+
+	/** Anzahl an vorab erzeugten Zeitabstnden (muss eine Zweierpotenz sein) */
+	private static final int INCREMENTS_COUNT=1<<16;
+
+	/**
+	 * Zu untersuchende Ereignisverwaltung
+	 */
+	@Param({"LongRunMultiSortedArrayList","IndexedHeap","CalendarQueue","LongRunMultiPriorityQueue","MultiPriorityQueue","MultiArray","PriorityQueue","Map"})
+	public String eventManager;
+
+	/**
+	 * Anzahl an Ereignissen in der Ereignisliste
+	 */
+	@Param({"100","10000"})
+	public int queueLength;
+
+	/**
+	 * Verteilung der Abstnde zwischen dem aktuellen Zeitpunkt und neu eingeplanten Ereignissen:<br>
+	 * "Exp" (Exponentialverteilung, E=60 Sekunden),
+	 * "Uniform" (Gleichverteilung ber 0 bis 120 Sekunden),
+	 * "Bimodal" (90% kurze Abstnde mit E=10 Sekunden, 10% lange Abstnde mit E=1 Stunde) und
+	 * "Discrete" (Exponentialverteilung mit E=60 Sekunden, gerundet auf ganze Sekunden, d.h. mit vielen gleichzeitigen Ereignissen)
+	 */
+	@Param({"Exp","Uniform","Bimodal","Discrete"})
+	public String timeDistribution;
+
+	/**
+	 * Simulationsdatenobjekt (enthlt die Ereignisverwaltung)
+	 */
+	private HoldSimData simData;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public EventManagerBenchmark() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Erstellt die zu untersuchende Ereignisverwaltung.
+	 * @param name	Name der Ereignisverwaltung
+	 * @return	Neue Ereignisverwaltung
+	 */
+	private static EventManager getEventManager(final String name) {
+		switch (name) {
+		case "LongRunMultiSortedArrayList": return new LongRunMultiSortedArrayListEventManager(4);
+		case "IndexedHeap": return new IndexedHeapEventManager();
+		case "CalendarQueue": return new CalendarQueueEventManager();
+		case "LongRunMultiPriorityQueue": return new LongRunMultiPriorityQueueEventManager(4);
+		case "MultiPriorityQueue": return new MultiPriorityQueueEventManager();
+		case "MultiArray": return new MultiArrayEventManager();
+		case "PriorityQueue": return new PriorityQueueEventManager();
+		case "Map": return new MapEventManager();
+		default: throw new IllegalArgumentException("Unknown event manager: "+name);
+		}
+	}
+
+	/**
+	 * Erzeugt einen Zeitabstand (in MS) gem der gewhlten Verteilung.
+	 * @param name	Name der Verteilung
+	 * @param random	Zufallszahlengenerator
+	 * @return	Zeitabstand (in MS)
+	 */
+	private static long getIncrement(final String name, final Random random) {
+		switch (name) {
+		case "Exp": return Math.round(-60_000*Math.log(1-random.nextDouble()));
+		case "Uniform": return Math.round(120_000*random.nextDouble());
+		case "Bimodal": return Math.round(((random.nextDouble()<0.9)?-10_000:-3_600_000)*Math.log(1-random.nextDouble()));
+		case "Discrete": return 1000*Math.round(-60*Math.log(1-random.nextDouble()));
+		default: throw new IllegalArgumentException("Unknown time distribution: "+name);
+		}
+	}
+
+	/**
+	 * Bereitet die Ereignisverwaltung vor und fllt die Ereignisliste.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		final Random random=new Random(42);
+		final long[] increments=new long[INCREMENTS_COUNT];
+		for (int i=0;i<increments.length;i++) increments[i]=getIncrement(timeDistribution,random);
+
+		simData=new HoldSimData(getEventManager(eventManager),increments);
+		for (int i=0;i<queueLength;i++) {
+			final HoldEvent event=new HoldEvent();
+			event.init(simData.nextIncrement());
+			simData.eventManager.addEvent(event);
+		}
+	}
+
+	/**
+	 * Fhrt {@link #EVENTS_PER_INVOCATION} Ereignisse aus.
+	 * @return	Rckgabewert von {@link EventManager#executeNextEvents(SimData, int, int)}
+	 */
+	@Benchmark
+	@OperationsPerInvocation(EVENTS_PER_INVOCATION)
+	public boolean executeEvents() {
+		return simData.eventManager.executeNextEvents(simData,EVENTS_PER_INVOCATION,Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Simulationsdatenobjekt fr das "Hold"-Modell
+	 */
+	private static final class HoldSimData extends SimData {
+		/** Vorab erzeugte Zeitabstnde (in MS) */
+		private final long[] increments;
+		/** Index des nchsten zu verwendenden Zeitabstands in {@link #increments} */
+		private int nextIncrementIndex;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param eventManager	Zu verwendende Ereignisverwaltung
+		 * @param increments	Vorab erzeugte Zeitabstnde (in MS; die Anzahl muss eine Zweierpotenz sein)
+		 */
+		public HoldSimData(final EventManager eventManager, final long[] increments) {
+			super(eventManager,new AssociativeEventCache(128),0,1);
+			this.increments=increments;
+		}
+
+		/**
+		 * Liefert den nchsten Zeitabstand.
+		 * @return	Zeitabstand (in MS)
+		 */
+		public long nextIncrement() {
+			final long increment=increments[nextIncrementIndex];
+			nextIncrementIndex=(nextIncrementIndex+1)&(increments.length-1);
+			return increment;
+		}
+	}
+
+	/**
+	 * Ereignis fr das "Hold"-Modell:
+	 * Bei der Ausfhrung wird ein neues Ereignis in die Ereignisliste eingefgt.
+	 */
+	public static final class HoldEvent extends Event {
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public HoldEvent() {
+			/*
+			 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+			 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+			 */
+		}
+
+		@Override
+		public void run(final SimData data) {
+			final Event next=data.getEvent(HoldEvent.class);
+			next.init(data.currentTime+((HoldSimData)data).nextIncrement());
+			data.eventManager.addEvent(next);
+		}
+	}
+}
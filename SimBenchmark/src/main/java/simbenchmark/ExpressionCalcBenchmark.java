@@ -0,0 +1,113 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simbenchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import parser.MathCalcError;
+import simulator.simparser.ExpressionCalc;
+
+/**
+ * Misst die Geschwindigkeit der Auswertung typischer Rechenausdrcke (z.B. Score-Formeln
+ * an Bedienstationen) ber {@link ExpressionCalc#calc(double[], simulator.runmodel.SimulationData, simulator.runmodel.RunDataClient)}.<br>
+ * Als Variablen stehen wie in den Score-Formeln die Wartezeit <code>w</code>, die Transferzeit <code>t</code>
+ * und die Bedienzeit <code>p</code> zur Verfgung.<br>
+ * Da hufig ausgewertete Ausdrcke im Hintergrund bersetzt werden, entspricht der in der
+ * Messphase ermittelte Wert der Geschwindigkeit der bersetzten Ausdrcke.
+ * @author Alexander Herzog
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpressionCalcBenchmark {
+	/** Anzahl an Variablenbelegungen, fr die der Ausdruck pro Benchmark-Aufruf ausgewertet wird (muss eine Zweierpotenz sein) */
+	private static final int VALUES_PER_INVOCATION=1024;
+
+	/** Namen der Variablen */
+	private static final String[] VARIABLES=new String[]{"w","t","p"};
+
+	/**
+	 * Auszuwertender Ausdruck
+	 */
+	@Param({"w","w/60+2*t","max(w;t)-min(p;10)","sqrt(w)*log(1+t)+p^2"})
+	public String expression;
+
+	/**
+	 * Rechenobjekt
+	 */
+	private ExpressionCalc calc;
+
+	/**
+	 * Variablenbelegungen
+	 */
+	private double[][] values;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public ExpressionCalcBenchmark() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Interpretiert den Ausdruck und erzeugt die Variablenbelegungen.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		calc=new ExpressionCalc(VARIABLES);
+		final int error=calc.parse(expression);
+		if (error>=0) throw new IllegalArgumentException("Cannot parse expression \""+expression+"\" at position "+(error+1));
+
+		final Random random=new Random(42);
+		values=new double[VALUES_PER_INVOCATION][];
+		for (int i=0;i<values.length;i++) values[i]=new double[]{-60*Math.log(1-random.nextDouble()),-5*Math.log(1-random.nextDouble()),-50*Math.log(1-random.nextDouble())};
+	}
+
+	/**
+	 * Wertet den Ausdruck fr {@link #VALUES_PER_INVOCATION} Variablenbelegungen aus.
+	 * @return	Summe der Ergebnisse
+	 * @throws MathCalcError	Fehler bei der Auswertung des Ausdrucks
+	 */
+	@Benchmark
+	@OperationsPerInvocation(VALUES_PER_INVOCATION)
+	public double calc() throws MathCalcError {
+		final ExpressionCalc calc=this.calc;
+		double sum=0;
+		for (double[] v: values) sum+=calc.calc(v,null,null);
+		return sum;
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simbenchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import language.Language;
+import language.LanguageStaticLoader;
+import simulator.Simulator;
+import simulator.StartAnySimulator;
+import simulator.editmodel.EditModel;
+import simulator.examples.EditModelExamples;
+import simulator.statistics.Statistics;
+import statistics.StatisticsDataPerformanceIndicator;
+
+/**
+ * Misst die Geschwindigkeit vollstndiger Simulationslufe der mitgelieferten Beispielmodelle.<br>
+ * Die primre Kenngre ist die Anzahl an Simulationslufen pro Sekunde; zustzlich werden
+ * ber {@link EventCounters} die Anzahl an ausgefhrten Ereignissen und an simulierten
+ * Kundenanknften pro Sekunde ausgewiesen (entsprechend den Ausgaben von {@link ui.commandline.CommandBenchmark})
+ * sowie die Anzahl an Transporterfahrten pro Sekunde.
+ * @author Alexander Herzog
+ * @see ui.commandline.CommandBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=2,time=10)
+@Measurement(iterations=5,time=10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelBenchmark {
+	/**
+	 * Dateiname des Beispielmodells (siehe {@link EditModelExamples.Example#file})
+	 */
+	@Param({"ErlangC1.xml","Callcenter.xml","Restaurant.xml","EmergencyDepartment.xml","Transporter.xml"})
+	public String example;
+
+	/**
+	 * Anzahl an zu simulierenden Kundenanknften (Werte &le;0 bedeuten, dass die Vorgabe aus dem Modell verwendet wird)
+	 */
+	@Param({"100000"})
+	public long clientCount;
+
+	/**
+	 * Maximale Anzahl an Simulationsthreads
+	 */
+	@Param({"1"})
+	public int maxThreads;
+
+	/**
+	 * Zu simulierendes Modell
+	 */
+	private EditModel editModel;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public ModelBenchmark() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Initialisiert das Sprachsystem und ldt das Beispielmodell.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		Language.init("en");
+		LanguageStaticLoader.setLanguage();
+
+		final List<EditModelExamples.Example> list=EditModelExamples.getList();
+		int index=-1;
+		for (int i=0;i<list.size();i++) if (list.get(i).file.equalsIgnoreCase(example)) {index=i; break;}
+		if (index<0) throw new IllegalArgumentException("Unknown example model: "+example);
+
+		editModel=EditModelExamples.getExampleByIndex(null,index);
+		if (editModel==null) throw new IllegalStateException("Cannot load example model: "+example);
+		final EditModel changedEditModel=editModel.modelLoadData.changeModel(editModel,null);
+		if (changedEditModel!=null) editModel=changedEditModel;
+		if (clientCount>0 && editModel.clientCount>0) editModel.clientCount=clientCount;
+	}
+
+	/**
+	 * Fhrt einen vollstndigen Simulationslauf durch.
+	 * @param counters	Zhler fr die ausgefhrten Ereignisse, die simulierten Kundenanknfte und die Transporterfahrten
+	 * @return	Statistikergebnisse des Simulationslaufs
+	 */
+	@Benchmark
+	public Statistics simulate(final EventCounters counters) {
+		final Simulator simulator=new Simulator(maxThreads,editModel,null,null,null,null);
+		final StartAnySimulator.PrepareError error=simulator.prepare();
+		if (error!=null) throw new IllegalStateException(error.error);
+		simulator.start();
+		simulator.finalizeRun();
+		final Statistics statistics=simulator.getStatistic();
+		counters.events+=statistics.simulationData.runEvents;
+		counters.transporterMoves+=statistics.simulationData.runTransporterMoves;
+		for (StatisticsDataPerformanceIndicator indicator: (StatisticsDataPerformanceIndicator[])statistics.clientsInterarrivalTime.getAll(StatisticsDataPerformanceIndicator.class)) counters.clients+=indicator.getCount();
+		return statistics;
+	}
+
+	/**
+	 * Zhler fr die ausgefhrten Ereignisse, die simulierten Kundenanknfte und die Transporterfahrten.<br>
+	 * Die Werte werden von JMH als Raten (pro Sekunde) ausgewiesen.
+	 * @see ModelBenchmark#simulate(EventCounters)
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class EventCounters {
+		/**
+		 * Anzahl an ausgefhrten Ereignissen
+		 */
+		public long events;
+
+		/**
+		 * Anzahl an simulierten Kundenanknften
+		 */
+		public long clients;
+
+		/**
+		 * Anzahl an Transporterfahrten
+		 */
+		public long transporterMoves;
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public EventCounters() {
+			/*
+			 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+			 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+			 */
+		}
+
+		/**
+		 * Setzt die Zhler zu Beginn jeder Iteration zurck.
+		 */
+		@Setup(Level.Iteration)
+		public void reset() {
+			events=0;
+			clients=0;
+			transporterMoves=0;
+		}
+	}
+}
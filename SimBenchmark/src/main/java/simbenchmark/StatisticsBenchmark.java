@@ -0,0 +1,118 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simbenchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import statistics.StatisticsDataPerformanceIndicator;
+
+/**
+ * Misst die Geschwindigkeit von {@link StatisticsDataPerformanceIndicator#add(double)}
+ * mit und ohne Erfassung der Autokorrelation bzw. der Batch-Means.
+ * @author Alexander Herzog
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=3,time=2)
+@Measurement(iterations=5,time=2)
+@Fork(1)
+@State(Scope.Thread)
+public class StatisticsBenchmark {
+	/** Anzahl an Werten, die pro Benchmark-Aufruf erfasst werden (muss eine Zweierpotenz sein) */
+	private static final int VALUES_PER_INVOCATION=1<<16;
+
+	/** Obergrenze des Trgers der Hufigkeitsverteilung (in Sekunden) */
+	private static final double UPPER_BOUND=36_000;
+
+	/** Anzahl an Schritten in der Hufigkeitsverteilung */
+	private static final int STEPS=36_000;
+
+	/**
+	 * Reichweite fr die Erfassung der Autokorrelation (Werte &le;0 schalten die Erfassung aus)
+	 */
+	@Param({"-1","1000"})
+	public int correlationRange;
+
+	/**
+	 * Batch-Gre (Werte &gt;1 schalten die Erfassung der Batch-Means ein)
+	 */
+	@Param({"1","100"})
+	public int batchSize;
+
+	/**
+	 * Soll der Welford-Algorithmus zur Erfassung der Varianz verwendet werden?
+	 */
+	@Param({"false"})
+	public boolean useWelford;
+
+	/**
+	 * Statistikobjekt
+	 */
+	private StatisticsDataPerformanceIndicator indicator;
+
+	/**
+	 * Zu erfassende Werte (exponentialverteilt mit E=60 Sekunden)
+	 */
+	private double[] values;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public StatisticsBenchmark() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Bereitet das Statistikobjekt und die zu erfassenden Werte vor.
+	 */
+	@Setup(Level.Trial)
+	public void setup() {
+		indicator=new StatisticsDataPerformanceIndicator(new String[]{"Benchmark"},UPPER_BOUND,STEPS,correlationRange,batchSize,useWelford);
+		final Random random=new Random(42);
+		values=new double[VALUES_PER_INVOCATION];
+		for (int i=0;i<values.length;i++) values[i]=-60*Math.log(1-random.nextDouble());
+	}
+
+	/**
+	 * Erfasst {@link #VALUES_PER_INVOCATION} Werte.
+	 * @return	Anzahl an bislang erfassten Werten
+	 */
+	@Benchmark
+	@OperationsPerInvocation(VALUES_PER_INVOCATION)
+	public long add() {
+		final StatisticsDataPerformanceIndicator indicator=this.indicator;
+		for (double value: values) indicator.add(value);
+		return indicator.getCount();
+	}
+}
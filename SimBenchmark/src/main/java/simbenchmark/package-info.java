@@ -0,0 +1,7 @@
+/**
+ * Dieses Package enthlt JMH-Benchmarks fr den Simulatorkern (Ereignisverwaltung, Ereignis-Cache,
+ * Statistikerfassung, Rechenausdrcke, Zufallszahlen) sowie fr die vollstndige Simulation der Beispielmodelle.<br>
+ * Der Start erfolgt ber {@link simbenchmark.BenchmarkMain}; die Ergebnisse werden dabei als json-Datei gespeichert.
+ * @author Alexander Herzog
+ */
+package simbenchmark;
@@ -698,6 +698,16 @@ public final class DataDistributionImpl extends AbstractRealDistribution impleme
 		return (nr+add)/argumentScaleFactor;
 	}
 
+	/**
+	 * Liefert den Umrechnungsfaktor zwischen den Verteilungsschritten und dem Trgerbereich.
+	 * @return	Umrechnungsfaktor (Anzahl an Eintrgen in <code>densityData</code> pro Einheit auf der x-Achse)
+	 * @see #densityData
+	 * @see #upperBound
+	 */
+	public double getArgumentScaleFactor() {
+		return argumentScaleFactor;
+	}
+
 	/**
 	 * Wandelt das in <code>densityData</code> gespeicherte Array aus Dichtewerten in eine Zeichenkette um.
 	 * Dabei werden Zahlen in lokalisierter Form ausgegeben.
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Thread-lokaler Puffer fr nicht-negative Zufallszahlen gem mehreren Verteilungen.<br>
+ * Jeder Verteilung wird ein Platz zugeordnet (z.B. der Kundentyp). Pro Platz werden die
+ * Zufallszahlen blockweise ber {@link DistributionRandomNumber#randomNonNegative(RandomGenerator, AbstractRealDistribution, double[])}
+ * erzeugt und dann einzeln ausgegeben. Wird fr einen Platz eine andere Verteilung angefragt
+ * als beim Fllen des Blocks, so werden die restlichen Werte des Blocks verworfen.
+ * nderungen werden nur ber einen Wechsel des Verteilungsobjektes erkannt; die Verteilungsobjekte
+ * selbst drfen daher nicht verndert werden, so lange der Puffer verwendet wird (was whrend einer
+ * Simulation auch nicht vorkommt).<br>
+ * Bei gleichem Startwert des Zufallszahlengenerators ist die Folge der gelieferten Werte
+ * reproduzierbar, unterscheidet sich aber von der Folge bei Einzelabruf der Zufallszahlen.<br>
+ * Die Klasse ist nicht thread-sicher; jeder Simulationsthread bentigt ein eigenes Objekt.
+ * @author Alexander Herzog
+ * @see DistributionRandomNumber
+ */
+public final class DistributionRandomBuffer {
+	/**
+	 * Vorgabewert fr die Anzahl an Zufallszahlen, die pro Block erzeugt werden
+	 */
+	public static final int DEFAULT_BLOCK_SIZE=1024;
+
+	/**
+	 * Anzahl an Zufallszahlen, die pro Block erzeugt werden (Werte &le;1 bedeuten, dass die Zufallszahlen einzeln erzeugt werden)
+	 */
+	private final int blockSize;
+
+	/**
+	 * Verteilungen, fr die die Blcke erzeugt wurden
+	 */
+	private final AbstractRealDistribution[] distributions;
+
+	/**
+	 * Blcke aus Zufallszahlen (werden erst bei Bedarf angelegt)
+	 */
+	private final double[][] values;
+
+	/**
+	 * Index der jeweils nchsten auszugebenden Zufallszahl in den Blcken
+	 */
+	private final int[] index;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param slots	Anzahl an Pltzen (d.h. an verschiedenen Verteilungen)
+	 * @param blockSize	Anzahl an Zufallszahlen, die pro Block erzeugt werden (Werte &le;1 bedeuten, dass die Zufallszahlen einzeln erzeugt werden)
+	 */
+	public DistributionRandomBuffer(final int slots, final int blockSize) {
+		this.blockSize=blockSize;
+		if (blockSize>1) {
+			distributions=new AbstractRealDistribution[slots];
+			values=new double[slots][];
+			index=new int[slots];
+		} else {
+			distributions=null;
+			values=null;
+			index=null;
+		}
+	}
+
+	/**
+	 * Liefert eine nicht-negative Zufallszahl gem der Verteilung.
+	 * @param slot	Platz (0 bis Anzahl an Pltzen minus 1)
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param distribution	Verteilungsfunktion gem der eine Zufallszahl erzeugt werden soll
+	 * @return	Zufallszahl gem der gegebenen Verteilung
+	 * @see DistributionRandomNumber#randomNonNegative(RandomGenerator, AbstractRealDistribution)
+	 */
+	public double randomNonNegative(final int slot, final RandomGenerator generator, final AbstractRealDistribution distribution) {
+		if (values==null) return DistributionRandomNumber.randomNonNegative(generator,distribution);
+
+		double[] block=values[slot];
+		int i=index[slot];
+		if (block==null || i>=blockSize || distributions[slot]!=distribution) {
+			if (block==null) values[slot]=block=new double[blockSize];
+			distributions[slot]=distribution;
+			DistributionRandomNumber.randomNonNegative(generator,distribution,block);
+			i=0;
+		}
+		index[slot]=i+1;
+		return block[i];
+	}
+}
@@ -19,8 +19,10 @@ import org.apache.commons.math3.distribution.AbstractRealDistribution;
 import org.apache.commons.math3.distribution.CauchyDistribution;
 import org.apache.commons.math3.distribution.ExponentialDistribution;
 import org.apache.commons.math3.distribution.GammaDistribution;
+import org.apache.commons.math3.distribution.GumbelDistribution;
 import org.apache.commons.math3.distribution.NormalDistribution;
 import org.apache.commons.math3.distribution.UniformRealDistribution;
+import org.apache.commons.math3.distribution.WeibullDistribution;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
 
@@ -48,7 +50,9 @@ public final class DistributionRandomNumber {
 	 * Standardmig wird <code>ThreadLocalRandomGenerator</code>, der auf <code>ThreadLocalRandom</code>
 	 * aufbaut und damit sehr schnell ist, verwendet. Soll ein Seed gesetzt werden, muss hier eine
 	 * Instanz von <code>SeedableThreadLocalRandomGenerator</code> eingetragen werden. Diese ist zwar
-	 * auch Thread-lokal, aber nicht ganz so schnell.
+	 * auch Thread-lokal, liefert aber ber {@link SeedableThreadLocalRandomGenerator#getGenerator()}
+	 * einen Generator pro Thread, der dann direkt an {@link #random(RandomGenerator, AbstractRealDistribution)}
+	 * bzw. {@link #randomNonNegative(RandomGenerator, AbstractRealDistribution)} bergeben werden kann.
 	 */
 	public static RandomGenerator generator;
 
@@ -74,20 +78,21 @@ public final class DistributionRandomNumber {
 
 	/**
 	 * Liefert 1/e.<br>
-	 * Wird in {@link #randomGammaDirect(double, double)} verwendet.<br>
+	 * Wird in {@link #randomGammaDirect(RandomGenerator, double, double)} verwendet.<br>
 	 * Die Vorausberechnung macht die Pseudozufallszahlenerzeugung schneller.
-	 * @see #randomGammaDirect(double, double)
+	 * @see #randomGammaDirect(RandomGenerator, double, double)
 	 */
 	private static final double inverseE=1/FastMath.E;
 
 	/**
 	 * Liefert eine Pseudozufallszahl gem der Gamma-Verteilung
+	 * @param generator	Zu verwendender Zufallszahlengenerator
 	 * @param shape	Form-Parameter
 	 * @param scale	Skalierungsparameter
 	 * @return	Pseudozufallszahl
-	 * @see #random(AbstractRealDistribution)
+	 * @see #random(RandomGenerator, AbstractRealDistribution)
 	 */
-	private static double randomGammaDirect(final double shape, final double scale)  {
+	private static double randomGammaDirect(final RandomGenerator generator, final double shape, final double scale)  {
 		/*
 		 * see org.apache.commons.math3.distribution.GammaDistribution.sample()
 		 * By using this method wie avoid creating a GammaDistribution object each time a random number is needed.
@@ -162,6 +167,16 @@ public final class DistributionRandomNumber {
 	 * @return	Zufallszahl gem der gegebenen Verteilung
 	 */
 	public static double random(final AbstractRealDistribution distribution) {
+		return random(generator,distribution);
+	}
+
+	/**
+	 * Erzeugt eine Zufallszahl gem der bergebenen Verteilung.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param distribution	Verteilungsfunktion gem der eine Zufallszahl erzeugt werden soll
+	 * @return	Zufallszahl gem der gegebenen Verteilung
+	 */
+	public static double random(final RandomGenerator generator, final AbstractRealDistribution distribution) {
 		/* Die eigenen Verteilungen implementieren DistributionWithRandom und bringen daher eigene Methoden mit. */
 		if (distribution instanceof DistributionWithRandom) {
 			return ((DistributionWithRandom)distribution).random(generator);
@@ -178,7 +193,7 @@ public final class DistributionRandomNumber {
 		}
 
 		if (distribution instanceof NormalDistribution) {
-			return getStdNormalRandom()*((NormalDistribution)distribution).getStandardDeviation()+((NormalDistribution)distribution).getMean();
+			return generator.nextGaussian()*((NormalDistribution)distribution).getStandardDeviation()+((NormalDistribution)distribution).getMean();
 		}
 
 		if (distribution instanceof GammaDistribution) {
@@ -188,7 +203,7 @@ public final class DistributionRandomNumber {
 				/* Ist Exp-Verteilung mit E=1/(1/beta) */
 				return -Math.log(1-generator.nextDouble())*beta; /* StrictMath.log ist schneller als FastMath. Math.log laut Code StrictMath.log auf, aber in Wirklichkeit scheint hier der Compiler Magic zu machen, so dass Math.log schneller ist. */
 			}
-			return randomGammaDirect(alpha,beta);
+			return randomGammaDirect(generator,alpha,beta);
 			/*
 			Um Faktor 3 langsamer:
 			final GammaDistribution tempGamma=new GammaDistribution(generator,alpha,beta,GammaDistribution.DEFAULT_INVERSE_ABSOLUTE_ACCURACY);
@@ -207,22 +222,100 @@ public final class DistributionRandomNumber {
 		return distribution.inverseCumulativeProbability(generator.nextDouble());
 	}
 
+	/**
+	 * Prft, ob fr eine Verteilung in {@link #random(RandomGenerator, AbstractRealDistribution)}
+	 * ein direktes Verfahren zur Erzeugung von Zufallszahlen zur Verfgung steht.
+	 * @param distribution	Zu prfende Verteilung
+	 * @return	Liefert <code>false</code>, wenn die Zufallszahlen ber die (ggf. iterativ berechnete) Umkehrung der Verteilungsfunktion bestimmt werden
+	 * @see DistributionSamplerCache
+	 */
+	public static boolean hasDirectRandom(final AbstractRealDistribution distribution) {
+		if (distribution instanceof DistributionWithRandom) return true;
+		if (distribution instanceof UniformRealDistribution) return true;
+		if (distribution instanceof ExponentialDistribution) return true;
+		if (distribution instanceof NormalDistribution) return true;
+		if (distribution instanceof GammaDistribution) return true;
+		if (distribution instanceof CauchyDistribution) return true;
+		/* Fr diese Verteilungen ist inverseCumulativeProbability eine direkte Funktion */
+		if (distribution instanceof WeibullDistribution) return true;
+		if (distribution instanceof GumbelDistribution) return true;
+		return false;
+	}
+
 	/**
 	 * Erzeugt eine nicht-negative Zufallszahl gem der bergebenen Verteilung.
 	 * @param distribution	Verteilungsfunktion gem der eine Zufallszahl erzeugt werden soll
 	 * @return	Zufallszahl gem der gegebenen Verteilung
 	 */
 	public static double randomNonNegative(final AbstractRealDistribution distribution) {
-		double d=random(distribution);
+		return randomNonNegative(generator,distribution);
+	}
+
+	/**
+	 * Erzeugt eine nicht-negative Zufallszahl gem der bergebenen Verteilung.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param distribution	Verteilungsfunktion gem der eine Zufallszahl erzeugt werden soll
+	 * @return	Zufallszahl gem der gegebenen Verteilung
+	 */
+	public static double randomNonNegative(final RandomGenerator generator, final AbstractRealDistribution distribution) {
+		final double d=random(generator,distribution);
 		if (d>=0) return d;
+		return retryNonNegative(generator,distribution);
+	}
 
+	/**
+	 * Erzeugt nach einer negativen Zufallszahl bis zu 10 weitere Zufallszahlen,
+	 * bis eine nicht-negative Zufallszahl gefunden wurde.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param distribution	Verteilungsfunktion gem der eine Zufallszahl erzeugt werden soll
+	 * @return	Nicht-negative Zufallszahl oder 0, wenn keine gefunden wurde
+	 * @see #randomNonNegative(RandomGenerator, AbstractRealDistribution)
+	 */
+	private static double retryNonNegative(final RandomGenerator generator, final AbstractRealDistribution distribution) {
 		final int maxTrys=10;
 
+		double d=-1;
 		int count=0;
 		while (d<0 && count<maxTrys) {
 			count++;
-			d=random(distribution);
+			d=random(generator,distribution);
 		}
 		return (d>=0)?d:0;
 	}
+
+	/**
+	 * Fllt ein Array mit nicht-negativen Zufallszahlen gem der bergebenen Verteilung.<br>
+	 * Jeder Wert entspricht einem Aufruf von {@link #randomNonNegative(RandomGenerator, AbstractRealDistribution)};
+	 * die Fallunterscheidung nach dem Verteilungstyp erfolgt aber nur einmal pro Array.
+	 * @param generator	Zu verwendender Zufallszahlengenerator
+	 * @param distribution	Verteilungsfunktion gem der die Zufallszahlen erzeugt werden sollen
+	 * @param values	Zu fllendes Array
+	 */
+	public static void randomNonNegative(final RandomGenerator generator, final AbstractRealDistribution distribution, final double[] values) {
+		final int size=values.length;
+
+		if (distribution instanceof DistributionWithRandom) {
+			final DistributionWithRandom dist=(DistributionWithRandom)distribution;
+			for (int i=0;i<size;i++) {
+				final double d=dist.random(generator);
+				values[i]=(d>=0)?d:retryNonNegative(generator,distribution);
+			}
+			return;
+		}
+
+		if (distribution instanceof ExponentialDistribution) {
+			final double mean=((ExponentialDistribution)distribution).getMean();
+			for (int i=0;i<size;i++) values[i]=-Math.log(1-generator.nextDouble())*mean;
+			return;
+		}
+
+		if (distribution instanceof UniformRealDistribution && distribution.getSupportLowerBound()>=0) {
+			final double lower=distribution.getSupportLowerBound();
+			final double width=distribution.getSupportUpperBound()-lower;
+			for (int i=0;i<size;i++) values[i]=lower+width*generator.nextDouble();
+			return;
+		}
+
+		for (int i=0;i<size;i++) values[i]=randomNonNegative(generator,distribution);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+
+import mathtools.distribution.DistributionWithRandom;
+
+/**
+ * Basisklasse fr Verteilungen, die eine andere Verteilung kapseln und fr diese
+ * Zufallszahlen ber vorab berechnete Tabellen erzeugen.<br>
+ * Alle brigen Funktionen werden an die gekapselte Verteilung weitergereicht.
+ * Die Objekte werden nach der Erstellung nicht mehr verndert und knnen daher
+ * von mehreren Threads gleichzeitig genutzt werden.
+ * @author Alexander Herzog
+ * @see DistributionSamplerCache
+ */
+public abstract class DistributionSampler extends AbstractRealDistribution implements DistributionWithRandom {
+	/**
+	 * Serialisierungs-ID der Klasse
+	 * @see java.io.Serializable
+	 */
+	private static final long serialVersionUID=-2407915932474339118L;
+
+	/**
+	 * Gekapselte Verteilung
+	 */
+	protected final AbstractRealDistribution distribution;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param distribution	Gekapselte Verteilung (darf nach der bergabe nicht mehr verndert werden)
+	 */
+	protected DistributionSampler(final AbstractRealDistribution distribution) {
+		super(null);
+		this.distribution=distribution;
+	}
+
+	/**
+	 * Liefert die gekapselte Verteilung.
+	 * @return	Gekapselte Verteilung
+	 */
+	public AbstractRealDistribution getDistribution() {
+		return distribution;
+	}
+
+	@Override
+	public double density(double x) {
+		return distribution.density(x);
+	}
+
+	@Override
+	public double cumulativeProbability(double x) {
+		return distribution.cumulativeProbability(x);
+	}
+
+	@Override
+	public double inverseCumulativeProbability(double p) {
+		return distribution.inverseCumulativeProbability(p);
+	}
+
+	@Override
+	public double getNumericalMean() {
+		return distribution.getNumericalMean();
+	}
+
+	@Override
+	public double getNumericalVariance() {
+		return distribution.getNumericalVariance();
+	}
+
+	@Override
+	public double getSupportLowerBound() {
+		return distribution.getSupportLowerBound();
+	}
+
+	@Override
+	public double getSupportUpperBound() {
+		return distribution.getSupportUpperBound();
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public boolean isSupportLowerBoundInclusive() {
+		return distribution.isSupportLowerBoundInclusive();
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public boolean isSupportUpperBoundInclusive() {
+		return distribution.isSupportUpperBoundInclusive();
+	}
+
+	@Override
+	public boolean isSupportConnected() {
+		return distribution.isSupportConnected();
+	}
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+
+import mathtools.distribution.DataDistributionImpl;
+
+/**
+ * Hlt fr die Verteilungen eines Modells vorab berechnete Tabellen zur Erzeugung von Zufallszahlen vor.<br>
+ * ber {@link #get(AbstractRealDistribution)} wird zu einer Verteilung ein {@link DistributionSampler}-Objekt
+ * geliefert, welches anstelle der ursprnglichen Verteilung verwendet werden kann:
+ * <ul>
+ * <li>Fr empirische Verteilungen ({@link DataDistributionImpl}) wird eine Fhrungstabelle verwendet ({@link DistributionSamplerGuideTable}).
+ * Die erzeugten Zufallszahlen sind identisch zu denen der ursprnglichen Verteilung.</li>
+ * <li>Fr Verteilungen, fr die {@link DistributionRandomNumber} nur die iterativ berechnete Umkehrung der Verteilungsfunktion
+ * verwenden kann, wird (sofern eine Tabellengre grer 0 angegeben wurde) eine interpolierte Tabelle der Umkehrfunktion
+ * verwendet ({@link DistributionSamplerInverseTable}).</li>
+ * </ul>
+ * Inhaltlich identische Verteilungen teilen sich dabei eine Tabelle.
+ * Die gelieferten Objekte werden nicht mehr verndert und knnen daher von allen Simulationsthreads gemeinsam genutzt werden.
+ * @author Alexander Herzog
+ * @see DistributionSampler
+ */
+public final class DistributionSamplerCache {
+	/**
+	 * Vorgabewert fr die Anzahl an Intervallen in den Tabellen der Umkehrfunktionen
+	 */
+	public static final int DEFAULT_TABLE_SIZE=1024;
+
+	/**
+	 * Vorgabewert fr die maximal zulssige Abweichung in den Tabellen der Umkehrfunktionen
+	 * (bezogen auf die Breite des tabellierten Wertebereichs)
+	 */
+	public static final double DEFAULT_ACCURACY=1E-6;
+
+	/**
+	 * Anzahl an Intervallen in den Tabellen der Umkehrfunktionen (Werte &le;0 bedeuten, dass keine solchen Tabellen verwendet werden)
+	 */
+	private final int tableSize;
+
+	/**
+	 * Maximal zulssige Abweichung in den Tabellen der Umkehrfunktionen (bezogen auf die Breite des tabellierten Wertebereichs)
+	 */
+	private final double accuracy;
+
+	/**
+	 * Bereits erstellte Tabellen
+	 */
+	private final List<DistributionSampler> samplers;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param tableSize	Anzahl an Intervallen in den Tabellen der Umkehrfunktionen (Werte &le;0 bedeuten, dass nur exakte Tabellen, d.h. Fhrungstabellen fr empirische Verteilungen, verwendet werden)
+	 * @param accuracy	Maximal zulssige Abweichung in den Tabellen der Umkehrfunktionen (bezogen auf die Breite des tabellierten Wertebereichs)
+	 */
+	public DistributionSamplerCache(final int tableSize, final double accuracy) {
+		this.tableSize=tableSize;
+		this.accuracy=accuracy;
+		samplers=new ArrayList<>();
+	}
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Es wird die Vorgabe-Genauigkeit {@link #DEFAULT_ACCURACY} verwendet.
+	 * @param tableSize	Anzahl an Intervallen in den Tabellen der Umkehrfunktionen (Werte &le;0 bedeuten, dass nur exakte Tabellen, d.h. Fhrungstabellen fr empirische Verteilungen, verwendet werden)
+	 */
+	public DistributionSamplerCache(final int tableSize) {
+		this(tableSize,DEFAULT_ACCURACY);
+	}
+
+	/**
+	 * Liefert die Anzahl an Intervallen in den Tabellen der Umkehrfunktionen.
+	 * @return	Anzahl an Intervallen in den Tabellen der Umkehrfunktionen (Werte &le;0 bedeuten, dass keine solchen Tabellen verwendet werden)
+	 */
+	public int getTableSize() {
+		return tableSize;
+	}
+
+	/**
+	 * Prft, ob eine bereits erstellte Tabelle fr eine Verteilung verwendet werden kann.
+	 * @param sampler	Bereits erstellte Tabelle
+	 * @param distribution	Verteilung
+	 * @return	Liefert <code>true</code>, wenn die Tabelle fr eine inhaltlich identische Verteilung erstellt wurde
+	 */
+	private static boolean isSamplerFor(final DistributionSampler sampler, final AbstractRealDistribution distribution) {
+		final AbstractRealDistribution samplerDistribution=sampler.getDistribution();
+		if (samplerDistribution.getClass()!=distribution.getClass()) return false;
+
+		if (distribution instanceof DataDistributionImpl) {
+			/* Exakter Vergleich, damit die Zufallszahlen identisch zu denen der ursprnglichen Verteilung bleiben */
+			final DataDistributionImpl data1=(DataDistributionImpl)samplerDistribution;
+			final DataDistributionImpl data2=(DataDistributionImpl)distribution;
+			return data1.upperBound==data2.upperBound && Arrays.equals(data1.densityData,data2.densityData);
+		}
+
+		return DistributionTools.distributionToString(samplerDistribution).equals(DistributionTools.distributionToString(distribution));
+	}
+
+	/**
+	 * Erstellt eine Tabelle fr eine Verteilung.
+	 * @param distribution	Verteilung
+	 * @return	Tabelle oder <code>null</code>, wenn fr die Verteilung keine Tabelle verwendet werden soll
+	 */
+	private DistributionSampler build(final AbstractRealDistribution distribution) {
+		if (distribution instanceof DataDistributionImpl) {
+			if (((DataDistributionImpl)distribution).densityData.length==0) return null;
+			return new DistributionSamplerGuideTable((DataDistributionImpl)distribution);
+		}
+
+		if (tableSize<=0) return null;
+		if (DistributionRandomNumber.hasDirectRandom(distribution)) return null;
+		return DistributionSamplerInverseTable.build(distribution,tableSize,accuracy);
+	}
+
+	/**
+	 * Liefert eine Verteilung, die anstelle der bergebenen Verteilung zur Erzeugung von Zufallszahlen verwendet werden kann.
+	 * @param distribution	Verteilung (darf nach der bergabe nicht mehr verndert werden)
+	 * @return	Tabellen-basierte Verteilung oder die bergebene Verteilung selbst, wenn fr diese keine Tabelle verwendet werden soll
+	 */
+	public synchronized AbstractRealDistribution get(final AbstractRealDistribution distribution) {
+		if (distribution==null || distribution instanceof DistributionSampler) return distribution;
+
+		for (DistributionSampler sampler: samplers) if (isSamplerFor(sampler,distribution)) return sampler;
+
+		final DistributionSampler sampler=build(distribution);
+		if (sampler==null) return distribution;
+		samplers.add(sampler);
+		return sampler;
+	}
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+import mathtools.distribution.DataDistributionImpl;
+
+/**
+ * Erzeugt Zufallszahlen gem einer {@link DataDistributionImpl}-Verteilung ber eine
+ * Fhrungstabelle (Verfahren nach Chen und Asau).<br>
+ * Anstatt bei jeder Zufallszahl die Verteilungsfunktion per Bisektion zu durchsuchen,
+ * liefert die Tabelle direkt einen Startindex, ab dem im Mittel nur noch wenige
+ * Eintrge geprft werden mssen. Die erzeugten Zufallszahlen sind identisch zu
+ * {@link DataDistributionImpl#random(RandomGenerator)}.
+ * @author Alexander Herzog
+ * @see DistributionSamplerCache
+ */
+public final class DistributionSamplerGuideTable extends DistributionSampler {
+	/**
+	 * Serialisierungs-ID der Klasse
+	 * @see java.io.Serializable
+	 */
+	private static final long serialVersionUID=6009446618839001424L;
+
+	/**
+	 * Kopie der Verteilungsfunktion der gekapselten Verteilung
+	 */
+	private final double[] cumulativeDensity;
+
+	/**
+	 * Fhrungstabelle: Eintrag <code>j</code> enthlt den ersten Index <code>i</code>
+	 * mit <code>cumulativeDensity[i]&gt;j/guideTable.length</code>
+	 */
+	private final int[] guideTable;
+
+	/**
+	 * Umrechnungsfaktor zwischen den Verteilungsschritten und dem Trgerbereich
+	 * @see DataDistributionImpl#getArgumentScaleFactor()
+	 */
+	private final double argumentScaleFactor;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param distribution	Empirische Verteilung (darf nach der bergabe nicht mehr verndert werden und muss mindestens einen Dichte-Wert besitzen)
+	 */
+	public DistributionSamplerGuideTable(final DataDistributionImpl distribution) {
+		super(distribution);
+		if (distribution.cumulativeDensity==null) distribution.updateCumulativeDensity();
+		cumulativeDensity=distribution.cumulativeDensity.clone();
+		argumentScaleFactor=distribution.getArgumentScaleFactor();
+
+		final int size=cumulativeDensity.length;
+		guideTable=new int[size];
+		int index=0;
+		for (int j=0;j<size;j++) {
+			final double p=((double)j)/size;
+			while (index<size-1 && cumulativeDensity[index]<=p) index++;
+			guideTable[j]=index;
+		}
+	}
+
+	@Override
+	public double random(final RandomGenerator generator) {
+		double p=generator.nextDouble();
+
+		final int last=cumulativeDensity.length-1;
+		int nr=guideTable[Math.min((int)(p*cumulativeDensity.length),last)];
+		/* Rundungsfehler bei der Indexberechnung ausgleichen, so dass stets der erste Index mit p<cumulativeDensity[nr] verwendet wird */
+		while (nr>0 && p<cumulativeDensity[nr-1]) nr--;
+		while (nr<last && p>=cumulativeDensity[nr]) nr++;
+
+		double diff;
+		if (nr>0) {
+			p-=cumulativeDensity[nr-1];
+			diff=cumulativeDensity[nr]-cumulativeDensity[nr-1];
+		} else {
+			diff=cumulativeDensity[nr];
+		}
+
+		/* wenn P(nr) und P(nr-1) unterschiedlich: Zwischen den Werten linear interpolieren */
+		final double add=(diff==0)?0:p/diff;
+
+		return (nr+add)/argumentScaleFactor;
+	}
+}
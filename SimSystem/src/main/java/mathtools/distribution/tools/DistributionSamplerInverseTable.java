@@ -0,0 +1,165 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Erzeugt Zufallszahlen gem einer Verteilung, fr die nur eine iterativ berechnete
+ * Umkehrung der Verteilungsfunktion zur Verfgung steht, ber eine vorab berechnete
+ * Tabelle der Umkehrfunktion.<br>
+ * Die Umkehrfunktion wird an <code>steps+1</code> quidistanten Stellen exakt berechnet
+ * und dazwischen ber kubische Hermite-Polynome (mit den Ableitungen 1/f(x)) interpoliert.
+ * Ist die Interpolation in einem Intervall nicht monoton, so wird dort linear interpoliert.
+ * Im ersten und im letzten Intervall (also in den Rndern der Verteilung) sowie in allen
+ * Intervallen, in denen die Interpolation in der Intervallmitte die geforderte Genauigkeit
+ * nicht erreicht, wird weiterhin die exakte Umkehrfunktion verwendet.
+ * @author Alexander Herzog
+ * @see DistributionSamplerCache
+ */
+public final class DistributionSamplerInverseTable extends DistributionSampler {
+	/**
+	 * Serialisierungs-ID der Klasse
+	 * @see java.io.Serializable
+	 */
+	private static final long serialVersionUID=-4630366813839186361L;
+
+	/**
+	 * Minimale Anzahl an Intervallen
+	 */
+	public static final int MIN_STEPS=16;
+
+	/**
+	 * Anzahl an Intervallen
+	 */
+	private final int steps;
+
+	/**
+	 * Koeffizienten der Interpolationspolynome (jeweils 4 Werte pro Intervall)
+	 */
+	private final double[] coefficients;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Objekte werden ber {@link #build(AbstractRealDistribution, int, double)} erstellt.
+	 * @param distribution	Gekapselte Verteilung
+	 * @param steps	Anzahl an Intervallen
+	 * @param coefficients	Koeffizienten der Interpolationspolynome
+	 */
+	private DistributionSamplerInverseTable(final AbstractRealDistribution distribution, final int steps, final double[] coefficients) {
+		super(distribution);
+		this.steps=steps;
+		this.coefficients=coefficients;
+	}
+
+	/**
+	 * Berechnet die Steigung der Umkehrfunktion an einer Sttzstelle.
+	 * @param distribution	Verteilung
+	 * @param x	Wert der Umkehrfunktion an der Sttzstelle
+	 * @return	Steigung oder <code>NaN</code>, wenn diese nicht bestimmt werden kann
+	 */
+	private static double getSlope(final AbstractRealDistribution distribution, final double x) {
+		final double density=distribution.density(x);
+		if (!(density>0) || Double.isInfinite(density)) return Double.NaN;
+		return 1/density;
+	}
+
+	/**
+	 * Erstellt die Tabelle fr eine Verteilung.
+	 * @param distribution	Verteilung (darf nach der bergabe nicht mehr verndert werden)
+	 * @param steps	Anzahl an Intervallen (hhere Werte bedeuten, dass in mehr Intervallen die Interpolation verwendet werden kann, aber auch einen hheren Aufwand beim Erstellen der Tabelle; mindestens {@link #MIN_STEPS})
+	 * @param accuracy	Maximal zulssige Abweichung der Interpolation in der Intervallmitte bezogen auf die Breite des tabellierten Wertebereichs
+	 * @return	Tabellen-basierte Verteilung oder <code>null</code>, wenn die Umkehrfunktion nicht an allen Sttzstellen berechnet werden konnte
+	 */
+	public static DistributionSamplerInverseTable build(final AbstractRealDistribution distribution, int steps, final double accuracy) {
+		if (distribution==null) return null;
+		steps=Math.max(MIN_STEPS,steps);
+		final double h=1.0/steps;
+
+		/* Sttzstellen (die Rnder 0 und 1 werden nicht bentigt) */
+		final double[] x=new double[steps+1];
+		final double[] slope=new double[steps+1];
+		try {
+			for (int i=1;i<steps;i++) {
+				x[i]=distribution.inverseCumulativeProbability(i*h);
+				if (!Double.isFinite(x[i])) return null;
+				if (i>1 && x[i]<x[i-1]) return null;
+				slope[i]=getSlope(distribution,x[i]);
+			}
+		} catch (RuntimeException e) {
+			return null;
+		}
+
+		/* Interpolationspolynome x(t)=c0+t*(c1+t*(c2+t*c3)) fr t in [0;1) (c0=NaN bedeutet: exakte Berechnung) */
+		final double[] coefficients=new double[4*steps];
+		final double maxError=accuracy*(x[steps-1]-x[1]);
+		coefficients[0]=Double.NaN;
+		coefficients[4*(steps-1)]=Double.NaN;
+		for (int i=1;i<steps-1;i++) {
+			final double x0=x[i];
+			final double x1=x[i+1];
+			final double delta=x1-x0;
+			final double m0=slope[i]*h;
+			final double m1=slope[i+1]*h;
+			final int index=4*i;
+			coefficients[index]=x0;
+			if (delta>0 && Double.isFinite(m0) && Double.isFinite(m1) && m0<=3*delta && m1<=3*delta) {
+				/* Monotone kubische Hermite-Interpolation (Fritsch-Carlson-Bedingung) */
+				coefficients[index+1]=m0;
+				coefficients[index+2]=3*delta-2*m0-m1;
+				coefficients[index+3]=-2*delta+m0+m1;
+			} else {
+				/* Lineare Interpolation */
+				coefficients[index+1]=delta;
+			}
+
+			/* Genauigkeit in der Intervallmitte prfen */
+			final double interpolated=x0+0.5*(coefficients[index+1]+0.5*(coefficients[index+2]+0.5*coefficients[index+3]));
+			final double exact;
+			try {
+				exact=distribution.inverseCumulativeProbability((i+0.5)*h);
+			} catch (RuntimeException e) {
+				return null;
+			}
+			if (!(Math.abs(interpolated-exact)<=maxError)) coefficients[index]=Double.NaN;
+		}
+
+		return new DistributionSamplerInverseTable(distribution,steps,coefficients);
+	}
+
+	/**
+	 * Liefert die Anzahl an Intervallen der Tabelle.
+	 * @return	Anzahl an Intervallen
+	 */
+	public int getSteps() {
+		return steps;
+	}
+
+	@Override
+	public double random(final RandomGenerator generator) {
+		final double p=generator.nextDouble();
+		final double pos=p*steps;
+		final int i=(int)pos;
+		if (i>=steps) return distribution.inverseCumulativeProbability(p);
+		final int index=4*i;
+		final double c0=coefficients[index];
+		if (Double.isNaN(c0)) return distribution.inverseCumulativeProbability(p);
+
+		final double t=pos-i;
+		return c0+t*(coefficients[index+1]+t*(coefficients[index+2]+t*coefficients[index+3]));
+	}
+}
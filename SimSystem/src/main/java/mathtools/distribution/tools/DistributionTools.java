@@ -747,6 +747,7 @@ public final class DistributionTools {
 	 * @return	Kopiertes Verteilungsobjekt
 	 */
 	public static AbstractRealDistribution cloneDistribution(final AbstractRealDistribution distribution) {
+		if (distribution instanceof DistributionSampler) return distribution; /* Unvernderlich, kann daher von mehreren Threads gemeinsam genutzt werden */
 		final AbstractDistributionWrapper wrapper=getWrapper(distribution);
 		if (wrapper!=null) return wrapper.clone(distribution);
 		return null;
@@ -15,21 +15,20 @@
  */
 package mathtools.distribution.tools;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import org.apache.commons.math3.random.JDKRandomGenerator;
 import org.apache.commons.math3.random.RandomGenerator;
 
 /**
  * Dies ist ein Zufallszahlengenerator, der von <code>DistributionRandomNumber</code>
  * verwendet werden kann.<br>
  * Das System ist Thread-Local, d.h. pro Thread wird ein eigener
- * Generator mit eigenem Seed verwendet. Eine Synchronisation ist daher nicht
- * ntig, aber da nicht <code>ThreadLocalRandom</code> verwendet werden kann,
- * ist das System trotzdem nicht sehr schnell. Der Vorteil dieser Implementierung
- * ist, dass ein Seed (pro Thread) gesetzt werden kann.
+ * {@link SplittableRandomGenerator} mit eigenem Seed verwendet. Eine Synchronisation
+ * ist daher nicht ntig. Der Vorteil dieser Implementierung ist, dass ein Seed
+ * (pro Thread bzw. pro Teilstrom) gesetzt werden kann.<br>
+ * Simulationsthreads knnen sich ber {@link #getGenerator()} den Generator des
+ * aktuellen Threads einmalig holen und diesen dann direkt verwenden, so dass
+ * auch die Thread-Local-Abfrage entfllt.
  * @see DistributionRandomNumber
+ * @see SplittableRandomGenerator
  * @author Alexander Herzog
  */
 public class SeedableThreadLocalRandomGenerator implements RandomGenerator {
@@ -39,31 +38,35 @@ public class SeedableThreadLocalRandomGenerator implements RandomGenerator {
 	private static final double TwoTimesPI=2*Math.PI;
 
 	/**
-	 * Zuordnung von Threads zu {@link RandomGenerator}-Objekten,
+	 * Zuordnung von Threads zu {@link SplittableRandomGenerator}-Objekten,
 	 * damit jeder Thread seinen eigenen Generator verwendet.
 	 * @see #getGenerator()
 	 */
-	private final Map<Thread,RandomGenerator> map;
+	private final ThreadLocal<SplittableRandomGenerator> generators;
 
 	/**
 	 * Konstruktor der Klasse
 	 */
 	public SeedableThreadLocalRandomGenerator() {
-		map=new HashMap<>();
+		generators=ThreadLocal.withInitial(SplittableRandomGenerator::new);
 	}
 
 	/**
 	 * Liefert den Thread-abhngigen Pseudozufallszahlengenerator
 	 * @return	Pseudozufallszahlengenerator fr den aktuellen Thread
 	 */
-	private synchronized RandomGenerator getGenerator() {
-		final Thread key=Thread.currentThread();
-		RandomGenerator generator=map.get(key);
-		if (generator==null) {
-			generator=new JDKRandomGenerator();
-			map.put(key,generator);
-		}
-		return generator;
+	public SplittableRandomGenerator getGenerator() {
+		return generators.get();
+	}
+
+	/**
+	 * Setzt den Startwert fr einen bestimmten Teilstrom des Generators des aktuellen Threads.
+	 * @param seed	Startwert
+	 * @param stream	Nummer des Teilstroms (z.B. globale Nummer der Wiederholung)
+	 * @see SplittableRandomGenerator#setSeed(long, long)
+	 */
+	public void setSeed(final long seed, final long stream) {
+		getGenerator().setSeed(seed,stream);
 	}
 
 	@Override
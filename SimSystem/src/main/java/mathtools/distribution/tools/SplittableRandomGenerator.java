@@ -0,0 +1,175 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtools.distribution.tools;
+
+import org.apache.commons.math3.random.RandomGenerator;
+
+/**
+ * Schneller Pseudozufallszahlengenerator auf Basis von xoroshiro128++.<br>
+ * Der 128-Bit-Zustand wird per SplitMix64 aus dem Seed abgeleitet.
+ * ber {@link #setSeed(long, long)} knnen aus einem Seed reproduzierbar
+ * verschiedene Teilstrme (z.B. einer pro Wiederholung des Modells) erzeugt werden.<br>
+ * Die Klasse ist nicht thread-sicher; jeder Thread muss eine eigene Instanz verwenden
+ * (siehe {@link SeedableThreadLocalRandomGenerator}).
+ * @author Alexander Herzog
+ * @see SeedableThreadLocalRandomGenerator
+ */
+public class SplittableRandomGenerator implements RandomGenerator {
+	/**
+	 * Vorabberechneter Wert 2*pi, um in {@link #nextGaussian()} Zeit zu sparen.
+	 */
+	private static final double TwoTimesPI=2*Math.PI;
+
+	/**
+	 * Schrittweite von SplitMix64 (ungerader Anteil des goldenen Schnitts)
+	 */
+	private static final long GOLDEN_GAMMA=0x9E3779B97F4A7C15L;
+
+	/**
+	 * Faktor zur Umrechnung von 53 Zufallsbits in eine Zahl aus [0;1)
+	 */
+	private static final double DOUBLE_UNIT=0x1.0p-53;
+
+	/** Erster Teil des internen Zustands */
+	private long s0;
+	/** Zweiter Teil des internen Zustands */
+	private long s1;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Der Generator wird mit einem zuflligen Seed initialisiert.
+	 */
+	public SplittableRandomGenerator() {
+		this(System.nanoTime()^mix64(Thread.currentThread().getId()));
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param seed	Startwert fr den Generator
+	 */
+	public SplittableRandomGenerator(final long seed) {
+		setSeed(seed);
+	}
+
+	/**
+	 * Mischfunktion von SplitMix64
+	 * @param z	Eingangswert
+	 * @return	Gemischter Wert
+	 */
+	private static long mix64(long z) {
+		z=(z^(z>>>30))*0xBF58476D1CE4E5B9L;
+		z=(z^(z>>>27))*0x94D049BB133111EBL;
+		return z^(z>>>31);
+	}
+
+	/**
+	 * Setzt den Startwert fr einen bestimmten Teilstrom.<br>
+	 * Gleiche Werte fr <code>seed</code> und <code>stream</code> liefern stets
+	 * dieselbe Folge von Zufallszahlen, unabhngig davon, in welchem Thread
+	 * und in welcher Reihenfolge die Teilstrme verwendet werden.
+	 * @param seed	Startwert
+	 * @param stream	Nummer des Teilstroms (z.B. globale Nummer der Wiederholung)
+	 */
+	public void setSeed(final long seed, final long stream) {
+		long z=mix64(seed)+mix64(stream+1)*GOLDEN_GAMMA;
+		z+=GOLDEN_GAMMA;
+		s0=mix64(z);
+		z+=GOLDEN_GAMMA;
+		s1=mix64(z);
+		if (s0==0 && s1==0) s1=GOLDEN_GAMMA; /* Der Zustand 0/0 ist ein Fixpunkt und daher nicht zulssig */
+	}
+
+	@Override
+	public void setSeed(final int seed) {
+		setSeed((long)seed);
+	}
+
+	@Override
+	public void setSeed(final int[] seed) {
+		long combined=0;
+		if (seed!=null) for (int value: seed) combined=combined*31+value;
+		setSeed(combined);
+	}
+
+	@Override
+	public void setSeed(final long seed) {
+		setSeed(seed,-1);
+	}
+
+	@Override
+	public long nextLong() {
+		final long a=s0;
+		long b=s1;
+		final long result=Long.rotateLeft(a+b,17)+a;
+		b^=a;
+		s0=Long.rotateLeft(a,49)^b^(b<<21);
+		s1=Long.rotateLeft(b,28);
+		return result;
+	}
+
+	@Override
+	public void nextBytes(final byte[] bytes) {
+		int i=0;
+		while (i<bytes.length) {
+			long value=nextLong();
+			for (int j=0;j<8 && i<bytes.length;j++) {
+				bytes[i++]=(byte)value;
+				value>>>=8;
+			}
+		}
+	}
+
+	@Override
+	public int nextInt() {
+		return (int)(nextLong()>>>32);
+	}
+
+	@Override
+	public int nextInt(final int n) {
+		if (n<=0) throw new IllegalArgumentException("n must be positive");
+		/* Lemire-Verfahren: Multiplikation statt Division, Verwerfen nur im seltenen Randbereich */
+		long m=(nextLong()>>>32)*n;
+		long low=m&0xFFFFFFFFL;
+		if (low<n) {
+			final long threshold=(0x100000000L-n)%n;
+			while (low<threshold) {
+				m=(nextLong()>>>32)*n;
+				low=m&0xFFFFFFFFL;
+			}
+		}
+		return (int)(m>>>32);
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return nextLong()<0;
+	}
+
+	@Override
+	public float nextFloat() {
+		return (nextLong()>>>40)*0x1.0p-24f;
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong()>>>11)*DOUBLE_UNIT;
+	}
+
+	@Override
+	public double nextGaussian() {
+		return Math.cos(TwoTimesPI*nextDouble())*StrictMath.sqrt(-2*Math.log(1-nextDouble()));
+	}
+}
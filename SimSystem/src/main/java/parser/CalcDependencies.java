@@ -0,0 +1,51 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package parser;
+
+import java.util.BitSet;
+
+import parser.coresymbols.CalcSymbol;
+
+/**
+ * Erfasst, von welchen Daten das Ergebnis eines Rechenausdrucks abhngt.<br>
+ * Diese Klasse erfasst nur Abhngigkeiten von Variablen. Abgeleitete Klassen knnen weitere
+ * Arten von Abhngigkeiten aufnehmen; Symbole, die solche Daten verwenden, knnen ihre
+ * Abhngigkeiten dann eintragen, wenn ein entsprechendes Objekt bergeben wird.
+ * @author Alexander Herzog
+ * @see CalcSystem#getDependencies(CalcDependencies)
+ * @see CalcSymbol#getDependencies(CalcDependencies)
+ */
+public class CalcDependencies {
+	/**
+	 * Indices der Variablen (in Bezug auf {@link CalcSystemBase#values}), von denen das Ergebnis abhngt
+	 */
+	public final BitSet variables;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param variables	Menge der Variablenindices, die ergnzt werden soll
+	 */
+	public CalcDependencies(final BitSet variables) {
+		this.variables=variables;
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public CalcDependencies() {
+		this(new BitSet());
+	}
+}
@@ -15,6 +15,7 @@
  */
 package parser;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,19 @@ public class CalcSystem extends CalcSystemBase {
 	 */
 	protected CalcSymbol root;
 
+	/**
+	 * Index einer Variable, deren Wert nicht aus {@link CalcSystemBase#values}, sondern aus {@link #extraValue}
+	 * gelesen werden soll, wenn das Werte-Array fr diesen Index zu kurz ist (-1 fr keine solche Variable).
+	 * @see #setExtraValue(int, double)
+	 */
+	private int extraValueIndex=-1;
+
+	/**
+	 * Wert der Variable mit dem Index {@link #extraValueIndex}
+	 * @see #setExtraValue(int, double)
+	 */
+	private double extraValue;
+
 	/**
 	 * Cache fr positive Double-Werte, um das Boxing/Unboxing zu vermeiden
 	 * @see CalcSymbol
@@ -229,6 +243,62 @@ public class CalcSystem extends CalcSystemBase {
 		}
 	}
 
+	/**
+	 * Ermittelt die Indices aller Variablen, von denen das Ergebnis des bereits geparsten Ausdrucks abhngt.
+	 * @param variables	Menge der Variablenindices, die ergnzt werden soll
+	 * @return	Liefert <code>true</code>, wenn das Ergebnis ausschlielich von den eingetragenen Variablen abhngt, d.h. bei unvernderten Variablenwerten stets dasselbe Ergebnis liefert. Enthlt der Ausdruck z.B. Zufallszahlen oder konnte er nicht geparst werden, so wird <code>false</code> geliefert.
+	 */
+	public boolean getVariableDependencies(final BitSet variables) {
+		return getDependencies(new CalcDependencies(variables));
+	}
+
+	/**
+	 * Ermittelt alle Daten, von denen das Ergebnis des bereits geparsten Ausdrucks abhngt.<br>
+	 * Welche Arten von Abhngigkeiten (neben Variablen) erfasst werden knnen, hngt von dem Typ des bergebenen Objekts ab.
+	 * @param dependencies	Abhngigkeitsobjekt, das ergnzt werden soll
+	 * @return	Liefert <code>true</code>, wenn das Ergebnis ausschlielich von den eingetragenen Daten abhngt, d.h. bei unvernderten Werten stets dasselbe Ergebnis liefert. Enthlt der Ausdruck z.B. Zufallszahlen oder konnte er nicht geparst werden, so wird <code>false</code> geliefert.
+	 */
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (isConstValue()) return true;
+		if (root==null) return false;
+		return root.getDependencies(dependencies);
+	}
+
+	/**
+	 * Stellt eine zustzliche Variable ein, deren Wert nicht aus dem Werte-Array gelesen, sondern separat vorgehalten wird.<br>
+	 * Auf diese Weise kann z.B. an ein Array mit den globalen Variablen ein weiterer Wert angehngt werden,
+	 * ohne das Array dafr kopieren zu mssen.<br>
+	 * Der zustzliche Wert wird nur verwendet, wenn der Index hinter dem Ende des bei der Berechnung bergebenen
+	 * Werte-Arrays liegt. Ist das Array lang genug, so hat der Eintrag im Array Vorrang; der zustzliche Wert
+	 * berdeckt also nie einen im Array vorhandenen Wert.
+	 * @param extraValueIndex	Index der zustzlichen Variable (-1 fr keine solche Variable)
+	 * @param extraValue	Wert der zustzlichen Variable
+	 * @see #getExtraValueIndex()
+	 * @see #getExtraValue()
+	 */
+	public void setExtraValue(final int extraValueIndex, final double extraValue) {
+		this.extraValueIndex=extraValueIndex;
+		this.extraValue=extraValue;
+	}
+
+	/**
+	 * Liefert den Index der zustzlichen Variable.
+	 * @return	Index der zustzlichen Variable (-1 fr keine solche Variable)
+	 * @see #setExtraValue(int, double)
+	 */
+	public final int getExtraValueIndex() {
+		return extraValueIndex;
+	}
+
+	/**
+	 * Liefert den Wert der zustzlichen Variable.
+	 * @return	Wert der zustzlichen Variable
+	 * @see #setExtraValue(int, double)
+	 */
+	public final double getExtraValue() {
+		return extraValue;
+	}
+
 	/**
 	 * Berechnet den Wert eines Ausdrucks ohne weitere Variablen
 	 * @param text	Zu berechnender Ausdruck
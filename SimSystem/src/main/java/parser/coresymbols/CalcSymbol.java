@@ -15,6 +15,9 @@
  */
 package parser.coresymbols;
 
+import java.util.BitSet;
+
+import parser.CalcDependencies;
 import parser.CalcSystem;
 import parser.MathCalcError;
 
@@ -89,6 +92,33 @@ public abstract class CalcSymbol implements Cloneable {
 	 */
 	public Object getSimplify() {return this;}
 
+	/**
+	 * Liefert die Parameter des Symbols (bei Operatoren und Funktionen).
+	 * @return	Parameter des Symbols oder <code>null</code>, wenn das Symbol keine Parameter besitzt
+	 */
+	public CalcSymbol[] getParameterSymbols() {
+		return null;
+	}
+
+	/**
+	 * Trgt alle Daten, von denen der Wert des Symbols (und seiner Kind-Elemente) abhngt, in ein Abhngigkeitsobjekt ein.
+	 * @param dependencies	Abhngigkeitsobjekt, das ergnzt werden soll
+	 * @return	Liefert <code>true</code>, wenn der Wert des Symbols ausschlielich von den eingetragenen Daten abhngt, und <code>false</code>, wenn der Wert auch von weiteren Daten (z.B. Zufallszahlen) abhngen kann
+	 */
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		return false;
+	}
+
+	/**
+	 * Trgt die Indices aller Variablen, von denen der Wert des Symbols (und seiner Kind-Elemente) abhngt, in eine Menge ein.
+	 * @param variables	Menge der Variablenindices (in Bezug auf {@link CalcSystem#values}), die ergnzt werden soll
+	 * @return	Liefert <code>true</code>, wenn der Wert des Symbols ausschlielich von den eingetragenen Variablen abhngt, und <code>false</code>, wenn der Wert auch von weiteren Daten (z.B. Zufallszahlen) abhngen kann
+	 * @see #getDependencies(CalcDependencies)
+	 */
+	public final boolean getVariableDependencies(final BitSet variables) {
+		return getDependencies(new CalcDependencies(variables));
+	}
+
 	/**
 	 * Erstellt eine Kopie des Symbols
 	 * @return	Kopie des Symbols
@@ -15,6 +15,7 @@
  */
 package parser.coresymbols;
 
+import parser.CalcDependencies;
 import parser.CalcSystem;
 import parser.MathCalcError;
 
@@ -51,6 +52,11 @@ public abstract class CalcSymbolConst extends CalcSymbol {
 		return value;
 	}
 
+	@Override
+	public final boolean getDependencies(final CalcDependencies dependencies) {
+		return true;
+	}
+
 	@Override
 	public final Object getSimplify() {
 		return value;
@@ -15,6 +15,7 @@
  */
 package parser.coresymbols;
 
+import parser.CalcDependencies;
 import parser.CalcSystem;
 import parser.MathCalcError;
 
@@ -156,6 +157,17 @@ public abstract class CalcSymbolMiddleOperator extends CalcSymbolFunction {
 		return this;
 	}
 
+	@Override
+	public CalcSymbol[] getParameterSymbols() {
+		return new CalcSymbol[]{left,right};
+	}
+
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (left==null || right==null) return false;
+		return left.getDependencies(dependencies) && right.getDependencies(dependencies);
+	}
+
 	@Override
 	public final CalcSymbol cloneSymbol() {
 		CalcSymbolMiddleOperator clone=(CalcSymbolMiddleOperator)super.cloneSymbol();
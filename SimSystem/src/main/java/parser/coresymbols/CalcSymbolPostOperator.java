@@ -15,6 +15,7 @@
  */
 package parser.coresymbols;
 
+import parser.CalcDependencies;
 import parser.CalcSystem;
 import parser.MathCalcError;
 
@@ -68,6 +69,17 @@ public abstract class CalcSymbolPostOperator extends CalcSymbolFunction {
 		return calc(sub.getValue(calc));
 	}
 
+	@Override
+	public CalcSymbol[] getParameterSymbols() {
+		return new CalcSymbol[]{sub};
+	}
+
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (sub==null) return false;
+		return sub.getDependencies(dependencies);
+	}
+
 	@Override
 	public final CalcSymbol cloneSymbol() {
 		CalcSymbolPostOperator clone=(CalcSymbolPostOperator)super.cloneSymbol();
@@ -15,6 +15,7 @@
  */
 package parser.coresymbols;
 
+import parser.CalcDependencies;
 import parser.CalcSystem;
 import parser.MathCalcError;
 
@@ -227,6 +228,18 @@ public abstract class CalcSymbolPreOperator extends CalcSymbolFunction {
 		return true;
 	}
 
+	@Override
+	public CalcSymbol[] getParameterSymbols() {
+		return symbols;
+	}
+
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (!isDeterministic() || symbols==null) return false;
+		for (CalcSymbol symbol: symbols) if (symbol==null || !symbol.getDependencies(dependencies)) return false;
+		return true;
+	}
+
 	@Override
 	public Object getSimplify() {
 		if (isDeterministic()) {
@@ -15,6 +15,7 @@
  */
 package parser.coresymbols;
 
+import parser.CalcDependencies;
 import parser.CalcSystem;
 import parser.MathCalcError;
 
@@ -72,6 +73,13 @@ public final class CalcSymbolSub extends CalcSymbol {
 		return sub[0].getValue(calc);
 	}
 
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (sub==null) return false;
+		for (CalcSymbol symbol: sub) if (symbol==null || !symbol.getDependencies(dependencies)) return false;
+		return true;
+	}
+
 	@Override
 	public CalcSymbol cloneSymbol() {
 		CalcSymbolSub clone=(CalcSymbolSub)super.cloneSymbol();
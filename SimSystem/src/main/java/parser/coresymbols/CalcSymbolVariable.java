@@ -15,6 +15,7 @@
  */
 package parser.coresymbols;
 
+import parser.CalcDependencies;
 import parser.CalcSystem;
 import parser.CalcSystemBase;
 import parser.MathCalcError;
@@ -47,6 +48,14 @@ public class CalcSymbolVariable extends CalcSymbol {
 		this.variableIndex=variableIndex;
 	}
 
+	/**
+	 * Liefert den Index der Variable, auf die sich dieses Symbol bezieht
+	 * @return	Index der Variable in der Liste der Variablen in {@link CalcSystemBase#variables}
+	 */
+	public int getVariableIndex() {
+		return variableIndex;
+	}
+
 	@Override
 	public final SymbolType getType() {
 		return CalcSymbol.SymbolType.TYPE_CONST;
@@ -54,8 +63,19 @@ public class CalcSymbolVariable extends CalcSymbol {
 
 	@Override
 	public final double getValue(final CalcSystem calc) throws MathCalcError {
-		if (calc.values==null || variableIndex<0 || variableIndex>=calc.values.length) throw error();
-		return calc.values[variableIndex];
+		final double[] values=calc.values;
+		if (values!=null && variableIndex>=0) {
+			if (variableIndex<values.length) return values[variableIndex];
+			if (variableIndex==calc.getExtraValueIndex()) return calc.getExtraValue();
+		}
+		throw error();
+	}
+
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (variableIndex<0) return false;
+		dependencies.variables.set(variableIndex);
+		return true;
 	}
 
 	@Override
@@ -63,6 +63,14 @@ public abstract class Event implements Comparable<Event> {
 	 */
 	public boolean isDeleted;
 
+	/**
+	 * Position des Ereignisses in der Ereignisliste.<br>
+	 * Wird von den EventManagern, die Ereignisse direkt ber ihre Position lschen knnen,
+	 * beim Einfgen, Verschieben und Entnehmen aktualisiert. Ein Wert von -1 bedeutet,
+	 * dass die Position nicht bekannt ist bzw. sich das Ereignis nicht in der Liste befindet.
+	 */
+	public int queuePosition=-1;
+
 	/**
 	 * Initialisierung des Ereignisses<br><br>
 	 * Sollte in abgeleiteten Klassen berschrieben werden, um weitere Felder zu initialisieren.<br>
@@ -74,6 +82,7 @@ public abstract class Event implements Comparable<Event> {
 		this.time=time;
 		isDeleted=false;
 		addNextEvent=null;
+		queuePosition=-1;
 	}
 
 	/**
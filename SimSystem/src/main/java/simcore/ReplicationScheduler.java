@@ -0,0 +1,216 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Verteilt die Wiederholungen (Tage) einer Simulation dynamisch auf die Simulationsthreads.<br>
+ * Anstatt jedem Thread vorab einen festen Block an Wiederholungen zuzuweisen, holen sich
+ * die Threads die jeweils nchste Wiederholung ber {@link #nextDay(int)}. Dadurch bleiben
+ * bei unterschiedlich langen Wiederholungen keine Threads unttig, whrend ein einzelner
+ * Thread noch mehrere Wiederholungen abarbeitet.<br>
+ * Die globale Nummer einer Wiederholung hngt nicht davon ab, welcher Thread sie simuliert.
+ * Jeder Thread erhlt als erste Wiederholung immer eine eigene.
+ * @author Alexander Herzog
+ * @see SimData#replicationScheduler
+ * @see SimThread
+ */
+public final class ReplicationScheduler {
+	/** Gesamtanzahl an Wiederholungen */
+	private final long days;
+
+	/** Anzahl an Simulationsthreads */
+	private final int threadCount;
+
+	/** Sollen sich Threads, deren eigener Block abgearbeitet ist, Wiederholungen von anderen Threads holen (<code>true</code>) oder alle Threads ber einen gemeinsamen Zhler bedient werden (<code>false</code>)? */
+	private final boolean workStealing;
+
+	/**
+	 * Gemeinsamer Zhler fr die nchste zu vergebende Wiederholung (wenn {@link #workStealing} nicht aktiv ist)
+	 */
+	private final AtomicLong counter;
+
+	/**
+	 * Wurde die jeweils erste (feste) Wiederholung an die Threads bereits vergeben? (wenn {@link #workStealing} nicht aktiv ist)<br>
+	 * Jeder Eintrag wird nur von dem jeweiligen Thread selbst gelesen und geschrieben.
+	 */
+	private final boolean[] firstDayTaken;
+
+	/**
+	 * Noch offene Bereiche der einzelnen Threads (wenn {@link #workStealing} aktiv ist).<br>
+	 * Jeder Eintrag enthlt in den oberen 32 Bit die nchste und in den unteren 32 Bit die erste nicht mehr zu dem Bereich gehrende Wiederholung.
+	 */
+	private final AtomicLongArray ranges;
+
+	/**
+	 * Haben die einzelnen Threads bereits ihre erste Wiederholung abgerufen? (1=ja; wenn {@link #workStealing} aktiv ist)
+	 */
+	private final AtomicIntegerArray started;
+
+	/**
+	 * Anzahl an bernahmen von Wiederholungen von anderen Threads
+	 * @see #getStealCount()
+	 */
+	private final AtomicLong stealCount;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param days	Gesamtanzahl an Wiederholungen
+	 * @param threadCount	Anzahl an Simulationsthreads
+	 * @param workStealing	Sollen sich Threads, deren eigener Block abgearbeitet ist, Wiederholungen von anderen Threads holen (<code>true</code>) oder alle Threads ber einen gemeinsamen Zhler bedient werden (<code>false</code>)?
+	 */
+	public ReplicationScheduler(final long days, final int threadCount, final boolean workStealing) {
+		if (days<0 || days>Integer.MAX_VALUE) throw new IllegalArgumentException("days");
+		if (threadCount<1) throw new IllegalArgumentException("threadCount");
+		this.days=days;
+		this.threadCount=threadCount;
+		this.workStealing=workStealing;
+		stealCount=new AtomicLong();
+
+		if (workStealing) {
+			counter=null;
+			firstDayTaken=null;
+			ranges=new AtomicLongArray(threadCount);
+			started=new AtomicIntegerArray(threadCount);
+			/* Startaufteilung wie bei der statischen Zuordnung: zusammenhngende Blcke, die ersten Threads erhalten ggf. eine Wiederholung mehr */
+			final long baseCount=days/threadCount;
+			final long addCount=days%threadCount;
+			long start=0;
+			for (int i=0;i<threadCount;i++) {
+				final long count=baseCount+((i<addCount)?1:0);
+				ranges.set(i,pack(start,start+count));
+				start+=count;
+			}
+		} else {
+			counter=new AtomicLong(Math.min(days,threadCount));
+			firstDayTaken=new boolean[threadCount];
+			ranges=null;
+			started=null;
+		}
+	}
+
+	/**
+	 * Fasst Anfang und Ende eines Bereichs zu einem Wert zusammen.
+	 * @param next	Nchste zu vergebende Wiederholung
+	 * @param end	Erste nicht mehr zu dem Bereich gehrende Wiederholung
+	 * @return	Zusammengefasster Wert
+	 */
+	private static long pack(final long next, final long end) {
+		return (next<<32)|end;
+	}
+
+	/**
+	 * Liefert die nchste zu vergebende Wiederholung aus einem zusammengefassten Bereich.
+	 * @param range	Zusammengefasster Bereich
+	 * @return	Nchste zu vergebende Wiederholung
+	 */
+	private static long getNext(final long range) {
+		return range>>>32;
+	}
+
+	/**
+	 * Liefert das Ende eines zusammengefassten Bereichs.
+	 * @param range	Zusammengefasster Bereich
+	 * @return	Erste nicht mehr zu dem Bereich gehrende Wiederholung
+	 */
+	private static long getEnd(final long range) {
+		return range&0xFFFFFFFFL;
+	}
+
+	/**
+	 * Liefert die Gesamtanzahl an Wiederholungen.
+	 * @return	Gesamtanzahl an Wiederholungen
+	 */
+	public long getDays() {
+		return days;
+	}
+
+	/**
+	 * Liefert die Anzahl an bernahmen von Wiederholungen von anderen Threads.
+	 * @return	Anzahl an bernahmen (ist ohne Work-Stealing immer 0)
+	 */
+	public long getStealCount() {
+		return stealCount.get();
+	}
+
+	/**
+	 * Liefert die nchste von einem Thread zu simulierende Wiederholung.
+	 * @param threadNr	Nummer des Threads (0-basierend)
+	 * @return	Globale Nummer der Wiederholung (0-basierend) oder -1, wenn keine Wiederholungen mehr zu simulieren sind
+	 */
+	public long nextDay(final int threadNr) {
+		if (!workStealing) {
+			if (!firstDayTaken[threadNr]) {
+				firstDayTaken[threadNr]=true;
+				if (threadNr<days) return threadNr;
+			}
+			final long day=counter.getAndIncrement();
+			return (day<days)?day:-1;
+		}
+
+		if (started.get(threadNr)==0) started.set(threadNr,1);
+		while (true) {
+			final long range=ranges.get(threadNr);
+			final long next=getNext(range);
+			final long end=getEnd(range);
+			if (next<end) {
+				if (ranges.compareAndSet(threadNr,range,pack(next+1,end))) return next;
+				continue;
+			}
+			if (!steal(threadNr)) return -1;
+		}
+	}
+
+	/**
+	 * bernimmt die hintere Hlfte des grten noch offenen Bereichs eines anderen Threads.<br>
+	 * Hat ein Thread noch nicht mit seinem Bereich begonnen, so bleibt ihm mindestens eine Wiederholung.
+	 * @param threadNr	Nummer des Threads, dessen eigener Bereich leer ist
+	 * @return	Liefert <code>true</code>, wenn Wiederholungen bernommen werden konnten
+	 */
+	private boolean steal(final int threadNr) {
+		while (true) {
+			int victim=-1;
+			long victimRange=0;
+			long victimRemaining=0;
+			for (int i=0;i<threadCount;i++) {
+				if (i==threadNr) continue;
+				final long range=ranges.get(i);
+				final long next=getNext(range);
+				final long remaining=getEnd(range)-next;
+				final long stealable=(started.get(i)!=0)?remaining:(remaining-1);
+				if (stealable>0 && remaining>victimRemaining) {
+					victim=i;
+					victimRange=range;
+					victimRemaining=remaining;
+				}
+			}
+			if (victim<0) return false;
+
+			final long next=getNext(victimRange);
+			final long end=getEnd(victimRange);
+			final long stealable=(started.get(victim)!=0)?victimRemaining:(victimRemaining-1);
+			final long mid=end-Math.max(1,Math.min(stealable,(victimRemaining+1)/2));
+			if (ranges.compareAndSet(victim,victimRange,pack(next,mid))) {
+				ranges.set(threadNr,pack(mid,end));
+				stealCount.incrementAndGet();
+				return true;
+			}
+		}
+	}
+}
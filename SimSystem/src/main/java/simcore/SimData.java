@@ -56,6 +56,14 @@ public class SimData {
 	 */
 	public long simDaysByOtherThreads=0;
 
+	/**
+	 * Optionale gemeinsame Verteilung der Wiederholungen auf die Threads.<br>
+	 * Ist dieses Feld gesetzt, so werden {@link #simDays} (als Gesamtanzahl ber alle Threads)
+	 * und {@link #simDaysByOtherThreads} nicht fr die Zuordnung verwendet; der Thread holt sich
+	 * stattdessen die jeweils nchste Wiederholung von diesem Objekt.
+	 */
+	public ReplicationScheduler replicationScheduler;
+
 	/**
 	 * Referenz auf den EventManager<br><br>
 	 * Mit Hilfe dieser Referenz knnen whrend der Ausfhrung von Ereignissen
@@ -137,6 +145,15 @@ public class SimData {
 		if (logging!=null) logging.done();
 	}
 
+	/**
+	 * Gibt Ressourcen (z.B. offene Ausgabedateien) frei, die whrend der Simulation belegt wurden.<br><br>
+	 * Diese Methode wird von <code>SimThread</code> am Ende des Threads in jedem Fall aufgerufen,
+	 * also auch dann, wenn die Simulation abgebrochen wurde oder mit einem Fehler endete
+	 * und {@link #finalTerminateCleanUp(long)} daher nicht mehr ausgefhrt wurde.
+	 * Die Methode muss daher auch nach einem vorherigen Aufruf von {@link #finalTerminateCleanUp(long)} gefahrlos aufgerufen werden knnen.
+	 */
+	public void releaseResources() {}
+
 	/**
 	 * Vorbereitung eines Simulationstages (nur notwendig, wenn mehrere Tage simuliert werden sollen)
 	 * @param day	Nummer des simulierten Tages (beginnend ab 0)
@@ -146,6 +163,16 @@ public class SimData {
 	 */
 	public void initDay(long day, long dayGlobal, boolean backgroundMode) {}
 
+	/**
+	 * Erstellt eine von dem weiteren Simulationsverlauf entkoppelte Momentaufnahme
+	 * der bislang in diesem Thread erfassten Daten.<br><br>
+	 * Diese Methode wird von <code>SimThread</code> zwischen zwei Ereignissen aufgerufen,
+	 * wenn Zwischenergebnisse angefordert wurden.
+	 * @return	Momentaufnahme (wird nach der Rckgabe nicht mehr verndert) oder <code>null</code>, wenn keine Momentaufnahmen untersttzt werden
+	 * @see SimThread#getSnapshot()
+	 */
+	public Object createSnapshot() {return null;}
+
 	/**
 	 * Ereignis in den EventCache aufnehmen<br><br>
 	 * Ereignisse sollten nach ihrer Ausfhrung nicht einfach freigegeben, sondern in
@@ -58,6 +58,20 @@ public final class SimThread extends Thread {
 	 */
 	public int eventQueueLength;
 
+	/**
+	 * Anzahl der Ereignisse, die vor ihrer Ausfhrung direkt aus der Ereignisliste entfernt wurden.
+	 * Die Aktualisierung erfolgt zusammen mit <code>eventCount</code>.
+	 * @see EventManager#deletedEventCount()
+	 */
+	public long deletedEventCount;
+
+	/**
+	 * Anzahl der Ereignisse, die beim Lschen nur als gelscht markiert werden konnten.
+	 * Die Aktualisierung erfolgt zusammen mit <code>eventCount</code>.
+	 * @see EventManager#tombstoneEventCount()
+	 */
+	public long tombstoneEventCount;
+
 	/**
 	 * Whrend der Simulation kann hier ausgelesen werden, welcher Tag gerade simuliert wird (1 basierend).
 	 */
@@ -114,6 +128,38 @@ public final class SimThread extends Thread {
 	 */
 	private final Object pauseObject=new Object();
 
+	/**
+	 * Mindestabstand (in Millisekunden) zwischen zwei Momentaufnahmen whrend der laufenden Simulation
+	 * @see #getSnapshot()
+	 */
+	public static final long SNAPSHOT_INTERVAL_MS=1_000;
+
+	/**
+	 * Wurden bereits Momentaufnahmen angefordert?<br>
+	 * (Erst dann erstellt der Thread berhaupt Momentaufnahmen.)
+	 * @see #getSnapshot()
+	 */
+	private volatile boolean snapshotRequested;
+
+	/**
+	 * Zuletzt durch den Simulationsthread verffentlichte Momentaufnahme
+	 * @see #getSnapshot()
+	 * @see SimData#createSnapshot()
+	 */
+	private volatile Object snapshot;
+
+	/**
+	 * Zeitpunkt (in Millisekunden) der letzten Momentaufnahme<br>
+	 * (Wird nur innerhalb des Simulationsthreads verwendet.)
+	 */
+	private long snapshotTime;
+
+	/**
+	 * Synchronisationsobjekt, ber das auf die erste Momentaufnahme gewartet werden kann
+	 * @see #getSnapshot(long)
+	 */
+	private final Object snapshotLock=new Object();
+
 	/**
 	 * Konstruktor der {@link SimThread}-Klasse
 	 * @param simData	Referenz auf das {@link SimData}-Objekt fr diesen Thread.
@@ -157,6 +203,88 @@ public final class SimThread extends Thread {
 	 */
 	public static boolean TRY_TO_GET_STACK_TRACE_ON_OUT_OF_MEMOY=false;
 
+	/**
+	 * bertrgt die Zhler aus der Ereignisverwaltung in die ffentlichen Felder dieses Threads.
+	 * @see #eventCount
+	 * @see #eventQueueLength
+	 * @see #deletedEventCount
+	 * @see #tombstoneEventCount
+	 */
+	private void updateEventCounters() {
+		eventCount=eventManager.eventCount();
+		eventQueueLength=eventManager.eventQueueLength();
+		deletedEventCount=eventManager.deletedEventCount();
+		tombstoneEventCount=eventManager.tombstoneEventCount();
+	}
+
+	/**
+	 * Erstellt eine neue Momentaufnahme und verffentlicht diese, sofern
+	 * Momentaufnahmen angefordert wurden und die letzte Momentaufnahme
+	 * mindestens {@link #SNAPSHOT_INTERVAL_MS} alt ist.<br>
+	 * Darf nur aus dem Simulationsthread zwischen zwei Ereignissen aufgerufen werden.
+	 * @param force	Momentaufnahme unabhngig von dem Alter der letzten Momentaufnahme erstellen
+	 * @see #getSnapshot()
+	 */
+	private void publishSnapshot(final boolean force) {
+		if (!snapshotRequested) return;
+		final long now=System.currentTimeMillis();
+		if (!force && snapshot!=null && now-snapshotTime<SNAPSHOT_INTERVAL_MS) return;
+		snapshotTime=now;
+		snapshot=simData.createSnapshot();
+		synchronized(snapshotLock) {
+			snapshotLock.notifyAll();
+		}
+	}
+
+	/**
+	 * Liefert die zuletzt durch den Simulationsthread verffentlichte Momentaufnahme.<br>
+	 * Die Simulation wird dafr nicht angehalten. Der erste Aufruf aktiviert die Erstellung
+	 * von Momentaufnahmen, daher kann das Ergebnis in diesem Fall noch <code>null</code> sein.
+	 * Danach wird die Momentaufnahme etwa alle {@link #SNAPSHOT_INTERVAL_MS} Millisekunden erneuert.
+	 * @return	Momentaufnahme (darf nicht verndert werden) oder <code>null</code>, wenn noch keine Momentaufnahme vorliegt
+	 * @see SimData#createSnapshot()
+	 * @see #getSnapshot(long)
+	 */
+	public Object getSnapshot() {
+		return getSnapshot(0);
+	}
+
+	/**
+	 * Liefert die zuletzt durch den Simulationsthread verffentlichte Momentaufnahme.<br>
+	 * Liegt noch keine Momentaufnahme vor, so wird die Erstellung aktiviert und bis zu der
+	 * angegebenen Zeit auf die erste Momentaufnahme gewartet. Der Simulationsthread erstellt diese
+	 * bei der nchsten Rckkehr aus der Ereignisschleife (sptestens nach etwa einer Sekunde).
+	 * Ist der Thread bereits beendet, so wird die Momentaufnahme direkt erstellt.
+	 * @param timeoutMS	Maximale Wartezeit in Millisekunden (Werte &le;0 bedeuten, dass nicht gewartet wird)
+	 * @return	Momentaufnahme (darf nicht verndert werden) oder <code>null</code>, wenn innerhalb der Wartezeit keine Momentaufnahme erstellt wurde
+	 * @see SimData#createSnapshot()
+	 */
+	public Object getSnapshot(final long timeoutMS) {
+		snapshotRequested=true;
+		Object result=snapshot;
+		if (result!=null) return result;
+
+		final long deadline=System.currentTimeMillis()+Math.max(0,timeoutMS);
+		synchronized(snapshotLock) {
+			while ((result=snapshot)==null) {
+				if (getState()==State.TERMINATED) {
+					/* Der Thread hat keine (abschlieende) Momentaufnahme mehr erstellt, die Daten knnen aber nun direkt gelesen werden. */
+					if (simData==null) return null;
+					return snapshot=simData.createSnapshot();
+				}
+				final long wait=deadline-System.currentTimeMillis();
+				if (wait<=0) return null;
+				try {
+					snapshotLock.wait(Math.min(wait,100));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return null;
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Arbeitsroutine des Simulationsthreads
 	 */
@@ -169,39 +297,25 @@ public final class SimThread extends Thread {
 
 		try {
 			eventManager=simData.eventManager;
-			final long days=simData.simDays;
-			final long daysByOtherThreads=simData.simDaysByOtherThreads;
-			for (long day=0;day<days;day++) {
-				currentDay=day+1;
-				simData.initDay(day,daysByOtherThreads+day,getPriority()==MIN_PRIORITY);
-				eventManager.resetTime();
-				if (isInterrupted()) {
-					simData.terminateCleanUp(simData.currentTime);
-					simData.finalTerminateCleanUp(eventCount);
-					simDoneTime=System.currentTimeMillis();
-					return;
+			final ReplicationScheduler scheduler=simData.replicationScheduler;
+			if (scheduler==null) {
+				/* Feste Zuordnung der Wiederholungen */
+				final long days=simData.simDays;
+				final long daysByOtherThreads=simData.simDaysByOtherThreads;
+				for (long day=0;day<days;day++) {
+					if (!simulateDay(day,daysByOtherThreads+day)) return;
 				}
-				while (eventManager.executeNextEvents(simData,pauseSimulation?1:200000,1000)) {
-					if (pauseSimulation) synchronized (pauseObject) {
-						isInPauseMode=true;
-						try {while (!doStepOrContinue) pauseObject.wait(1000);} catch (InterruptedException e) {}
-						isInPauseMode=false;
-						doStepOrContinue=false;
-					}
-					if (abortSimulation || isInterrupted()) {
-						simData.terminateCleanUp(simData.currentTime);
-						simData.finalTerminateCleanUp(eventCount);
-						simDoneTime=System.currentTimeMillis();
-						return;
-					}
-					eventCount=eventManager.eventCount();
-					eventQueueLength=eventManager.eventQueueLength();
+			} else {
+				/* Dynamische Zuordnung der Wiederholungen */
+				long day=0;
+				long dayGlobal;
+				while ((dayGlobal=scheduler.nextDay(simData.threadNr))>=0) {
+					if (!simulateDay(day,dayGlobal)) return;
+					day++;
 				}
-				eventCount=eventManager.eventCount();
-				eventQueueLength=eventManager.eventQueueLength();
-				simData.terminateCleanUp(simData.currentTime);
 			}
 			simData.finalTerminateCleanUp(eventCount);
+			publishSnapshot(true);
 		} catch (Exception e) {
 			simData.catchException(e.getMessage()+traceInfo(e.getStackTrace()));
 		} catch (OutOfMemoryError e) {
@@ -214,11 +328,58 @@ public final class SimThread extends Thread {
 			} else {
 				simData.catchOutOfMemory("");
 			}
+		} finally {
+			/* Auch bei Abbruch oder Fehler z.B. die Ausgabedateien schlieen */
+			simData.releaseResources();
 		}
 
 		simDoneTime=System.currentTimeMillis();
 	}
 
+	/**
+	 * Simuliert eine Wiederholung (einen Tag).
+	 * @param day	Nummer der Wiederholung innerhalb dieses Threads (0-basierend)
+	 * @param dayGlobal	Globale Nummer der Wiederholung ber alle Threads (0-basierend)
+	 * @return	Liefert <code>false</code>, wenn die Simulation abgebrochen wurde (die Aufrumarbeiten wurden dann bereits ausgefhrt)
+	 * @see #run()
+	 */
+	private boolean simulateDay(final long day, final long dayGlobal) {
+		currentDay=day+1;
+		simData.initDay(day,dayGlobal,getPriority()==MIN_PRIORITY);
+		eventManager.resetTime();
+		if (isInterrupted()) {
+			simData.terminateCleanUp(simData.currentTime);
+			simData.finalTerminateCleanUp(eventCount);
+			simDoneTime=System.currentTimeMillis();
+			return false;
+		}
+		while (eventManager.executeNextEvents(simData,pauseSimulation?1:200000,1000)) {
+			if (pauseSimulation) synchronized (pauseObject) {
+				isInPauseMode=true;
+				publishSnapshot(true);
+				try {
+					while (!doStepOrContinue) {
+						pauseObject.wait(1000);
+						publishSnapshot(false);
+					}
+				} catch (InterruptedException e) {}
+				isInPauseMode=false;
+				doStepOrContinue=false;
+			}
+			if (abortSimulation || isInterrupted()) {
+				simData.terminateCleanUp(simData.currentTime);
+				simData.finalTerminateCleanUp(eventCount);
+				simDoneTime=System.currentTimeMillis();
+				return false;
+			}
+			updateEventCounters();
+			publishSnapshot(false);
+		}
+		updateEventCounters();
+		simData.terminateCleanUp(simData.currentTime);
+		return true;
+	}
+
 	/**
 	 * Tritt innerhalb der Simulationsthreads eine nicht behandelte
 	 * Exception auf, so wird der Stack-Trace ber diese Methode
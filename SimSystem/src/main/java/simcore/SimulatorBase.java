@@ -239,6 +239,26 @@ public abstract class SimulatorBase {
 		return sum;
 	}
 
+	/**
+	 * Gibt die Summe der in allen Threads bisher direkt aus der Ereignisliste gelschten Ereignisse zurck.
+	 * @return Anzahl der direkt gelschten Ereignisse in allen Threads
+	 */
+	public final long getDeletedEventCount() {
+		long sum=0;
+		for (int i=0;i<threads.length;i++) if (threads[i]!=null) sum+=threads[i].deletedEventCount;
+		return sum;
+	}
+
+	/**
+	 * Gibt die Summe der in allen Threads bisher nur als gelscht markierten Ereignisse zurck.
+	 * @return Anzahl der nur als gelscht markierten Ereignisse in allen Threads
+	 */
+	public final long getTombstoneEventCount() {
+		long sum=0;
+		for (int i=0;i<threads.length;i++) if (threads[i]!=null) sum+=threads[i].tombstoneEventCount;
+		return sum;
+	}
+
 	/**
 	 * Gibt die Summe der momentan in allen Threads wartenden Ereignisse zurck.
 	 * @return Anzahl der momentan wartenden Ereignisse in allen Threads
@@ -0,0 +1,364 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.eventmanager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import simcore.Event;
+
+/**
+ * Implementierung des <code>EventManager</code>-Interface als Kalender-Warteschlange (nach R. Brown, 1988).<br><br>
+ * Die Ereignisse werden gem ihres Ausfhrungszeitpunkts auf eine Anzahl an Tagen
+ * (Teilwarteschlangen) eines "Jahres" verteilt. Die Anzahl der Tage und die Breite
+ * eines Tages werden dynamisch an die Anzahl der Ereignisse angepasst, so dass
+ * Einfgen, Entnehmen und Lschen im Mittel in konstanter Zeit erfolgen.<br>
+ * Wie beim {@link LongRunMultiSortedArrayListEventManager} werden Ereignisse, die zum
+ * aktuellen Zeitpunkt ausgefhrt werden sollen, in einem gesonderten Zwischenspeicher vorgehalten.<br>
+ * Die Position eines Ereignisses innerhalb seiner Teilwarteschlange wird in {@link Event#queuePosition}
+ * mitgefhrt, so dass das Lschen ohne Suche erfolgen kann.
+ * @author Alexander Herzog
+ * @version 1.1
+ * @see EventManager
+ */
+public class CalendarQueueEventManager extends EventManagerBase {
+	/** Minimale Anzahl an Tagen (Teilwarteschlangen); muss eine Zweierpotenz sein */
+	private static final int MIN_BUCKET_COUNT=16;
+	/** Anfngliche Kapazitt einer Teilwarteschlange */
+	private static final int INITIAL_BUCKET_CAPACITY=4;
+	/** Maximale Anzahl an Ereignissen, die zur Bestimmung der Breite eines Tages herangezogen werden */
+	private static final int WIDTH_SAMPLE_SIZE=256;
+
+	/** Teilwarteschlangen (jeweils absteigend sortiert, d.h. das nchste Ereignis steht am Ende) */
+	private Event[][] buckets;
+	/** Anzahl an Ereignissen in den einzelnen Teilwarteschlangen */
+	private int[] bucketSize;
+	/** Anzahl an Teilwarteschlangen */
+	private int bucketCount;
+	/** Bitmaske zur Bestimmung der Teilwarteschlange ({@link #bucketCount}-1) */
+	private int bucketMask;
+	/** Breite eines Tages (in Millisekunden) */
+	private long width;
+	/** Anzahl an Ereignissen in allen Teilwarteschlangen zusammen */
+	private int size;
+
+	/** Teilwarteschlange, an der die Suche nach dem nchsten Ereignis beginnt */
+	private int currentBucket;
+	/** Obere (exklusive) Zeitgrenze des aktuellen Tages {@link #currentBucket} */
+	private long currentBucketTop;
+
+	/** Zwischenspeicher fr neue Ereignisse, die zum selben Zeitpunkt wie das aktuelle Ereignis ausgefhrt werden sollen (spart so das Einfgen dieser Ereignisse in die eigentliche Ereignisliste) */
+	private final Event[] fastBuffer;
+	/** Startindex fr den Jetzt-Ereignisse-Zwischenspeicher */
+	private int fastBufferStart=-1;
+	/** Nchste Einfgeposition fr den Jetzt-Ereignisse-Zwischenspeicher */
+	private int fastBufferNextAdd=0;
+	/** Aktuelle Systemzeit, d.h. der Zeitpunkt des Ereignisses, das zuletzt per {@link #getNextEvent()} abgefragt wurde */
+	private long lastTime=0;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param initialWidth	Anfngliche Breite eines Tages (in Millisekunden); wird bei jeder Grennderung neu geschtzt
+	 */
+	public CalendarQueueEventManager(final long initialWidth) {
+		fastBuffer=new Event[100];
+		initBuckets(MIN_BUCKET_COUNT,Math.max(1,initialWidth));
+		setPosition(0);
+	}
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * (Anfngliche Breite eines Tages: 1 Sekunde)
+	 */
+	public CalendarQueueEventManager() {
+		this(1000);
+	}
+
+	/**
+	 * Legt die Teilwarteschlangen neu an.
+	 * @param count	Anzahl an Teilwarteschlangen (muss eine Zweierpotenz sein)
+	 * @param width	Breite eines Tages (in Millisekunden)
+	 */
+	private void initBuckets(final int count, final long width) {
+		buckets=new Event[count][];
+		bucketSize=new int[count];
+		bucketCount=count;
+		bucketMask=count-1;
+		this.width=width;
+		size=0;
+	}
+
+	/**
+	 * Liefert die Nummer der Teilwarteschlange fr einen Zeitpunkt.
+	 * @param time	Zeitpunkt
+	 * @return	Nummer der Teilwarteschlange
+	 */
+	private int getBucket(final long time) {
+		return (int)(Math.floorDiv(time,width)&bucketMask);
+	}
+
+	/**
+	 * Stellt die Suchposition auf den Tag, der einen bestimmten Zeitpunkt enthlt.
+	 * @param time	Zeitpunkt
+	 */
+	private void setPosition(final long time) {
+		final long day=Math.floorDiv(time,width);
+		currentBucket=(int)(day&bucketMask);
+		final long top=(day+1)*width;
+		currentBucketTop=(top<time)?Long.MAX_VALUE:top;
+	}
+
+	/**
+	 * Fgt ein Ereignis in die passende Teilwarteschlange ein, ohne die Gre der Kalender-Warteschlange anzupassen.<br>
+	 * Ereignisse mit gleichem Zeitpunkt werden in der Reihenfolge des Einfgens wieder entnommen.
+	 * @param event	Einzufgendes Ereignis
+	 */
+	private void insert(final Event event) {
+		final long time=event.time;
+		final int index=getBucket(time);
+		Event[] bucket=buckets[index];
+		final int count=bucketSize[index];
+		if (bucket==null) {
+			bucket=new Event[INITIAL_BUCKET_CAPACITY];
+			buckets[index]=bucket;
+		} else if (count==bucket.length) {
+			bucket=Arrays.copyOf(bucket,count*2);
+			buckets[index]=bucket;
+		}
+
+		/* Absteigend sortiert; neue Ereignisse kommen vor alle Ereignisse mit gleichem Zeitpunkt */
+		int pos=0;
+		while (pos<count && bucket[pos].time>time) pos++;
+		if (pos<count) {
+			System.arraycopy(bucket,pos,bucket,pos+1,count-pos);
+			for (int i=pos+1;i<=count;i++) bucket[i].queuePosition=i;
+		}
+		bucket[pos]=event;
+		event.queuePosition=pos;
+		bucketSize[index]=count+1;
+		size++;
+	}
+
+	/**
+	 * Entnimmt das nchste Ereignis aus einer Teilwarteschlange.
+	 * @param index	Nummer der Teilwarteschlange
+	 * @return	Nchstes Ereignis aus der Teilwarteschlange
+	 */
+	private Event pollBucket(final int index) {
+		final int count=bucketSize[index]-1;
+		final Event[] bucket=buckets[index];
+		final Event event=bucket[count];
+		bucket[count]=null;
+		event.queuePosition=-1;
+		bucketSize[index]=count;
+		size--;
+		return event;
+	}
+
+	/**
+	 * ndert die Anzahl an Teilwarteschlangen und schtzt die Breite eines Tages neu.
+	 * @param newCount	Neue Anzahl an Teilwarteschlangen (muss eine Zweierpotenz sein)
+	 */
+	private void resize(final int newCount) {
+		final Event[] all=new Event[size];
+		int nr=0;
+		long minTime=Long.MAX_VALUE;
+		for (int i=0;i<bucketCount;i++) {
+			final Event[] bucket=buckets[i];
+			final int count=bucketSize[i];
+			for (int j=0;j<count;j++) {
+				final Event event=bucket[j];
+				all[nr++]=event;
+				if (event.time<minTime) minTime=event.time;
+			}
+		}
+
+		initBuckets(newCount,estimateWidth(all));
+		for (Event event: all) insert(event);
+		setPosition((nr==0)?lastTime:minTime);
+	}
+
+	/**
+	 * Schtzt die Breite eines Tages auf Basis des mittleren Abstands
+	 * der Ereignisse im vorderen Teil der Warteschlange.
+	 * @param events	Alle Ereignisse in der Warteschlange
+	 * @return	Neue Breite eines Tages (in Millisekunden, mindestens 1)
+	 */
+	private long estimateWidth(final Event[] events) {
+		final int count=events.length;
+		if (count<2) return width;
+
+		final int sampleSize=Math.min(count,WIDTH_SAMPLE_SIZE);
+		final long[] sample=new long[sampleSize];
+		final double step=((double)count)/sampleSize;
+		for (int i=0;i<sampleSize;i++) sample[i]=events[(int)(i*step)].time;
+		Arrays.sort(sample);
+
+		/* Mittlerer Abstand im ersten Viertel der Stichprobe, umgerechnet auf alle Ereignisse */
+		final int head=Math.max(1,sampleSize/4);
+		final long range=sample[head]-sample[0];
+		if (range<=0) return width;
+		final double separation=range/(head*step);
+		return Math.max(1,Math.round(3*separation));
+	}
+
+	@Override
+	protected final Event getNextEvent() {
+		while (fastBufferStart!=-1) {
+			final Event event=fastBuffer[fastBufferStart];
+			fastBufferStart++;
+			if (fastBufferStart==fastBuffer.length) fastBufferStart=0;
+			if (fastBufferStart==fastBufferNextAdd) fastBufferStart=-1;
+			if (event!=null) return event;
+		}
+
+		if (size==0) {
+			lastTime=0;
+			setPosition(0);
+			return null;
+		}
+
+		/* Ein "Jahr" ab dem aktuellen Tag durchlaufen */
+		int index=currentBucket;
+		long top=currentBucketTop;
+		for (int i=0;i<bucketCount;i++) {
+			final int count=bucketSize[index];
+			if (count>0 && buckets[index][count-1].time<top) {
+				currentBucket=index;
+				currentBucketTop=top;
+				return pollResult(index);
+			}
+			index=(index+1)&bucketMask;
+			if (top>Long.MAX_VALUE-width) break;
+			top+=width;
+		}
+
+		/* Direkte Suche nach dem Minimum ber alle Teilwarteschlangen (Tagesbreite passt nicht mehr zur Verteilung der Ereignisse) */
+		index=-1;
+		long minTime=Long.MAX_VALUE;
+		for (int i=0;i<bucketCount;i++) {
+			final int count=bucketSize[i];
+			if (count>0 && (index<0 || buckets[i][count-1].time<minTime)) {
+				index=i;
+				minTime=buckets[i][count-1].time;
+			}
+		}
+		setPosition(minTime);
+		final Event event=pollResult(index);
+		if (size>=MIN_BUCKET_COUNT) resize(bucketCount);
+		return event;
+	}
+
+	/**
+	 * Entnimmt das nchste Ereignis aus einer Teilwarteschlange, aktualisiert die
+	 * aktuelle Systemzeit und verkleinert die Kalender-Warteschlange bei Bedarf.
+	 * @param index	Nummer der Teilwarteschlange
+	 * @return	Nchstes auszufhrendes Ereignis
+	 */
+	private Event pollResult(final int index) {
+		final Event event=pollBucket(index);
+		lastTime=event.time;
+		if (bucketCount>MIN_BUCKET_COUNT && size<bucketCount/2) resize(bucketCount/2);
+		return event;
+	}
+
+	@Override
+	public final void addEvent(final Event event) {
+		final long time=event.time;
+		if (time==lastTime && fastBufferNextAdd!=fastBufferStart) {
+			fastBuffer[fastBufferNextAdd]=event;
+			if (fastBufferStart==-1) fastBufferStart=fastBufferNextAdd;
+			fastBufferNextAdd++;
+			if (fastBufferNextAdd==fastBuffer.length) fastBufferNextAdd=0;
+			return;
+		}
+
+		final boolean wasEmpty=(size==0);
+		insert(event);
+		if (wasEmpty || time<currentBucketTop-width) setPosition(time);
+		if (size>2*bucketCount) resize(bucketCount*2);
+	}
+
+	@Override
+	public final int eventQueueLength() {
+		return size;
+	}
+
+	@Override
+	protected final boolean onlyDeleteEvent(final Event event) {
+		final long time=event.time;
+		if (time==lastTime && fastBufferStart!=-1) {
+			int index=fastBufferStart;
+			while (index!=fastBufferNextAdd) {
+				if (fastBuffer[index]==event) {fastBuffer[index]=null; return true;}
+				index++;
+				if (index==fastBuffer.length) index=0;
+			}
+		}
+
+		/* Position in der Teilwarteschlange ist im Ereignis hinterlegt */
+		final int index=getBucket(time);
+		final Event[] bucket=buckets[index];
+		final int count=bucketSize[index];
+		final int pos=event.queuePosition;
+		if (pos<0 || pos>=count || bucket[pos]!=event) return false;
+
+		if (pos<count-1) {
+			System.arraycopy(bucket,pos+1,bucket,pos,count-1-pos);
+			for (int i=pos;i<count-1;i++) bucket[i].queuePosition=i;
+		}
+		bucket[count-1]=null;
+		bucketSize[index]=count-1;
+		event.queuePosition=-1;
+		size--;
+		return true;
+	}
+
+	@Override
+	public void deleteAllEvents() {
+		initBuckets(MIN_BUCKET_COUNT,width);
+		lastTime=0;
+		setPosition(0);
+		Arrays.fill(fastBuffer,null);
+		fastBufferStart=-1;
+		fastBufferNextAdd=0;
+	}
+
+	@Override
+	public List<Event> getAllEvents() {
+		final List<Event> result=new ArrayList<>();
+		for (int i=0;i<bucketCount;i++) {
+			final Event[] bucket=buckets[i];
+			final int count=bucketSize[i];
+			for (int j=0;j<count;j++) result.add(bucket[j]);
+		}
+
+		if (fastBufferStart!=-1 && fastBufferStart!=fastBufferNextAdd) {
+			int start=fastBufferStart;
+			while (start!=-1) {
+				final Event event=fastBuffer[start];
+				if (event!=null) result.add(event);
+				start++;
+				if (start==fastBuffer.length) start=0;
+				if (start==fastBufferNextAdd) break;
+			}
+		}
+
+		result.sort(null);
+		return result;
+	}
+}
@@ -83,6 +83,21 @@ public interface EventManager {
 	 */
 	long eventCount();
 
+	/**
+	 * Liefert die Anzahl der Ereignisse zurck, die vor ihrer Ausfhrung direkt aus der Ereignisliste entfernt wurden.
+	 * @return	Anzahl der direkt gelschten Ereignisse
+	 * @see #deleteEvent(Event, SimData)
+	 */
+	long deletedEventCount();
+
+	/**
+	 * Liefert die Anzahl der Ereignisse zurck, die beim Lschen nicht aus der Ereignisliste entfernt
+	 * werden konnten und daher nur als gelscht markiert wurden (und bei der Ausfhrung bersprungen werden).
+	 * @return	Anzahl der nur als gelscht markierten Ereignisse
+	 * @see Event#isDeleted
+	 */
+	long tombstoneEventCount();
+
 	/**
 	 * Liefert die momentane Lnge der Ereigniswarteschlange zurck.
 	 * @return Lnge der Ereigniswarteschlange
@@ -97,7 +112,7 @@ public interface EventManager {
 	void resetTime();
 
 	/**
-	 * Setzt den Zhler der ausgefhrten Ereignisse zurck.
+	 * Setzt den Zhler der ausgefhrten Ereignisse (sowie die Zhler der gelschten Ereignisse) zurck.
 	 */
 	void resetCount();
 
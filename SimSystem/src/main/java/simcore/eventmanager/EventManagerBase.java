@@ -35,6 +35,10 @@ import simcore.eventcache.EventCache;
 public abstract class EventManagerBase implements EventManager {
 	/** Anzahl der ausgefhrten Ereignisse */
 	private long eventExecutionCount;
+	/** Anzahl der direkt aus der Ereignisliste entfernten Ereignisse */
+	private long eventDeleteCount;
+	/** Anzahl der nur als gelscht markierten Ereignisse */
+	private long eventTombstoneCount;
 	/** Abbruch der Simulationsschleife */
 	private boolean abortSimulation;
 	/** Signalisiert, dass die Simulation unterbrochen werden soll und dass {@link #executeNextEvents(SimData, int, int)} nach dem Ende der Ausfhrung des aktuellen Ereignisses direkt zurckkehren soll. */
@@ -128,8 +132,10 @@ public abstract class EventManagerBase implements EventManager {
 	public final void deleteEvent(final Event event, final SimData simData) {
 		if (event==null) return;
 		if (onlyDeleteEvent(event)) {
+			eventDeleteCount++;
 			simData.recycleEvent(event);
 		} else {
+			if (!event.isDeleted) eventTombstoneCount++;
 			event.isDeleted=true;
 		}
 	}
@@ -152,12 +158,24 @@ public abstract class EventManagerBase implements EventManager {
 		return eventExecutionCount;
 	}
 
+	@Override
+	public final long deletedEventCount() {
+		return eventDeleteCount;
+	}
+
+	@Override
+	public final long tombstoneEventCount() {
+		return eventTombstoneCount;
+	}
+
 	@Override
 	public void resetTime() {}
 
 	@Override
 	public final void resetCount() {
 		eventExecutionCount=0;
+		eventDeleteCount=0;
+		eventTombstoneCount=0;
 	}
 
 	@Override
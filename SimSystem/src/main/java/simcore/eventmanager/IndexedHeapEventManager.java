@@ -0,0 +1,210 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcore.eventmanager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import simcore.Event;
+
+/**
+ * Implementierung des <code>EventManager</code>-Interface mit Hilfe eines binren Heaps,
+ * in dem die Position jedes Ereignisses in {@link Event#queuePosition} mitgefhrt wird.<br><br>
+ * Einfgen, Entnehmen und Lschen erfolgen dadurch in O(log n); insbesondere mssen
+ * zu lschende Ereignisse (z.B. Warteabbrche) nicht erst gesucht werden.<br>
+ * Wie beim {@link LongRunMultiSortedArrayListEventManager} werden Ereignisse, die zum
+ * aktuellen Zeitpunkt ausgefhrt werden sollen, in einem gesonderten Zwischenspeicher vorgehalten.
+ * @author Alexander Herzog
+ * @version 1.0
+ * @see EventManager
+ * @see Event#queuePosition
+ */
+public class IndexedHeapEventManager extends EventManagerBase {
+	/** Heap-Array (das nchste Ereignis steht an Position 0) */
+	private Event[] heap;
+	/** Anzahl an Ereignissen im Heap */
+	private int size;
+
+	/** Zwischenspeicher fr neue Ereignisse, die zum selben Zeitpunkt wie das aktuelle Ereignis ausgefhrt werden sollen (spart so das Einfgen dieser Ereignisse in die eigentliche Ereignisliste) */
+	private final Event[] fastBuffer;
+	/** Startindex fr den Jetzt-Ereignisse-Zwischenspeicher */
+	private int fastBufferStart=-1;
+	/** Nchste Einfgeposition fr den Jetzt-Ereignisse-Zwischenspeicher */
+	private int fastBufferNextAdd=0;
+	/** Aktuelle Systemzeit, d.h. der Zeitpunkt des Ereignisses, das zuletzt per {@link #getNextEvent()} abgefragt wurde */
+	private long lastTime=0;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public IndexedHeapEventManager() {
+		heap=new Event[1024];
+		fastBuffer=new Event[100];
+	}
+
+	/**
+	 * Verschiebt ein Ereignis im Heap so weit nach oben, bis die Heap-Bedingung wieder erfllt ist.
+	 * @param event	Zu verschiebendes Ereignis
+	 * @param pos	Aktuelle (freie) Position des Ereignisses
+	 */
+	private void siftUp(final Event event, int pos) {
+		final long time=event.time;
+		while (pos>0) {
+			final int parentPos=(pos-1)>>>1;
+			final Event parent=heap[parentPos];
+			if (parent.time<=time) break;
+			heap[pos]=parent;
+			parent.queuePosition=pos;
+			pos=parentPos;
+		}
+		heap[pos]=event;
+		event.queuePosition=pos;
+	}
+
+	/**
+	 * Verschiebt ein Ereignis im Heap so weit nach unten, bis die Heap-Bedingung wieder erfllt ist.
+	 * @param event	Zu verschiebendes Ereignis
+	 * @param pos	Aktuelle (freie) Position des Ereignisses
+	 */
+	private void siftDown(final Event event, int pos) {
+		final long time=event.time;
+		final int half=size>>>1;
+		while (pos<half) {
+			int childPos=2*pos+1;
+			Event child=heap[childPos];
+			final int rightPos=childPos+1;
+			if (rightPos<size && heap[rightPos].time<child.time) {
+				childPos=rightPos;
+				child=heap[rightPos];
+			}
+			if (time<=child.time) break;
+			heap[pos]=child;
+			child.queuePosition=pos;
+			pos=childPos;
+		}
+		heap[pos]=event;
+		event.queuePosition=pos;
+	}
+
+	/**
+	 * Entfernt das Ereignis an einer bestimmten Position aus dem Heap.
+	 * @param pos	Position des zu entfernenden Ereignisses
+	 * @return	Entferntes Ereignis
+	 */
+	private Event removeAt(final int pos) {
+		final Event event=heap[pos];
+		event.queuePosition=-1;
+		size--;
+		if (pos==size) {
+			heap[size]=null;
+			return event;
+		}
+		final Event last=heap[size];
+		heap[size]=null;
+		siftDown(last,pos);
+		if (heap[pos]==last) siftUp(last,pos);
+		return event;
+	}
+
+	@Override
+	protected final Event getNextEvent() {
+		while (fastBufferStart!=-1) {
+			final Event event=fastBuffer[fastBufferStart];
+			fastBufferStart++;
+			if (fastBufferStart==fastBuffer.length) fastBufferStart=0;
+			if (fastBufferStart==fastBufferNextAdd) fastBufferStart=-1;
+			if (event!=null) return event;
+		}
+
+		if (size==0) {
+			lastTime=0;
+			return null;
+		}
+
+		final Event event=removeAt(0);
+		lastTime=event.time;
+		return event;
+	}
+
+	@Override
+	public final void addEvent(final Event event) {
+		final long time=event.time;
+		if (time==lastTime && fastBufferNextAdd!=fastBufferStart) {
+			fastBuffer[fastBufferNextAdd]=event;
+			if (fastBufferStart==-1) fastBufferStart=fastBufferNextAdd;
+			fastBufferNextAdd++;
+			if (fastBufferNextAdd==fastBuffer.length) fastBufferNextAdd=0;
+			return;
+		}
+
+		if (size==heap.length) heap=Arrays.copyOf(heap,size*2);
+		size++;
+		siftUp(event,size-1);
+	}
+
+	@Override
+	public final int eventQueueLength() {
+		return size;
+	}
+
+	@Override
+	protected final boolean onlyDeleteEvent(final Event event) {
+		final long time=event.time;
+		if (time==lastTime && fastBufferStart!=-1) {
+			int index=fastBufferStart;
+			while (index!=fastBufferNextAdd) {
+				if (fastBuffer[index]==event) {fastBuffer[index]=null; return true;}
+				index++;
+				if (index==fastBuffer.length) index=0;
+			}
+		}
+
+		final int pos=event.queuePosition;
+		if (pos<0 || pos>=size || heap[pos]!=event) return false;
+		removeAt(pos);
+		return true;
+	}
+
+	@Override
+	public void deleteAllEvents() {
+		Arrays.fill(heap,0,size,null);
+		size=0;
+		lastTime=0;
+		Arrays.fill(fastBuffer,null);
+		fastBufferStart=-1;
+		fastBufferNextAdd=0;
+	}
+
+	@Override
+	public List<Event> getAllEvents() {
+		final List<Event> result=new ArrayList<>(Arrays.asList(heap).subList(0,size));
+
+		if (fastBufferStart!=-1 && fastBufferStart!=fastBufferNextAdd) {
+			int start=fastBufferStart;
+			while (start!=-1) {
+				final Event event=fastBuffer[start];
+				if (event!=null) result.add(event);
+				start++;
+				if (start==fastBuffer.length) start=0;
+				if (start==fastBufferNextAdd) break;
+			}
+		}
+
+		result.sort(null);
+		return result;
+	}
+}
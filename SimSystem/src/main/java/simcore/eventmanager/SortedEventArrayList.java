@@ -131,14 +131,46 @@ public class SortedEventArrayList extends ArrayList<Event> {
 	}
 
 	/**
-	 * Entfernt ein Ereignis aus der Liste der wartenden Ereignisse.
+	 * Entfernt ein Ereignis aus der Liste der wartenden Ereignisse.<br>
+	 * Das Ereignis wird per binrer Suche ber den Ausfhrungszeitpunkt gefunden (siehe {@link #indexOfEvent(Event)}).
+	 * Das eigentliche Entfernen verschiebt allerdings alle Ereignisse, die vor dem zu entfernenden Ereignis
+	 * an der Reihe sind, um eine Position im Array und bentigt daher im ungnstigsten Fall
+	 * (Ereignis liegt weit in der Zukunft) eine Laufzeit von O(n). Nur das Entfernen von
+	 * Ereignissen, die bald an der Reihe sind, ist gnstig. Fr Modelle, in denen hufig weit in der
+	 * Zukunft liegende Ereignisse gelscht werden, ist der {@link IndexedHeapEventManager} besser geeignet.
 	 * @param e	Zu entfernendes Ereignis.
 	 * @return	Gibt an, ob das Ereignis entfernt werden konnte (<code>true</code>) oder ob es sich gar nicht in der Liste befand (<code>false</code>)
 	 */
 	public boolean remove(final Event e) {
 		lastPeek=null;
-		final boolean ok=super.remove(e);
-		if (ok) fastSize--;
-		return ok;
+		final int index=indexOfEvent(e);
+		if (index<0) return false;
+		super.remove(index);
+		fastSize--;
+		return true;
+	}
+
+	/**
+	 * Sucht ein Ereignis per binrer Suche ber den Ausfhrungszeitpunkt und
+	 * anschlieend unter den Ereignissen mit demselben Zeitpunkt.
+	 * @param e	Zu suchendes Ereignis
+	 * @return	Index des Ereignisses in der Liste oder -1, wenn sich das Ereignis nicht in der Liste befindet
+	 */
+	private int indexOfEvent(final Event e) {
+		if (fastSize==0) return -1;
+		final int index=Collections.binarySearch(this,e,comparator);
+		if (index<0) return -1;
+		final long time=e.time;
+		for (int i=index;i<fastSize;i++) {
+			final Event test=get(i);
+			if (test==e) return i;
+			if (test.time!=time) break;
+		}
+		for (int i=index-1;i>=0;i--) {
+			final Event test=get(i);
+			if (test==e) return i;
+			if (test.time!=time) break;
+		}
+		return -1;
 	}
 }
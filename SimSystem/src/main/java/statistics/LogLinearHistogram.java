@@ -0,0 +1,144 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package statistics;
+
+import java.util.Arrays;
+
+/**
+ * Kompaktes Histogramm ber nicht-negative ganzzahlige Indices mit logarithmisch-linearer Klasseneinteilung
+ * (vergleichbar mit HDR-Histogrammen).<br>
+ * Jeder Zweierpotenz-Bereich [2^e;2^(e+1)) wird in {@link #SUB_BUCKETS} gleich breite Klassen eingeteilt.
+ * Indices unterhalb von 2*{@link #SUB_BUCKETS} werden exakt erfasst, fr grere Indices betrgt der
+ * relative Fehler bei der Rckabbildung auf den Klassenmittelpunkt hchstens 2^-({@link #PRECISION_BITS}+1).<br>
+ * Die Speicherseiten (eine pro Zweierpotenz-Bereich) werden erst beim ersten Zugriff angelegt, so dass
+ * ein Histogramm, das nur Werte in einem engen Bereich enthlt, nur wenige Kilobyte belegt.
+ * @author Alexander Herzog
+ * @see StatisticsDataPerformanceIndicator
+ */
+public final class LogLinearHistogram implements Cloneable {
+	/** Anzahl an Bits fr die Unterteilung eines Zweierpotenz-Bereichs */
+	public static final int PRECISION_BITS=7;
+
+	/** Anzahl an Klassen pro Zweierpotenz-Bereich */
+	public static final int SUB_BUCKETS=1<<PRECISION_BITS;
+
+	/** Speicherseiten (Seite 0 enthlt die Indices 0 bis {@link #SUB_BUCKETS}-1, Seite k&ge;1 den Bereich [2^(k-1+PRECISION_BITS);2^(k+PRECISION_BITS))) */
+	private final long[][] pages;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public LogLinearHistogram() {
+		pages=new long[Integer.SIZE-PRECISION_BITS][];
+	}
+
+	/**
+	 * Fgt einen Wert zu dem Histogramm hinzu.
+	 * @param index	Nicht-negativer Index
+	 * @param count	Hufigkeit mit der der Index hinzugefgt werden soll
+	 */
+	public void add(final int index, final long count) {
+		final int page;
+		final int offset;
+		if (index<SUB_BUCKETS) {
+			page=0;
+			offset=index;
+		} else {
+			final int shift=(31-Integer.numberOfLeadingZeros(index))-PRECISION_BITS;
+			page=shift+1;
+			offset=(index>>shift)-SUB_BUCKETS;
+		}
+		long[] data=pages[page];
+		if (data==null) data=pages[page]=new long[SUB_BUCKETS];
+		data[offset]+=count;
+	}
+
+	/**
+	 * Fgt die Daten eines anderen Histogramms zu diesem hinzu.
+	 * @param other	Histogramm, dessen Daten zu diesem hinzugefgt werden sollen
+	 */
+	public void add(final LogLinearHistogram other) {
+		for (int i=0;i<pages.length;i++) {
+			final long[] otherData=other.pages[i];
+			if (otherData==null) continue;
+			if (pages[i]==null) {
+				pages[i]=Arrays.copyOf(otherData,SUB_BUCKETS);
+			} else {
+				final long[] data=pages[i];
+				for (int j=0;j<SUB_BUCKETS;j++) data[j]+=otherData[j];
+			}
+		}
+	}
+
+	/**
+	 * Liefert den Index, auf den eine Klasse bei der Rckabbildung abgebildet wird (Klassenmittelpunkt).
+	 * @param page	Speicherseite
+	 * @param offset	Position innerhalb der Speicherseite
+	 * @return	Reprsentativer Index der Klasse
+	 */
+	private static long getIndex(final int page, final int offset) {
+		if (page==0) return offset;
+		final long lower=((long)(SUB_BUCKETS+offset))<<(page-1);
+		final long width=1L<<(page-1);
+		return lower+(width-1)/2;
+	}
+
+	/**
+	 * Addiert die Werte des Histogramms zu einer dichten Hufigkeitsverteilung.
+	 * Indices, die auerhalb des Arrays liegen, werden dem letzten Eintrag zugeschlagen.
+	 * @param density	Dichte Hufigkeitsverteilung, zu der die Werte addiert werden sollen
+	 */
+	public void addTo(final double[] density) {
+		if (density==null || density.length==0) return;
+		final int last=density.length-1;
+		for (int i=0;i<pages.length;i++) {
+			final long[] data=pages[i];
+			if (data==null) continue;
+			for (int j=0;j<SUB_BUCKETS;j++) if (data[j]!=0) {
+				final long index=getIndex(i,j);
+				density[(index>last)?last:(int)index]+=data[j];
+			}
+		}
+	}
+
+	/**
+	 * Liefert die Summe aller erfassten Hufigkeiten.
+	 * @return	Summe aller erfassten Hufigkeiten
+	 */
+	public long getSum() {
+		long sum=0;
+		for (long[] data: pages) if (data!=null) for (long l: data) sum+=l;
+		return sum;
+	}
+
+	/**
+	 * Setzt alle Hufigkeiten auf 0 zurck (die bereits angelegten Speicherseiten bleiben erhalten).
+	 */
+	public void clear() {
+		for (long[] data: pages) if (data!=null) Arrays.fill(data,0);
+	}
+
+	/**
+	 * Legt eine Kopie des Histogramms an.
+	 * @return	Kopie des Histogramms
+	 */
+	@Override
+	public LogLinearHistogram clone() {
+		final LogLinearHistogram histogram=new LogLinearHistogram();
+		for (int i=0;i<pages.length;i++) if (pages[i]!=null) histogram.pages[i]=Arrays.copyOf(pages[i],SUB_BUCKETS);
+		return histogram;
+	}
+}
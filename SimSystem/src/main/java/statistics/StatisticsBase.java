@@ -66,6 +66,30 @@ public abstract class StatisticsBase extends XMLData {
 			performanceIndicators.get(i).add(moreStatistics.performanceIndicators.get(i));
 	}
 
+	/**
+	 * Fgt die Daten mehrerer weiterer Simulations-Threads zu den Statistik-Ergebnissen hinzu.<br>
+	 * Das Ergebnis entspricht dem von wiederholten Aufrufen von {@link #addData(StatisticsBase)} in der
+	 * Reihenfolge der Liste. Die einzelnen Kenngren (bzw. bei {@link StatisticsMultiPerformanceIndicator}-Objekten
+	 * die einzelnen Teil-Kenngren) werden jedoch parallel zusammengefhrt.
+	 * @param moreStatistics	Andere <code>Statistics</code>-Objekte, deren Daten diesem Objekt hinzugefgt werden sollen
+	 */
+	public void addData(final List<? extends StatisticsBase> moreStatistics) {
+		final List<Runnable> tasks=new ArrayList<>();
+		for (int i=0;i<performanceIndicators.size();i++) {
+			final StatisticsPerformanceIndicator indicator=performanceIndicators.get(i);
+			final List<StatisticsPerformanceIndicator> sources=new ArrayList<>(moreStatistics.size());
+			for (StatisticsBase more: moreStatistics) if (i<more.performanceIndicators.size()) sources.add(more.performanceIndicators.get(i));
+			if (sources.isEmpty()) continue;
+			if (indicator instanceof StatisticsMultiPerformanceIndicator) {
+				((StatisticsMultiPerformanceIndicator)indicator).prepareAdd(sources,tasks);
+			} else {
+				tasks.add(()->{for (StatisticsPerformanceIndicator source: sources) indicator.add(source);});
+			}
+		}
+
+		if (moreStatistics.size()>1) tasks.parallelStream().forEach(Runnable::run); else tasks.forEach(Runnable::run);
+	}
+
 	/**
 	 * Berechnet ganz am Ende aus den aufgezeichneten Daten die interessanten Kenngren.
 	 * Aufgezeichnet werden knnen z.B. Anzahl von Ereignis X, Summe der Werte von Ereignis X und quadrierter Summe der Werte von Ereignis X.
@@ -93,8 +117,17 @@ public abstract class StatisticsBase extends XMLData {
 
 	@Override
 	protected void addDataToXML(final Document doc, final Element node, final boolean isPartOfOtherFile, final File file) {
+		addDataToXML(doc,node,isPartOfOtherFile,file,null);
+	}
+
+	@Override
+	protected void addDataToXML(final Document doc, final Element node, final boolean isPartOfOtherFile, final File file, final Runnable flush) {
 		final StringBuilder sb=new StringBuilder();
-		for (StatisticsPerformanceIndicator performanceIndicator : performanceIndicators) performanceIndicator.addToXML(doc,node,sb);
+		for (StatisticsPerformanceIndicator performanceIndicator : performanceIndicators) {
+			performanceIndicator.addToXML(doc,node,sb);
+			/* Beim schrittweisen Speichern nach jeder Kenngre ausgeben, so dass nie mehr als die xml-Daten einer Kenngre im Speicher gehalten werden */
+			if (flush!=null) flush.run();
+		}
 	}
 
 	/**
@@ -120,6 +120,12 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 */
 	public static final int CORRELATION_RANGE_STEPPING=10;
 
+	/**
+	 * Mindestanzahl an Werten, die fr die Berechnung der Autokorrelation gesammelt und dann gemeinsam verarbeitet werden
+	 * @see #flushCorrelationBlock()
+	 */
+	private static final int CORRELATION_BLOCK_SIZE=1024;
+
 	/**
 	 * Anzahl der erfassten Messwerte
 	 */
@@ -183,10 +189,30 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 
 	/**
 	 * Temporre Erfassung von Werten, um die Autokorrelation bestimmen zu knnen
-	 * (nur whrend der Datenerfassung relevant)
+	 * (nur whrend der Datenerfassung relevant).<br>
+	 * Die ersten {@link #correlationHistory} Eintrge enthalten die Werte vor dem aktuellen Block,
+	 * danach folgen die {@link #correlationBlockCount} Werte des aktuellen Blocks.
+	 * @see #flushCorrelationBlock()
 	 */
 	private double[] correlationTempValues;
 
+	/**
+	 * Anzahl an Werten, ber die die Autokorrelation erfasst wird
+	 * (Reichweite plus {@link #CORRELATION_RANGE_STEPPING})
+	 */
+	private int correlationRecordRange;
+
+	/**
+	 * Anzahl an vorherigen Werten, die vor dem aktuellen Block in {@link #correlationTempValues} vorgehalten werden
+	 * (entspricht dem maximalen Abstand, fr den Produkte gebildet werden)
+	 */
+	private int correlationHistory;
+
+	/**
+	 * Anzahl an Werten im aktuellen Block in {@link #correlationTempValues}
+	 */
+	private int correlationBlockCount;
+
 	/**
 	 * Korrelationswerte zur Schrittweite
 	 * @see StatisticsDataPerformanceIndicator#CORRELATION_RANGE_STEPPING
@@ -286,6 +312,20 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 */
 	private long distributionZeroCount;
 
+	/**
+	 * Sollen die Verteilungswerte bis zum ersten lesenden Zugriff in einem kompakten Histogramm
+	 * (statt in dem vollstndigen Array {@link #densityData}) erfasst werden?
+	 * @see #compactDist
+	 */
+	private final boolean compactDistribution;
+
+	/**
+	 * Kompaktes Histogramm der Verteilungswerte (wird nur verwendet, wenn {@link #compactDistribution} gesetzt ist
+	 * und so lange {@link #dist} noch nicht initialisiert wurde; kann <code>null</code> sein)
+	 * @see #compactDistribution
+	 */
+	private LogLinearHistogram compactDist;
+
 	/**
 	 * Soll der Welford-Algorithmus zur Erfassung der Varianz verwendet werden? (langsamer, aber bei ganz kleinen Variationskoeffizienten exakter)
 	 */
@@ -334,9 +374,27 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 * @param isEmpty	Gibt an, ob es sich bei diesem Objekt um eine leere Kopiervorlage handelt
 	 */
 	public StatisticsDataPerformanceIndicator(final String[] xmlNodeNames, final double upperBound, final int steps, final int correlationRange, final int batchSize, final boolean useWelford, final boolean isEmpty) {
+		this(xmlNodeNames,upperBound,steps,correlationRange,batchSize,useWelford,isEmpty,false);
+	}
+
+	/**
+	 * Konstruktor der Klasse <code>StatisticsDataPerformanceIndicator</code>
+	 * Bei der Datenaufzeichnung wird eine Hufigkeitsverteilung der Werte angelegt
+	 * @param xmlNodeNames	Name des xml-Knotens, in dem die Daten gespeichert werden sollen
+	 * @param upperBound	Gibt die Obergrenze des Trgers der Hufigkeitsverteilung an
+	 * @param steps	Gibt an, wie viele einzelne Werte fr die Hufigkeitsverteilung vorgehalten werden sollen
+	 * @param correlationRange	Reichweite fr die Erfassung der Autokorrelation (Werte &le;0 schalten die Erfassung aus)
+	 * @param batchSize	Wird hier ein Wert &gt;1 bergeben, so werden Batch-Means erfasst, auf deren Basis spter Konfidenzintervalle bestimmt werden knnen
+	 * @param useWelford	Soll der Welford-Algorithmus zur Erfassung der Varianz verwendet werden? (langsamer, aber bei ganz kleinen Variationskoeffizienten exakter)
+	 * @param isEmpty	Gibt an, ob es sich bei diesem Objekt um eine leere Kopiervorlage handelt
+	 * @param compactDistribution	Sollen die Verteilungswerte whrend der Erfassung in einem kompakten, logarithmisch-linearen Histogramm gespeichert werden? (Spart Speicher, die Verteilungswerte oberhalb von 2*{@link LogLinearHistogram#SUB_BUCKETS} Schritten besitzen dann aber einen relativen Fehler von bis zu 2^-({@link LogLinearHistogram#PRECISION_BITS}+1).)
+	 * @see LogLinearHistogram
+	 */
+	public StatisticsDataPerformanceIndicator(final String[] xmlNodeNames, final double upperBound, final int steps, final int correlationRange, final int batchSize, final boolean useWelford, final boolean isEmpty, final boolean compactDistribution) {
 		super(xmlNodeNames);
 		this.upperBound=upperBound;
 		this.steps=steps;
+		this.compactDistribution=compactDistribution;
 
 		if (steps>0 && !isEmpty) {
 			hasDistribution=true;
@@ -345,7 +403,11 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 			hasDistribution=false;
 		}
 
-		if (correlationRange>0) correlationTempValues=new double[correlationRange+CORRELATION_RANGE_STEPPING];
+		if (correlationRange>0) {
+			correlationRecordRange=correlationRange+CORRELATION_RANGE_STEPPING;
+			correlationHistory=Math.max(0,correlationRecordRange/CORRELATION_RANGE_STEPPING-1)*CORRELATION_RANGE_STEPPING;
+			correlationTempValues=new double[correlationHistory+Math.max(CORRELATION_BLOCK_SIZE,correlationHistory)];
+		}
 
 		this.batchSize=batchSize;
 
@@ -368,7 +430,8 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	}
 
 	/**
-	 * Initialisiert die Verteilungsdaten
+	 * Initialisiert die Verteilungsdaten<br>
+	 * Bislang im kompakten Histogramm erfasste Werte werden dabei in die Verteilung bertragen.
 	 * @see #add(double)
 	 * @see #add(double, long)
 	 * @see #add(StatisticsPerformanceIndicator)
@@ -378,6 +441,34 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 		densityData=dist.densityData;
 		densityDataLength=densityData.length;
 		densityData[0]=distributionZeroCount;
+		if (compactDist!=null) {
+			compactDist.addTo(densityData);
+			compactDist=null;
+		}
+	}
+
+	/**
+	 * Initialisiert die Verteilungsdaten vor einem lesenden Zugriff, sofern diese noch nicht initialisiert wurden.<br>
+	 * Da dabei ggf. die Werte aus dem kompakten Histogramm bertragen werden, verndert auch ein lesender Zugriff
+	 * den Zustand des Objektes. Die Methode ist daher synchronisiert, so dass mehrere Threads gleichzeitig lesend
+	 * auf ein Statistikobjekt zugreifen knnen, dessen Erfassung abgeschlossen ist. Lesende Methoden mssen
+	 * sie vor jedem Zugriff auf {@link #dist} bzw. {@link #densityData} aufrufen.
+	 * (Gleichzeitiges Erfassen und Lesen wird wie bisher nicht untersttzt.)
+	 * @see #initDistribution()
+	 */
+	private synchronized void initDistributionForRead() {
+		if (hasDistribution && dist==null) initDistribution();
+	}
+
+	/**
+	 * Erfasst einen Verteilungswert im kompakten Histogramm.
+	 * @param l	Index des Wertes in der Verteilung (muss grer als 0 sein)
+	 * @param count	Hufigkeit mit der der Wert hinzugefgt werden soll
+	 * @see #compactDist
+	 */
+	private void addToCompactDistribution(final long l, final long count) {
+		if (compactDist==null) compactDist=new LogLinearHistogram();
+		compactDist.add((l<steps)?((int)l):(steps-1),count);
 	}
 
 	/**
@@ -419,12 +510,16 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 					l=(long)((argumentScaleFactor*value)+0.5d);
 				}
 				if (l>0) {
-					if (dist==null) initDistribution();
-					if (l<densityDataLength) {
-						final int index=(int)l;
-						densityData[index]++;
+					if (dist==null && compactDistribution) {
+						addToCompactDistribution(l,1);
 					} else {
-						densityData[densityDataLength-1]++;
+						if (dist==null) initDistribution();
+						if (l<densityDataLength) {
+							final int index=(int)l;
+							densityData[index]++;
+						} else {
+							densityData[densityDataLength-1]++;
+						}
 					}
 				} else {
 					if (dist==null) distributionZeroCount++; else densityData[0]++;
@@ -437,18 +532,11 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 			if (dist==null) distributionZeroCount++; else densityData[0]++;
 		}
 
-		/* Autokorrelation */
+		/* Autokorrelation (Werte werden blockweise verarbeitet) */
 		if (correlationTempValues!=null) {
-			final int correlationRange=correlationTempValues.length;
-			correlationTempValues[(int)((count-1)%correlationRange)]=value;
-			int m=correlationRange;
-			if (count<m) m=(int)count;
-			m=m/CORRELATION_RANGE_STEPPING;
-			if (value!=0.0) for (int k=1;k<m;k++) {
-				final int index=(int)((count-1+correlationRange-k*CORRELATION_RANGE_STEPPING)%correlationRange);
-				final double valueMinusK=correlationTempValues[index];
-				if (valueMinusK!=0.0) correlationSums[k]+=value*valueMinusK; /* sum(i=k+1..n)x(i)*x(i-k) wird partiell aufgebaut */
-			}
+			correlationTempValues[correlationHistory+correlationBlockCount]=value;
+			correlationBlockCount++;
+			if (correlationHistory+correlationBlockCount==correlationTempValues.length) flushCorrelationBlock();
 		}
 
 		/* Batch-Means */
@@ -482,6 +570,41 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 		}
 	}
 
+	/**
+	 * Verarbeitet die im aktuellen Block gesammelten Werte fr die Autokorrelation.<br>
+	 * Fr jeden Abstand k*{@link #CORRELATION_RANGE_STEPPING} werden die Produkte x(i)*x(i-k) aller Werte des Blocks
+	 * in derselben Reihenfolge zu {@link #correlationSums} addiert, in der dies bei einer Verarbeitung jedes einzelnen
+	 * Wertes erfolgen wrde; die Ergebnisse sind daher exakt dieselben. Die Werte am Ende des Blocks werden als
+	 * Vorgeschichte fr den nchsten Block bernommen.
+	 */
+	private void flushCorrelationBlock() {
+		if (correlationTempValues==null || correlationBlockCount==0) return;
+		final double[] values=correlationTempValues;
+		final int history=correlationHistory;
+		final int blockCount=correlationBlockCount;
+		final long firstIndex=count-blockCount+1;
+		final int lags=correlationRecordRange/CORRELATION_RANGE_STEPPING;
+
+		/* sum(i=k+1..n)x(i)*x(i-k) wird partiell aufgebaut; Abstand k wird ab dem Wert Nr. (k+1)*CORRELATION_RANGE_STEPPING bercksichtigt */
+		for (int k=1;k<lags;k++) {
+			final int lag=k*CORRELATION_RANGE_STEPPING;
+			final long minIndex=((long)(k+1))*CORRELATION_RANGE_STEPPING;
+			if (minIndex>=firstIndex+blockCount) break;
+			final int start=(minIndex>firstIndex)?(int)(minIndex-firstIndex):0;
+			double sum=correlationSums[k];
+			for (int i=history+start;i<history+blockCount;i++) {
+				final double value=values[i];
+				if (value==0.0) continue;
+				final double valueMinusK=values[i-lag];
+				if (valueMinusK!=0.0) sum+=value*valueMinusK;
+			}
+			correlationSums[k]=sum;
+		}
+
+		if (history>0) System.arraycopy(values,blockCount,values,0,history);
+		correlationBlockCount=0;
+	}
+
 	/**
 	 * Ist der Wert in {@link #lastWelfordMean} gltig.
 	 */
@@ -542,12 +665,16 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 				if (l<=0) {
 					if (dist==null) distributionZeroCount+=count; else densityData[0]+=count;
 				} else {
-					if (dist==null) initDistribution();
-					if (l>=densityDataLength) {
-						densityData[densityDataLength-1]+=count;
+					if (dist==null && compactDistribution) {
+						addToCompactDistribution(l,count);
 					} else {
-						final int index=(int)l;
-						densityData[index]+=count;
+						if (dist==null) initDistribution();
+						if (l>=densityDataLength) {
+							densityData[densityDataLength-1]+=count;
+						} else {
+							final int index=(int)l;
+							densityData[index]+=count;
+						}
 					}
 				}
 			}
@@ -568,6 +695,10 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 		if (!(moreStatistics instanceof StatisticsDataPerformanceIndicator)) return;
 		StatisticsDataPerformanceIndicator moreDataStatistics=(StatisticsDataPerformanceIndicator)moreStatistics;
 
+		/* Noch nicht verarbeitete Autokorrelationsdaten auf beiden Seiten abschlieen */
+		flushCorrelationBlock();
+		moreDataStatistics.flushCorrelationBlock();
+
 		/* Allgemeine Daten */
 		if (moreDataStatistics.count>0) {
 			if (count==0) {
@@ -589,13 +720,22 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 
 		/* Verteilung der Werte */
 		if (hasDistribution && moreDataStatistics.hasDistribution) {
-			if (dist==null) initDistribution();
-			if (moreDataStatistics.dist==null) {
-				densityData[0]+=moreDataStatistics.distributionZeroCount;
+			if (dist==null && moreDataStatistics.dist==null && compactDistribution) {
+				/* Beide Seiten noch kompakt: Histogramme zusammenfhren, ohne die vollstndige Verteilung anzulegen */
+				distributionZeroCount+=moreDataStatistics.distributionZeroCount;
+				if (moreDataStatistics.compactDist!=null) {
+					if (compactDist==null) compactDist=moreDataStatistics.compactDist.clone(); else compactDist.add(moreDataStatistics.compactDist);
+				}
 			} else {
-				dist.addToThis(moreDataStatistics.dist);
-				densityData=dist.densityData;
-				densityDataLength=densityData.length;
+				if (dist==null) initDistribution();
+				if (moreDataStatistics.dist==null) {
+					densityData[0]+=moreDataStatistics.distributionZeroCount;
+					if (moreDataStatistics.compactDist!=null) moreDataStatistics.compactDist.addTo(densityData);
+				} else {
+					dist.addToThis(moreDataStatistics.dist);
+					densityData=dist.densityData;
+					densityDataLength=densityData.length;
+				}
 			}
 		}
 
@@ -652,12 +792,14 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 
 		/* Verteilung der Werte */
 		if (dist!=null) dist.setToValue(0.0);
+		if (compactDist!=null) compactDist.clear();
 		distributionZeroCount=0;
 
 		/* Autokorrelation */
 		if (correlationTempValues!=null) {
 			Arrays.fill(correlationTempValues,0);
-			if (correlationSums==null) correlationSums=new double[correlationTempValues.length/CORRELATION_RANGE_STEPPING]; else Arrays.fill(correlationSums,0);
+			correlationBlockCount=0;
+			if (correlationSums==null) correlationSums=new double[correlationRecordRange/CORRELATION_RANGE_STEPPING]; else Arrays.fill(correlationSums,0);
 		}
 		correlation=null;
 
@@ -700,18 +842,30 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 		min=data.min;
 		max=data.max;
 
-		/* Verteilung der Werte */
-		if (data.dist!=null) {
-			dist=data.dist.clone();
-			densityData=dist.densityData;
-			densityDataLength=densityData.length;
+		/* Verteilung der Werte (entweder vollstndige Verteilung oder kompaktes Histogramm, jeweils wie im Quellobjekt) */
+		synchronized(data) {
+			if (data.dist!=null) {
+				dist=data.dist.clone();
+				densityData=dist.densityData;
+				densityDataLength=densityData.length;
+			} else {
+				dist=null;
+				densityData=null;
+				densityDataLength=0;
+			}
+			distributionZeroCount=data.distributionZeroCount;
+			compactDist=(data.compactDist==null)?null:data.compactDist.clone();
 		}
 		argumentScaleFactor=data.argumentScaleFactor;
 		argumentScaleFactorIsOne=data.argumentScaleFactorIsOne;
-		distributionZeroCount=data.distributionZeroCount;
 
 		/* Autokorrelation */
-		if (data.correlationTempValues!=null) correlationTempValues=Arrays.copyOf(data.correlationTempValues,data.correlationTempValues.length);
+		if (data.correlationTempValues!=null) {
+			correlationTempValues=Arrays.copyOf(data.correlationTempValues,data.correlationTempValues.length);
+			correlationRecordRange=data.correlationRecordRange;
+			correlationHistory=data.correlationHistory;
+			correlationBlockCount=data.correlationBlockCount;
+		}
 		if (data.correlationSums!=null) correlationSums=Arrays.copyOf(data.correlationSums,data.correlationSums.length);
 		if (data.correlation!=null) correlation=Arrays.copyOf(data.correlation,data.correlation.length);
 
@@ -738,7 +892,7 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 */
 	@Override
 	public StatisticsDataPerformanceIndicator clone() {
-		final StatisticsDataPerformanceIndicator indicator=new StatisticsDataPerformanceIndicator(xmlNodeNames,upperBound,steps,(correlationTempValues==null)?-1:correlationTempValues.length,batchSize,useWelford);
+		final StatisticsDataPerformanceIndicator indicator=new StatisticsDataPerformanceIndicator(xmlNodeNames,upperBound,steps,(correlationTempValues==null)?-1:correlationRecordRange,batchSize,useWelford,false,compactDistribution);
 		indicator.copyDataFrom(this);
 		return indicator;
 	}
@@ -750,7 +904,7 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 */
 	@Override
 	public StatisticsDataPerformanceIndicator cloneEmpty() {
-		return new StatisticsDataPerformanceIndicator(xmlNodeNames,upperBound,steps,(correlationTempValues==null)?-1:correlationTempValues.length,batchSize,useWelford);
+		return new StatisticsDataPerformanceIndicator(xmlNodeNames,upperBound,steps,(correlationTempValues==null)?-1:correlationRecordRange,batchSize,useWelford,false,compactDistribution);
 	}
 
 	/**
@@ -818,6 +972,7 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 * @see #getDistribution()
 	 */
 	public double getQuantil(final double p) {
+		initDistributionForRead();
 		if (dist==null) return 0.0;
 
 		return getQuantil(dist.getSum(),p);
@@ -837,6 +992,7 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 
 		final double[] result=new double[p.length];
 
+		initDistributionForRead();
 		if (dist!=null) {
 			final double sum=dist.getSum();
 			for (int i=0;i<p.length;i++) result[i]=getQuantil(sum,p[i]);
@@ -947,7 +1103,7 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 * @return	Hufigkeitsverteilung der Messwerte in der Messreihe
 	 */
 	public DataDistributionImpl getDistribution() {
-		if (hasDistribution && dist==null) initDistribution();
+		initDistributionForRead();
 		return dist;
 	}
 
@@ -957,7 +1113,7 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 * @return	Normalisierte Hufigkeitsverteilung der Messwerte in der Messreihe
 	 */
 	public DataDistributionImpl getNormalizedDistribution() {
-		if (hasDistribution && dist==null) initDistribution();
+		initDistributionForRead();
 		if (dist==null) return null;
 		DataDistributionImpl normalized=dist.clone();
 		normalized.normalizeDensityOnly();
@@ -981,6 +1137,7 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 	 */
 	private void calcCorrelation() {
 		if (correlationSums==null) return;
+		flushCorrelationBlock();
 
 		/*
 		 * g(k) = 1/n * sum(i=k+1..n) (x(i)-xMean)*(x(i-k)-xMean)
@@ -1388,7 +1545,7 @@ public final class StatisticsDataPerformanceIndicator extends StatisticsPerforma
 		}
 
 		if (hasDistribution) {
-			if (dist==null) initDistribution();
+			initDistributionForRead();
 			node.setAttribute(xmlNameDistribution[0],dist.storeToString(recycleStringBuilder));
 			final double[] quantils=getQuantil(storeQuantilValues);
 			for (int i=0;i<storeQuantilValues.length;i++) {
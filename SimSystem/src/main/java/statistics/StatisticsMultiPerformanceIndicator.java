@@ -16,7 +16,10 @@
 package statistics;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -232,6 +235,33 @@ public final class StatisticsMultiPerformanceIndicator extends StatisticsPerform
 		}
 	}
 
+	/**
+	 * Bereitet das Zusammenfhren der Daten mehrerer anderer Statistik-Objekte vor.<br>
+	 * Fehlende Teil-Statistik-Objekte werden dabei in derselben Reihenfolge angelegt wie bei wiederholten
+	 * Aufrufen von {@link #add(StatisticsPerformanceIndicator)}. Pro Teil-Statistik-Objekt wird eine Aufgabe
+	 * erstellt, die die Daten aus den anderen Objekten der Reihe nach hinzufgt. Da die Aufgaben jeweils
+	 * auf verschiedenen Teil-Statistik-Objekten arbeiten, knnen sie parallel ausgefhrt werden.
+	 * @param moreStatistics	Statistikobjekte, deren Daten zu diesem hinzugefgt werden sollen
+	 * @param tasks	Liste, an die die Aufgaben angehngt werden
+	 * @see StatisticsBase#addData(List)
+	 */
+	void prepareAdd(final List<StatisticsPerformanceIndicator> moreStatistics, final List<Runnable> tasks) {
+		final Map<StatisticsPerformanceIndicator,List<StatisticsPerformanceIndicator>> sources=new IdentityHashMap<>();
+		for (StatisticsPerformanceIndicator moreStatistic: moreStatistics) {
+			if (!(moreStatistic instanceof StatisticsMultiPerformanceIndicator)) continue;
+			for (Map.Entry<String,StatisticsPerformanceIndicator> entry : ((StatisticsMultiPerformanceIndicator)moreStatistic).indicators.entrySet()) {
+				final StatisticsPerformanceIndicator ownSub=get(entry.getKey());
+				if (ownSub!=null) sources.computeIfAbsent(ownSub,indicator->new ArrayList<>()).add(entry.getValue());
+			}
+		}
+
+		for (Map.Entry<StatisticsPerformanceIndicator,List<StatisticsPerformanceIndicator>> entry : sources.entrySet()) {
+			final StatisticsPerformanceIndicator ownSub=entry.getKey();
+			final List<StatisticsPerformanceIndicator> subSources=entry.getValue();
+			tasks.add(()->{for (StatisticsPerformanceIndicator newSub: subSources) ownSub.add(newSub);});
+		}
+	}
+
 	@Override
 	protected void addToXMLIntern(final Element node, final StringBuilder recycleStringBuilder) {
 		for (Map.Entry<String,StatisticsPerformanceIndicator> entry : indicators.entrySet()) {
@@ -0,0 +1,204 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import xml.XMLTools;
+
+/**
+ * Vorab aufgelster Selektor im Format "Element1-&gt;Element2[Attribut=\"Wert\"]-&gt;[Attribut]"
+ * fr den Zugriff auf einzelne Kenngren eines {@link StatisticsBase}-Objektes.<br>
+ * Beim Kompilieren wird das erste Pfad-Element einmalig auf eine konkrete Kenngre abgebildet.
+ * Fr die Auswertung muss dann nicht mehr die komplette Statistik als xml-Dokument erstellt werden,
+ * sondern nur noch die eine betroffene Kenngre (und bei {@link StatisticsMultiPerformanceIndicator}-Kenngren,
+ * die ber ihren Namen ausgewhlt werden, nur die eine Teil-Kenngre).<br>
+ * Das so erstellte Teil-Dokument liefert fr den Selektor exakt denselben Wert wie das vollstndige Dokument.
+ * @author Alexander Herzog
+ * @see StatisticsBase#saveToXMLDocument()
+ */
+public final class StatisticsQuery {
+	/** Selektor */
+	private final String selector;
+	/** Klasse des Statistik-Objektes, fr das der Selektor aufgelst wurde */
+	private final Class<? extends StatisticsBase> statisticsClass;
+	/** Anzahl an Kenngren in dem Statistik-Objekt, fr das der Selektor aufgelst wurde */
+	private final int indicatorCount;
+	/** Index der Kenngre in {@link StatisticsBase#getAllPerformanceIndicators()} */
+	private final int indicatorIndex;
+	/** Name der Teil-Kenngre (bzw. Wert des Typ-Attributs im Selektor) oder <code>null</code>, wenn die ganze Kenngre bentigt wird */
+	private final String subIndicatorName;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Objekte werden ber {@link #compile(StatisticsBase, String)} erstellt.
+	 * @param selector	Selektor
+	 * @param statistics	Statistik-Objekt, fr das der Selektor aufgelst wurde
+	 * @param indicatorIndex	Index der Kenngre in {@link StatisticsBase#getAllPerformanceIndicators()}
+	 * @param subIndicatorName	Name der Teil-Kenngre oder <code>null</code>, wenn die ganze Kenngre bentigt wird
+	 */
+	private StatisticsQuery(final String selector, final StatisticsBase statistics, final int indicatorIndex, final String subIndicatorName) {
+		this.selector=selector;
+		statisticsClass=statistics.getClass();
+		indicatorCount=statistics.getAllPerformanceIndicators().size();
+		this.indicatorIndex=indicatorIndex;
+		this.subIndicatorName=subIndicatorName;
+	}
+
+	/**
+	 * Zerlegt ein Pfad-Element in Element-Name, Attribut-Name und Attribut-Wert
+	 * (auf dieselbe Weise wie die Auswertungsfunktionen fr die Selektoren).
+	 * @param sel	Pfad-Element
+	 * @return	Array aus Element-Name, Attribut-Name und Attribut-Wert oder <code>null</code>, wenn das Pfad-Element ungltig ist
+	 */
+	private static String[] splitSelector(final String sel) {
+		String tag=sel, attr="", attrValue="";
+		int index=sel.indexOf('[');
+		if (index>=0) {
+			if (!sel.endsWith("]")) return null;
+			attr=sel.substring(index+1,sel.length()-1).trim();
+			tag=sel.substring(0,index).trim();
+			if (attr.isEmpty()) return null;
+			index=attr.indexOf('=');
+			if (index>=0) {
+				attrValue=attr.substring(index+1).trim();
+				attr=attr.substring(0,index).trim();
+				if (attrValue.length()>2 && attrValue.charAt(0)=='"' && attrValue.endsWith("\""))
+					attrValue=attrValue.substring(1,attrValue.length()-1);
+			}
+		}
+		return new String[]{tag,attr,attrValue};
+	}
+
+	/**
+	 * Lst einen Selektor fr ein Statistik-Objekt auf.
+	 * @param statistics	Statistik-Objekt (bzw. ein Objekt derselben Klasse), auf das der Selektor spter angewandt werden soll
+	 * @param selector	Selektor (Pfad-Elemente getrennt durch "-&gt;")
+	 * @return	Aufgelster Selektor oder <code>null</code>, wenn sich der Selektor nicht auf eine Kenngre bezieht (in diesem Fall muss die vollstndige Statistik ausgewertet werden)
+	 */
+	public static StatisticsQuery compile(final StatisticsBase statistics, final String selector) {
+		if (statistics==null || selector==null) return null;
+
+		final List<String> parts=new ArrayList<>();
+		try (Scanner selectors=new Scanner(selector)) {
+			selectors.useDelimiter("->");
+			while (selectors.hasNext()) parts.add(selectors.next());
+		}
+		if (parts.size()<2) return null;
+
+		/* Erstes Pfad-Element: Kenngre */
+		final String[] first=splitSelector(parts.get(0));
+		if (first==null || first[0].isEmpty()) return null;
+		final List<StatisticsPerformanceIndicator> indicators=statistics.getAllPerformanceIndicators();
+		int indicatorIndex=-1;
+		for (int i=0;i<indicators.size();i++) {
+			final String[] names=indicators.get(i).xmlNodeNames;
+			if (names==null || names.length==0 || !names[0].equalsIgnoreCase(first[0])) continue;
+			if (indicatorIndex>=0) return null; /* Mehrdeutig */
+			indicatorIndex=i;
+		}
+		if (indicatorIndex<0) return null;
+
+		/* Zweites Pfad-Element: ggf. Teil-Kenngre */
+		String subIndicatorName=null;
+		if (indicators.get(indicatorIndex) instanceof StatisticsMultiPerformanceIndicator && first[1].isEmpty()) {
+			final String[] second=splitSelector(parts.get(1));
+			if (second!=null && second[1].equals(StatisticsMultiPerformanceIndicator.xmlTypeName[0]) && !second[2].isEmpty()) subIndicatorName=second[2];
+		}
+
+		return new StatisticsQuery(selector,statistics,indicatorIndex,subIndicatorName);
+	}
+
+	/**
+	 * Liefert den Selektor.
+	 * @return	Selektor
+	 */
+	public String getSelector() {
+		return selector;
+	}
+
+	/**
+	 * Prft, ob der aufgelste Selektor auf ein Statistik-Objekt angewandt werden kann.
+	 * @param statistics	Statistik-Objekt
+	 * @return	Liefert <code>true</code>, wenn das Statistik-Objekt dieselbe Struktur wie das beim Kompilieren verwendete Objekt besitzt
+	 */
+	private boolean isCompatible(final StatisticsBase statistics) {
+		return statistics.getClass()==statisticsClass && statistics.getAllPerformanceIndicators().size()==indicatorCount;
+	}
+
+	/**
+	 * Liefert die Kenngre, auf die sich der Selektor bezieht.
+	 * @param statistics	Statistik-Objekt
+	 * @return	Kenngre oder <code>null</code>, wenn das Statistik-Objekt nicht zu dem aufgelsten Selektor passt
+	 */
+	public StatisticsPerformanceIndicator getIndicator(final StatisticsBase statistics) {
+		if (statistics==null || !isCompatible(statistics)) return null;
+		return statistics.getAllPerformanceIndicators().get(indicatorIndex);
+	}
+
+	/**
+	 * Prft, ob eine Teil-Kenngre zu dem Typ-Attribut im Selektor passt
+	 * (auf dieselbe Weise wie die Auswertungsfunktionen fr die Selektoren).
+	 * @param name	Name der Teil-Kenngre
+	 * @return	Liefert <code>true</code>, wenn der Selektor das xml-Element der Teil-Kenngre auswhlen wrde
+	 */
+	private boolean subIndicatorMatches(final String name) {
+		final String value=name.trim().isEmpty()?"":name;
+		if (value.equalsIgnoreCase(subIndicatorName)) return true;
+		if (value.isEmpty() && subIndicatorName.equals("\"\"")) return true;
+		return false;
+	}
+
+	/**
+	 * Erstellt ein xml-Dokument, welches alle fr die Auswertung des Selektors notwendigen Daten enthlt.<br>
+	 * Passt das Statistik-Objekt nicht zu dem aufgelsten Selektor, so wird die vollstndige Statistik geliefert.
+	 * @param statistics	Statistik-Objekt
+	 * @return	Liefert im Erfolgsfall das <code>Document</code>-Element und im Fehlerfall <code>null</code>.
+	 */
+	public Document getXMLDocument(final StatisticsBase statistics) {
+		if (statistics==null) return null;
+		final StatisticsPerformanceIndicator indicator=getIndicator(statistics);
+		if (indicator==null) return statistics.saveToXMLDocument();
+
+		final Element root;
+		try {
+			root=new XMLTools().generateRoot(statistics.getRootNodeNames()[0]);
+		} catch (Exception e) {return null;}
+		if (root==null) return null;
+		final Document doc=root.getOwnerDocument();
+		final StringBuilder sb=new StringBuilder();
+
+		if (subIndicatorName==null) {
+			indicator.addToXML(doc,root,sb);
+		} else {
+			final StatisticsMultiPerformanceIndicator multi=(StatisticsMultiPerformanceIndicator)indicator;
+			final Element node=doc.createElement(multi.xmlNodeNames[0]);
+			root.appendChild(node);
+			for (String name: multi.getNames()) if (subIndicatorMatches(name)) {
+				final Element sub=multi.get(name).addToXML(doc,node,sb);
+				if (sub!=null && !name.trim().isEmpty()) sub.setAttribute(StatisticsMultiPerformanceIndicator.xmlTypeName[0],name);
+				break;
+			}
+		}
+
+		return doc;
+	}
+}
@@ -33,7 +33,7 @@ import mathtools.distribution.DataDistributionImpl;
  * Die Erfassung erfolgt im Gegensatz zu den anderen Statistik-Klassen nicht durch den Aufruf
  * einer Zhl-Methode, sondern durch das manuelle Setzen von ffentlichen Feldern.
  * @author Alexander Herzog
- * @version 1.2
+ * @version 1.3
  */
 public final class StatisticsSimulationBaseData extends StatisticsPerformanceIndicator implements Cloneable {
 	/** XML-Attribut fr "StatistikLaufdatum" */
@@ -54,12 +54,22 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 	public static String[] xmlNameDynamicBalance=new String[]{"DynamischeThreadBalance"};
 	/** XML-Attribut fr "DynamischeThreadBalanceDaten" */
 	public static String[] xmlNameDynamicBalanceData=new String[]{"DynamischeThreadBalanceDaten"};
+	/** XML-Attribut fr "DynamischeThreadBalancePakete" */
+	public static String[] xmlNameDynamicBalancePackages=new String[]{"DynamischeThreadBalancePakete"};
+	/** XML-Attribut fr "DynamischeThreadBalanceRaten" */
+	public static String[] xmlNameDynamicBalanceRates=new String[]{"DynamischeThreadBalanceRaten"};
 	/** XML-Attribut fr "StatistikThreadLaufzeiten" */
 	public static String[] xmlNameRunThreadTimes=new String[]{"StatistikThreadLaufzeiten"};
 	/** Fehlermeldung, wenn das "StatistikThreadLaufzeiten"-Attribut nicht gelesen werden konnte. */
 	public static String xmlNameRunThreadsError="Der Wert in dem Element \"%s\" muss eine positive Ganzzahl sein, ist aber \"%s\".";
 	/** XML-Attribut fr "StatistikEreignisse" */
 	public static String[] xmlNameRunEvents=new String[]{"StatistikEreignisse"};
+	/** XML-Attribut fr "Entfernt" (Anzahl an direkt aus der Ereignisliste gelschten Ereignissen) */
+	public static String[] xmlNameRunEventsRemoved=new String[]{"Entfernt"};
+	/** XML-Attribut fr "Markiert" (Anzahl an nur als gelscht markierten Ereignissen) */
+	public static String[] xmlNameRunEventsMarked=new String[]{"Markiert"};
+	/** XML-Attribut fr "Transporterfahrten" (Anzahl an Fahrten von Transportern) */
+	public static String[] xmlNameRunTransporterMoves=new String[]{"Transporterfahrten"};
 	/** Fehlermeldung, wenn das "StatistikEreignisse"-Attribut nicht gelesen werden konnte. */
 	public static String xmlNameRunEventsError="Der Wert in dem Element \"%s\" muss eine nicht-negative Ganzzahl sein, ist aber \"%s\".";
 	/** XML-Attribut fr "StatistikWiederholungen" */
@@ -116,11 +126,37 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 	 */
 	public long[] threadDynamicBalanceData;
 
+	/**
+	 * Anzahl an vom Load-Balancer vergebenen Anknfte-Paketen pro Thread (bei der Verwendung einer dynamischen Thread-Balance)
+	 */
+	public long[] threadDynamicBalancePackages;
+
+	/**
+	 * Zuletzt vom Load-Balancer gemessene Geschwindigkeit pro Thread in Anknften pro Sekunde (bei der Verwendung einer dynamischen Thread-Balance)
+	 */
+	public long[] threadDynamicBalanceRates;
+
 	/**
 	 * Anzahl der Ereignisse, die (in Summe ber alle Threads) whrend der Simulation ausgefhrt wurden.
 	 */
 	public long runEvents;
 
+	/**
+	 * Anzahl der Ereignisse, die (in Summe ber alle Threads) vor ihrer Ausfhrung direkt aus der Ereignisliste gelscht wurden.
+	 */
+	public long runEventsRemoved;
+
+	/**
+	 * Anzahl der Ereignisse, die (in Summe ber alle Threads) beim Lschen nur als gelscht markiert werden konnten
+	 * und daher bis zu ihrem geplanten Ausfhrungszeitpunkt in der Ereignisliste verblieben sind.
+	 */
+	public long runEventsMarked;
+
+	/**
+	 * Anzahl an Fahrten von Transportern (in Summe ber alle Threads)
+	 */
+	public long runTransporterMoves;
+
 	/**
 	 * Gibt an, wie oft die Simulation wiederholt wurde.
 	 */
@@ -155,6 +191,9 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 		StatisticsSimulationBaseData moreSimulationBaseDataStatistics=(StatisticsSimulationBaseData)moreStatistics;
 
 		runEvents+=moreSimulationBaseDataStatistics.runEvents;
+		runEventsRemoved+=moreSimulationBaseDataStatistics.runEventsRemoved;
+		runEventsMarked+=moreSimulationBaseDataStatistics.runEventsMarked;
+		runTransporterMoves+=moreSimulationBaseDataStatistics.runTransporterMoves;
 		emergencyShutDown=emergencyShutDown || moreSimulationBaseDataStatistics.emergencyShutDown;
 		if (moreSimulationBaseDataStatistics.warnings!=null && moreSimulationBaseDataStatistics.warnings.length>0) {
 			if (warnings==null) {
@@ -181,12 +220,17 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 		runThreads=0;
 		numaAwareMode=false;
 		runEvents=0;
+		runEventsRemoved=0;
+		runEventsMarked=0;
+		runTransporterMoves=0;
 		runRepeatCount=1;
 		emergencyShutDown=false;
 		warnings=null;
 		threadRunTimes=new int[]{0};
 		threadDynamicBalance=0.0;
 		threadDynamicBalanceData=new long[]{0};
+		threadDynamicBalancePackages=new long[]{0};
+		threadDynamicBalanceRates=new long[]{0};
 	}
 
 	/**
@@ -204,6 +248,9 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 		runThreads=source.runThreads;
 		numaAwareMode=numaAwareMode || source.numaAwareMode;
 		runEvents=source.runEvents;
+		runEventsRemoved=source.runEventsRemoved;
+		runEventsMarked=source.runEventsMarked;
+		runTransporterMoves=source.runTransporterMoves;
 		runRepeatCount=source.runRepeatCount;
 		emergencyShutDown=source.emergencyShutDown;
 		if (source.warnings==null) {
@@ -213,7 +260,9 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 		}
 		threadRunTimes=Arrays.copyOf(source.threadRunTimes,source.threadRunTimes.length);
 		threadDynamicBalance=source.threadDynamicBalance;
-		threadDynamicBalanceData=Arrays.copyOf(threadDynamicBalanceData,threadDynamicBalanceData.length);
+		threadDynamicBalanceData=Arrays.copyOf(source.threadDynamicBalanceData,source.threadDynamicBalanceData.length);
+		threadDynamicBalancePackages=Arrays.copyOf(source.threadDynamicBalancePackages,source.threadDynamicBalancePackages.length);
+		threadDynamicBalanceRates=Arrays.copyOf(source.threadDynamicBalanceRates,source.threadDynamicBalanceRates.length);
 	}
 
 	/**
@@ -277,6 +326,14 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 			final DataDistributionImpl dist=new DataDistributionImpl(threadDynamicBalanceData.length,threadDynamicBalanceData);
 			child.setAttribute(xmlNameDynamicBalanceData[0],dist.storeToString());
 		}
+		if (threadDynamicBalancePackages.length>1 || threadDynamicBalancePackages[0]!=0L) {
+			final DataDistributionImpl dist=new DataDistributionImpl(threadDynamicBalancePackages.length,threadDynamicBalancePackages);
+			child.setAttribute(xmlNameDynamicBalancePackages[0],dist.storeToString());
+		}
+		if (threadDynamicBalanceRates.length>1 || threadDynamicBalanceRates[0]!=0L) {
+			final DataDistributionImpl dist=new DataDistributionImpl(threadDynamicBalanceRates.length,threadDynamicBalanceRates);
+			child.setAttribute(xmlNameDynamicBalanceRates[0],dist.storeToString());
+		}
 
 		if (threadRunTimes.length>1 || threadRunTimes[0]!=0) {
 			node.appendChild(child=doc.createElement(xmlNameRunThreadTimes[0]));
@@ -286,6 +343,9 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 
 		node.appendChild(child=doc.createElement(xmlNameRunEvents[0]));
 		child.setTextContent(""+runEvents);
+		if (runEventsRemoved>0) child.setAttribute(xmlNameRunEventsRemoved[0],""+runEventsRemoved);
+		if (runEventsMarked>0) child.setAttribute(xmlNameRunEventsMarked[0],""+runEventsMarked);
+		if (runTransporterMoves>0) child.setAttribute(xmlNameRunTransporterMoves[0],""+runTransporterMoves);
 
 		if (runRepeatCount>1) {
 			node.appendChild(child=doc.createElement(xmlNameRunRepeatCount[0]));
@@ -356,6 +416,26 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 					}
 				}
 
+				for (String test: xmlNameDynamicBalancePackages) {
+					final String attr=e.getAttribute(test);
+					if (!attr.isEmpty()) {
+						final DataDistributionImpl dist=DataDistributionImpl.createFromString(attr,1000);
+						threadDynamicBalancePackages=new long[dist.densityData.length];
+						for (int j=0;j<dist.densityData.length;j++) threadDynamicBalancePackages[j]=Math.round(dist.densityData[j]);
+						break;
+					}
+				}
+
+				for (String test: xmlNameDynamicBalanceRates) {
+					final String attr=e.getAttribute(test);
+					if (!attr.isEmpty()) {
+						final DataDistributionImpl dist=DataDistributionImpl.createFromString(attr,1000);
+						threadDynamicBalanceRates=new long[dist.densityData.length];
+						for (int j=0;j<dist.densityData.length;j++) threadDynamicBalanceRates[j]=Math.round(dist.densityData[j]);
+						break;
+					}
+				}
+
 				continue;
 			}
 			if (multiCompare(name,xmlNameRunThreadTimes)) {
@@ -368,6 +448,30 @@ public final class StatisticsSimulationBaseData extends StatisticsPerformanceInd
 				Long L=NumberTools.getLong(text);
 				if (L==null || L<0) return String.format(xmlNameRunEventsError,name,text);
 				runEvents=L;
+				for (String test: xmlNameRunEventsRemoved) {
+					final String attr=e.getAttribute(test);
+					if (!attr.isEmpty()) {
+						final Long R=NumberTools.getNotNegativeLong(attr);
+						if (R!=null) runEventsRemoved=R.longValue();
+						break;
+					}
+				}
+				for (String test: xmlNameRunEventsMarked) {
+					final String attr=e.getAttribute(test);
+					if (!attr.isEmpty()) {
+						final Long M=NumberTools.getNotNegativeLong(attr);
+						if (M!=null) runEventsMarked=M.longValue();
+						break;
+					}
+				}
+				for (String test: xmlNameRunTransporterMoves) {
+					final String attr=e.getAttribute(test);
+					if (!attr.isEmpty()) {
+						final Long T=NumberTools.getNotNegativeLong(attr);
+						if (T!=null) runTransporterMoves=T.longValue();
+						break;
+					}
+				}
 				continue;
 			}
 			if (multiCompare(name,xmlNameRunRepeatCount)) {
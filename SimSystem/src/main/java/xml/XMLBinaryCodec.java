@@ -0,0 +1,563 @@
+package xml;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Hilfsklasse mit statischen Methoden zum Speichern und Laden von xml-Daten in einem
+ * kompakten Binrformat, wird von {@link XMLTools} verwendet.<br>
+ * Das Format bildet den xml-Baum vollstndig ab, so dass Dateien verlustfrei in xml-Dateien
+ * (und umgekehrt) umgewandelt werden knnen. Element- und Attributnamen werden nur beim ersten
+ * Auftreten ausgeschrieben und danach ber ihren Index referenziert. Attributwerte und Texte, die
+ * aus durch ";" getrennten nicht-negativen Ganzzahlen bestehen (z.B. die Hufigkeitsverteilungen
+ * der Statistik), werden als Zahlen (mit Lauflngenkodierung fr Nullen) gespeichert.<br>
+ * Das Format verkleinert die Dateien und erspart beim Laden das Zerlegen des xml-Textes.
+ * Beim Laden wird jedoch wie bei xml-Dateien der vollstndige DOM-Baum aufgebaut
+ * (ein streamendes Einlesen ist nicht vorgesehen, da alle Nutzer der Daten auf dem DOM-Baum arbeiten).<br>
+ * Aufbau:
+ * <ul>
+ * <li>Kennung {@link #MAGIC} und Formatversion {@link #VERSION}</li>
+ * <li>Wurzelelement: Name, Anzahl an Attributen, Attribute (Name, Wert), Anzahl an Kindknoten, Kindknoten (Typ, Inhalt)</li>
+ * <li>Alle Lngen und Zahlen werden als vorzeichenlose Varints gespeichert, Zeichenketten in UTF-8.</li>
+ * </ul>
+ * @author Alexander Herzog
+ * @see XMLTools.FileType#BINARY_XML
+ */
+public class XMLBinaryCodec {
+	/** Kennung am Anfang jeder Datei */
+	public static final byte[] MAGIC=new byte[] {'W','S','B','X'};
+
+	/** Version des Dateiformats */
+	public static final byte VERSION=1;
+
+	/** Kindknoten-Typ: Element */
+	private static final byte NODE_ELEMENT=1;
+	/** Kindknoten-Typ: Text */
+	private static final byte NODE_TEXT=2;
+	/** Kindknoten-Typ: CDATA-Abschnitt */
+	private static final byte NODE_CDATA=3;
+	/** Kindknoten-Typ: Kommentar */
+	private static final byte NODE_COMMENT=4;
+
+	/** Werte-Typ: Zeichenkette */
+	private static final byte VALUE_STRING=0;
+	/** Werte-Typ: Durch ";" getrennte Liste nicht-negativer Ganzzahlen */
+	private static final byte VALUE_NUMBERS=1;
+
+	/** Maximale Anzahl an Ziffern pro Zahl, damit diese noch sicher in einen <code>long</code>-Wert passt */
+	private static final int MAX_DIGITS=18;
+
+	/** Gre des Schreibpuffers */
+	private static final int BUFFER_SIZE=65536;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Die Klasse kann nicht instanziert werden;
+	 * sie stellt nur statische Hilfsfunktionen zur Verfgung.
+	 */
+	private XMLBinaryCodec() {}
+
+	/**
+	 * Prft, ob die ersten Bytes eines Datenstroms der Kennung des Binrformats entsprechen.
+	 * @param header	Erste Bytes des Datenstroms
+	 * @param length	Anzahl an gltigen Bytes in <code>header</code>
+	 * @return	Liefert <code>true</code>, wenn es sich um Daten im Binrformat handelt
+	 */
+	public static boolean isBinaryXML(final byte[] header, final int length) {
+		if (header==null || length<MAGIC.length) return false;
+		for (int i=0;i<MAGIC.length;i++) if (header[i]!=MAGIC[i]) return false;
+		return true;
+	}
+
+	/**
+	 * Schreibt die Daten in einen Kanal.
+	 */
+	private static class BinaryWriter {
+		/** Ausgabekanal */
+		private final WritableByteChannel channel;
+		/** Schreibpuffer */
+		private final ByteBuffer buffer;
+		/** Bereits ausgeschriebene Namen und ihre Indices */
+		private final Map<String,Integer> names;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param channel	Ausgabekanal
+		 */
+		public BinaryWriter(final WritableByteChannel channel) {
+			this.channel=channel;
+			buffer=ByteBuffer.allocate(BUFFER_SIZE);
+			names=new HashMap<>();
+		}
+
+		/**
+		 * Stellt sicher, dass im Puffer noch eine bestimmte Anzahl an Bytes frei ist.
+		 * @param bytes	Bentigte Anzahl an Bytes (maximal {@link XMLBinaryCodec#BUFFER_SIZE})
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		private void ensure(final int bytes) throws IOException {
+			if (buffer.remaining()<bytes) flush();
+		}
+
+		/**
+		 * Schreibt den Inhalt des Puffers in den Ausgabekanal.
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		public void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) channel.write(buffer);
+			buffer.clear();
+		}
+
+		/**
+		 * Schreibt ein einzelnes Byte.
+		 * @param b	Zu schreibendes Byte
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		public void writeByte(final byte b) throws IOException {
+			ensure(1);
+			buffer.put(b);
+		}
+
+		/**
+		 * Schreibt eine nicht-negative Zahl als Varint.
+		 * @param value	Zu schreibende Zahl
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		public void writeVarLong(long value) throws IOException {
+			ensure(10);
+			while ((value & ~0x7FL)!=0) {
+				buffer.put((byte)((value & 0x7F) | 0x80));
+				value>>>=7;
+			}
+			buffer.put((byte)value);
+		}
+
+		/**
+		 * Schreibt eine Byte-Folge.
+		 * @param bytes	Zu schreibende Bytes
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		private void writeBytes(final byte[] bytes) throws IOException {
+			int pos=0;
+			while (pos<bytes.length) {
+				if (!buffer.hasRemaining()) flush();
+				final int count=Math.min(bytes.length-pos,buffer.remaining());
+				buffer.put(bytes,pos,count);
+				pos+=count;
+			}
+		}
+
+		/**
+		 * Schreibt eine Zeichenkette (Lnge in Bytes und UTF-8-Bytes).
+		 * @param text	Zu schreibende Zeichenkette
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		public void writeString(final String text) throws IOException {
+			final byte[] bytes=text.getBytes(StandardCharsets.UTF_8);
+			writeVarLong(bytes.length);
+			writeBytes(bytes);
+		}
+
+		/**
+		 * Schreibt einen Element- oder Attributnamen.
+		 * Beim ersten Auftreten wird der Name selbst ausgegeben, danach nur noch sein Index.
+		 * @param name	Zu schreibender Name
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		public void writeName(final String name) throws IOException {
+			final Integer index=names.get(name);
+			if (index!=null) {
+				writeVarLong(index.intValue()+1);
+			} else {
+				names.put(name,names.size());
+				writeVarLong(0);
+				writeString(name);
+			}
+		}
+
+		/**
+		 * Prft, ob eine Zeichenkette aus durch ";" getrennten nicht-negativen Ganzzahlen
+		 * besteht, die sich verlustfrei als Zahlen speichern lassen.
+		 * @param text	Zu prfende Zeichenkette
+		 * @return	Anzahl an Zahlen oder -1, wenn die Zeichenkette nicht als Zahlenliste gespeichert werden kann
+		 */
+		private static int getNumberCount(final String text) {
+			final int length=text.length();
+			if (length==0) return -1;
+			int count=1;
+			int digits=0;
+			boolean leadingZero=false;
+			for (int i=0;i<length;i++) {
+				final char c=text.charAt(i);
+				if (c==';') {
+					if (digits==0) return -1;
+					count++;
+					digits=0;
+					continue;
+				}
+				if (c<'0' || c>'9') return -1;
+				if (digits==0) leadingZero=(c=='0'); else if (leadingZero) return -1;
+				digits++;
+				if (digits>MAX_DIGITS) return -1;
+			}
+			if (digits==0) return -1;
+			return count;
+		}
+
+		/**
+		 * Schreibt einen Attributwert oder Text.
+		 * @param text	Zu schreibender Wert
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		public void writeValue(final String text) throws IOException {
+			final int count=getNumberCount(text);
+			if (count<0) {
+				writeByte(VALUE_STRING);
+				writeString(text);
+				return;
+			}
+
+			writeByte(VALUE_NUMBERS);
+			writeVarLong(count);
+			final int length=text.length();
+			long value=0;
+			long zeroRun=0;
+			for (int i=0;i<=length;i++) {
+				final char c=(i<length)?text.charAt(i):';';
+				if (c!=';') {
+					value=value*10+(c-'0');
+					continue;
+				}
+				if (value==0) {
+					zeroRun++;
+				} else {
+					if (zeroRun>0) {writeZeroRun(zeroRun); zeroRun=0;}
+					writeVarLong(value<<1);
+				}
+				value=0;
+			}
+			if (zeroRun>0) writeZeroRun(zeroRun);
+		}
+
+		/**
+		 * Schreibt eine Folge von Nullen.
+		 * @param zeroRun	Anzahl an aufeinanderfolgenden Nullen
+		 * @throws IOException	Fehler beim Schreiben
+		 * @see #writeValue(String)
+		 */
+		private void writeZeroRun(final long zeroRun) throws IOException {
+			if (zeroRun==1) writeVarLong(0); else writeVarLong((zeroRun<<1)|1);
+		}
+
+		/**
+		 * Schreibt ein Element (inkl. aller Attribute und Kindknoten).
+		 * @param element	Zu schreibendes Element
+		 * @throws IOException	Fehler beim Schreiben
+		 */
+		public void writeElement(final Element element) throws IOException {
+			writeName(element.getNodeName());
+
+			final NamedNodeMap attributes=element.getAttributes();
+			final int attributeCount=attributes.getLength();
+			writeVarLong(attributeCount);
+			for (int i=0;i<attributeCount;i++) {
+				final Attr attr=(Attr)attributes.item(i);
+				writeName(attr.getName());
+				writeValue(attr.getValue());
+			}
+
+			final NodeList children=element.getChildNodes();
+			final int childCount=children.getLength();
+			final List<Node> nodes=new ArrayList<>(childCount);
+			for (int i=0;i<childCount;i++) {
+				final Node node=children.item(i);
+				switch (node.getNodeType()) {
+				case Node.ELEMENT_NODE:
+				case Node.TEXT_NODE:
+				case Node.CDATA_SECTION_NODE:
+				case Node.COMMENT_NODE:
+					nodes.add(node);
+					break;
+				default:
+					/* Processing-Instructions usw. werden nicht gespeichert */
+					break;
+				}
+			}
+			writeVarLong(nodes.size());
+			for (Node node: nodes) {
+				switch (node.getNodeType()) {
+				case Node.ELEMENT_NODE:
+					writeByte(NODE_ELEMENT);
+					writeElement((Element)node);
+					break;
+				case Node.TEXT_NODE:
+					writeByte(NODE_TEXT);
+					writeValue(node.getNodeValue());
+					break;
+				case Node.CDATA_SECTION_NODE:
+					writeByte(NODE_CDATA);
+					writeString(node.getNodeValue());
+					break;
+				case Node.COMMENT_NODE:
+					writeByte(NODE_COMMENT);
+					writeString(node.getNodeValue());
+					break;
+				default:
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Speichert ein xml-Element im Binrformat in einem Kanal.
+	 * @param root	Zu speicherndes xml-Element
+	 * @param channel	Ausgabekanal (wird nicht geschlossen)
+	 * @throws IOException	Fehler beim Schreiben
+	 */
+	public static void save(final Element root, final WritableByteChannel channel) throws IOException {
+		final BinaryWriter writer=new BinaryWriter(channel);
+		for (byte b: MAGIC) writer.writeByte(b);
+		writer.writeByte(VERSION);
+		writer.writeElement(root);
+		writer.flush();
+	}
+
+	/**
+	 * Liest die Daten aus einem Puffer.
+	 */
+	private static class BinaryReader {
+		/** Eingabepuffer */
+		private final ByteBuffer buffer;
+		/** Dokument, in dem die Elemente angelegt werden */
+		private final Document doc;
+		/** Bereits gelesene Namen */
+		private final List<String> names;
+		/** Temporrer Puffer zum Auslesen von Zeichenketten, wenn der Eingabepuffer kein Array besitzt */
+		private byte[] bytes;
+		/** StringBuilder zum Aufbau von Zahlenlisten */
+		private final StringBuilder builder;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param buffer	Eingabepuffer
+		 * @param doc	Dokument, in dem die Elemente angelegt werden
+		 */
+		public BinaryReader(final ByteBuffer buffer, final Document doc) {
+			this.buffer=buffer;
+			this.doc=doc;
+			names=new ArrayList<>();
+			bytes=new byte[256];
+			builder=new StringBuilder();
+		}
+
+		/**
+		 * Liest eine nicht-negative Zahl im Varint-Format.
+		 * @return	Gelesene Zahl
+		 * @throws IOException	Ungltige Daten
+		 */
+		public long readVarLong() throws IOException {
+			long value=0;
+			int shift=0;
+			while (true) {
+				final byte b=buffer.get();
+				value|=((long)(b & 0x7F))<<shift;
+				if ((b & 0x80)==0) return value;
+				shift+=7;
+				if (shift>63) throw new IOException();
+			}
+		}
+
+		/**
+		 * Liest eine Lngenangabe.
+		 * @return	Gelesene Lnge
+		 * @throws IOException	Ungltige Daten
+		 */
+		private int readLength() throws IOException {
+			final long length=readVarLong();
+			if (length>Integer.MAX_VALUE) throw new IOException();
+			return (int)length;
+		}
+
+		/**
+		 * Liest eine Zeichenkette.
+		 * @return	Gelesene Zeichenkette
+		 * @throws IOException	Ungltige Daten
+		 */
+		public String readString() throws IOException {
+			final int length=readLength();
+			if (length>buffer.remaining()) throw new EOFException();
+			if (buffer.hasArray()) {
+				final int pos=buffer.position();
+				buffer.position(pos+length);
+				return new String(buffer.array(),buffer.arrayOffset()+pos,length,StandardCharsets.UTF_8);
+			}
+			if (bytes.length<length) bytes=new byte[Math.max(length,bytes.length*2)];
+			buffer.get(bytes,0,length);
+			return new String(bytes,0,length,StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Liest einen Element- oder Attributnamen.
+		 * @return	Gelesener Name
+		 * @throws IOException	Ungltige Daten
+		 */
+		public String readName() throws IOException {
+			final long index=readVarLong();
+			if (index==0) {
+				final String name=readString();
+				names.add(name);
+				return name;
+			}
+			if (index>names.size()) throw new IOException();
+			return names.get((int)(index-1));
+		}
+
+		/**
+		 * Liest einen Attributwert oder Text.
+		 * @return	Gelesener Wert
+		 * @throws IOException	Ungltige Daten
+		 */
+		public String readValue() throws IOException {
+			final byte type=buffer.get();
+			if (type==VALUE_STRING) return readString();
+			if (type!=VALUE_NUMBERS) throw new IOException();
+
+			final long count=readVarLong();
+			final StringBuilder sb=builder;
+			sb.setLength(0);
+			long done=0;
+			while (done<count) {
+				final long code=readVarLong();
+				if ((code & 1)==0) {
+					if (done>0) sb.append(';');
+					sb.append(code>>>1);
+					done++;
+				} else {
+					final long zeroRun=code>>>1;
+					if (done+zeroRun>count) throw new IOException();
+					for (long i=0;i<zeroRun;i++) {
+						if (done>0) sb.append(';');
+						sb.append('0');
+						done++;
+					}
+				}
+			}
+			return sb.toString();
+		}
+
+		/**
+		 * Liest ein Element (inkl. aller Attribute und Kindknoten).
+		 * @return	Gelesenes Element
+		 * @throws IOException	Ungltige Daten
+		 */
+		public Element readElement() throws IOException {
+			final Element element=doc.createElement(readName());
+
+			final int attributeCount=readLength();
+			for (int i=0;i<attributeCount;i++) {
+				final String name=readName();
+				element.setAttribute(name,readValue());
+			}
+
+			final int childCount=readLength();
+			for (int i=0;i<childCount;i++) {
+				final byte type=buffer.get();
+				switch (type) {
+				case NODE_ELEMENT: element.appendChild(readElement()); break;
+				case NODE_TEXT: element.appendChild(doc.createTextNode(readValue())); break;
+				case NODE_CDATA: element.appendChild(doc.createCDATASection(readString())); break;
+				case NODE_COMMENT: element.appendChild(doc.createComment(readString())); break;
+				default: throw new IOException();
+				}
+			}
+
+			return element;
+		}
+	}
+
+	/**
+	 * Ldt xml-Daten im Binrformat aus einem Puffer.
+	 * @param buffer	Eingabepuffer (die Daten mssen ab der aktuellen Position mit der Kennung {@link #MAGIC} beginnen)
+	 * @return	Wurzelelement des geladenen xml-Baums
+	 * @throws IOException	Ungltige Daten
+	 */
+	public static Element load(final ByteBuffer buffer) throws IOException {
+		try {
+			final byte[] header=new byte[MAGIC.length];
+			buffer.get(header);
+			if (!isBinaryXML(header,header.length)) throw new IOException();
+			final byte version=buffer.get();
+			if (version<1 || version>VERSION) throw new IOException();
+
+			final Document doc;
+			try {
+				doc=DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+			} catch (ParserConfigurationException e) {
+				throw new IOException(e);
+			}
+			final Element root=new BinaryReader(buffer,doc).readElement();
+			doc.appendChild(root);
+			return root;
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Ldt xml-Daten im Binrformat aus einer Datei.<br>
+	 * Die Datei wird dabei in den Speicher eingeblendet statt in einen Puffer kopiert;
+ * der xml-Baum wird aber vollstndig im Speicher aufgebaut.
+	 * @param file	Zu ladende Datei
+	 * @return	Wurzelelement des geladenen xml-Baums
+	 * @throws IOException	Fehler beim Lesen der Datei oder ungltige Daten
+	 */
+	public static Element load(final File file) throws IOException {
+		try (FileChannel channel=FileChannel.open(file.toPath(),StandardOpenOption.READ)) {
+			final long size=channel.size();
+			if (size>Integer.MAX_VALUE) throw new IOException();
+			return load(channel.map(FileChannel.MapMode.READ_ONLY,0,size));
+		}
+	}
+
+	/**
+	 * Ldt xml-Daten im Binrformat aus einem Datenstrom.
+	 * @param stream	Eingabedatenstrom (wird nicht geschlossen)
+	 * @return	Wurzelelement des geladenen xml-Baums
+	 * @throws IOException	Fehler beim Lesen oder ungltige Daten
+	 */
+	public static Element load(final InputStream stream) throws IOException {
+		byte[] data=new byte[BUFFER_SIZE];
+		int size=0;
+		while (true) {
+			if (size==data.length) data=Arrays.copyOf(data,data.length*2);
+			final int read=stream.read(data,size,data.length-size);
+			if (read<0) break;
+			size+=read;
+		}
+		return load(ByteBuffer.wrap(data,0,size));
+	}
+}
@@ -17,7 +17,7 @@ import xml.XMLTools.FileType;
 /**
  * Diese Klasse stellt eine abstrakte Basis fr Klassen, die ihre Daten aus xml-Dateien laden mchten bzw. in diesen speichern mchten, dar.
  * @author Alexander Herzog
- * @version 1.7
+ * @version 1.8
  */
 public abstract class XMLData {
 	/**
@@ -61,10 +61,7 @@ public abstract class XMLData {
 	 * @return	Tritt ein Fehler auf, so wird die Fehlermeldung als String zurckgegeben. Im Erfolgsfall wird <code>null</code> zurckgegeben.
 	 */
 	public final String loadFromFile(final File file) {
-		XMLTools xml=new XMLTools(file);
-		Element root=xml.load();
-		if (root==null) return xml.getError();
-		return loadFromXML(root);
+		return loadStreaming(new XMLTools(file));
 	}
 
 	/**
@@ -75,10 +72,7 @@ public abstract class XMLData {
 	 * @see XMLTools.FileType
 	 */
 	public final String loadFromFile(final File file, final XMLTools.FileType fileType) {
-		XMLTools xml=new XMLTools(file,fileType);
-		Element root=xml.load();
-		if (root==null) return xml.getError();
-		return loadFromXML(root);
+		return loadStreaming(new XMLTools(file,fileType));
 	}
 
 	/**
@@ -88,10 +82,7 @@ public abstract class XMLData {
 	 * @return	Tritt ein Fehler auf, so wird die Fehlermeldung als String zurckgegeben. Im Erfolgsfall wird <code>null</code> zurckgegeben.
 	 */
 	public final String loadFromStream(final InputStream stream, final FileType fileType) {
-		XMLTools xml=new XMLTools(stream,fileType);
-		Element root=xml.load();
-		if (root==null) return xml.getError();
-		return loadFromXML(root);
+		return loadStreaming(new XMLTools(stream,fileType));
 	}
 
 	/**
@@ -121,26 +112,65 @@ public abstract class XMLData {
 	 * @return	Tritt ein Fehler auf, so wird die Fehlermeldung als String zurckgegeben. Im Erfolgsfall wird <code>null</code> zurckgegeben.
 	 */
 	public final String loadFromXML(final Element node) {
+		String error=loadRoot(node);
+		if (error!=null) return error;
+
+		final NodeList l=node.getChildNodes();
+		final int length=l.getLength();
+		for (int i=0; i<length;i++) {
+			final Node sub=l.item(i);
+			if (!(sub instanceof Element)) continue;
+			error=loadElement((Element)sub);
+			if (error!=null) return error;
+		}
+
+		processLoadedData();
+
+		return null;
+	}
+
+	/**
+	 * Prft den Namen des Wurzelelements und setzt die Daten vor dem Laden zurck.
+	 * @param node	Wurzelelement
+	 * @return	Tritt ein Fehler auf, so wird die Fehlermeldung als String zurckgegeben. Im Erfolgsfall wird <code>null</code> zurckgegeben.
+	 * @see #loadFromXML(Element)
+	 */
+	private String loadRoot(final Element node) {
 		boolean ok=false;
 		final String nodeName=node.getNodeName();
 		for (String test: getRootNodeNames()) if (nodeName.equalsIgnoreCase(test)) {ok=true; break;}
 		if (!ok) return String.format(errorRootElementName,getRootNodeNames()[0],node.getNodeName());
 
 		resetData();
+		return null;
+	}
 
-		final NodeList l=node.getChildNodes();
-		final int length=l.getLength();
-		for (int i=0; i<length;i++) {
-			final Node sub=l.item(i);
-			if (!(sub instanceof Element)) continue;
-			final Element e=(Element)sub;
-			try {
-				final String error=loadProperty(e.getNodeName(),e.getTextContent(),e);
-				if (error!=null) return error;
-			} catch (OutOfMemoryError e2) {
-				return errorOutOfMemory;
-			}
+	/**
+	 * Ldt die Daten aus einem direkten Unterelement des Wurzelelements.
+	 * @param e	Unterelement des Wurzelelements
+	 * @return	Tritt ein Fehler auf, so wird die Fehlermeldung als String zurckgegeben. Im Erfolgsfall wird <code>null</code> zurckgegeben.
+	 * @see #loadFromXML(Element)
+	 */
+	private String loadElement(final Element e) {
+		try {
+			return loadProperty(e.getNodeName(),e.getTextContent(),e);
+		} catch (OutOfMemoryError e2) {
+			return errorOutOfMemory;
 		}
+	}
+
+	/**
+	 * Ldt die Daten schrittweise ber {@link XMLTools#loadStreaming(XMLStreamLoader.Handler)}.<br>
+	 * Es wird dabei zu keinem Zeitpunkt der vollstndige xml-Baum im Speicher gehalten.
+	 * @param xml	xml-Objekt, welches die Datenquelle angibt
+	 * @return	Tritt ein Fehler auf, so wird die Fehlermeldung als String zurckgegeben. Im Erfolgsfall wird <code>null</code> zurckgegeben.
+	 */
+	private String loadStreaming(final XMLTools xml) {
+		final boolean ok=xml.loadStreaming(new XMLStreamLoader.Handler() {
+			@Override public String loadRoot(final Element root) {return XMLData.this.loadRoot(root);}
+			@Override public String loadElement(final Element element) {return XMLData.this.loadElement(element);}
+		});
+		if (!ok) return xml.getError();
 
 		processLoadedData();
 
@@ -168,14 +198,7 @@ public abstract class XMLData {
 	 * @return	Gibt an, ob die Daten erfolgreich gespeichert werden konnten.
 	 */
 	public final boolean saveToFile(final File file) {
-		XMLTools xml=new XMLTools(file);
-		Element root=null;
-		try {
-			root=xml.generateRoot(getRootNodeNames()[0]);
-		} catch (Exception e) {return false;}
-		if (root==null) return false;
-		addDataToXML(root.getOwnerDocument(),root,false,file);
-		return xml.save(root);
+		return saveStreaming(new XMLTools(file),file);
 	}
 
 	/**
@@ -186,14 +209,7 @@ public abstract class XMLData {
 	 * @see XMLTools.FileType
 	 */
 	public final boolean saveToFile(final File file, final XMLTools.FileType fileType) {
-		XMLTools xml=new XMLTools(file,fileType);
-		Element root=null;
-		try {
-			root=xml.generateRoot(getRootNodeNames()[0]);
-		} catch (Exception e) {return false;}
-		if (root==null) return false;
-		addDataToXML(root.getOwnerDocument(),root,false,file);
-		return xml.save(root);
+		return saveStreaming(new XMLTools(file,fileType),file);
 	}
 
 	/**
@@ -212,14 +228,20 @@ public abstract class XMLData {
 	 * @return	Gibt an, ob die Daten erfolgreich gespeichert werden konnten.
 	 */
 	public final boolean saveToStream(final OutputStream stream, final FileType fileType) {
-		final XMLTools xml=new XMLTools(stream,fileType);
-		Element root=null;
+		return saveStreaming(new XMLTools(stream,fileType),null);
+	}
+
+	/**
+	 * Speichert die Daten schrittweise ber {@link XMLTools#saveStreaming(String, java.util.function.BiConsumer)}.
+	 * @param xml	xml-Objekt, welches das Ausgabeziel angibt
+	 * @param file	Dateiname der Ausgabedatei (nur zur Info; kann <code>null</code> sein)
+	 * @return	Gibt an, ob die Daten erfolgreich gespeichert werden konnten.
+	 * @see #addDataToXML(Document, Element, boolean, File, Runnable)
+	 */
+	private boolean saveStreaming(final XMLTools xml, final File file) {
 		try {
-			root=xml.generateRoot(getRootNodeNames()[0]);
+			return xml.saveStreaming(getRootNodeNames()[0],(root,flush)->addDataToXML(root.getOwnerDocument(),root,false,file,flush));
 		} catch (Exception e) {return false;}
-		if (root==null) return false;
-		addDataToXML(root.getOwnerDocument(),root,false,null);
-		return xml.save(root);
 	}
 
 	/**
@@ -307,4 +329,20 @@ public abstract class XMLData {
 	 * @param file	Dateiname der Ausgabedatei (nur zur Info; kann <code>null</code> sein)
 	 */
 	protected abstract void addDataToXML(final Document doc, final Element node, final boolean isPartOfOtherFile, final File file);
+
+	/**
+	 * Speichert die Daten in einem xml-Knoten, wobei die bereits angelegten Unterelemente
+	 * zwischendurch ausgegeben und freigegeben werden knnen.<br>
+	 * Klassen mit umfangreichen Daten knnen diese Methode berschreiben und nach jedem
+	 * greren Unterelement <code>flush</code> aufrufen. Die Standardimplementierung
+	 * ruft lediglich {@link #addDataToXML(Document, Element, boolean, File)} auf.
+	 * @param doc	bergeordnetes xml-Dokument
+	 * @param node	Knoten, in dem die Daten des Objekts gespeichert werden sollen
+	 * @param isPartOfOtherFile	Gibt an, ob die Daten Teil einer bergeordneten Datei sein werden
+	 * @param file	Dateiname der Ausgabedatei (nur zur Info; kann <code>null</code> sein)
+	 * @param flush	Schreibt die bislang unterhalb von <code>node</code> angelegten Elemente und entfernt sie aus <code>node</code> (kann <code>null</code> sein, wenn die Daten nicht schrittweise geschrieben werden)
+	 */
+	protected void addDataToXML(final Document doc, final Element node, final boolean isPartOfOtherFile, final File file, final Runnable flush) {
+		addDataToXML(doc,node,isPartOfOtherFile,file);
+	}
 }
@@ -0,0 +1,162 @@
+package xml;
+import java.io.InputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Hilfsklasse mit statischen Methoden zum schrittweisen Laden von xml-Daten, wird von {@link XMLTools} verwendet.<br>
+ * Die Daten werden ber einen Pull-Parser gelesen. Anstatt das gesamte Dokument als DOM-Baum aufzubauen,
+ * wird jeweils nur ein direktes Unterelement des Wurzelelements (samt seinen Unterelementen) als DOM-Teilbaum
+ * erstellt, an den {@link Handler} bergeben und danach wieder aus dem Wurzelelement entfernt. Der Speicherbedarf
+ * richtet sich so nach dem grten Unterelement und nicht nach der Gre des gesamten Dokuments.
+ * @author Alexander Herzog
+ * @see XMLTools#loadStreaming(Handler)
+ */
+public class XMLStreamLoader {
+	/**
+	 * Empfnger fr die schrittweise geladenen xml-Elemente
+	 */
+	public interface Handler {
+		/**
+		 * Wird fr das Wurzelelement (nur Name und Attribute, noch ohne Unterelemente) aufgerufen.
+		 * @param root	Wurzelelement
+		 * @return	Tritt ein Fehler auf, so wird die Fehlermeldung als String zurckgegeben (das Laden wird dann abgebrochen). Im Erfolgsfall wird <code>null</code> zurckgegeben.
+		 */
+		String loadRoot(final Element root);
+
+		/**
+		 * Wird nacheinander fr jedes direkte Unterelement des Wurzelelements aufgerufen.<br>
+		 * Das Element befindet sich whrend des Aufrufs unterhalb des Wurzelelements und wird danach
+		 * aus diesem entfernt.
+		 * @param element	Vollstndig geladenes Unterelement
+		 * @return	Tritt ein Fehler auf, so wird die Fehlermeldung als String zurckgegeben (das Laden wird dann abgebrochen). Im Erfolgsfall wird <code>null</code> zurckgegeben.
+		 */
+		String loadElement(final Element element);
+	}
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Die Klasse kann nicht instanziert werden;
+	 * sie stellt nur statische Hilfsfunktionen zur Verfgung.
+	 */
+	private XMLStreamLoader() {}
+
+	/**
+	 * Liefert den vollstndigen Namen (ggf. mit Prfix) des Elements, an dem sich der Parser befindet.
+	 * @param reader	Parser
+	 * @return	Name des aktuellen Elements
+	 */
+	private static String getName(final XMLStreamReader reader) {
+		final String prefix=reader.getPrefix();
+		if (prefix==null || prefix.isEmpty()) return reader.getLocalName();
+		return prefix+":"+reader.getLocalName();
+	}
+
+	/**
+	 * Legt fr das Element, an dem sich der Parser befindet, ein neues DOM-Element samt Attributen an.
+	 * @param reader	Parser
+	 * @param doc	xml-Dokument, in dem das Element angelegt werden soll
+	 * @return	Neues (noch nicht in das Dokument eingefgtes) Element
+	 */
+	private static Element createElement(final XMLStreamReader reader, final Document doc) {
+		final Element element=doc.createElement(getName(reader));
+		final int count=reader.getAttributeCount();
+		for (int i=0;i<count;i++) {
+			final String prefix=reader.getAttributePrefix(i);
+			final String name=(prefix==null || prefix.isEmpty())?reader.getAttributeLocalName(i):(prefix+":"+reader.getAttributeLocalName(i));
+			element.setAttribute(name,reader.getAttributeValue(i));
+		}
+		return element;
+	}
+
+	/**
+	 * Liest das Element, an dem sich der Parser befindet, vollstndig (d.h. bis zu dem zugehrigen End-Tag) ein.
+	 * @param reader	Parser
+	 * @param doc	xml-Dokument, in dem die Elemente angelegt werden sollen
+	 * @return	Neues (noch nicht in das Dokument eingefgtes) Element
+	 * @throws XMLStreamException	Wird ausgelst, wenn die Daten nicht verarbeitet werden konnten
+	 */
+	private static Element readElement(final XMLStreamReader reader, final Document doc) throws XMLStreamException {
+		final Element element=createElement(reader,doc);
+		Element current=element;
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+			case XMLStreamConstants.START_ELEMENT:
+				final Element sub=createElement(reader,doc);
+				current.appendChild(sub);
+				current=sub;
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				if (current==element) return element;
+				current=(Element)current.getParentNode();
+				break;
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.SPACE:
+			case XMLStreamConstants.CDATA:
+				current.appendChild(doc.createTextNode(reader.getText()));
+				break;
+			default:
+				/* Kommentare und Verarbeitungsanweisungen werden nicht bentigt */
+				break;
+			}
+		}
+		throw new XMLStreamException("Unexpected end of document in element "+element.getNodeName());
+	}
+
+	/**
+	 * Ldt die xml-Daten schrittweise aus einem Stream.
+	 * @param stream	Stream, aus dem die Daten gelesen werden sollen (wird nicht geschlossen)
+	 * @param handler	Empfnger fr die geladenen Elemente
+	 * @return	Liefert die Fehlermeldung des Empfngers, wenn dieser das Laden abgebrochen hat, sonst <code>null</code>
+	 * @throws XMLStreamException	Wird ausgelst, wenn die Daten nicht verarbeitet werden konnten
+	 */
+	public static String load(final InputStream stream, final Handler handler) throws XMLStreamException {
+		final Document doc;
+		try {
+			doc=DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+		} catch (ParserConfigurationException e) {
+			throw new XMLStreamException(e);
+		}
+
+		final XMLInputFactory factory=XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE,false);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD,false);
+		factory.setProperty(XMLInputFactory.IS_COALESCING,true);
+		final XMLStreamReader reader=factory.createXMLStreamReader(stream);
+		try {
+			/* Wurzelelement */
+			while (reader.hasNext() && reader.next()!=XMLStreamConstants.START_ELEMENT) {}
+			if (!reader.isStartElement()) throw new XMLStreamException("No root element");
+			final Element root=createElement(reader,doc);
+			doc.appendChild(root);
+			String error=handler.loadRoot(root);
+			if (error!=null) return error;
+
+			/* Unterelemente */
+			while (reader.hasNext()) {
+				final int event=reader.next();
+				if (event==XMLStreamConstants.END_ELEMENT) break;
+				if (event!=XMLStreamConstants.START_ELEMENT) continue;
+				final Element element=readElement(reader,doc);
+				root.appendChild(element);
+				try {
+					error=handler.loadElement(element);
+				} finally {
+					root.removeChild(element);
+				}
+				if (error!=null) return error;
+			}
+			return null;
+		} finally {
+			reader.close();
+		}
+	}
+}
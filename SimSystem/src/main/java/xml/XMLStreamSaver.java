@@ -0,0 +1,200 @@
+package xml;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Schreibt xml-Daten schrittweise in einen Stream, wird von {@link XMLTools} verwendet.<br>
+ * Beim Anlegen des Objekts werden der Dateikopf und das Start-Tag des Wurzelelements ausgegeben.
+ * Jeder Aufruf von {@link #flush()} schreibt die bis dahin unterhalb des Wurzelelements angelegten
+ * Elemente und entfernt sie danach aus dem DOM-Baum. Auf diese Weise muss nie das gesamte Dokument
+ * gleichzeitig im Speicher gehalten werden. Die Ausgabe ist (bis auf Leerraum) identisch zu der
+ * Ausgabe von {@link XMLTools#save(Element)}.
+ * @author Alexander Herzog
+ * @see XMLTools#saveStreaming(String, java.util.function.BiConsumer)
+ */
+public class XMLStreamSaver {
+	/** Einrckung pro Ebene */
+	private static final String INDENT="  ";
+
+	/** Ausgabe */
+	private final Writer writer;
+
+	/** Wurzelelement */
+	private final Element root;
+
+	/** Wurde das End-Tag des Wurzelelements bereits geschrieben? */
+	private boolean done;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Schreibt den Dateikopf und das Start-Tag des Wurzelelements.
+	 * @param stream	Ausgabestream (wird nicht geschlossen)
+	 * @param root	Wurzelelement (die Attribute werden sofort ausgegeben, die Unterelemente bei {@link #flush()})
+	 * @param plain	Gibt kein DOCTYPE aus
+	 * @throws IOException	Wird ausgelst, wenn die Daten nicht geschrieben werden konnten
+	 */
+	public XMLStreamSaver(final OutputStream stream, final Element root, final boolean plain) throws IOException {
+		writer=new BufferedWriter(new OutputStreamWriter(stream,StandardCharsets.UTF_8));
+		this.root=root;
+
+		writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+		if (!plain && XMLTools.dtd!=null && !XMLTools.dtd.isEmpty()) {
+			writer.write("<!DOCTYPE "+root.getNodeName()+" SYSTEM \""+escape(XMLTools.mediaURL+XMLTools.dtd,true)+"\">\n");
+		}
+		writeStartTag(root);
+		writer.write(">\n");
+	}
+
+	/**
+	 * Wandelt einen Text so um, dass er in xml-Daten verwendet werden kann.
+	 * @param text	Umzuwandelnder Text
+	 * @param attribute	Handelt es sich um einen Attributwert?
+	 * @return	Umgewandelter Text
+	 */
+	private static String escape(final String text, final boolean attribute) {
+		StringBuilder sb=null;
+		final int length=text.length();
+		for (int i=0;i<length;i++) {
+			final char c=text.charAt(i);
+			final String replace;
+			switch (c) {
+			case '&': replace="&amp;"; break;
+			case '<': replace="&lt;"; break;
+			case '>': replace="&gt;"; break;
+			case '"': replace=attribute?"&quot;":null; break;
+			case '\r': replace="&#13;"; break;
+			case '\n': replace=attribute?"&#10;":null; break;
+			case '\t': replace=attribute?"&#9;":null; break;
+			default: replace=null; break;
+			}
+			if (replace==null) {
+				if (sb!=null) sb.append(c);
+			} else {
+				if (sb==null) {sb=new StringBuilder(length+16); sb.append(text,0,i);}
+				sb.append(replace);
+			}
+		}
+		return (sb==null)?text:sb.toString();
+	}
+
+	/**
+	 * Schreibt das Start-Tag eines Elements (ohne die schlieende spitze Klammer).
+	 * @param element	Element
+	 * @throws IOException	Wird ausgelst, wenn die Daten nicht geschrieben werden konnten
+	 */
+	private void writeStartTag(final Element element) throws IOException {
+		writer.write('<');
+		writer.write(element.getNodeName());
+		final NamedNodeMap attributes=element.getAttributes();
+		final int count=attributes.getLength();
+		for (int i=0;i<count;i++) {
+			final Attr attr=(Attr)attributes.item(i);
+			writer.write(' ');
+			writer.write(attr.getName());
+			writer.write("=\"");
+			writer.write(escape(attr.getValue(),true));
+			writer.write('"');
+		}
+	}
+
+	/**
+	 * Prft, ob die Kindknoten eines Elements ohne zustzliche Einrckung ausgegeben werden mssen.
+	 * Dies ist der Fall, wenn das Element Text (der nicht nur aus Leerraum besteht) oder gar keine Unterelemente enthlt.
+	 * @param element	Element
+	 * @return	Liefert <code>true</code>, wenn die Kindknoten ohne Einrckung ausgegeben werden mssen
+	 */
+	private static boolean isInline(final Element element) {
+		boolean hasElements=false;
+		for (Node node=element.getFirstChild();node!=null;node=node.getNextSibling()) {
+			final short type=node.getNodeType();
+			if ((type==Node.TEXT_NODE || type==Node.CDATA_SECTION_NODE) && !node.getNodeValue().trim().isEmpty()) return true;
+			if (type==Node.ELEMENT_NODE) hasElements=true;
+		}
+		return !hasElements;
+	}
+
+	/**
+	 * Schreibt einen Knoten samt seinen Kindknoten.
+	 * @param node	Knoten
+	 * @param indent	Einrckung (oder <code>null</code>, wenn nicht eingerckt werden soll)
+	 * @throws IOException	Wird ausgelst, wenn die Daten nicht geschrieben werden konnten
+	 */
+	private void writeNode(final Node node, final String indent) throws IOException {
+		switch (node.getNodeType()) {
+		case Node.ELEMENT_NODE:
+			final Element element=(Element)node;
+			if (indent!=null) writer.write(indent);
+			writeStartTag(element);
+			if (!element.hasChildNodes()) {
+				writer.write("/>");
+			} else {
+				writer.write('>');
+				final boolean inline=(indent==null) || isInline(element);
+				if (!inline) writer.write('\n');
+				final NodeList list=element.getChildNodes();
+				final int count=list.getLength();
+				for (int i=0;i<count;i++) writeNode(list.item(i),inline?null:(indent+INDENT));
+				if (!inline) writer.write(indent);
+				writer.write("</");
+				writer.write(element.getNodeName());
+				writer.write('>');
+			}
+			if (indent!=null) writer.write('\n');
+			break;
+		case Node.TEXT_NODE:
+		case Node.CDATA_SECTION_NODE:
+			if (indent==null) writer.write(escape(node.getNodeValue(),false));
+			break;
+		case Node.COMMENT_NODE:
+			if (indent!=null) writer.write(indent);
+			writer.write("<!--");
+			writer.write(node.getNodeValue());
+			writer.write("-->");
+			if (indent!=null) writer.write('\n');
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Schreibt alle bisher unterhalb des Wurzelelements angelegten Knoten
+	 * und entfernt sie danach aus dem Wurzelelement.
+	 * @throws IOException	Wird ausgelst, wenn die Daten nicht geschrieben werden konnten
+	 */
+	public void flush() throws IOException {
+		if (done) return;
+		Node node=root.getFirstChild();
+		while (node!=null) {
+			writeNode(node,INDENT);
+			final Node next=node.getNextSibling();
+			root.removeChild(node);
+			node=next;
+		}
+	}
+
+	/**
+	 * Schreibt die verbliebenen Knoten und das End-Tag des Wurzelelements.<br>
+	 * Der Ausgabestream wird dabei nicht geschlossen.
+	 * @throws IOException	Wird ausgelst, wenn die Daten nicht geschrieben werden konnten
+	 */
+	public void finish() throws IOException {
+		if (done) return;
+		flush();
+		writer.write("</");
+		writer.write(root.getNodeName());
+		writer.write(">\n");
+		writer.flush();
+		done=true;
+	}
+}
@@ -17,13 +17,18 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.BiConsumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -35,6 +40,7 @@ import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
@@ -136,6 +142,8 @@ public final class XMLTools {
 	public static String fileTypeJSON="json-Dateien";
 	/** Bezeichner fr Dateiformat encrypted xml (im Dateiauswahldialog) */
 	public static String fileTypeEncryptedXML="Verschlsselte xml-Dateien";
+	/** Bezeichner fr Dateiformat "Binre xml-Dateien" */
+	public static String fileTypeBinaryXML="Binre xml-Dateien";
 	/** Bezeichner fr Dateiformat "Alle untersttzen Dateiformate" (im Dateiauswahldialog) */
 	public static String fileTypeAll="Alle untersttzen Dateiformate";
 
@@ -211,7 +219,13 @@ public final class XMLTools {
 		/**
 		 * In eine zip-Datei verschlsselt eingepackte xml-Datei
 		 */
-		CRYPT_XML("cs");
+		CRYPT_XML("cs"),
+
+		/**
+		 * xml-Daten im Binrformat
+		 * @see XMLBinaryCodec
+		 */
+		BINARY_XML("bxml");
 
 		/**
 		 * Standarddateiendung fr das jeweilige Format
@@ -260,7 +274,12 @@ public final class XMLTools {
 		/**
 		 * In eine zip-Datei verschlsselt eingepackte xml-Datei
 		 */
-		CRYPT_XML("crypt",FileType.CRYPT_XML);
+		CRYPT_XML("crypt",FileType.CRYPT_XML),
+
+		/**
+		 * xml-Daten im Binrformat
+		 */
+		BINARY_XML("binary",FileType.BINARY_XML);
 
 		/**
 		 * Bezeichner fr das Format (nicht notwendig die Dateiendung)
@@ -537,6 +556,7 @@ public final class XMLTools {
 		if (s.endsWith(".TAR") || s.endsWith(".TAR.GZ")  || s.endsWith(".TARGZ")  || s.endsWith(".TGZ")) return FileType.TAR_XML;
 		if (s.endsWith(".CS") || s.endsWith(".CS_ENCRYPT")) return FileType.CRYPT_XML;
 		if (s.endsWith(".JSON") || s.endsWith(".JS")) return FileType.JSON;
+		if (s.endsWith(".BXML")) return FileType.BINARY_XML;
 
 		return FileType.XML;
 	}
@@ -549,6 +569,13 @@ public final class XMLTools {
 	 * @return	Gibt an, ob die Daten erfolgreich gespeichert werden konnten.
 	 */
 	private boolean saveToFile(final File file, final Element root, final boolean plain) {
+		if (getFileType(file)==FileType.BINARY_XML) {
+			try (FileChannel channel=FileChannel.open(file.toPath(),StandardOpenOption.WRITE,StandardOpenOption.CREATE,StandardOpenOption.TRUNCATE_EXISTING)) {
+				XMLBinaryCodec.save(root,channel);
+				return true;
+			} catch (IOException e) {lastError=String.format(errorOpeningFile,file.toString()); return false;}
+		}
+
 		try (BufferedOutputStream fileOutput=new BufferedOutputStream(new FileOutputStream(file));) {
 			return saveToStream(fileOutput,root,plain,getFileType(file));
 		} catch (FileNotFoundException e) {lastError=String.format(errorOpeningFile,file.toString()); return false;} catch (IOException e) {lastError=String.format(errorClosingFile,file.toString()); return false;}
@@ -615,6 +642,16 @@ public final class XMLTools {
 			return b;
 		}
 
+		if (fileType==FileType.BINARY_XML) {
+			try {
+				XMLBinaryCodec.save(root,Channels.newChannel(stream));
+				return true;
+			} catch (IOException e) {
+				lastError=errorStreamProcessing;
+				return false;
+			}
+		}
+
 		if (fileType==FileType.JSON) {
 			try (OutputStreamWriter writer=new OutputStreamWriter(stream,StandardCharsets.UTF_8.name())) {
 				xmlToJson(root,false,writer);
@@ -664,6 +701,67 @@ public final class XMLTools {
 		return saveToStream(stream,root,plain,fileType);
 	}
 
+	/**
+	 * Speichert xml-Daten abhngig vom verwendeten Konstruktor schrittweise in einer Datei oder einem Stream.<br>
+	 * Im xml- und im zip-Format werden die Daten ber {@link XMLStreamSaver} geschrieben: Jeder Aufruf des
+	 * an <code>content</code> bergebenen Callbacks schreibt die bis dahin unterhalb des Wurzelelements
+	 * angelegten Elemente und gibt diese frei. In allen anderen Formaten wird zunchst das vollstndige
+	 * Dokument aufgebaut und dann per {@link #save(Element)} gespeichert.
+	 * @param rootName	Name des Wurzelelements
+	 * @param content	Erhlt das Wurzelelement und ein Callback zum Schreiben der bislang angelegten Unterelemente und legt die Unterelemente an
+	 * @return	Gibt an, ob die Daten erfolgreich gespeichert werden konnten.
+	 * @see XMLStreamSaver
+	 */
+	public boolean saveStreaming(final String rootName, final BiConsumer<Element,Runnable> content) {
+		if (output==null && file==null) {lastError=errorInternalErrorNoOutputObject; return false;}
+		final Element root=generateRoot(rootName);
+		if (root==null) return false;
+
+		FileType type=(file!=null)?getFileType(file):fileType;
+		if (type==FileType.AUTO) type=FileType.XML;
+		if (type!=FileType.XML && type!=FileType.ZIP_XML) {
+			content.accept(root,()->{});
+			return save(root);
+		}
+
+		if (output!=null) return saveStreamingToStream(output,root,type,content);
+		try (BufferedOutputStream fileOutput=new BufferedOutputStream(new FileOutputStream(file))) {
+			return saveStreamingToStream(fileOutput,root,type,content);
+		} catch (FileNotFoundException e) {lastError=String.format(errorOpeningFile,file.toString()); return false;} catch (IOException e) {lastError=String.format(errorClosingFile,file.toString()); return false;}
+	}
+
+	/**
+	 * Speichert xml-Daten schrittweise in dem angegebenen OutputStream.
+	 * @param stream	OutputStream, in dem die Daten gespeichert werden soll
+	 * @param root	Wurzelelement
+	 * @param fileType	Dateityp (nur {@link FileType#XML} und {@link FileType#ZIP_XML} sind zulssig)
+	 * @param content	Erhlt das Wurzelelement und ein Callback zum Schreiben der bislang angelegten Unterelemente und legt die Unterelemente an
+	 * @return	Gibt an, ob die Daten erfolgreich gespeichert werden konnten.
+	 * @see #saveStreaming(String, BiConsumer)
+	 */
+	private boolean saveStreamingToStream(final OutputStream stream, final Element root, final FileType fileType, final BiConsumer<Element,Runnable> content) {
+		final String fileName=(file==null)?"":file.toString();
+
+		if (fileType==FileType.ZIP_XML) {
+			try (ZipOutputStream zipOutput=new ZipOutputStream(stream)) {
+				try {zipOutput.putNextEntry(new ZipEntry("data.xml"));} catch (IOException e1) {lastError=String.format(errorZipCreatingFile,fileName); return false;}
+				return saveStreamingToStream(zipOutput,root,FileType.XML,content);
+			} catch (IOException e) {lastError=String.format(errorClosingFile,fileName); return false;}
+		}
+
+		try {
+			final XMLStreamSaver saver=new XMLStreamSaver(stream,root,false);
+			content.accept(root,()->{
+				try {saver.flush();} catch (IOException e) {throw new UncheckedIOException(e);}
+			});
+			saver.finish();
+			return true;
+		} catch (IOException | UncheckedIOException e) {
+			lastError=errorStreamProcessing;
+			return false;
+		}
+	}
+
 	/**
 	 * Ldt XML-Daten abhngig vom verwendeten Konstruktor aus einer Datei oder einem Stream
 	 * @return	Tritt ein Fehler auf, so wird <code>null</code> zurck gegeben, ansonsten das Root-Element der Daten
@@ -712,13 +810,14 @@ public final class XMLTools {
 			if (stream==null || stream.available()<2 || !stream.markSupported()) return FileType.XML;
 			try {
 				stream.mark(10);
-				final byte[] b=new byte[2];
+				final byte[] b=new byte[Math.min(stream.available(),XMLBinaryCodec.MAGIC.length)];
 				int read=0;
-				while (read<2) read+=stream.read(b,read,2-read);
+				while (read<b.length) read+=stream.read(b,read,b.length-read);
 
 				if (b[0]=='P' && b[1]=='K') return FileType.ZIP_XML;
 				if (b[0]=='{' && b[1]=='"') return FileType.JSON;
 				if (b[0]==31 && b[1]==-117) return FileType.TAR_XML;
+				if (XMLBinaryCodec.isBinaryXML(b,read)) return FileType.BINARY_XML;
 
 				return FileType.XML;
 			} finally {
@@ -785,6 +884,16 @@ public final class XMLTools {
 			return result;
 		}
 
+		if (type==FileType.BINARY_XML) {
+			try {
+				return XMLBinaryCodec.load(stream);
+			} catch (IOException e) {
+				final String s=(file==null)?"":file.toString();
+				lastError=String.format(errorXMLProcessFile,s);
+				return null;
+			}
+		}
+
 		if (type==FileType.ZIP_XML) {
 			try (ZipInputStream zipInput=new ZipInputStream(stream)) {
 				try {zipInput.getNextEntry();} catch (IOException e) {
@@ -878,12 +987,110 @@ public final class XMLTools {
 		if (file==null) {lastError="Es wurde keine Datei angegeben."; return null;}
 		if (!file.exists()) {lastError=String.format(errorFileDoesNotExists,file.toString()); return null;}
 
+		if (getFileType(file)==FileType.BINARY_XML) {
+			try {
+				return XMLBinaryCodec.load(file);
+			} catch (IOException e) {lastError=String.format(errorXMLProcessFile,file.toString()); return null;}
+		}
+
 		try (BufferedInputStream fileInput=new BufferedInputStream(new FileInputStream(file))) {
 			final FileType fileType=getFileType(file);
 			return loadFromStream(fileInput,fileType);
 		} catch (FileNotFoundException e1) {lastError=String.format(errorOpeningFile,file.toString()); return null;} catch (IOException e) {lastError=String.format(errorClosingFile,file.toString()); return null;}
 	}
 
+	/**
+	 * Ldt XML-Daten abhngig vom verwendeten Konstruktor schrittweise aus einer Datei oder einem Stream.<br>
+	 * Im xml-, zip- und tar-Format wird dabei nie das vollstndige Dokument aufgebaut, sondern es
+	 * werden die direkten Unterelemente des Wurzelelements nacheinander geladen, an den Empfnger
+	 * bergeben und danach wieder freigegeben. In allen anderen Formaten wird das Dokument per
+	 * {@link #load()} geladen und die Unterelemente werden danach an den Empfnger bergeben
+	 * (das Wurzelelement enthlt in diesem Fall bereits beim Aufruf von {@link XMLStreamLoader.Handler#loadRoot(Element)}
+	 * alle Unterelemente).
+	 * @param handler	Empfnger fr die geladenen Elemente
+	 * @return	Gibt an, ob die Daten erfolgreich geladen werden konnten (im Fehlerfall kann die Fehlermeldung per {@link #getError()} abgefragt werden)
+	 * @see XMLStreamLoader
+	 */
+	public boolean loadStreaming(final XMLStreamLoader.Handler handler) {
+		if (input!=null) return loadStreamingFromStream(input,fileType,handler);
+
+		if (inputText==null && file!=null) {
+			if (!file.exists()) {lastError=String.format(errorFileDoesNotExists,file.toString()); return false;}
+			final FileType type=getFileType(file);
+			if (type!=FileType.BINARY_XML) {
+				try (BufferedInputStream fileInput=new BufferedInputStream(new FileInputStream(file))) {
+					return loadStreamingFromStream(fileInput,type,handler);
+				} catch (FileNotFoundException e1) {lastError=String.format(errorOpeningFile,file.toString()); return false;} catch (IOException e) {lastError=String.format(errorClosingFile,file.toString()); return false;}
+			}
+		}
+
+		return loadStreamingFromElement(load(),handler);
+	}
+
+	/**
+	 * bergibt ein bereits vollstndig geladenes Dokument an den Empfnger.
+	 * @param root	Wurzelelement (kann <code>null</code> sein, wenn das Laden fehlgeschlagen ist)
+	 * @param handler	Empfnger fr die geladenen Elemente
+	 * @return	Gibt an, ob die Daten erfolgreich verarbeitet werden konnten
+	 * @see #loadStreaming(XMLStreamLoader.Handler)
+	 */
+	private boolean loadStreamingFromElement(final Element root, final XMLStreamLoader.Handler handler) {
+		if (root==null) return false;
+
+		lastError=handler.loadRoot(root);
+		if (lastError!=null) return false;
+
+		final NodeList list=root.getChildNodes();
+		final int length=list.getLength();
+		for (int i=0;i<length;i++) {
+			final Node node=list.item(i);
+			if (!(node instanceof Element)) continue;
+			lastError=handler.loadElement((Element)node);
+			if (lastError!=null) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Ldt XML-Daten schrittweise aus einem InputStream.
+	 * @param stream	InputStream, aus dem die Daten geladen werden soll
+	 * @param fileType	Dateityp
+	 * @param handler	Empfnger fr die geladenen Elemente
+	 * @return	Gibt an, ob die Daten erfolgreich geladen werden konnten
+	 * @see #loadStreaming(XMLStreamLoader.Handler)
+	 */
+	private boolean loadStreamingFromStream(final InputStream stream, final FileType fileType, final XMLStreamLoader.Handler handler) {
+		final FileType type=(fileType==FileType.AUTO)?guessFileTypeFromStream(stream):fileType;
+		final String fileName=(file==null)?"":file.toString();
+
+		if (type==FileType.ZIP_XML) {
+			try (ZipInputStream zipInput=new ZipInputStream(stream)) {
+				try {zipInput.getNextEntry();} catch (IOException e) {lastError=String.format(errorXMLProcessFile,fileName); return false;}
+				return loadStreamingFromStream(zipInput,FileType.XML,handler);
+			} catch (IOException e) {lastError=String.format(errorXMLProcessFile,fileName); return false;}
+		}
+
+		if (type==FileType.TAR_XML) {
+			try (GzipCompressorInputStream gzip=new GzipCompressorInputStream(stream)) {
+				try (TarArchiveInputStream tarInput=new TarArchiveInputStream(gzip)) {
+					try {tarInput.getNextEntry();} catch (IOException e) {lastError=String.format(errorXMLProcessFile,fileName); return false;}
+					return loadStreamingFromStream(tarInput,FileType.XML,handler);
+				}
+			} catch (IOException e) {lastError=String.format(errorClosingFile,fileName); return false;}
+		}
+
+		if (type!=FileType.XML) return loadStreamingFromElement(loadFromStream(stream,type),handler);
+
+		removeLeadingBlankLines(stream);
+		try {
+			lastError=XMLStreamLoader.load(stream,handler);
+			return lastError==null;
+		} catch (XMLStreamException e) {
+			lastError=errorXMLProcess;
+			return false;
+		}
+	}
+
 	/**
 	 * Zeigt einen Dialog zum Laden einer XML-Datei an
 	 * @param parent	bergeordnetes Element (muss nicht ein Fenster sein, kann auch ein <code>JPanel</code> sein
@@ -921,11 +1128,13 @@ public final class XMLTools {
 		final FileFilter tar=new FileNameExtensionFilter(fileTypeTARCompressedXML+" (*.tar.gz, *.tar, *.tgz)","tar.gz","tar","tgz");
 		final FileFilter json=new FileNameExtensionFilter(fileTypeJSON+" (*.json)","json");
 		final FileFilter cs=new FileNameExtensionFilter(fileTypeEncryptedXML+" (*.cs)","cs");
+		final FileFilter bxml=new FileNameExtensionFilter(fileTypeBinaryXML+" (*.bxml)","bxml");
 		fc.addChoosableFileFilter(xml);
 		fc.addChoosableFileFilter(zip);
 		fc.addChoosableFileFilter(tar);
 		fc.addChoosableFileFilter(json);
 		fc.addChoosableFileFilter(cs);
+		fc.addChoosableFileFilter(bxml);
 
 		if (userFilterNames==null) userFilterNames=new String[0];
 		if (userFilterExts==null) userFilterExts=new String[0];
@@ -945,6 +1154,7 @@ public final class XMLTools {
 		allTypes.add("tgz");
 		allTypes.add("json");
 		allTypes.add("cs");
+		allTypes.add("bxml");
 		if (userFilterExts!=null) allTypes.addAll(Arrays.asList(userFilterExts));
 		FileFilter all=new FileNameExtensionFilter(fileTypeAll,allTypes.toArray(new String[0]));
 		fc.addChoosableFileFilter(all);
@@ -959,6 +1169,7 @@ public final class XMLTools {
 			if (fc.getFileFilter()==tar) file=new File(file.getAbsoluteFile()+".tar.gz");
 			if (fc.getFileFilter()==json) file=new File(file.getAbsoluteFile()+".json");
 			if (fc.getFileFilter()==cs) file=new File(file.getAbsoluteFile()+".cs");
+			if (fc.getFileFilter()==bxml) file=new File(file.getAbsoluteFile()+".bxml");
 			for (int i=0;i<userCount;i++) if (fc.getFileFilter()==userFilter[i]) {
 				String[] s=userFilterExts[i].split(";");
 				file=new File(file.getAbsoluteFile()+"."+s[0]);
@@ -1005,17 +1216,20 @@ public final class XMLTools {
 		final FileFilter tar=new FileNameExtensionFilter(fileTypeTARCompressedXML+" (*.tar.gz)","tar.gz");
 		final FileFilter json=new FileNameExtensionFilter(fileTypeJSON+" (*.json)","json");
 		final FileFilter cs=new FileNameExtensionFilter(fileTypeEncryptedXML+" (*.cs)","cs");
+		final FileFilter bxml=new FileNameExtensionFilter(fileTypeBinaryXML+" (*.bxml)","bxml");
 		fc.addChoosableFileFilter(xml);
 		fc.addChoosableFileFilter(zip);
 		fc.addChoosableFileFilter(tar);
 		fc.addChoosableFileFilter(json);
 		fc.addChoosableFileFilter(cs);
+		fc.addChoosableFileFilter(bxml);
 		switch (defaultSaveFormat) {
 		case XML: fc.setFileFilter(xml); break;
 		case JSON: fc.setFileFilter(json); break;
 		case ZIP_XML: fc.setFileFilter(zip); break;
 		case TAR_XML:  fc.setFileFilter(tar); break;
 		case CRYPT_XML:  fc.setFileFilter(cs); break;
+		case BINARY_XML:  fc.setFileFilter(bxml); break;
 		default: fc.setFileFilter(xml); break;
 		}
 
@@ -1037,6 +1251,7 @@ public final class XMLTools {
 			if (fc.getFileFilter()==tar) file=new File(file.getAbsoluteFile()+".tar.gz");
 			if (fc.getFileFilter()==json) file=new File(file.getAbsoluteFile()+".json");
 			if (fc.getFileFilter()==cs) file=new File(file.getAbsoluteFile()+".cs");
+			if (fc.getFileFilter()==bxml) file=new File(file.getAbsoluteFile()+".bxml");
 			for (int i=0;i<userCount;i++) if (fc.getFileFilter()==userFilter[i]) {
 				String[] s=userFilterExts[i].split(";");
 				file=new File(file.getAbsoluteFile()+"."+s[0]);
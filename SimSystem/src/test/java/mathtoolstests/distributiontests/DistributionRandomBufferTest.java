@@ -0,0 +1,97 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests.distributiontests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.UniformRealDistribution;
+import org.apache.commons.math3.random.JDKRandomGenerator;
+import org.junit.jupiter.api.Test;
+
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.tools.DistributionRandomBuffer;
+import mathtools.distribution.tools.DistributionRandomNumber;
+
+/**
+ * Prft die Funktionsweise von {@link DistributionRandomBuffer}
+ * @author Alexander Herzog
+ * @see DistributionRandomBuffer
+ */
+class DistributionRandomBufferTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public DistributionRandomBufferTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Bei nur einer Verteilung liefert der Puffer dieselbe Folge wie der Einzelabruf
+	 */
+	@Test
+	void sameSequenceTest() {
+		final AbstractRealDistribution[] distributions=new AbstractRealDistribution[] {
+				new ExponentialDistribution(null,50),
+				new UniformRealDistribution(null,10,20),
+				new NormalDistribution(null,1,2),
+				new ChiSquaredDistribution(null,3),
+				new DataDistributionImpl(100,new double[] {1,2,0,3,4})
+		};
+
+		for (AbstractRealDistribution dist: distributions) {
+			final JDKRandomGenerator generator1=new JDKRandomGenerator(4321);
+			final JDKRandomGenerator generator2=new JDKRandomGenerator(4321);
+			final DistributionRandomBuffer buffer=new DistributionRandomBuffer(1,100);
+			for (int i=0;i<1000;i++) {
+				final double value=buffer.randomNonNegative(0,generator2,dist);
+				assertEquals(DistributionRandomNumber.randomNonNegative(generator1,dist),value);
+				assertTrue(value>=0);
+			}
+		}
+	}
+
+	/**
+	 * Test: Wechsel der Verteilung auf einem Platz und Einzelabruf bei ausgeschaltetem Puffer
+	 */
+	@Test
+	void distributionChangeTest() {
+		final UniformRealDistribution dist1=new UniformRealDistribution(null,0,1);
+		final UniformRealDistribution dist2=new UniformRealDistribution(null,100,101);
+		final JDKRandomGenerator generator=new JDKRandomGenerator(1);
+
+		final DistributionRandomBuffer buffer=new DistributionRandomBuffer(2,DistributionRandomBuffer.DEFAULT_BLOCK_SIZE);
+		assertTrue(buffer.randomNonNegative(0,generator,dist1)<=1);
+		assertTrue(buffer.randomNonNegative(1,generator,dist2)>=100);
+		assertTrue(buffer.randomNonNegative(0,generator,dist2)>=100);
+		assertTrue(buffer.randomNonNegative(0,generator,dist1)<=1);
+
+		final JDKRandomGenerator generator1=new JDKRandomGenerator(7);
+		final JDKRandomGenerator generator2=new JDKRandomGenerator(7);
+		final DistributionRandomBuffer noBuffer=new DistributionRandomBuffer(2,0);
+		for (int i=0;i<100;i++) {
+			assertEquals(DistributionRandomNumber.randomNonNegative(generator1,dist1),noBuffer.randomNonNegative(0,generator2,dist1));
+			assertEquals(DistributionRandomNumber.randomNonNegative(generator1,dist2),noBuffer.randomNonNegative(1,generator2,dist2));
+		}
+	}
+}
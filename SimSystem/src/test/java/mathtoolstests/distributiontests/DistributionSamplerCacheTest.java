@@ -0,0 +1,115 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests.distributiontests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.math3.distribution.AbstractRealDistribution;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.apache.commons.math3.random.JDKRandomGenerator;
+import org.junit.jupiter.api.Test;
+
+import mathtools.distribution.DataDistributionImpl;
+import mathtools.distribution.PertDistributionImpl;
+import mathtools.distribution.tools.DistributionRandomNumber;
+import mathtools.distribution.tools.DistributionSamplerCache;
+import mathtools.distribution.tools.DistributionSamplerGuideTable;
+import mathtools.distribution.tools.DistributionSamplerInverseTable;
+import mathtools.distribution.tools.DistributionTools;
+
+/**
+ * Prft die Funktionsweise von {@link DistributionSamplerCache}
+ * @author Alexander Herzog
+ * @see DistributionSamplerCache
+ * @see DistributionSamplerGuideTable
+ * @see DistributionSamplerInverseTable
+ */
+class DistributionSamplerCacheTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public DistributionSamplerCacheTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Die Fhrungstabelle liefert dieselben Zufallszahlen wie die empirische Verteilung selbst
+	 */
+	@Test
+	void guideTableTest() {
+		final double[] density=new double[500];
+		for (int i=0;i<density.length;i++) density[i]=(i%7==0)?0:((i*37)%101);
+		final DataDistributionImpl dist=new DataDistributionImpl(1000,density);
+
+		final DistributionSamplerCache cache=new DistributionSamplerCache(0);
+		final AbstractRealDistribution sampler=cache.get(dist);
+		assertTrue(sampler instanceof DistributionSamplerGuideTable);
+		assertSame(sampler,cache.get(dist.clone()));
+		assertSame(sampler,DistributionTools.cloneDistribution(sampler));
+
+		/* Zufllige Werte */
+		final JDKRandomGenerator generator1=new JDKRandomGenerator(1234);
+		final JDKRandomGenerator generator2=new JDKRandomGenerator(1234);
+		for (int i=0;i<100_000;i++) assertEquals(DistributionRandomNumber.random(generator1,dist),DistributionRandomNumber.random(generator2,sampler));
+
+		/* Grenzflle genau auf den Stufen der Verteilungsfunktion */
+		for (int i=0;i<density.length;i++) {
+			final double p=dist.cumulativeDensity[i];
+			assertEquals(dist.random(new DummyRandomGenerator(p)),DistributionRandomNumber.random(new DummyRandomGenerator(p),sampler));
+			final double p2=Math.nextDown(p);
+			assertEquals(dist.random(new DummyRandomGenerator(p2)),DistributionRandomNumber.random(new DummyRandomGenerator(p2),sampler));
+		}
+		assertEquals(dist.random(new DummyRandomGenerator(0.0)),DistributionRandomNumber.random(new DummyRandomGenerator(0.0),sampler));
+	}
+
+	/**
+	 * Test: Die Tabelle der Umkehrfunktion liefert nherungsweise dieselben Werte wie die exakte Umkehrfunktion
+	 */
+	@Test
+	void inverseTableTest() {
+		final DistributionSamplerCache cache=new DistributionSamplerCache(DistributionSamplerCache.DEFAULT_TABLE_SIZE);
+
+		/* Verteilungen mit direktem Verfahren werden nicht ersetzt */
+		final ExponentialDistribution exp=new ExponentialDistribution(null,10);
+		assertSame(exp,cache.get(exp));
+
+		/* Ohne Tabellengre werden keine Nherungen verwendet */
+		final PertDistributionImpl pert=new PertDistributionImpl(10,30,100);
+		assertSame(pert,new DistributionSamplerCache(0).get(pert));
+
+		final AbstractRealDistribution[] distributions=new AbstractRealDistribution[] {pert,new ChiSquaredDistribution(null,5)};
+		for (AbstractRealDistribution dist: distributions) {
+			final AbstractRealDistribution sampler=cache.get(dist);
+			assertTrue(sampler instanceof DistributionSamplerInverseTable);
+			assertSame(sampler,cache.get(DistributionTools.cloneDistribution(dist)));
+			assertEquals(dist.getNumericalMean(),sampler.getNumericalMean());
+
+			final double range=dist.inverseCumulativeProbability(0.99)-dist.inverseCumulativeProbability(0.01);
+			for (int i=0;i<=10_000;i++) {
+				final double p=i/10_000.0*0.999999;
+				final double exact=dist.inverseCumulativeProbability(p);
+				final double table=DistributionRandomNumber.random(new DummyRandomGenerator(p),sampler);
+				assertEquals(exact,table,range*1E-5);
+			}
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mathtoolstests.distributiontests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import mathtools.distribution.tools.SeedableThreadLocalRandomGenerator;
+import mathtools.distribution.tools.SplittableRandomGenerator;
+
+/**
+ * Prft die Funktionsweise von {@link SplittableRandomGenerator}
+ * und {@link SeedableThreadLocalRandomGenerator}
+ * @author Alexander Herzog
+ * @see SplittableRandomGenerator
+ * @see SeedableThreadLocalRandomGenerator
+ */
+class SplittableRandomGeneratorTests {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public SplittableRandomGeneratorTests() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Reproduzierbarkeit der Teilstrme
+	 */
+	@Test
+	void substreamTest() {
+		final SplittableRandomGenerator generator1=new SplittableRandomGenerator();
+		final SplittableRandomGenerator generator2=new SplittableRandomGenerator();
+
+		/* Gleicher Seed und gleicher Teilstrom liefern dieselbe Folge - auch bei anderer Reihenfolge */
+		generator1.setSeed(42,3);
+		final double[] values=new double[100];
+		for (int i=0;i<values.length;i++) values[i]=generator1.nextDouble();
+
+		generator2.setSeed(42,7);
+		generator2.nextDouble();
+		generator2.setSeed(42,3);
+		for (int i=0;i<values.length;i++) assertEquals(values[i],generator2.nextDouble());
+
+		/* Andere Teilstrme liefern andere Folgen */
+		generator2.setSeed(42,4);
+		assertNotEquals(values[0],generator2.nextDouble());
+		generator2.setSeed(43,3);
+		assertNotEquals(values[0],generator2.nextDouble());
+	}
+
+	/**
+	 * Test: Wertebereiche der erzeugten Zahlen
+	 */
+	@Test
+	void rangeTest() {
+		final SplittableRandomGenerator generator=new SplittableRandomGenerator(1);
+
+		double sum=0;
+		final int count=100_000;
+		for (int i=0;i<count;i++) {
+			final double d=generator.nextDouble();
+			assertTrue(d>=0 && d<1);
+			sum+=d;
+			final int n=generator.nextInt(7);
+			assertTrue(n>=0 && n<7);
+			final float f=generator.nextFloat();
+			assertTrue(f>=0 && f<1);
+		}
+		assertEquals(0.5,sum/count,0.01);
+
+		final byte[] bytes=new byte[13];
+		generator.nextBytes(bytes);
+	}
+
+	/**
+	 * Test: Thread-lokale Generatoren
+	 * @throws InterruptedException	Wird ausgelst, wenn das Warten auf den zweiten Thread unterbrochen wurde
+	 */
+	@Test
+	void threadLocalTest() throws InterruptedException {
+		final SeedableThreadLocalRandomGenerator seedable=new SeedableThreadLocalRandomGenerator();
+		assertSame(seedable.getGenerator(),seedable.getGenerator());
+
+		final SplittableRandomGenerator[] otherThreadGenerator=new SplittableRandomGenerator[1];
+		final Thread thread=new Thread(()->otherThreadGenerator[0]=seedable.getGenerator());
+		thread.start();
+		thread.join();
+		assertTrue(otherThreadGenerator[0]!=seedable.getGenerator());
+
+		seedable.setSeed(5,2);
+		final double d=seedable.nextDouble();
+		final SplittableRandomGenerator reference=new SplittableRandomGenerator();
+		reference.setSeed(5,2);
+		assertEquals(reference.nextDouble(),d);
+	}
+}
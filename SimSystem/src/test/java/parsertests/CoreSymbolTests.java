@@ -16,8 +16,11 @@
 package parsertests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.BitSet;
+
 import org.junit.jupiter.api.Test;
 
 import parser.CalcSystem;
@@ -243,4 +246,32 @@ class CoreSymbolTests {
 			assertTrue(false);
 		}
 	}
+
+	/**
+	 * Test: Ermittlung der Variablen, von denen ein Ausdruck abhngt
+	 */
+	@Test
+	void variableDependenciesTest() {
+		CalcSystem calc;
+		BitSet variables;
+
+		calc=new CalcSystem("42");
+		assertTrue(calc.parse()<0);
+		variables=new BitSet();
+		assertTrue(calc.getVariableDependencies(variables));
+		assertTrue(variables.isEmpty());
+
+		calc=new CalcSystem("min(a+1;(c*2)!)-sqrt(a)",new String[]{"a","b","c"});
+		assertTrue(calc.parse()<0);
+		variables=new BitSet();
+		assertTrue(calc.getVariableDependencies(variables));
+		assertEquals(2,variables.cardinality());
+		assertTrue(variables.get(0));
+		assertFalse(variables.get(1));
+		assertTrue(variables.get(2));
+
+		calc=new CalcSystem("a+random()",new String[]{"a"});
+		assertTrue(calc.parse()<0);
+		assertFalse(calc.getVariableDependencies(new BitSet()));
+	}
 }
@@ -0,0 +1,134 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simcoretests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+import simcore.ReplicationScheduler;
+
+/**
+ * Prft die Funktionsweise von {@link ReplicationScheduler}
+ * @author Alexander Herzog
+ * @see ReplicationScheduler
+ */
+class ReplicationSchedulerTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public ReplicationSchedulerTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Ruft alle Wiederholungen aus einem Verteiler ber mehrere parallele Threads ab
+	 * und prft, dass jede Wiederholung genau einmal vergeben wurde.
+	 * @param days	Gesamtanzahl an Wiederholungen
+	 * @param threadCount	Anzahl an Threads
+	 * @param workStealing	Work-Stealing verwenden?
+	 * @param slowThread	Nummer eines Threads, der jede Wiederholung verzgert bearbeitet (oder -1 fr keinen)
+	 * @return	Anzahl an Wiederholungen pro Thread
+	 */
+	private static int[] runParallel(final int days, final int threadCount, final boolean workStealing, final int slowThread) {
+		final ReplicationScheduler scheduler=new ReplicationScheduler(days,threadCount,workStealing);
+		assertEquals(days,scheduler.getDays());
+
+		final AtomicIntegerArray count=new AtomicIntegerArray(days);
+		final int[] perThread=new int[threadCount];
+		final long[] firstDay=new long[threadCount];
+		final List<Thread> threads=new ArrayList<>();
+		for (int i=0;i<threadCount;i++) {
+			final int threadNr=i;
+			threads.add(new Thread(()->{
+				firstDay[threadNr]=-1;
+				long day;
+				while ((day=scheduler.nextDay(threadNr))>=0) {
+					if (perThread[threadNr]==0) firstDay[threadNr]=day;
+					count.incrementAndGet((int)day);
+					perThread[threadNr]++;
+					if (threadNr==slowThread) try {Thread.sleep(2);} catch (InterruptedException e) {}
+				}
+			}));
+		}
+		for (Thread thread: threads) thread.start();
+		for (Thread thread: threads) try {thread.join();} catch (InterruptedException e) {}
+
+		for (int i=0;i<days;i++) assertEquals(1,count.get(i));
+		int sum=0;
+		for (int i=0;i<threadCount;i++) sum+=perThread[i];
+		assertEquals(days,sum);
+
+		/* Jeder Thread erhlt (sofern genug Wiederholungen vorhanden sind) zuerst eine eigene Wiederholung */
+		if (!workStealing) for (int i=0;i<Math.min(days,threadCount);i++) assertEquals(i,firstDay[i]);
+
+		return perThread;
+	}
+
+	/**
+	 * Test: Verteilung ber einen gemeinsamen Zhler
+	 */
+	@Test
+	void sharedTest() {
+		runParallel(0,4,false,-1);
+		runParallel(3,8,false,-1);
+		runParallel(1000,4,false,-1);
+		runParallel(200,4,false,0);
+		runParallel(17,1,false,-1);
+
+		final ReplicationScheduler scheduler=new ReplicationScheduler(5,2,false);
+		assertEquals(1,scheduler.nextDay(1));
+		assertEquals(2,scheduler.nextDay(1));
+		assertEquals(0,scheduler.nextDay(0));
+		assertEquals(3,scheduler.nextDay(0));
+		assertEquals(0,scheduler.getStealCount());
+	}
+
+	/**
+	 * Test: Verteilung ber Blcke mit Work-Stealing
+	 */
+	@Test
+	void workStealingTest() {
+		runParallel(0,4,true,-1);
+		runParallel(3,8,true,-1);
+		runParallel(1000,4,true,-1);
+		runParallel(17,1,true,-1);
+
+		/* Ein langsamer Thread: Die brigen Threads bernehmen einen Teil seines Blocks */
+		final int[] perThread=runParallel(200,4,true,0);
+		assertTrue(perThread[0]<50);
+
+		/* Sequentieller Ablauf: erst der eigene Block, dann die hintere Hlfte des grten verbliebenen Blocks (ein noch nicht gestarteter Thread behlt mindestens eine Wiederholung) */
+		final ReplicationScheduler scheduler=new ReplicationScheduler(10,2,true);
+		for (int i=0;i<5;i++) assertEquals(i,scheduler.nextDay(0));
+		assertEquals(7,scheduler.nextDay(0));
+		assertEquals(1,scheduler.getStealCount());
+		assertEquals(5,scheduler.nextDay(1));
+		assertEquals(8,scheduler.nextDay(0));
+		assertEquals(6,scheduler.nextDay(1));
+		assertEquals(9,scheduler.nextDay(0));
+		assertEquals(-1,scheduler.nextDay(1));
+		assertEquals(-1,scheduler.nextDay(0));
+	}
+}
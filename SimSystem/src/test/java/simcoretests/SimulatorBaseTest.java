@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -39,7 +40,9 @@ import simcore.eventcache.HashMapEventCache;
 import simcore.eventcache.ListEventCache;
 import simcore.eventcache.ListEventCacheLocked;
 import simcore.eventcache.NoEventCache;
+import simcore.eventmanager.CalendarQueueEventManager;
 import simcore.eventmanager.EventManager;
+import simcore.eventmanager.IndexedHeapEventManager;
 import simcore.eventmanager.LongRunMultiPriorityQueueEventManager;
 import simcore.eventmanager.LongRunMultiSortedArrayListEventManager;
 import simcore.eventmanager.MapEventManager;
@@ -112,6 +115,8 @@ class SimulatorBaseTest {
 		managers.add(()->new MultiArrayEventManagerWithHeapSort());
 		managers.add(()->new MultiPriorityQueueEventManager());
 		managers.add(()->new PriorityQueueEventManager());
+		managers.add(()->new CalendarQueueEventManager());
+		managers.add(()->new IndexedHeapEventManager());
 		/* managers.add(()->new TwoListsEventManager()); */
 	}
 
@@ -482,6 +487,33 @@ class SimulatorBaseTest {
 		}
 	}
 
+	/**
+	 * Test: Reihenfolge der Ereignisse bei vielen zuflligen Einfge- und Lschvorgngen
+	 */
+	@Test
+	void testEventManagerOrder() {
+		for (Supplier<EventManager> manager: managers) {
+			final EventManager eventManager=manager.get();
+			final SimData simData=new SimData(eventManager,new NoEventCache(),0,1);
+			final Random random=new Random(1);
+			final List<Long> times=new ArrayList<>();
+			final List<EventTestImpl> events=new ArrayList<>();
+			for (int i=0;i<20_000;i++) {
+				final long time=(i%10==0)?(1_000_000+random.nextInt(100_000_000)):random.nextInt(1_000_000);
+				final EventTestImpl event=new EventTestImpl(time,i,e->times.add(e.time));
+				events.add(event);
+				eventManager.addEvent(event);
+			}
+			for (int i=0;i<events.size();i+=3) eventManager.deleteEvent(events.get(i),simData);
+			eventManager.executeNextEvents(simData,Integer.MAX_VALUE,Integer.MAX_VALUE);
+
+			assertEquals(events.size()-(events.size()+2)/3,times.size());
+			assertEquals((events.size()+2)/3,eventManager.deletedEventCount()+eventManager.tombstoneEventCount());
+			for (int i=1;i<times.size();i++) assertTrue(times.get(i-1)<=times.get(i));
+			assertEquals(0,eventManager.eventQueueLength());
+		}
+	}
+
 	/**
 	 * Test: Logging
 	 */
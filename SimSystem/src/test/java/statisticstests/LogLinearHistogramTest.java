@@ -0,0 +1,112 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package statisticstests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import statistics.LogLinearHistogram;
+
+/**
+ * Testet die Funktionsweise von {@link LogLinearHistogram}
+ * @author Alexander Herzog
+ * @see LogLinearHistogram
+ */
+class LogLinearHistogramTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public LogLinearHistogramTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Kleine Indices werden exakt erfasst
+	 */
+	@Test
+	void exactRangeTest() {
+		final LogLinearHistogram histogram=new LogLinearHistogram();
+		for (int i=0;i<2*LogLinearHistogram.SUB_BUCKETS;i++) histogram.add(i,i+1);
+
+		final double[] density=new double[2*LogLinearHistogram.SUB_BUCKETS];
+		histogram.addTo(density);
+		for (int i=0;i<density.length;i++) assertEquals(i+1,density[i]);
+	}
+
+	/**
+	 * Test: Relativer Fehler bei groen Indices
+	 */
+	@Test
+	void relativeErrorTest() {
+		final double maxError=1.0/(1<<(LogLinearHistogram.PRECISION_BITS+1));
+		for (int index: new int[] {256,257,1000,4711,65_535,100_000,3_600_000}) {
+			final LogLinearHistogram histogram=new LogLinearHistogram();
+			histogram.add(index,1);
+			assertEquals(1,histogram.getSum());
+
+			final double[] density=new double[2*index];
+			histogram.addTo(density);
+			int found=-1;
+			for (int i=0;i<density.length;i++) if (density[i]>0) {found=i; break;}
+			assertTrue(found>=0);
+			assertTrue(Math.abs(found-index)<=maxError*index);
+		}
+	}
+
+	/**
+	 * Test: Zu groe Indices werden dem letzten Eintrag zugeschlagen
+	 */
+	@Test
+	void overflowTest() {
+		final LogLinearHistogram histogram=new LogLinearHistogram();
+		histogram.add(5000,2);
+		final double[] density=new double[100];
+		histogram.addTo(density);
+		assertEquals(2,density[99]);
+	}
+
+	/**
+	 * Test: Zusammenfhren, Kopieren und Zurcksetzen
+	 */
+	@Test
+	void addCloneClearTest() {
+		final LogLinearHistogram histogram1=new LogLinearHistogram();
+		final LogLinearHistogram histogram2=new LogLinearHistogram();
+		histogram1.add(3,1);
+		histogram1.add(10_000,2);
+		histogram2.add(3,4);
+		histogram2.add(1_000_000,8);
+
+		histogram1.add(histogram2);
+		assertEquals(15,histogram1.getSum());
+		assertEquals(12,histogram2.getSum());
+
+		final LogLinearHistogram histogram3=histogram1.clone();
+		histogram1.clear();
+		assertEquals(0,histogram1.getSum());
+		assertEquals(15,histogram3.getSum());
+
+		final double[] density=new double[10];
+		histogram3.addTo(density);
+		assertEquals(5,density[3]);
+		assertEquals(10,density[9]);
+	}
+}
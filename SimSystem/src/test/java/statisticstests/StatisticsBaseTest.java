@@ -0,0 +1,105 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package statisticstests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import statistics.StatisticsBase;
+import statistics.StatisticsDataPerformanceIndicator;
+import statistics.StatisticsMultiPerformanceIndicator;
+
+/**
+ * Testet die Funktionsweise von {@link StatisticsBase}
+ * @author Alexander Herzog
+ * @see StatisticsBase
+ */
+class StatisticsBaseTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public StatisticsBaseTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Minimales Statistik-Objekt fr die Tests
+	 */
+	private static class TestStatistics extends StatisticsBase {
+		/** Einzelne Kenngre */
+		public final StatisticsDataPerformanceIndicator all;
+		/** Mehrfach-Kenngre */
+		public final StatisticsMultiPerformanceIndicator multi;
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public TestStatistics() {
+			addPerformanceIndicator(all=new StatisticsDataPerformanceIndicator(new String[]{"All"},1000,1000,-1,1,true));
+			addPerformanceIndicator(multi=new StatisticsMultiPerformanceIndicator(new String[]{"Multi"},new StatisticsDataPerformanceIndicator(new String[]{"Sub"},1000,1000,-1,1,true,true)));
+		}
+
+		@Override
+		public String[] getRootNodeNames() {
+			return new String[]{"Test"};
+		}
+	}
+
+	/**
+	 * Test: Paralleles Zusammenfhren mehrerer Statistik-Objekte liefert dasselbe Ergebnis wie das sequentielle Zusammenfhren
+	 */
+	@Test
+	void addDataListTest() {
+		final List<TestStatistics> partials=new ArrayList<>();
+		for (int i=0;i<8;i++) {
+			final TestStatistics partial=new TestStatistics();
+			for (int j=0;j<1000;j++) {
+				final double value=((i+1)*j*0.37)%900;
+				partial.all.add(value);
+				((StatisticsDataPerformanceIndicator)partial.multi.get((j%(3+i)==0)?"a":("Station "+(j%(5+i))))).add(value);
+			}
+			partials.add(partial);
+		}
+
+		final TestStatistics sequential=new TestStatistics();
+		for (TestStatistics partial: partials) sequential.addData(partial);
+		final TestStatistics parallel=new TestStatistics();
+		parallel.addData(partials);
+
+		assertEquals(sequential.all.getCount(),parallel.all.getCount());
+		assertEquals(sequential.all.getSum(),parallel.all.getSum());
+		assertEquals(sequential.all.getSD(),parallel.all.getSD());
+		assertArrayEquals(sequential.all.getDistribution().densityData,parallel.all.getDistribution().densityData);
+
+		assertArrayEquals(sequential.multi.getNames(),parallel.multi.getNames());
+		for (String name: sequential.multi.getNames()) {
+			final StatisticsDataPerformanceIndicator indicator1=(StatisticsDataPerformanceIndicator)sequential.multi.get(name);
+			final StatisticsDataPerformanceIndicator indicator2=(StatisticsDataPerformanceIndicator)parallel.multi.get(name);
+			assertEquals(indicator1.getCount(),indicator2.getCount());
+			assertEquals(indicator1.getSum(),indicator2.getSum());
+			assertEquals(indicator1.getSD(),indicator2.getSD());
+			assertEquals(indicator1.getMedian(),indicator2.getMedian());
+		}
+	}
+}
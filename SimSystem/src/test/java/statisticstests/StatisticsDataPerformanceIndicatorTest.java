@@ -21,6 +21,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -31,6 +39,7 @@ import org.w3c.dom.Element;
 
 import mathtools.distribution.DataDistributionImpl;
 import statistics.StatisticsDataPerformanceIndicator;
+import statistics.StatisticsPerformanceIndicator;
 
 /**
  * Testet die Funktionsweise von {@link StatisticsDataPerformanceIndicator}
@@ -389,6 +398,70 @@ class StatisticsDataPerformanceIndicatorTest {
 		assertTrue(collector.getCorrelationLevelDistance(0.9)<collector.getCorrelationLevelDistance(0.1));
 	}
 
+	/**
+	 * Berechnet die Autokorrelation auf Basis der Einzelwert-Verarbeitung ber einen Ringpuffer
+	 * (als Referenz fr die blockweise Verarbeitung).
+	 * @param values	Messwerte
+	 * @param correlationRange	Reichweite fr die Erfassung der Autokorrelation
+	 * @param mean	Mittelwert der Messwerte
+	 * @param var	Varianz der Messwerte
+	 * @return	Autokorrelationskoeffizienten
+	 */
+	private double[] referenceCorrelation(final double[] values, final int correlationRange, final double mean, final double var) {
+		final int stepping=StatisticsDataPerformanceIndicator.CORRELATION_RANGE_STEPPING;
+		final double[] temp=new double[correlationRange+stepping];
+		final double[] sums=new double[temp.length/stepping];
+		for (int n=1;n<=values.length;n++) {
+			final double value=values[n-1];
+			temp[(n-1)%temp.length]=value;
+			final int m=Math.min(temp.length,n)/stepping;
+			if (value!=0.0) for (int k=1;k<m;k++) {
+				final double valueMinusK=temp[(n-1+temp.length-k*stepping)%temp.length];
+				if (valueMinusK!=0.0) sums[k]+=value*valueMinusK;
+			}
+		}
+
+		final long count=values.length;
+		final double[] correlation=new double[sums.length];
+		correlation[0]=1;
+		for (int k=1;k<sums.length;k++) {
+			if (k*stepping>count) continue;
+			final double corr=(sums[k]-(count-k*stepping)*mean*mean);
+			if (count>0 && var>0) correlation[k]=corr/count/var;
+		}
+		return correlation;
+	}
+
+	/**
+	 * Test: Die blockweise Berechnung der Autokorrelation liefert exakt dieselben Werte wie die Einzelwert-Verarbeitung
+	 */
+	@Test
+	void correlationBlockTest() {
+		for (int correlationRange: new int[] {5,100,3000}) for (int count: new int[] {7,2500,10_000}) {
+			final double[] values=new double[count];
+			for (int i=0;i<count;i++) values[i]=(i%13==0)?0:((i*7919)%1000)/7.0;
+
+			/* Einzelnes Objekt */
+			final StatisticsDataPerformanceIndicator collector=new StatisticsDataPerformanceIndicator(new String[]{"xml"},1000,1000,correlationRange,0,false);
+			for (double value: values) collector.add(value);
+			assertArrayEquals(referenceCorrelation(values,correlationRange,collector.getMean(),collector.getVar()),collector.getCorrelationData());
+
+			/* Kopie whrend der Erfassung */
+			StatisticsDataPerformanceIndicator collector2=new StatisticsDataPerformanceIndicator(new String[]{"xml"},1000,1000,correlationRange,0,false);
+			for (int i=0;i<count/2;i++) collector2.add(values[i]);
+			collector2=collector2.clone();
+			for (int i=count/2;i<count;i++) collector2.add(values[i]);
+			assertArrayEquals(referenceCorrelation(values,correlationRange,collector2.getMean(),collector2.getVar()),collector2.getCorrelationData());
+
+			/* Zusammenfhren */
+			final StatisticsDataPerformanceIndicator collector3=new StatisticsDataPerformanceIndicator(new String[]{"xml"},1000,1000,correlationRange,0,false);
+			for (double value: values) collector3.add(value);
+			final StatisticsDataPerformanceIndicator total=new StatisticsDataPerformanceIndicator(new String[]{"xml"},1000,1000,correlationRange,0,false);
+			total.add(collector3);
+			assertArrayEquals(referenceCorrelation(values,correlationRange,total.getMean(),total.getVar()),total.getCorrelationData());
+		}
+	}
+
 	/**
 	 * Test: Daten in xml-Dokument schreiben und aus diesem wieder laden
 	 */
@@ -422,4 +495,128 @@ class StatisticsDataPerformanceIndicatorTest {
 		assertTrue(collector.isCorrelationAvailable());
 		assertEquals(2,collector.getBatchCount());
 	}
+
+	/**
+	 * Test: Erfassung der Verteilung im kompakten Histogramm
+	 */
+	@Test
+	void compactDistributionTest() {
+		StatisticsDataPerformanceIndicator collector, collector2, reference;
+
+		collector=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100_000,100_000,-1,1,false,false,true);
+		collector2=collector.cloneEmpty();
+		reference=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100_000,100_000);
+		for (int i=0;i<100_000;i++) {
+			final double value=(i*7919)%100_000;
+			if (i%2==0) collector.add(value); else collector2.add(value);
+			reference.add(value);
+		}
+		collector.add(collector2);
+
+		/* Kenngren, die nicht auf der Verteilung beruhen, bleiben exakt */
+		assertEquals(reference.getCount(),collector.getCount());
+		assertEquals(reference.getSum(),collector.getSum());
+		assertEquals(reference.getMin(),collector.getMin());
+		assertEquals(reference.getMax(),collector.getMax());
+
+		/* Quantile mit beschrnktem relativen Fehler */
+		for (double p: new double[] {0.01,0.1,0.25,0.5,0.75,0.9,0.99}) {
+			final double exact=reference.getQuantil(p);
+			assertEquals(exact,collector.getQuantil(p),exact/256+1);
+		}
+
+		/* Verteilung vollstndig */
+		final DataDistributionImpl dist=collector.getDistribution();
+		assertNotNull(dist);
+		assertEquals(100_000,dist.densityData.length);
+		assertEquals(reference.getDistribution().sum(),dist.sum(),0.000001);
+
+		/* Kleine Werte werden exakt erfasst */
+		collector=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100,100,-1,1,false,false,true);
+		collector.add(0);
+		collector.add(1);
+		collector.add(2);
+		collector.add(3);
+		collector.add(4);
+		collector2=collector.clone();
+		assertEquals(2,collector2.getMedian());
+		final double[] data=new double[100];
+		for (int i=0;i<5;i++) data[i]=1;
+		assertArrayEquals(data,collector.getDistribution().densityData,0.000001);
+
+		/* Zusammenfhren in ein Objekt ohne kompakte Verteilung */
+		collector2=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100,100,-1,1,false,false,true);
+		collector2.add(7,3);
+		reference=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100,100);
+		reference.add(collector2);
+		assertEquals(3,reference.getDistribution().densityData[7]);
+		assertEquals(7,reference.getMedian());
+	}
+
+	/**
+	 * Test: Beim Kopieren wird die Art der Verteilungserfassung (vollstndig oder kompakt) aus dem Quellobjekt bernommen
+	 * @throws ReflectiveOperationException	Fehler beim Zugriff auf die geschtzte Kopiermethode
+	 */
+	@Test
+	void copyCompactDistributionTest() throws ReflectiveOperationException {
+		final Method copyDataFrom=StatisticsDataPerformanceIndicator.class.getDeclaredMethod("copyDataFrom",StatisticsPerformanceIndicator.class);
+		copyDataFrom.setAccessible(true);
+
+		final StatisticsDataPerformanceIndicator compact=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100,100,-1,1,false,false,true);
+		compact.add(3);
+		compact.add(5,2);
+
+		final StatisticsDataPerformanceIndicator full=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100,100,-1,1,false,false,true);
+		full.add(50,7);
+		assertEquals(7,full.getDistribution().densityData[50]); /* Vollstndige Verteilung anlegen */
+
+		/* Kompakte Daten ber ein Objekt mit vollstndiger Verteilung kopieren: alte Verteilung darf nicht erhalten bleiben */
+		copyDataFrom.invoke(full,compact);
+		double[] expected=new double[100];
+		expected[3]=1;
+		expected[5]=2;
+		assertArrayEquals(expected,full.getDistribution().densityData,0.000001);
+		assertEquals(5,full.getMedian());
+
+		/* Vollstndige Daten ber ein Objekt mit kompaktem Histogramm kopieren: altes Histogramm darf nicht erhalten bleiben */
+		final StatisticsDataPerformanceIndicator compact2=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100,100,-1,1,false,false,true);
+		compact2.add(80,4);
+		final StatisticsDataPerformanceIndicator source=new StatisticsDataPerformanceIndicator(new String[]{"xml"},100,100);
+		source.add(10);
+		copyDataFrom.invoke(compact2,source);
+		expected=new double[100];
+		expected[10]=1;
+		assertArrayEquals(expected,compact2.getDistribution().densityData,0.000001);
+		assertEquals(10,compact2.getQuantil(0.9));
+	}
+
+	/**
+	 * Test: Gleichzeitige lesende Zugriffe auf ein Objekt mit kompaktem Histogramm
+	 * @throws InterruptedException	Unterbrechung beim Warten auf die Threads
+	 * @throws ExecutionException	Fehler in einem der Threads
+	 */
+	@Test
+	void concurrentReadTest() throws InterruptedException, ExecutionException {
+		final StatisticsDataPerformanceIndicator reference=new StatisticsDataPerformanceIndicator(new String[]{"xml"},10_000,10_000);
+		for (int i=0;i<10_000;i++) reference.add((i*7919)%10_000);
+		final double[] p=new double[] {0.1,0.5,0.9};
+		final double[] expected=reference.getQuantil(p);
+
+		final ExecutorService executor=Executors.newFixedThreadPool(4);
+		try {
+			for (int run=0;run<50;run++) {
+				final StatisticsDataPerformanceIndicator collector=new StatisticsDataPerformanceIndicator(new String[]{"xml"},10_000,10_000,-1,1,false,false,true);
+				for (int i=0;i<10_000;i++) collector.add((i*7919)%10_000);
+				final List<Future<double[]>> results=new ArrayList<>();
+				for (int i=0;i<8;i++) results.add(executor.submit(()->{
+					final double[] quantils=collector.getQuantil(p);
+					assertEquals(10_000,collector.getDistribution().sum(),0.000001);
+					return quantils;
+				}));
+				for (Future<double[]> result: results) assertArrayEquals(expected,result.get(),expected[2]/256+1);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
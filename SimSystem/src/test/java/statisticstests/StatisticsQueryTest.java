@@ -0,0 +1,162 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package statisticstests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import statistics.StatisticsBase;
+import statistics.StatisticsDataPerformanceIndicator;
+import statistics.StatisticsMultiPerformanceIndicator;
+import statistics.StatisticsQuery;
+
+/**
+ * Testet die Funktionsweise von {@link StatisticsQuery}
+ * @author Alexander Herzog
+ * @see StatisticsQuery
+ */
+class StatisticsQueryTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public StatisticsQueryTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Minimales Statistik-Objekt fr die Tests
+	 */
+	private static class TestStatistics extends StatisticsBase {
+		/** Einzelne Kenngre */
+		public final StatisticsDataPerformanceIndicator all;
+		/** Mehrfach-Kenngre */
+		public final StatisticsMultiPerformanceIndicator multi;
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public TestStatistics() {
+			addPerformanceIndicator(all=new StatisticsDataPerformanceIndicator(new String[]{"All"},1000,1000));
+			addPerformanceIndicator(multi=new StatisticsMultiPerformanceIndicator(new String[]{"Multi"},new StatisticsDataPerformanceIndicator(new String[]{"Sub"},1000,1000)));
+			addPerformanceIndicator(new StatisticsDataPerformanceIndicator(new String[]{"Twice"},1000,1000));
+			addPerformanceIndicator(new StatisticsDataPerformanceIndicator(new String[]{"Twice"},1000,1000));
+		}
+
+		@Override
+		public String[] getRootNodeNames() {
+			return new String[]{"Test"};
+		}
+	}
+
+	/**
+	 * Liefert ein xml-Element ber einen einfachen Pfad aus Element-Namen und optional dem Wert des Typ-Attributs.
+	 * @param parent	bergeordnetes Element
+	 * @param name	Name des Elements
+	 * @param type	Wert des Typ-Attributs (kann <code>null</code> sein)
+	 * @return	Element oder <code>null</code>, wenn es kein passendes Element gibt
+	 */
+	private Element getChild(final Element parent, final String name, final String type) {
+		final NodeList list=parent.getChildNodes();
+		for (int i=0;i<list.getLength();i++) {
+			if (!(list.item(i) instanceof Element)) continue;
+			final Element element=(Element)list.item(i);
+			if (!element.getNodeName().equalsIgnoreCase(name)) continue;
+			if (type!=null && !element.getAttribute(StatisticsMultiPerformanceIndicator.xmlTypeName[0]).equalsIgnoreCase(type)) continue;
+			return element;
+		}
+		return null;
+	}
+
+	/**
+	 * Test: Auflsen von Selektoren
+	 */
+	@Test
+	void compileTest() {
+		final TestStatistics statistics=new TestStatistics();
+
+		assertNull(StatisticsQuery.compile(null,"All->[Mean]"));
+		assertNull(StatisticsQuery.compile(statistics,null));
+		assertNull(StatisticsQuery.compile(statistics,"All"));
+		assertNull(StatisticsQuery.compile(statistics,"Unknown->[Mean]"));
+		assertNull(StatisticsQuery.compile(statistics,"Twice->[Mean]"));
+		assertNull(StatisticsQuery.compile(statistics,"[Attr]->[Mean]"));
+
+		final StatisticsQuery query=StatisticsQuery.compile(statistics,"all->[Mean]");
+		assertNotNull(query);
+		assertEquals("all->[Mean]",query.getSelector());
+		assertSame(statistics.all,query.getIndicator(statistics));
+
+		final TestStatistics statistics2=new TestStatistics();
+		assertSame(statistics2.all,query.getIndicator(statistics2));
+	}
+
+	/**
+	 * Test: Das Teil-Dokument enthlt dieselben Daten wie das vollstndige Dokument
+	 */
+	@Test
+	void documentTest() {
+		final TestStatistics statistics=new TestStatistics();
+		for (int i=0;i<100;i++) {
+			statistics.all.add(i);
+			((StatisticsDataPerformanceIndicator)statistics.multi.get("Station "+(i%5))).add(i);
+			((StatisticsDataPerformanceIndicator)statistics.multi.get("")).add(i*2);
+		}
+
+		final Element full=statistics.saveToXMLDocument().getDocumentElement();
+
+		/* Einzelne Kenngre */
+		Document doc=StatisticsQuery.compile(statistics,"All->[Mean]").getXMLDocument(statistics);
+		Element root=doc.getDocumentElement();
+		assertEquals("Test",root.getNodeName());
+		assertEquals(1,root.getChildNodes().getLength());
+		assertEquals(getChild(full,"All",null).getTextContent(),getChild(root,"All",null).getTextContent());
+
+		/* Ganze Mehrfach-Kenngre */
+		doc=StatisticsQuery.compile(statistics,"Multi->Sub->[Mean]").getXMLDocument(statistics);
+		root=doc.getDocumentElement();
+		assertEquals(6,getChild(root,"Multi",null).getChildNodes().getLength());
+
+		/* Teil-Kenngre ber das Typ-Attribut */
+		doc=StatisticsQuery.compile(statistics,"Multi->Sub[Typ=\"station 3\"]->[Mean]").getXMLDocument(statistics);
+		root=doc.getDocumentElement();
+		final Element multi=getChild(root,"Multi",null);
+		assertEquals(1,multi.getChildNodes().getLength());
+		final Element sub=getChild(multi,"Sub","Station 3");
+		assertNotNull(sub);
+		assertEquals(getChild(getChild(full,"Multi",null),"Sub","Station 3").getAttribute("Typ"),sub.getAttribute("Typ"));
+
+		/* Teil-Kenngre ohne Namen */
+		doc=StatisticsQuery.compile(statistics,"Multi->Sub[Typ=\"\"]->[Mean]").getXMLDocument(statistics);
+		root=doc.getDocumentElement();
+		assertEquals(1,getChild(root,"Multi",null).getChildNodes().getLength());
+		assertEquals("",getChild(getChild(root,"Multi",null),"Sub",null).getAttribute("Typ"));
+
+		/* Nicht vorhandene Teil-Kenngre */
+		doc=StatisticsQuery.compile(statistics,"Multi->Sub[Typ=\"Station 7\"]->[Mean]").getXMLDocument(statistics);
+		root=doc.getDocumentElement();
+		assertEquals(0,getChild(root,"Multi",null).getChildNodes().getLength());
+	}
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package xmltests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import xml.XMLBinaryCodec;
+import xml.XMLTools;
+
+/**
+ * Prft die Funktionsweise von {@link XMLBinaryCodec}
+ * @author Alexander Herzog
+ * @see XMLBinaryCodec
+ */
+class XMLBinaryCodecTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public XMLBinaryCodecTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Erzeugt einen xml-Baum mit allen untersttzten Knotentypen und Werteformaten.
+	 * @return	xml-Wurzelelement
+	 */
+	private Element buildTestTree() {
+		final Element root=new XMLTools().generateRoot("Statistik");
+		root.setAttribute("Version","5.0");
+		root.appendChild(root.getOwnerDocument().createComment("Kommentar"));
+
+		for (int i=0;i<3;i++) {
+			final Element node=root.getOwnerDocument().createElement("Wartezeiten");
+			root.appendChild(node);
+			node.setAttribute("Typ","Station "+i);
+			node.setAttribute("Anzahl",""+(i*1000));
+			node.setAttribute("Fuehrend","007");
+			node.setAttribute("Leer","");
+			node.setAttribute("Gross","123456789012345678901234");
+			node.setTextContent("0;0;0;0;5;0;17;0;0;123456789;0");
+		}
+
+		final Element text=root.getOwnerDocument().createElement("Text");
+		root.appendChild(text);
+		text.setTextContent("  ; 1;2;;3");
+
+		final Element cdata=root.getOwnerDocument().createElement("Daten");
+		root.appendChild(cdata);
+		cdata.appendChild(root.getOwnerDocument().createCDATASection("<a>&</a>"));
+
+		return root;
+	}
+
+	/**
+	 * Vergleicht zwei xml-Knoten inkl. aller Unterknoten.
+	 * @param expected	Erwarteter Knoten
+	 * @param actual	Tatschlicher Knoten
+	 */
+	private void assertNodeEquals(final Node expected, final Node actual) {
+		assertNotNull(actual);
+		assertEquals(expected.getNodeType(),actual.getNodeType());
+		assertEquals(expected.getNodeName(),actual.getNodeName());
+		if (expected.getNodeType()!=Node.ELEMENT_NODE) {
+			assertEquals(expected.getNodeValue(),actual.getNodeValue());
+			return;
+		}
+		final Element e1=(Element)expected;
+		final Element e2=(Element)actual;
+		assertEquals(e1.getAttributes().getLength(),e2.getAttributes().getLength());
+		for (int i=0;i<e1.getAttributes().getLength();i++) {
+			final Node attr=e1.getAttributes().item(i);
+			assertTrue(e2.hasAttribute(attr.getNodeName()));
+			assertEquals(attr.getNodeValue(),e2.getAttribute(attr.getNodeName()));
+		}
+		assertEquals(e1.getChildNodes().getLength(),e2.getChildNodes().getLength());
+		for (int i=0;i<e1.getChildNodes().getLength();i++) assertNodeEquals(e1.getChildNodes().item(i),e2.getChildNodes().item(i));
+	}
+
+	/**
+	 * Test: Speichern und Laden ber Datenstrme und Puffer
+	 * @throws IOException	Fehler beim Speichern oder Laden
+	 */
+	@Test
+	void streamTest() throws IOException {
+		final Element root=buildTestTree();
+
+		final ByteArrayOutputStream out=new ByteArrayOutputStream();
+		XMLBinaryCodec.save(root,Channels.newChannel(out));
+		final byte[] data=out.toByteArray();
+		assertTrue(XMLBinaryCodec.isBinaryXML(data,data.length));
+
+		assertNodeEquals(root,XMLBinaryCodec.load(new ByteArrayInputStream(data)));
+		assertNodeEquals(root,XMLBinaryCodec.load(ByteBuffer.wrap(data)));
+
+		/* Automatische Erkennung des Formats */
+		final XMLTools xml=new XMLTools(new ByteArrayInputStream(data),XMLTools.FileType.AUTO);
+		assertNodeEquals(root,xml.load());
+		assertNull(xml.getError());
+	}
+
+	/**
+	 * Test: Speichern und Laden ber Dateien
+	 * @throws IOException	Fehler beim Anlegen der temporren Datei
+	 */
+	@Test
+	void fileTest() throws IOException {
+		final Element root=buildTestTree();
+		final File file=File.createTempFile("XMLBinaryCodecTest",".bxml");
+		try {
+			XMLTools xml=new XMLTools(file);
+			assertTrue(xml.save(root));
+			assertNull(xml.getError());
+
+			xml=new XMLTools(file);
+			assertNodeEquals(root,xml.load());
+			assertNull(xml.getError());
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Test: Ungltige Daten
+	 */
+	@Test
+	void invalidDataTest() {
+		assertThrows(IOException.class,()->XMLBinaryCodec.load(ByteBuffer.wrap(new byte[] {'W','S'})));
+		assertThrows(IOException.class,()->XMLBinaryCodec.load(ByteBuffer.wrap(new byte[] {'W','S','B','X',XMLBinaryCodec.VERSION,1,0})));
+		assertThrows(IOException.class,()->XMLBinaryCodec.load(ByteBuffer.wrap(new byte[] {'W','S','B','X',(byte)(XMLBinaryCodec.VERSION+1)})));
+	}
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package xmltests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import xml.XMLData;
+import xml.XMLStreamLoader;
+import xml.XMLStreamSaver;
+import xml.XMLTools;
+
+/**
+ * Prft die Funktionsweise von {@link XMLStreamLoader} und {@link XMLStreamSaver}
+ * @author Alexander Herzog
+ * @see XMLStreamLoader
+ * @see XMLStreamSaver
+ */
+class XMLStreamTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public XMLStreamTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Legt die Testdaten unterhalb des Wurzelelements an.
+	 * @param root	Wurzelelement
+	 * @param flush	Callback zum Schreiben der bislang angelegten Elemente
+	 */
+	private static void addTestData(final Element root, final Runnable flush) {
+		final Document doc=root.getOwnerDocument();
+		for (int i=0;i<50;i++) {
+			final Element element=doc.createElement("Element"+(i%3));
+			root.appendChild(element);
+			element.setAttribute("Nr",""+i);
+			element.setAttribute("Text","a<b & \"c\"\n\t");
+			final Element sub=doc.createElement("Sub");
+			element.appendChild(sub);
+			sub.setTextContent("Wert "+i+" <&> ");
+			final Element empty=doc.createElement("Empty");
+			element.appendChild(empty);
+			if (i%10==0) flush.run();
+		}
+	}
+
+	/**
+	 * Vergleicht zwei Elemente samt ihren Attributen und Unterelementen (ohne Bercksichtigung von Leerraum zwischen Elementen).
+	 * @param expected	Erwartetes Element
+	 * @param actual	Tatschliches Element
+	 */
+	private static void assertSameElement(final Element expected, final Element actual) {
+		assertEquals(expected.getNodeName(),actual.getNodeName());
+		final NamedNodeMap attr1=expected.getAttributes();
+		final NamedNodeMap attr2=actual.getAttributes();
+		assertEquals(attr1.getLength(),attr2.getLength());
+		for (int i=0;i<attr1.getLength();i++) assertEquals(attr1.item(i).getNodeValue(),actual.getAttribute(attr1.item(i).getNodeName()));
+
+		final List<Element> sub1=getElements(expected);
+		final List<Element> sub2=getElements(actual);
+		assertEquals(sub1.size(),sub2.size());
+		if (sub1.isEmpty()) assertEquals(expected.getTextContent(),actual.getTextContent());
+		for (int i=0;i<sub1.size();i++) assertSameElement(sub1.get(i),sub2.get(i));
+	}
+
+	/**
+	 * Liefert die direkten Unterelemente eines Elements.
+	 * @param element	Element
+	 * @return	Liste der Unterelemente
+	 */
+	private static List<Element> getElements(final Element element) {
+		final List<Element> list=new ArrayList<>();
+		for (Node node=element.getFirstChild();node!=null;node=node.getNextSibling()) if (node instanceof Element) list.add((Element)node);
+		return list;
+	}
+
+	/**
+	 * Test: Schrittweises Speichern und Laden im xml-, zip- und tar-Format
+	 */
+	@Test
+	void saveLoadTest() {
+		final Element expected=XMLTools.generateRootStatic("Root",false);
+		addTestData(expected,()->{});
+
+		for (XMLTools.FileType fileType: new XMLTools.FileType[] {XMLTools.FileType.XML,XMLTools.FileType.ZIP_XML,XMLTools.FileType.TAR_XML}) {
+			final ByteArrayOutputStream output=new ByteArrayOutputStream();
+			assertTrue(new XMLTools(output,fileType).saveStreaming("Root",XMLStreamTest::addTestData));
+
+			/* Laden als vollstndiges Dokument */
+			final Element loaded=new XMLTools(new ByteArrayInputStream(output.toByteArray()),fileType).load();
+			assertNotNull(loaded);
+			assertSameElement(expected,loaded);
+
+			/* Schrittweises Laden */
+			final List<Element> elements=new ArrayList<>();
+			final Element[] root=new Element[1];
+			assertTrue(new XMLTools(new ByteArrayInputStream(output.toByteArray()),XMLTools.FileType.AUTO).loadStreaming(new XMLStreamLoader.Handler() {
+				@Override public String loadRoot(final Element r) {root[0]=r; return null;}
+				@Override public String loadElement(final Element element) {
+					assertTrue(element.getParentNode()==root[0]);
+					elements.add(element);
+					return null;
+				}
+			}));
+			assertEquals("Root",root[0].getNodeName());
+			final List<Element> expectedElements=getElements(expected);
+			assertEquals(expectedElements.size(),elements.size());
+			for (int i=0;i<elements.size();i++) assertSameElement(expectedElements.get(i),elements.get(i));
+			assertFalse(root[0].hasChildNodes());
+		}
+	}
+
+	/**
+	 * Test: Abbruch des schrittweisen Ladens und fehlerhafte Daten
+	 */
+	@Test
+	void errorTest() {
+		final ByteArrayOutputStream output=new ByteArrayOutputStream();
+		assertTrue(new XMLTools(output).saveStreaming("Root",XMLStreamTest::addTestData));
+
+		final int[] count=new int[1];
+		final XMLTools xml=new XMLTools(new ByteArrayInputStream(output.toByteArray()));
+		assertFalse(xml.loadStreaming(new XMLStreamLoader.Handler() {
+			@Override public String loadRoot(final Element root) {return null;}
+			@Override public String loadElement(final Element element) {count[0]++; return (count[0]==3)?"Error":null;}
+		}));
+		assertEquals("Error",xml.getError());
+		assertEquals(3,count[0]);
+
+		final XMLTools xml2=new XMLTools(new ByteArrayInputStream("<Root><A>".getBytes()));
+		assertFalse(xml2.loadStreaming(new XMLStreamLoader.Handler() {
+			@Override public String loadRoot(final Element root) {return null;}
+			@Override public String loadElement(final Element element) {return null;}
+		}));
+		assertNotNull(xml2.getError());
+	}
+
+	/**
+	 * Test: Laden und Speichern von {@link XMLData}-Objekten
+	 */
+	@Test
+	void xmlDataTest() {
+		final List<String> values=new ArrayList<>();
+		final XMLData data=new XMLData() {
+			@Override public String[] getRootNodeNames() {return new String[]{"xmlroot"};}
+			@Override protected void resetData() {values.clear();}
+			@Override protected String loadProperty(String name, String text, Element node) {
+				if (!name.equals("Value")) return "Unknown";
+				values.add(text);
+				return null;
+			}
+			@Override protected void addDataToXML(Document doc, Element node, boolean isPartOfOtherFile, File file) {
+				for (String value: values) addTextToXML(doc,node,"Value",value);
+			}
+		};
+
+		values.add("a & b");
+		values.add("<c>");
+		values.add(" d ");
+		final List<String> saved=new ArrayList<>(values);
+
+		final ByteArrayOutputStream output=new ByteArrayOutputStream();
+		assertTrue(data.saveToStream(output));
+		values.add("e");
+		assertNull(data.loadFromStream(new ByteArrayInputStream(output.toByteArray())));
+		assertEquals(saved,values);
+
+		assertNotNull(data.loadFromStream(new ByteArrayInputStream("<other/>".getBytes())));
+		assertEquals("Unknown",data.loadFromStream(new ByteArrayInputStream("<xmlroot><Other/></xmlroot>".getBytes())));
+	}
+}
@@ -604,6 +604,7 @@ public class LanguageStaticLoader {
 		XMLTools.fileTypeTARCompressedXML=Language.tr("FileType.targz");
 		XMLTools.fileTypeJSON=Language.tr("FileType.json");
 		XMLTools.fileTypeEncryptedXML=Language.tr("FileType.cs");
+		XMLTools.fileTypeBinaryXML=Language.tr("FileType.bxml");
 		XMLTools.fileTypeAll=Language.tr("FileType.AllSupportedFiles");
 		XMLTools.xmlComment=String.format(Language.tr("XML.Comment"),MainFrame.PROGRAM_NAME,"https://"+MainPanel.REPOSITORY_URL);
 
@@ -1150,9 +1151,14 @@ public class LanguageStaticLoader {
 		StatisticsSimulationBaseData.xmlNameNUMA=Language.trAll("Statistics.XML.RunThreads.NUMA");
 		StatisticsSimulationBaseData.xmlNameDynamicBalance=Language.trAll("Statistics.XML.RunThreads.DynamicBalance");
 		StatisticsSimulationBaseData.xmlNameDynamicBalanceData=Language.trAll("Statistics.XML.RunThreads.DynamicBalanceData");
+		StatisticsSimulationBaseData.xmlNameDynamicBalancePackages=Language.trAll("Statistics.XML.RunThreads.DynamicBalancePackages");
+		StatisticsSimulationBaseData.xmlNameDynamicBalanceRates=Language.trAll("Statistics.XML.RunThreads.DynamicBalanceRates");
 		StatisticsSimulationBaseData.xmlNameRunThreadTimes=Language.trAll("Statistics.XML.ThreadRunTimes");
 		StatisticsSimulationBaseData.xmlNameRunThreadsError=Language.tr("Statistics.XML.RunThreads.Error");
 		StatisticsSimulationBaseData.xmlNameRunEvents=Language.trAll("Statistics.XML.RunEvents");
+		StatisticsSimulationBaseData.xmlNameRunEventsRemoved=Language.trAll("Statistics.XML.RunEvents.Removed");
+		StatisticsSimulationBaseData.xmlNameRunEventsMarked=Language.trAll("Statistics.XML.RunEvents.Marked");
+		StatisticsSimulationBaseData.xmlNameRunTransporterMoves=Language.trAll("Statistics.XML.RunEvents.TransporterMoves");
 		StatisticsSimulationBaseData.xmlNameRunEventsError=Language.tr("Statistics.XML.RunEvents.Error");
 		StatisticsSimulationBaseData.xmlNameRunRepeatCount=Language.trAll("Statistics.XML.RunRepeatCount");
 		StatisticsSimulationBaseData.xmlNameRunRepeatCountError=Language.tr("Statistics.XML.RunRepeatCount.Error");
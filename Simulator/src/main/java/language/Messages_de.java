@@ -1134,6 +1134,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[2623] = "Ventilkonfiguration beibehalten.";
     t[2626] = "Surface.AnimationPieChart.Tooltip";
     t[2627] = "Tortendiagramm das w\u00e4hrend der Animation des Modells aktualisiert wird";
+    t[2628] = "Statistics.XML.RunThreads.DynamicBalanceRates";
+    t[2629] = "DynamischeThreadBalanceRaten";
     t[2632] = "Surface.SourceDB.Dialog.ColumnLoad.ErrorInfo";
     t[2633] = "Es wurde keine Tabellenspalte, aus der die Ankunftszeitpunkte geladen werden sollen, gew\u00e4hlt.";
     t[2634] = "Window.Simulation.ModelIsEmpty.Title";
@@ -2624,6 +2626,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[6035] = "Parameter nur gleichzeitig ver\u00e4ndern";
     t[6038] = "Surface.TransportTransporterSource.Dialog.Title";
     t[6039] = "Transporter Haltestelle bearbeiten";
+    t[6042] = "SettingsDialog.Tabs.DefaultFormats.BinaryXML";
+    t[6043] = "Bin\u00e4res xml";
     t[6048] = "Statistics.NumberOfClientsAtStationsByClientTypes";
     t[6049] = "Anzahl an Kunden an den Stationen (nach Kundentypen)";
     t[6056] = "Simulation.Log.TeleportMulti.Info";
@@ -11262,6 +11266,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[25515] = "Speichert die Filterkonfiguration in einer Datei";
     t[25522] = "Window.Check.AutoFixRepeatCount.Info";
     t[25523] = "Die Simulation soll %d mal wiederholt werden.\nAllerdings kann dies aus folgendem Grund nicht erfolgen:\n%s\nSoll die Anzahl Anzahl an Wiederholungen auf 1 zur\u00fcckgesetzt werden?";
+    t[25530] = "Statistics.SystemData.DeletedEvents";
+    t[25531] = "Vor der Ausf\u00fchrung gel\u00f6schte Ereignisse";
     t[25534] = "Surface.Text.Dialog.FontSize.Markdown";
     t[25535] = "Markdown";
     t[25540] = "ExpressionBuilder.ClientsAtQueue.Skewness";
@@ -11474,6 +11480,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[25967] = "Verschiebt die aktuelle Kontrollvariable um eine Position nach oben in der Liste";
     t[25968] = "FitDialogMultiModal.Title";
     t[25969] = "Multimodale Verteilung anpassen";
+    t[25972] = "SettingsDialog.Tabs.Simulation.Server.Farm";
+    t[25973] = "Weitere Server f\u00fcr verteilte Simulation (Host:Port[:Passwort]; durch Semikolons getrennt)";
     t[25984] = "Surface.Conveyor.Dialog.TransportTimeType.ProcessTime";
     t[25985] = "Bedienzeit";
     t[25988] = "SettingsDialog.Tabs.Simulation.Server.Key";
@@ -12250,6 +12258,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[27749] = "\"A\" als Ausgabespalte einstellen";
     t[27750] = "Resources.Group.EditName.Dialog.Number.Infinite";
     t[27751] = "Unendlich viele";
+    t[27758] = "FileType.bxml";
+    t[27759] = "Bin\u00e4re xml-Dateien";
     t[27768] = "ExpressionBuilder.MathematicalFunctions.GammaPFunction";
     t[27769] = "Unvollst\u00e4ndige, regularisierte obere Gamma-Funktion";
     t[27774] = "Surface.DistributionByClientTypeEditor.LocalIsActive.Station";
@@ -13160,6 +13170,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[29811] = "Verzeichnis f\u00fcr externe Java-Klassendateien";
     t[29816] = "Surface.PopupMenu.QuickFix.AddEdgeTo.ElementNoName";
     t[29817] = "%s (id=%d)";
+    t[29828] = "Statistics.XML.RunEvents.TransporterMoves";
+    t[29829] = "Transporterfahrten";
     t[29834] = "Simulation.Log.FlowData";
     t[29835] = "Fluss";
     t[29838] = "Optimizer.Tab.Optimization.Kernel.Parameters.Tab.Genetic.ChangeRate1.ErrorInfo";
@@ -16634,6 +16646,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[37491] = "Homepage";
     t[37492] = "Simulation.Element.AssignString.Name";
     t[37493] = "Textzuweisung";
+    t[37496] = "Statistics.XML.RunEvents.Marked";
+    t[37497] = "Markiert";
     t[37506] = "ModelGenerator.PrioritiesStrategy.CBA";
     t[37507] = "C vor B vor A";
     t[37508] = "Surface.InteractiveRadiobutton.XML.Root";
@@ -17642,6 +17656,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[39663] = "Kopiert das Bild in die Zwischenablage";
     t[39664] = "NotesDialog.Delete.Hint";
     t[39665] = "L\u00f6scht die gew\u00e4hlte Notiz (Umschalt+Klick=ohne Best\u00e4tigungsdialog)";
+    t[39672] = "Statistics.SystemData.DeletedEvents.Marked";
+    t[39673] = "davon nur als gel\u00f6scht markiert";
     t[39674] = "Surface.Process.Dialog.Tab.PrioritiesAndBatchSizes.PrioritiesPopup.FIFO";
     t[39675] = "FIFO einstellen";
     t[39686] = "BatchPanel.Directory.Caption";
@@ -19618,6 +19634,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[43967] = "Modell beim Programmstart laden";
     t[43970] = "Surface.Transporter.ErrorDistribution";
     t[43971] = "Der angegebene Wert \"%s\" f\u00fcr die Verteilung der Ausfalldauern f\u00fcr die Transportergruppe \"%s\" ist ung\u00fcltig.";
+    t[43974] = "Statistics.XML.RunThreads.DynamicBalancePackages";
+    t[43975] = "DynamischeThreadBalancePakete";
     t[43984] = "Statistic.Viewer.Chart.Number";
     t[43985] = "Anzahl";
     t[43986] = "Surface.Assign.Dialog.Condition.Error.Info";
@@ -23050,6 +23068,8 @@ public class Messages_de extends java.util.ResourceBundle {
     t[51555] = "Anteil";
     t[51560] = "Color.6A5ACD";
     t[51561] = "Slate Blau";
+    t[51562] = "Statistics.XML.RunEvents.Removed";
+    t[51563] = "Entfernt";
     t[51570] = "UserTemplates.AddDialog.Name.Default";
     t[51571] = "Neue Vorlage";
     t[51574] = "ModelDescription.Dialog.Save.Failed.Title";
@@ -1134,6 +1134,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[2623] = "Keep valve setup.";
     t[2626] = "Surface.AnimationPieChart.Tooltip";
     t[2627] = "Pie chart that is updated during the animation of the model";
+    t[2628] = "Statistics.XML.RunThreads.DynamicBalanceRates";
+    t[2629] = "DynamicThreadBalanceRates";
     t[2632] = "Surface.SourceDB.Dialog.ColumnLoad.ErrorInfo";
     t[2633] = "No table column from which the arrival times are to be loaded has been selected.";
     t[2634] = "Window.Simulation.ModelIsEmpty.Title";
@@ -2624,6 +2626,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[6035] = "Change parameters simultaneously only";
     t[6038] = "Surface.TransportTransporterSource.Dialog.Title";
     t[6039] = "Edit transporter start";
+    t[6042] = "SettingsDialog.Tabs.DefaultFormats.BinaryXML";
+    t[6043] = "binary xml";
     t[6048] = "Statistics.NumberOfClientsAtStationsByClientTypes";
     t[6049] = "Number of clients at the stations (by client types)";
     t[6056] = "Simulation.Log.TeleportMulti.Info";
@@ -11262,6 +11266,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[25515] = "Saves the filter configuration to a file";
     t[25522] = "Window.Check.AutoFixRepeatCount.Info";
     t[25523] = "The simulation should be repeated %d times.\nBy the following reason this is not possible:\n%s\nDo you want to reset the number of repetitions to 1?";
+    t[25530] = "Statistics.SystemData.DeletedEvents";
+    t[25531] = "Events deleted before execution";
     t[25534] = "Surface.Text.Dialog.FontSize.Markdown";
     t[25535] = "Markdown";
     t[25540] = "ExpressionBuilder.ClientsAtQueue.Skewness";
@@ -11474,6 +11480,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[25967] = "Moves the current control variable one position up in the list";
     t[25968] = "FitDialogMultiModal.Title";
     t[25969] = "Fit multimodal distribution";
+    t[25972] = "SettingsDialog.Tabs.Simulation.Server.Farm";
+    t[25973] = "Additional servers for distributed simulation (host:port[:password]; separated by semicolons)";
     t[25984] = "Surface.Conveyor.Dialog.TransportTimeType.ProcessTime";
     t[25985] = "Process time";
     t[25988] = "SettingsDialog.Tabs.Simulation.Server.Key";
@@ -12250,6 +12258,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[27749] = "Set output column to \"A\"";
     t[27750] = "Resources.Group.EditName.Dialog.Number.Infinite";
     t[27751] = "Infinite many";
+    t[27758] = "FileType.bxml";
+    t[27759] = "Binary xml files";
     t[27768] = "ExpressionBuilder.MathematicalFunctions.GammaPFunction";
     t[27769] = "Incomplete, regularized upper Gamma function";
     t[27774] = "Surface.DistributionByClientTypeEditor.LocalIsActive.Station";
@@ -13160,6 +13170,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[29811] = "Folder for external Java class files";
     t[29816] = "Surface.PopupMenu.QuickFix.AddEdgeTo.ElementNoName";
     t[29817] = "%s (id=%d)";
+    t[29828] = "Statistics.XML.RunEvents.TransporterMoves";
+    t[29829] = "TransporterMoves";
     t[29834] = "Simulation.Log.FlowData";
     t[29835] = "Flow";
     t[29838] = "Optimizer.Tab.Optimization.Kernel.Parameters.Tab.Genetic.ChangeRate1.ErrorInfo";
@@ -16634,6 +16646,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[37491] = "Homepage";
     t[37492] = "Simulation.Element.AssignString.Name";
     t[37493] = "Assign string";
+    t[37496] = "Statistics.XML.RunEvents.Marked";
+    t[37497] = "Marked";
     t[37506] = "ModelGenerator.PrioritiesStrategy.CBA";
     t[37507] = "C before B before A";
     t[37508] = "Surface.InteractiveRadiobutton.XML.Root";
@@ -17642,6 +17656,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[39663] = "Copies the image to the clipboard";
     t[39664] = "NotesDialog.Delete.Hint";
     t[39665] = "Deletes the selected note (Shift+Click=without confirmation dialog)";
+    t[39672] = "Statistics.SystemData.DeletedEvents.Marked";
+    t[39673] = "thereof only marked as deleted";
     t[39674] = "Surface.Process.Dialog.Tab.PrioritiesAndBatchSizes.PrioritiesPopup.FIFO";
     t[39675] = "Set FIFO";
     t[39686] = "BatchPanel.Directory.Caption";
@@ -19618,6 +19634,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[43967] = "Load model on program start";
     t[43970] = "Surface.Transporter.ErrorDistribution";
     t[43971] = "The specified value \"%s\" for the distribution of the down times for the transporter group \"%s\" is invalid.";
+    t[43974] = "Statistics.XML.RunThreads.DynamicBalancePackages";
+    t[43975] = "DynamicThreadBalancePackages";
     t[43984] = "Statistic.Viewer.Chart.Number";
     t[43985] = "Number";
     t[43986] = "Surface.Assign.Dialog.Condition.Error.Info";
@@ -23050,6 +23068,8 @@ public class Messages_en extends java.util.ResourceBundle {
     t[51555] = "Part";
     t[51560] = "Color.6A5ACD";
     t[51561] = "Slate blue";
+    t[51562] = "Statistics.XML.RunEvents.Removed";
+    t[51563] = "Removed";
     t[51570] = "UserTemplates.AddDialog.Name.Default";
     t[51571] = "New template";
     t[51574] = "ModelDescription.Dialog.Save.Failed.Title";
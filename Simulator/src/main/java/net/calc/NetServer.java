@@ -19,6 +19,8 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -55,6 +57,11 @@ public abstract class NetServer {
 	private Thread listenThread;
 	/** Zhlt die Anfragen */
 	private long runnerCounter;
+	/**
+	 * Momentan aktive Verarbeitungsthreads (werden beim Beenden des Servers abgebrochen)
+	 * @see #stop()
+	 */
+	private final Set<ServerThread> serverThreads;
 
 	/**
 	 * Konstruktor der Klasse
@@ -72,6 +79,7 @@ public abstract class NetServer {
 		this.maxTransferSize=maxTransferSize;
 
 		runnerCounter=0;
+		serverThreads=new HashSet<>();
 	}
 
 	/**
@@ -176,6 +184,7 @@ public abstract class NetServer {
 			this.runSocket=runSocket;
 
 			if (runSocket!=null) {
+				synchronized(serverThreads) {serverThreads.add(this);}
 				super.start();
 			}
 		}
@@ -205,9 +214,22 @@ public abstract class NetServer {
 			return true;
 		}
 
+		/**
+		 * Bricht die Verarbeitung ab und trennt die Verbindung zum Anfragesteller.<br>
+		 * Darf aus einem beliebigen Thread aufgerufen werden.
+		 */
+		public void abort() {
+			interrupt();
+			try {runSocket.close();} catch (IOException e) {}
+		}
+
 		@Override
 		public void run() {
-			processServerTask(); /* Damit die innere Funktion bei Exception false zurckgeben kann, damit SpotBugs glcklich ist. */
+			try {
+				processServerTask(); /* Damit die innere Funktion bei Exception false zurckgeben kann, damit SpotBugs glcklich ist. */
+			} finally {
+				synchronized(serverThreads) {serverThreads.remove(this);}
+			}
 		}
 	}
 
@@ -220,7 +242,8 @@ public abstract class NetServer {
 	protected abstract void process(final NetTransfer transfer, final Consumer<String> log);
 
 	/**
-	 * Stoppt den Netzwerkserver.
+	 * Stoppt den Netzwerkserver.<br>
+	 * Laufende Verarbeitungen werden abgebrochen und die zugehrigen Verbindungen getrennt.
 	 * @see NetServer#start()
 	 */
 	public void stop() {
@@ -229,5 +252,8 @@ public abstract class NetServer {
 			try {listenThread.join(1_000);} catch (InterruptedException e) {}
 			listenThread=null;
 		}
+		final ServerThread[] threads;
+		synchronized(serverThreads) {threads=serverThreads.toArray(new ServerThread[0]);}
+		for (ServerThread thread: threads) thread.abort();
 	}
 }
\ No newline at end of file
@@ -112,6 +112,38 @@ public class ServerStatus {
 		}
 	}
 
+	/**
+	 * Liefert die freie Rechenkapazitt des Servers
+	 * (Anzahl an logischen CPU-Kernen abzglich der bereits laufenden Simulationsthreads, mindestens aber 1).
+	 * @return	Freie Rechenkapazitt oder -1, wenn der Server nicht erreichbar ist
+	 * @see SimulationFarm
+	 */
+	public int getFreeCapacity() {
+		final NetTransfer transfer=netClient.start();
+
+		try {
+			if (transfer==null) return -1;
+			if (!transfer.sendByte(1)) return -1;
+
+			final ByteArrayInputStream stream=transfer.waitForStream(30_000);
+			if (stream==null) return -1;
+
+			try (final DataInputStream reader=new DataInputStream(stream)) {
+				reader.readUTF(); /* Version */
+				reader.readUTF(); /* Java-Version */
+				final int cpuCount=reader.readInt();
+				reader.readInt(); /* Speicherbedarf */
+				reader.readLong(); /* Anzahl an Simulationen */
+				final int runningThreads=reader.readInt();
+				return Math.max(1,cpuCount-runningThreads);
+			} catch (IOException e) {
+				return -1;
+			}
+		} finally {
+			netClient.stop();
+		}
+	}
+
 	/**
 	 * Zeigt die Daten ber den Server als Meldungsfenster an
 	 * @param owner	bergeordnetes Element (zur Ausrichtung des Dialogs)
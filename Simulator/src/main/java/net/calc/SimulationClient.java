@@ -64,11 +64,26 @@ public class SimulationClient implements AnySimulator {
 	private int currentWIP;
 	/** Gesamtanzahl an zu simulierenden Kundenanknften */
 	private long countClients;
+	/**
+	 * Zeitpunkt (in ms), zu dem zuletzt Daten vom Server empfangen wurden
+	 * @see #getLastStatusTime()
+	 */
+	private long lastStatusTime;
 	/**
 	 * Statistik-Objekt, welches alle Daten des Simulationslaufs enthlt (oder <code>null</code>, wenn die Simulation - ggf. auch durch den Server - abgebrochen wurde)
 	 * @see #getStatistic()
 	 */
 	private Statistics statistics;
+	/**
+	 * Sollen whrend der Simulation regelmig Zwischenergebnisse vom Server angefordert werden?
+	 * @see #setRequestIncompleteStatistic(boolean)
+	 */
+	private boolean requestIncompleteStatistic;
+	/**
+	 * Zuletzt vom Server empfangene Zwischenergebnisse (oder <code>null</code>, wenn noch keine vorliegen)
+	 * @see #getIncompleteStatistic(long)
+	 */
+	private volatile Statistics incompleteStatistics;
 
 	/**
 	 * Konstruktor der Klasse
@@ -100,12 +115,22 @@ public class SimulationClient implements AnySimulator {
 		return null;
 	}
 
+	/**
+	 * Stellt ein, ob der Server whrend der Simulation regelmig Zwischenergebnisse senden soll.<br>
+	 * Muss vor {@link #start()} aufgerufen werden.
+	 * @param requestIncompleteStatistic	Zwischenergebnisse anfordern?
+	 * @see #getIncompleteStatistic(long)
+	 */
+	public void setRequestIncompleteStatistic(final boolean requestIncompleteStatistic) {
+		this.requestIncompleteStatistic=requestIncompleteStatistic;
+	}
+
 	/**
 	 * Startet die Simulation auf dem Server
 	 * @return	Liefert <code>null</code>, wenn die Simulation gestartet werden konnte, sonst eine Fehlermeldung.
 	 */
 	public String start() {
-		if (!transfer.sendByte(0)) {
+		if (!transfer.sendByte(requestIncompleteStatistic?2:0)) {
 			net.stop();
 			transfer=null;
 			return String.format(ERROR_SENDING_MODEL,net.getHost(),net.getPort());
@@ -125,6 +150,7 @@ public class SimulationClient implements AnySimulator {
 		}
 
 		started=true;
+		lastStatusTime=System.currentTimeMillis();
 		int count=0;
 		while (eventCount==0 && prepareError==null && count<10) {
 			updateStatus(true);
@@ -137,6 +163,17 @@ public class SimulationClient implements AnySimulator {
 		return null;
 	}
 
+	/**
+	 * Trennt die Verbindung zum Server, ohne die weiteren Datenfelder zu verndern.<br>
+	 * Im Gegensatz zu den brigen Methoden darf diese Methode auch aus einem anderen Thread
+	 * als dem, der die Simulation steuert, aufgerufen werden. Blockierende Lese- oder
+	 * Schreiboperationen in dem steuernden Thread werden dadurch beendet; dieser erkennt
+	 * die Simulation danach als abgebrochen.
+	 */
+	public void closeConnection() {
+		net.stop();
+	}
+
 	/**
 	 * Bricht die Simulation vorzeitig ab.
 	 */
@@ -182,6 +219,7 @@ public class SimulationClient implements AnySimulator {
 			if (id.length!=1) return;
 
 			ByteArrayInputStream data;
+			lastStatusTime=System.currentTimeMillis();
 
 			switch (id[0]) {
 			case 1: /* Prepare Error */
@@ -203,6 +241,13 @@ public class SimulationClient implements AnySimulator {
 					} catch (IOException e) {}
 				}
 				break;
+			case 4: /* Zwischenergebnisse */
+				data=transfer.waitForStream(30_000);
+				if (data!=null) {
+					final Statistics partial=new Statistics(model.collectWaitingTimes,model.useWelford);
+					if (partial.loadFromStream(data)==null) incompleteStatistics=partial;
+				}
+				break;
 			case 3: /* Finish */
 				data=transfer.waitForStream(30_000);
 				if (data!=null) {
@@ -315,6 +360,29 @@ public class SimulationClient implements AnySimulator {
 		return statistics;
 	}
 
+	/**
+	 * Liefert die zuletzt vom Server empfangenen Zwischenergebnisse.<br>
+	 * Diese werden nur gesendet, wenn sie per {@link #setRequestIncompleteStatistic(boolean)} angefordert wurden.
+	 * Es wird nicht auf neue Daten gewartet; diese werden von dem Thread, der die Simulation steuert,
+	 * im Rahmen der Statusabfragen empfangen. Die Methode darf daher auch aus einem anderen Thread aufgerufen werden.
+	 * @param timeoutMS	Wird nicht verwendet
+	 * @return	Zuletzt empfangene Zwischenergebnisse oder <code>null</code>, wenn noch keine vorliegen
+	 */
+	@Override
+	public Statistics getIncompleteStatistic(final long timeoutMS) {
+		return incompleteStatistics;
+	}
+
+	/**
+	 * Liefert den Zeitpunkt, zu dem zuletzt Daten vom Server empfangen wurden.<br>
+	 * Der Server sendet whrend der Simulation regelmig Statusinformationen;
+	 * bleiben diese lnger aus, so ist die Verbindung vermutlich unterbrochen.
+	 * @return	Zeitpunkt des letzten Datenempfangs (in ms, bezogen auf {@link System#currentTimeMillis()})
+	 */
+	public long getLastStatusTime() {
+		return lastStatusTime;
+	}
+
 	/**
 	 * Liefert den im Konstruktor angegeben Host
 	 * @return	Host fr die Kommunikation
@@ -0,0 +1,694 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.calc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import mathtools.NumberTools;
+import simulator.AnySimulator;
+import simulator.Simulator;
+import simulator.StartAnySimulator;
+import simulator.editmodel.EditModel;
+import simulator.statistics.Statistics;
+
+/**
+ * Verteilt eine Simulation auf mehrere Simulationsserver und den lokalen Rechner.<br>
+ * Die Wiederholungen (bzw. bei nur einem Lauf die Anzahl an Kundenanknften) werden
+ * entsprechend der freien Rechenkapazitt der einzelnen Knoten aufgeteilt. Die Teilergebnisse
+ * werden nach und nach, sobald sie vorliegen, zu einer gemeinsamen Statistik zusammengefhrt.
+ * Whrend der Simulation senden die Server regelmig Zwischenergebnisse, die ber
+ * {@link #getIncompleteStatistic(long)} zusammen mit den abgeschlossenen Teilergebnissen abgerufen werden knnen.
+ * Fllt ein Server aus oder meldet er sich zu lange nicht, so wird sein Teil erneut vergeben.
+ * Fllt der letzte Knoten aus, so wird der Rest lokal simuliert.
+ * @author Alexander Herzog
+ * @see SimulationClient
+ * @see SimulationServer
+ * @see StartAnySimulator
+ */
+public class SimulationFarm implements AnySimulator {
+	/**
+	 * Standardwert fr die Zeitspanne (in ms), nach der ein Server, von dem keine Daten mehr eingehen, als ausgefallen gilt
+	 * @see #SimulationFarm(EditModel, String, List, int, long)
+	 */
+	public static final long DEFAULT_TIMEOUT_MS=30_000;
+
+	/**
+	 * Maximale Wartezeit (in ms) auf das Ende der Steuerungsthreads der Knoten,
+	 * nachdem deren Verbindungen getrennt wurden
+	 * @see #cancel()
+	 * @see #finalizeRun()
+	 */
+	private static final long JOIN_TIMEOUT_MS=5_000;
+
+	/**
+	 * Zugangsdaten fr einen Simulationsserver
+	 */
+	public static class Server {
+		/** Adresse des Servers */
+		public final String host;
+		/** Portnummer auf dem der Server auf Anfragen wartet */
+		public final int port;
+		/** Optionales Passwort zum Verschlsseln der Daten (kann <code>null</code> sein) */
+		public final String key;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param host	Adresse des Servers
+		 * @param port	Portnummer auf dem der Server auf Anfragen wartet
+		 * @param key	Optionales Passwort zum Verschlsseln der Daten (kann <code>null</code> sein)
+		 */
+		public Server(final String host, final int port, final String key) {
+			this.host=host;
+			this.port=port;
+			this.key=(key==null || key.isEmpty())?null:key;
+		}
+
+		/**
+		 * Interpretiert eine Liste mit Serverangaben.
+		 * @param list	Durch Semikolons oder Leerraum getrennte Eintrge der Form <code>Host:Port</code> oder <code>Host:Port:Passwort</code> (darf <code>null</code> sein)
+		 * @return	Liste der gltigen Serverangaben (ungltige Eintrge werden bersprungen)
+		 */
+		public static List<Server> parse(final String list) {
+			final List<Server> servers=new ArrayList<>();
+			if (list==null) return servers;
+			for (String entry: list.split("[;\\s]+")) {
+				final String[] parts=entry.trim().split(":");
+				if (parts.length<2 || parts.length>3 || parts[0].isEmpty()) continue;
+				final Long L=NumberTools.getPositiveLong(parts[1]);
+				if (L==null || L.longValue()>65535) continue;
+				servers.add(new Server(parts[0],L.intValue(),(parts.length==3)?parts[2]:null));
+			}
+			return servers;
+		}
+
+		@Override
+		public String toString() {
+			return host+":"+port;
+		}
+	}
+
+	/**
+	 * Teilaufgabe, die auf einem Knoten simuliert wird
+	 */
+	private static class Part {
+		/** Modell fr diese Teilaufgabe */
+		public final EditModel model;
+		/** Anzahl an Wiederholungen in dieser Teilaufgabe */
+		public final long days;
+		/** Gesamtanzahl an zu simulierenden Kundenanknften in dieser Teilaufgabe (sobald bekannt) */
+		public volatile long countClients;
+		/** Anzahl an bislang simulierten Kundenanknften */
+		public volatile long currentClients;
+		/** Aktuelle Anzahl an Kunden im System */
+		public volatile int currentWIP;
+		/** Anzahl an bislang simulierten Ereignissen */
+		public volatile long eventCount;
+		/** Ereignisse pro Sekunde */
+		public volatile int eventsPerSecond;
+		/** Gerade in Arbeit befindlicher Tag */
+		public volatile long simDayCount;
+		/** Wird gerade simuliert? */
+		public volatile boolean running;
+		/** Ist die Teilaufgabe abgeschlossen? */
+		public volatile boolean done;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param model	Modell fr diese Teilaufgabe
+		 * @param days	Anzahl an Wiederholungen in dieser Teilaufgabe
+		 */
+		public Part(final EditModel model, final long days) {
+			this.model=model;
+			this.days=days;
+		}
+
+		/**
+		 * bernimmt die Fortschrittsdaten von dem Simulator, der diese Teilaufgabe bearbeitet.<br>
+		 * Darf nur von dem Thread aufgerufen werden, der den Simulator steuert.
+		 * @param simulator	Simulator fr diese Teilaufgabe
+		 */
+		public void update(final AnySimulator simulator) {
+			final long count=simulator.getCountClients();
+			if (count>0) countClients=count;
+			currentClients=simulator.getCurrentClients();
+			currentWIP=simulator.getCurrentWIP();
+			eventCount=simulator.getEventCount();
+			eventsPerSecond=simulator.getEventsPerSecond();
+			simDayCount=simulator.getSimDayCount();
+		}
+	}
+
+	/** Zu simulierendes Modell */
+	private final EditModel model;
+	/** Pfad zur zugehrigen Modelldatei (als Basis fr relative Pfade in Ausgabeelementen) */
+	private final String editModelPath;
+	/** Zu verwendende Simulationsserver */
+	private final List<Server> servers;
+	/** Anzahl an lokal zu verwendenden Rechenthreads (kann 0 sein) */
+	private final int localThreads;
+	/** Zeitspanne (in ms), nach der ein Server, von dem keine Daten mehr eingehen, als ausgefallen gilt */
+	private final long timeoutMS;
+
+	/** Rechenknoten (Server und ggf. der lokale Rechner) */
+	private final List<Node> nodes;
+	/** Alle Teilaufgaben */
+	private final List<Part> parts;
+	/** Teilaufgaben, deren Knoten ausgefallen sind und die erneut vergeben werden mssen */
+	private final BlockingQueue<Part> retryParts;
+	/** Anzahl an noch nicht abgeschlossenen Teilaufgaben */
+	private final AtomicInteger openParts;
+	/** Anzahl an noch nicht ausgefallenen Knoten */
+	private int liveNodes;
+	/** Wartet in {@link #start()} darauf, dass alle Knoten ihre erste Teilaufgabe gestartet haben */
+	private CountDownLatch startLatch;
+
+	/** Wurde die Simulation abgebrochen? */
+	private volatile boolean canceled;
+	/** Fehlermeldung, wenn die Simulation nicht erfolgreich abgeschlossen werden konnte */
+	private volatile String error;
+	/** Startzeitpunkt der Simulation (fr die Laufzeitberechnung) */
+	private long startTime;
+	/** Wurden die Teilergebnisse bereits abschlieend aufbereitet? */
+	private boolean finalized;
+	/** Summe der Rechenthreads ber alle Teilergebnisse */
+	private int runThreads;
+
+	/**
+	 * Zusammengefhrte Teilergebnisse (bzw. nach Abschluss der Simulation das Gesamtergebnis)
+	 * @see #getStatistic()
+	 */
+	private Statistics statistics;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param model	Zu simulierendes Modell
+	 * @param editModelPath	Pfad zur zugehrigen Modelldatei (als Basis fr relative Pfade in Ausgabeelementen)
+	 * @param servers	Zu verwendende Simulationsserver
+	 * @param localThreads	Anzahl an lokal zu verwendenden Rechenthreads (kann 0 sein)
+	 * @param timeoutMS	Zeitspanne (in ms), nach der ein Server, von dem keine Daten mehr eingehen, als ausgefallen gilt
+	 */
+	public SimulationFarm(final EditModel model, final String editModelPath, final List<Server> servers, final int localThreads, final long timeoutMS) {
+		this.model=model;
+		this.editModelPath=editModelPath;
+		this.servers=new ArrayList<>(servers);
+		this.localThreads=Math.max(0,localThreads);
+		this.timeoutMS=Math.max(1_000,timeoutMS);
+		nodes=new ArrayList<>();
+		parts=new ArrayList<>();
+		retryParts=new LinkedBlockingQueue<>();
+		openParts=new AtomicInteger();
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param model	Zu simulierendes Modell
+	 * @param editModelPath	Pfad zur zugehrigen Modelldatei (als Basis fr relative Pfade in Ausgabeelementen)
+	 * @param servers	Zu verwendende Simulationsserver
+	 * @param localThreads	Anzahl an lokal zu verwendenden Rechenthreads (kann 0 sein)
+	 */
+	public SimulationFarm(final EditModel model, final String editModelPath, final List<Server> servers, final int localThreads) {
+		this(model,editModelPath,servers,localThreads,DEFAULT_TIMEOUT_MS);
+	}
+
+	/**
+	 * Teilt die Arbeit gem der Kapazitten der Knoten auf.
+	 * @param units	Gesamtanzahl an Arbeitseinheiten (Wiederholungen oder Kundenanknfte)
+	 * @return	Anzahl an Arbeitseinheiten pro Knoten (kann 0 sein)
+	 */
+	private long[] splitUnits(final long units) {
+		long capacitySum=0;
+		for (Node node: nodes) capacitySum+=node.capacity;
+
+		final long[] result=new long[nodes.size()];
+		final double[] remainder=new double[nodes.size()];
+		long assigned=0;
+		for (int i=0;i<result.length;i++) {
+			final double exact=((double)units)*nodes.get(i).capacity/capacitySum;
+			result[i]=(long)Math.floor(exact);
+			remainder[i]=exact-result[i];
+			assigned+=result[i];
+		}
+
+		/* Rest nach dem Verfahren der grten Reste verteilen */
+		while (assigned<units) {
+			int best=0;
+			for (int i=1;i<remainder.length;i++) if (remainder[i]>remainder[best]) best=i;
+			result[best]++;
+			remainder[best]=-1;
+			assigned++;
+		}
+		return result;
+	}
+
+	/**
+	 * Erstellt die Teilaufgaben und ordnet sie den Knoten zu.
+	 */
+	private void buildParts() {
+		final boolean splitDays=(model.repeatCount>1);
+		final boolean splitClients=!splitDays && model.useClientCount && model.clientCount>1;
+		final long[] units;
+		if (splitDays) {
+			units=splitUnits(model.repeatCount);
+		} else if (splitClients) {
+			units=splitUnits(model.clientCount);
+		} else {
+			/* Nicht teilbar: Alles auf dem Knoten mit der grten Kapazitt simulieren */
+			units=new long[nodes.size()];
+			int best=0;
+			for (int i=1;i<nodes.size();i++) if (nodes.get(i).capacity>nodes.get(best).capacity) best=i;
+			units[best]=1;
+		}
+
+		for (int i=0;i<nodes.size();i++) {
+			if (units[i]==0) continue;
+			final EditModel partModel=model.clone();
+			if (splitDays) partModel.repeatCount=(int)units[i];
+			if (splitClients) partModel.clientCount=units[i];
+			if (model.useFixedSeed) partModel.fixedSeed=model.fixedSeed+parts.size();
+			final Part part=new Part(partModel,splitDays?units[i]:model.repeatCount);
+			parts.add(part);
+			nodes.get(i).initialPart=part;
+		}
+		openParts.set(parts.size());
+	}
+
+	/**
+	 * Prft das Modell, fragt die freien Kapazitten der Server ab und teilt die Simulation auf.<br>
+	 * Nicht erreichbare Server werden nicht verwendet. Ist gar kein Knoten verfgbar,
+	 * so wird die Simulation vollstndig lokal ausgefhrt.
+	 * @return	Liefert <code>null</code> zurck, wenn die Simulation erfolgreich vorbereitet werden konnte, sonst eine Fehlermeldung
+	 */
+	public String prepare() {
+		final StartAnySimulator.PrepareError modelError=StartAnySimulator.testModel(model,editModelPath);
+		if (modelError!=null) return modelError.error;
+
+		if (StartAnySimulator.isRemoveSimulateable(model)) {
+			for (Server server: servers) {
+				final int capacity=new ServerStatus(server.host,server.port,true,server.key).getFreeCapacity();
+				if (capacity>0) nodes.add(new Node(server,capacity));
+			}
+		}
+		if (localThreads>0 || nodes.isEmpty()) nodes.add(new Node(null,Math.max(1,localThreads)));
+		liveNodes=nodes.size();
+
+		buildParts();
+		return null;
+	}
+
+	/**
+	 * Startet die Simulation auf allen Knoten.<br>
+	 * Vorher muss {@link #prepare()} erfolgreich ausgefhrt werden.
+	 * Die Methode kehrt zurck, sobald alle Knoten ihre erste Teilaufgabe gestartet haben.
+	 * @return	Liefert <code>null</code>, wenn die Simulation gestartet werden konnte, sonst eine Fehlermeldung.
+	 */
+	public String start() {
+		startTime=System.currentTimeMillis();
+		startLatch=new CountDownLatch(nodes.size());
+		for (Node node: nodes) {
+			node.thread=new Thread(node,"Simulation farm node "+((node.server==null)?"local":node.server.toString()));
+			node.thread.setDaemon(true);
+			node.thread.start();
+		}
+		try {
+			startLatch.await();
+		} catch (InterruptedException e) {
+			cancel();
+			return SimulationServer.SIMULATION_CANCELED;
+		}
+		return error;
+	}
+
+	/**
+	 * Nimmt das Ergebnis einer abgeschlossenen Teilaufgabe auf.
+	 * @param part	Abgeschlossene Teilaufgabe
+	 * @param result	Statistikergebnisse der Teilaufgabe
+	 */
+	private synchronized void addResult(final Part part, final Statistics result) {
+		if (statistics==null) statistics=result; else statistics.addData(result);
+		runThreads+=result.simulationData.runThreads;
+		part.done=true;
+		openParts.decrementAndGet();
+	}
+
+	/**
+	 * Meldet einen ausgefallenen Knoten ab.
+	 * @return	Liefert <code>false</code>, wenn es sich um den letzten Knoten handelt. Dieser muss dann lokal weiterrechnen.
+	 */
+	private synchronized boolean retireNode() {
+		if (liveNodes<=1) return false;
+		liveNodes--;
+		return true;
+	}
+
+	/**
+	 * Rechenknoten (Simulationsserver oder lokaler Rechner)
+	 */
+	private class Node implements Runnable {
+		/** Simulationsserver (oder <code>null</code>, wenn lokal simuliert wird) */
+		private Server server;
+		/** Freie Rechenkapazitt des Knotens (bzw. bei lokaler Simulation die Anzahl an Rechenthreads) */
+		private final int capacity;
+		/** Erste Teilaufgabe (kann <code>null</code> sein, dann werden nur erneut zu vergebende Teilaufgaben bearbeitet) */
+		private Part initialPart;
+		/** Thread, in dem die Teilaufgaben auf diesem Knoten gesteuert werden */
+		private Thread thread;
+		/** Wurde {@link #startLatch} von diesem Knoten bereits heruntergezhlt? */
+		private boolean started;
+		/** Simulator der gerade auf diesem Knoten laufenden Teilaufgabe (oder <code>null</code>, wenn keine Teilaufgabe luft) */
+		private volatile AnySimulator simulator;
+		/** Zeitpunkt (in ms), zu dem der Steuerungsthread zuletzt aktiv war */
+		private volatile long lastActivity=System.currentTimeMillis();
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param server	Simulationsserver (oder <code>null</code>, wenn lokal simuliert werden soll)
+		 * @param capacity	Freie Rechenkapazitt des Knotens (bzw. bei lokaler Simulation die Anzahl an Rechenthreads)
+		 */
+		public Node(final Server server, final int capacity) {
+			this.server=server;
+			this.capacity=capacity;
+		}
+
+		/**
+		 * Vermerkt, dass die erste Teilaufgabe gestartet wurde (oder nicht gestartet werden konnte).
+		 */
+		private void markStarted() {
+			if (started) return;
+			started=true;
+			startLatch.countDown();
+		}
+
+		/**
+		 * Trennt die Verbindung zu dem Simulationsserver, der gerade eine Teilaufgabe
+		 * auf diesem Knoten bearbeitet. Blockierende Netzwerkoperationen in dem
+		 * Steuerungsthread des Knotens werden dadurch beendet.<br>
+		 * Darf aus einem beliebigen Thread aufgerufen werden.
+		 * @return	Liefert <code>true</code>, wenn eine Verbindung zu einem Server bestand
+		 */
+		private boolean closeConnection() {
+			final AnySimulator current=simulator;
+			if (!(current instanceof SimulationClient)) return false;
+			((SimulationClient)current).closeConnection();
+			return true;
+		}
+
+		/**
+		 * Startet den Simulator fr eine Teilaufgabe.<br>
+		 * Bei einer Simulation auf einem Server wird {@link #simulator} bereits vor dem Verbindungsaufbau gesetzt,
+		 * damit die Verbindung auch whrend der Vorbereitung per {@link #closeConnection()} getrennt werden kann.
+		 * @param part	Teilaufgabe
+		 * @return	Gestarteter Simulator oder <code>null</code>, wenn die Teilaufgabe nicht gestartet werden konnte
+		 */
+		private AnySimulator startSimulator(final Part part) {
+			if (server==null) {
+				final Simulator simulator=new Simulator(capacity,part.model,editModelPath,null,null,Simulator.logTypeFull);
+				final StartAnySimulator.PrepareError prepareError=simulator.prepare();
+				if (prepareError!=null) {error=prepareError.error; return null;}
+				simulator.start();
+				return simulator;
+			}
+
+			final SimulationClient client=new SimulationClient(part.model,server.host,server.port,server.key);
+			client.setRequestIncompleteStatistic(true);
+			simulator=client;
+			if (canceled) return null;
+			if (client.prepare()!=null) return null;
+			if (client.start()!=null) return null;
+			return client;
+		}
+
+		/**
+		 * Simuliert eine Teilaufgabe.
+		 * @param part	Teilaufgabe
+		 * @return	Statistikergebnisse der Teilaufgabe oder <code>null</code>, wenn die Teilaufgabe nicht erfolgreich simuliert werden konnte
+		 */
+		private Statistics runPart(final Part part) {
+			lastActivity=System.currentTimeMillis();
+			final AnySimulator simulator=startSimulator(part);
+			this.simulator=simulator;
+			if (simulator!=null) part.update(simulator);
+			markStarted();
+			if (simulator==null) return null;
+
+			part.running=true;
+			try {
+				while (simulator.isRunning()) {
+					lastActivity=System.currentTimeMillis();
+					if (canceled) {simulator.cancel(); return null;}
+					part.update(simulator);
+					if (simulator instanceof SimulationClient && System.currentTimeMillis()-((SimulationClient)simulator).getLastStatusTime()>timeoutMS) {
+						simulator.cancel();
+						return null;
+					}
+					try {Thread.sleep(50);} catch (InterruptedException e) {simulator.cancel(); return null;}
+				}
+				final Statistics result=simulator.getStatistic();
+				if (result!=null) part.update(simulator);
+				return result;
+			} finally {
+				/* Muss vor addResult erfolgen, damit die Teilaufgabe in getIncompleteStatistic nicht doppelt gezhlt wird */
+				this.simulator=null;
+				part.running=false;
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				Part part=initialPart;
+				if (part==null) markStarted();
+				while (!canceled && error==null && openParts.get()>0) {
+					if (part==null) {
+						try {part=retryParts.poll(100,TimeUnit.MILLISECONDS);} catch (InterruptedException e) {break;}
+						if (part==null) continue;
+					}
+
+					final Statistics result=runPart(part);
+					if (result!=null) {
+						addResult(part,result);
+						part=null;
+						continue;
+					}
+					if (canceled || error!=null) break;
+
+					/* Knoten ausgefallen: Teilaufgabe neu vergeben */
+					if (server==null) {
+						if (error==null) error=SimulationServer.SIMULATION_CANCELED;
+						break;
+					}
+					retryParts.add(part);
+					part=null;
+					if (retireNode()) break;
+					/* Letzter verbliebener Knoten: lokal weiterrechnen */
+					server=null;
+				}
+			} finally {
+				markStarted();
+			}
+		}
+	}
+
+	/**
+	 * Bricht die Simulation ab.<br>
+	 * Zunchst werden die Verbindungen zu den Servern getrennt, damit die Steuerungsthreads
+	 * der Knoten nicht in blockierenden Netzwerkoperationen verharren. Danach wird
+	 * hchstens {@link #JOIN_TIMEOUT_MS} Millisekunden auf das Ende der Threads gewartet.
+	 */
+	@Override
+	public void cancel() {
+		canceled=true;
+		for (Node node: nodes) node.closeConnection();
+		final long deadline=System.currentTimeMillis()+JOIN_TIMEOUT_MS;
+		for (Node node: nodes) if (node.thread!=null) {
+			final long wait=deadline-System.currentTimeMillis();
+			if (wait<=0) break;
+			try {node.thread.join(wait);} catch (InterruptedException e) {break;}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		for (Node node: nodes) if (node.thread!=null && node.thread.isAlive()) return true;
+		return false;
+	}
+
+	@Override
+	public long getEventCount() {
+		long sum=0;
+		for (Part part: parts) sum+=part.eventCount;
+		return sum;
+	}
+
+	@Override
+	public int getEventsPerSecond() {
+		int sum=0;
+		for (Part part: parts) if (part.running) sum+=part.eventsPerSecond;
+		return sum;
+	}
+
+	@Override
+	public long getCountClients() {
+		long sum=0;
+		for (Part part: parts) sum+=part.countClients;
+		return sum;
+	}
+
+	@Override
+	public long getCurrentClients() {
+		long sum=0;
+		for (Part part: parts) sum+=part.done?part.countClients:part.currentClients;
+		return sum;
+	}
+
+	@Override
+	public int getCurrentWIP() {
+		int sum=0;
+		for (Part part: parts) if (part.running) sum+=part.currentWIP;
+		return sum;
+	}
+
+	@Override
+	public long getSimDayCount() {
+		long sum=0;
+		for (Part part: parts) sum+=part.done?part.days:part.simDayCount;
+		return sum;
+	}
+
+	@Override
+	public long getSimDaysCount() {
+		long sum=0;
+		for (Part part: parts) sum+=part.days;
+		return sum;
+	}
+
+	/**
+	 * Wartet auf das Ende eines Knoten-Steuerungsthreads.<br>
+	 * Solange der Thread aktiv ist (d.h. regelmig Statusdaten abfragt), wird gewartet.
+	 * Ist der Thread lnger als die Timeout-Zeitspanne nicht mehr aktiv gewesen (z.B. weil er in einer
+	 * blockierenden Netzwerkoperation verharrt), so wird die Verbindung zum Server getrennt und danach
+	 * hchstens {@link #JOIN_TIMEOUT_MS} Millisekunden auf das Ende des Threads gewartet.
+	 * @param node	Knoten, auf dessen Steuerungsthread gewartet werden soll
+	 * @return	Liefert <code>true</code>, wenn der Thread beendet ist
+	 * @throws InterruptedException	Der aufrufende Thread wurde whrend des Wartens unterbrochen
+	 */
+	private boolean joinNode(final Node node) throws InterruptedException {
+		while (node.thread.isAlive()) {
+			node.thread.join(JOIN_TIMEOUT_MS);
+			if (!node.thread.isAlive()) break;
+			if (System.currentTimeMillis()-node.lastActivity<=timeoutMS) continue;
+			if (!node.closeConnection()) continue; /* Lokale Simulation: Bleibt nicht in Netzwerkoperationen hngen */
+			node.thread.join(JOIN_TIMEOUT_MS);
+			if (node.thread.isAlive()) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String finalizeRun() {
+		for (Node node: nodes) if (node.thread!=null) {
+			try {
+				if (!joinNode(node) && error==null) error=String.format(SimulationClient.NO_CONNECT,node.server.host,node.server.port);
+			} catch (InterruptedException e) {
+				return null;
+			}
+		}
+
+		synchronized(this) {
+			if (finalized) return null;
+			finalized=true;
+
+			if (canceled || error!=null || openParts.get()>0 || statistics==null) {
+				statistics=null;
+				return null;
+			}
+
+			/* Basisdaten zum Modell und zum Simulationslauf festhalten */
+			statistics.editModel=model.clone();
+			statistics.editModel.version=EditModel.systemVersion;
+			if (statistics.editModel.author==null || statistics.editModel.author.trim().isEmpty()) statistics.editModel.author=EditModel.getDefaultAuthor();
+			statistics.simulationData.runUser=EditModel.getDefaultAuthor();
+			statistics.simulationData.runTime=System.currentTimeMillis()-startTime;
+			statistics.simulationData.runThreads=runThreads;
+			statistics.simulationData.runRepeatCount=model.repeatCount;
+
+			/* Aufbereitete Daten aus den zusammengefhrten Teilergebnissen berechnen */
+			statistics.calc();
+		}
+		return null;
+	}
+
+	@Override
+	public Statistics getStatistic() {
+		finalizeRun();
+		return statistics;
+	}
+
+	/**
+	 * Liefert einen unvollstndigen Statistikdatensatz bezogen auf den aktuellen Stand der Simulation.<br>
+	 * Dieser setzt sich aus den bereits abgeschlossenen Teilergebnissen und den zuletzt von
+	 * den Knoten gemeldeten Zwischenergebnissen der laufenden Teilaufgaben zusammen. Von den
+	 * Servern werden Zwischenergebnisse etwa alle {@link SimulationServer#INCOMPLETE_STATISTIC_INTERVAL_MS}
+	 * Millisekunden gesendet. Es wird nicht auf neue Daten gewartet.
+	 * @param timeoutMS	Wird nicht verwendet
+	 * @return	Von den Teilergebnissen entkoppeltes Statistikobjekt oder <code>null</code>, wenn (noch) keine Daten vorliegen
+	 */
+	@Override
+	public synchronized Statistics getIncompleteStatistic(final long timeoutMS) {
+		if (finalized || !isRunning()) return null;
+
+		final List<Statistics> list=new ArrayList<>();
+		if (statistics!=null) list.add(statistics);
+		for (Node node: nodes) {
+			final AnySimulator simulator=node.simulator;
+			if (simulator==null) continue;
+			final Statistics partial=simulator.getIncompleteStatistic(0);
+			if (partial!=null) list.add(partial);
+		}
+		if (list.isEmpty()) return null;
+
+		final Statistics result=new Statistics(model.collectWaitingTimes,model.useWelford);
+		for (Statistics part: list) result.addData(part);
+		result.editModel=model.clone();
+		result.simulationData.runThreads=runThreads;
+		result.calc();
+		return result;
+	}
+
+	/**
+	 * Liefert die Fehlermeldung, wenn die Simulation nicht erfolgreich abgeschlossen werden konnte.
+	 * @return	Fehlermeldung oder <code>null</code>, wenn kein Fehler aufgetreten ist
+	 */
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * Liefert die tatschlich verwendeten Simulationsserver
+	 * (d.h. die, die bei der Vorbereitung der Simulation erreichbar waren).
+	 * @return	Liste der verwendeten Server in der Form <code>Host:Port</code>
+	 */
+	public List<String> getHosts() {
+		return Collections.unmodifiableList(nodes.stream().map(node->node.server).filter(server->server!=null).map(Server::toString).collect(Collectors.toList()));
+	}
+}
@@ -26,6 +26,7 @@ import simulator.Simulator;
 import simulator.StartAnySimulator;
 import simulator.editmodel.EditModel;
 import simulator.editmodel.EditModelBase;
+import simulator.statistics.Statistics;
 import ui.MainPanel;
 
 /**
@@ -52,6 +53,12 @@ public class SimulationServer extends NetServer {
 	/** Bezeichner fr die Fehlermeldung "Client- und Serverversion passen nicht zueinander." */
 	public static String PREPARE_VERSION_MISMATCH="Client- und Serverversion passen nicht zueinander.";
 
+	/**
+	 * Zeitabstand (in ms) in dem Zwischenergebnisse an den Client gesendet werden, wenn dieser diese angefordert hat
+	 * @see SimulationClient#setRequestIncompleteStatistic(boolean)
+	 */
+	public static final long INCOMPLETE_STATISTIC_INTERVAL_MS=5_000;
+
 	/** Wird <code>true</code> bergeben, so werden nicht mehr gleichzeitige Tasks angenommen, als logische CPU-Kerne fr die Threads vorhanden sind. */
 	private final boolean limitThreadCount;
 	/** Gibt an, wie viele Simulationsthreads momentan laufen */
@@ -142,12 +149,14 @@ public class SimulationServer extends NetServer {
 	 * Fhrt eine Simulation aus.
 	 * @param transfer	Transfer-Objekt
 	 * @param log	Eigenes System zu Erfassung von Meldungen
+	 * @param sendIncompleteStatistic	Sollen whrend der Simulation regelmig Zwischenergebnisse an den Client gesendet werden?
 	 */
-	private void processCommandSimulation(final NetTransfer transfer, final Consumer<String> log) {
+	private void processCommandSimulation(final NetTransfer transfer, final Consumer<String> log, final boolean sendIncompleteStatistic) {
 		final Simulator simulator=startSimulator(transfer,log);
 		if (simulator==null) return;
 		final long clientCount=simulator.getCountClients();
 		final long daysCount=simulator.getSimDaysCount();
+		long lastIncompleteStatistic=0;
 
 		simulationCount++;
 		runningThreads+=simulator.threadCount;
@@ -173,6 +182,19 @@ public class SimulationServer extends NetServer {
 				/* Info senden */
 				sendInfo(transfer,simulator,clientCount,daysCount);
 
+				/* Zwischenergebnisse senden (bis die ersten Momentaufnahmen vorliegen, wird bei jedem Durchlauf erneut angefragt) */
+				if (sendIncompleteStatistic && System.currentTimeMillis()-lastIncompleteStatistic>=INCOMPLETE_STATISTIC_INTERVAL_MS) {
+					final Statistics statistics=simulator.getIncompleteStatistic(0);
+					if (statistics!=null) {
+						lastIncompleteStatistic=System.currentTimeMillis();
+						final ByteArrayOutputStream output=new ByteArrayOutputStream();
+						if (statistics.saveToStream(output)) {
+							transfer.sendByte(4);
+							transfer.sendStream(output);
+						}
+					}
+				}
+
 				/* Info-Thread pausieren */
 				try {Thread.sleep(100);} catch (InterruptedException e) {
 					simulator.cancel();
@@ -227,8 +249,9 @@ public class SimulationServer extends NetServer {
 		}
 
 		switch (cmd[0]) {
-		case 0: processCommandSimulation(transfer,log); break;
+		case 0: processCommandSimulation(transfer,log,false); break;
 		case 1: processCommandInfo(transfer); break;
+		case 2: processCommandSimulation(transfer,log,true); break;
 		}
 	}
 
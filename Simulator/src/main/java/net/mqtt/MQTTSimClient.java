@@ -31,8 +31,10 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.paho.mqttv5.common.packet.UserProperty;
 
+import net.web.HandlerStatus;
 import net.webcalc.CalcFuture;
 import simulator.editmodel.EditModel;
+import simulator.statistics.Statistics;
 
 /**
  * Diese Klasse stellt die Simulator-Serverdienste ber einen
@@ -78,12 +80,25 @@ public class MQTTSimClient extends MQTTSimClientBase {
 	 */
 	private final List<CalcFuture> list;
 
+	/**
+	 * Zuordnung der aktiven Aufgaben zu ihren MQTT-Antwort-Themen
+	 * @see #list
+	 */
+	private final Map<CalcFuture,String> responseTopics;
+
+	/**
+	 * Thread zur Ausgabe der Zwischenergebnisse der laufenden Aufgaben<br>
+	 * (wird bei Bedarf von {@link #processJob(String, byte[], List)} gestartet)
+	 */
+	private ProgressThread progressThread;
+
 	/**
 	 * Konstruktor der Klasse
 	 */
 	public MQTTSimClient() {
 		lock=new ReentrantLock();
 		list=new ArrayList<>();
+		responseTopics=new HashMap<>();
 
 		executor=new ThreadPoolExecutor(0,1,5000,TimeUnit.MILLISECONDS,new LinkedBlockingQueue<>(),(ThreadFactory)r->new Thread(r,"MQTTSim Request Processor"));
 	}
@@ -184,6 +199,11 @@ public class MQTTSimClient extends MQTTSimClientBase {
 				future=new CalcFuture(fixedModel,input,f->simulationDone(responseTopic,f,userProperties));
 			}
 			list.add(future);
+			responseTopics.put(future,responseTopic);
+			if (progressThread==null) {
+				progressThread=new ProgressThread();
+				progressThread.start();
+			}
 			executor.submit(()->future.run());
 		} finally {
 			lock.unlock();
@@ -196,11 +216,17 @@ public class MQTTSimClient extends MQTTSimClientBase {
 		try {
 			for (CalcFuture future: list) future.cancel();
 			list.clear();
+			responseTopics.clear();
 			super.stop();
 		} finally {
 			lock.unlock();
 		}
 
+		if (progressThread!=null) {
+			progressThread.interrupt();
+			progressThread=null;
+		}
+
 		if (loadInfoThread!=null) {
 			loadInfoThread.interrupt();
 			loadInfoThread=null;
@@ -219,6 +245,7 @@ public class MQTTSimClient extends MQTTSimClientBase {
 			final byte[] result=future.getBytes();
 			if (result!=null) send(responseTopic,result,userProperties);
 			list.remove(future);
+			responseTopics.remove(future);
 		} finally {
 			lock.unlock();
 		}
@@ -250,6 +277,53 @@ public class MQTTSimClient extends MQTTSimClientBase {
 		return instance;
 	}
 
+	/**
+	 * Thread zur Ausgabe der Zwischenergebnisse der laufenden Aufgaben.<br>
+	 * Die Zwischenergebnisse werden jeweils an das Thema "Antwort-Thema/progress" gesendet.
+	 * @see MQTTSimClient#progressThread
+	 */
+	private class ProgressThread extends Thread {
+		/**
+		 * Zeitintervall (in MS) in dem Zwischenergebnisse ausgegeben werden sollen
+		 */
+		private static final int INFO_INTERVAL=2_000;
+
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public ProgressThread() {
+			super("MQTT Progress Info Thread");
+			setDaemon(true);
+		}
+
+		/**
+		 * Sendet die Zwischenergebnisse aller laufenden Aufgaben.
+		 */
+		private void processInfo() {
+			final Map<CalcFuture,String> topics;
+			lock.lock();
+			try {
+				topics=new HashMap<>(responseTopics);
+			} finally {
+				lock.unlock();
+			}
+
+			for (Map.Entry<CalcFuture,String> entry: topics.entrySet()) {
+				final Statistics statistics=entry.getKey().getIncompleteStatistic();
+				if (statistics==null) continue;
+				send(entry.getValue()+"/progress",HandlerStatus.getPartialResultsJSON(statistics,"").getBytes(StandardCharsets.UTF_8),null,0);
+			}
+		}
+
+		@Override
+		public void run() {
+			while (!isInterrupted()) {
+				try {sleep(INFO_INTERVAL);} catch (InterruptedException e) {return;}
+				processInfo();
+			}
+		}
+	}
+
 	/**
 	 * Thread zur Ausgabe der Systemauslastung
 	 * @see MQTTSimClient#loadInfoThread
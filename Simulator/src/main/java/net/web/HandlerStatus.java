@@ -16,7 +16,10 @@
 package net.web;
 
 import language.Language;
+import mathtools.NumberTools;
+import simulator.Simulator;
 import simulator.editmodel.EditModel;
+import simulator.statistics.Statistics;
 import ui.AnimationPanel;
 import ui.EditorPanel;
 import ui.MainPanel;
@@ -68,10 +71,39 @@ public class HandlerStatus extends HandlerText {
 		if (mainPanel.currentPanel instanceof WaitPanel) s=Language.tr("WebServer.Status.Mode.Simulation");
 		if (mainPanel.currentPanel instanceof StatisticsPanel) s=Language.tr("WebServer.Status.Mode.Statistics");
 		if (mainPanel.currentPanel instanceof AnimationPanel) s=Language.tr("WebServer.Status.Mode.Animation");
-		sb.append("  \"mode\": \""+s+"\"\n");
+		sb.append("  \"mode\": \""+s+"\"");
+
+		Statistics partialResults=null;
+		if (mainPanel.currentPanel instanceof WaitPanel) partialResults=((WaitPanel)mainPanel.currentPanel).getIncompleteStatistic();
+		if (mainPanel.currentPanel instanceof AnimationPanel) {
+			final Simulator simulator=((AnimationPanel)mainPanel.currentPanel).getSimulator();
+			if (simulator!=null) partialResults=simulator.getIncompleteStatistic(0);
+		}
+		if (partialResults!=null) {
+			sb.append(",\n");
+			sb.append("  \"partialResults\": "+getPartialResultsJSON(partialResults,"  "));
+		}
+		sb.append("\n");
 
 		sb.append("}\n");
 
 		return sb.toString();
 	}
+
+	/**
+	 * Liefert ein json-Objekt mit den wichtigsten Kenngren zu einem unvollstndigen Statistikdatensatz einer laufenden Simulation.
+	 * @param statistics	Unvollstndiger Statistikdatensatz
+	 * @param indent	Einrckung der Zeilen (kann eine leere Zeichenkette sein, darf aber nicht <code>null</code> sein)
+	 * @return	json-Objekt mit den bisherigen Ergebnissen
+	 * @see Simulator#getIncompleteStatistic(long)
+	 */
+	public static String getPartialResultsJSON(final Statistics statistics, final String indent) {
+		final StringBuilder sb=new StringBuilder();
+		sb.append("{\n");
+		sb.append(indent+"  \"clients\": \""+statistics.clientsAllResidenceTimes.getCount()+"\",\n");
+		sb.append(indent+"  \"waitingTime\": \""+NumberTools.formatSystemNumber(statistics.clientsAllWaitingTimes.getMean())+"\",\n");
+		sb.append(indent+"  \"residenceTime\": \""+NumberTools.formatSystemNumber(statistics.clientsAllResidenceTimes.getMean())+"\"\n");
+		sb.append(indent+"}");
+		return sb.toString();
+	}
 }
@@ -33,6 +33,7 @@ import language.Language;
 import mathtools.MultiTable;
 import mathtools.Table;
 import net.calc.SimulationServer;
+import net.web.HandlerStatus;
 import simulator.AnySimulator;
 import simulator.Simulator;
 import simulator.StartAnySimulator;
@@ -658,6 +659,19 @@ public class CalcFuture {
 		return result.toString();
 	}
 
+	/**
+	 * Liefert einen unvollstndigen Statistikdatensatz zu der laufenden Simulation.<br>
+	 * Es wird dabei nicht auf die Momentaufnahmen der Simulationsthreads gewartet,
+	 * daher kann beim ersten Aufruf noch <code>null</code> geliefert werden.
+	 * @return	Unvollstndiger Statistikdatensatz oder <code>null</code>, wenn (noch) keine Daten vorliegen oder keine Modellsimulation luft
+	 * @see AnySimulator#getIncompleteStatistic(long)
+	 */
+	public Statistics getIncompleteStatistic() {
+		final AnySimulator simulator=this.simulator;
+		if (simulator==null) return null;
+		return simulator.getIncompleteStatistic(0);
+	}
+
 	/**
 	 * Liefert den aktuellen Status des Task in Form eines JSON-Objektes.
 	 * @param versionRest	REST-Versionskennung (z.B. "v1")
@@ -711,6 +725,10 @@ public class CalcFuture {
 		status.append(indent+"  \"statusText\": \""+getStatusText()+"\",\n");
 		if (showViewable) status.append(indent+"  \"viewable\": \""+viewable+"\",\n");
 		status.append(indent+"  \"client\": \""+ip+"\",\n");
+		if (this.status==Status.PROCESSING) {
+			final Statistics partialResults=getIncompleteStatistic();
+			if (partialResults!=null) status.append(indent+"  \"partialResults\": "+HandlerStatus.getPartialResultsJSON(partialResults,indent+"  ")+",\n");
+		}
 		status.append(indent+"  \"messages\": "+jsonFormatMessages(indent+"  "));
 		if (showLinks) {
 			status.append(",\n");
@@ -87,4 +87,14 @@ public interface AnySimulator {
 	 * @return	Statistik-Objekt, welches alle Daten des Simulationslaufs enthlt (oder <code>null</code>, wenn die Simulation - ggf. auch durch den Server - abgebrochen wurde)
 	 */
 	Statistics getStatistic();
+
+	/**
+	 * Liefert einen unvollstndigen Statistikdatensatz bezogen auf den aktuellen Stand der laufenden Simulation.<br>
+	 * Die Standardimplementierung liefert stets <code>null</code>, d.h. es stehen keine Zwischenergebnisse zur Verfgung.
+	 * @param timeoutMS	Maximale Wartezeit auf die Zwischenergebnisse in Millisekunden (Werte &le;0 bedeuten, dass nicht gewartet wird)
+	 * @return	Von dem internen Zustand entkoppeltes Statistikobjekt oder <code>null</code>, wenn (noch) keine Daten vorliegen
+	 */
+	default Statistics getIncompleteStatistic(final long timeoutMS) {
+		return null;
+	}
 }
@@ -29,6 +29,7 @@ import mathtools.NumberTools;
 import mathtools.distribution.tools.DistributionRandomNumber;
 import mathtools.distribution.tools.SeedableThreadLocalRandomGenerator;
 import mathtools.distribution.tools.ThreadLocalRandomGenerator;
+import simcore.ReplicationScheduler;
 import simcore.SimData;
 import simcore.SimThread;
 import simcore.SimulatorBase;
@@ -146,6 +147,13 @@ public class Simulator extends SimulatorBase implements AnySimulator {
 	 */
 	private DynamicLoadBalancer dynamicLoadBalancer;
 
+	/**
+	 * Gemeinsame dynamische Verteilung der Wiederholungen auf die Threads
+	 * (kann <code>null</code> sein, dann erhlt jeder Thread einen festen Block an Wiederholungen)
+	 * @see #prepare(boolean)
+	 */
+	private ReplicationScheduler replicationScheduler;
+
 	/**
 	 * Minimale Anzahl an Anknften pro Thread
 	 * (fr die Festlegung der Anzahl an parallelen Threads)
@@ -275,9 +283,25 @@ public class Simulator extends SimulatorBase implements AnySimulator {
 			if (runModel.repeatCount==1 && threadCount>1 && runModel.clientCount>0) dynamicLoadBalancer=new DynamicLoadBalancer(runModel.clientCount,threadCount);
 		}
 
+		final SetupData.RepeatSchedulingMode repeatScheduling=SetupData.getSetup().repeatScheduling;
+		if (repeatScheduling!=SetupData.RepeatSchedulingMode.STATIC && threadCount>1 && SimulationData.getRepeatSplitFactor(runModel,threadCount)==1) {
+			if (runModel.repeatCount>1) replicationScheduler=new ReplicationScheduler(runModel.repeatCount,threadCount,repeatScheduling==SetupData.RepeatSchedulingMode.WORK_STEALING);
+		}
+
 		return null;
 	}
 
+	/**
+	 * Liefert die Anzahl an Transporterfahrten (in Summe ber alle Threads).
+	 * @return	Anzahl an Transporterfahrten
+	 * @see SimulationData#transporterMoves
+	 */
+	private long getTransporterMoves() {
+		long sum=0;
+		for (int i=0;i<threadCount;i++) sum+=((SimulationData)threads[i].simData).transporterMoves;
+		return sum;
+	}
+
 	/**
 	 * Liefert die maximale relative Abweichung an simulierten Kunden pro Thread (bei der Verwendung einer dynamischen Thread-Balance).
 	 * @return	Maximale relative Abweichung an simulierten Kunden pro Thread
@@ -319,6 +343,30 @@ public class Simulator extends SimulatorBase implements AnySimulator {
 		return results;
 	}
 
+	/**
+	 * Liefert die Anzahl an vom Load-Balancer vergebenen Anknfte-Paketen pro Thread (bei der Verwendung einer dynamischen Thread-Balance).
+	 * @return	Anknfte-Pakete pro Thread (oder <code>null</code>, wenn kein Load-Balancer verwendet wurde)
+	 */
+	private long[] getBalancerPackages() {
+		if (dynamicLoadBalancer==null) return null;
+
+		final long[] results=new long[threadCount];
+		for (int i=0;i<threadCount;i++) results[i]=dynamicLoadBalancer.getPackageCount(i);
+		return results;
+	}
+
+	/**
+	 * Liefert die zuletzt vom Load-Balancer gemessene Geschwindigkeit der einzelnen Threads (bei der Verwendung einer dynamischen Thread-Balance).
+	 * @return	Anknfte pro Sekunde pro Thread (oder <code>null</code>, wenn kein Load-Balancer verwendet wurde)
+	 */
+	private long[] getBalancerRates() {
+		if (dynamicLoadBalancer==null) return null;
+
+		final long[] results=new long[threadCount];
+		for (int i=0;i<threadCount;i++) results[i]=dynamicLoadBalancer.getArrivalsPerSecond(i);
+		return results;
+	}
+
 	/**
 	 * Schreibt am Simulationsende die Basisdaten des Simulationsprozesses
 	 * in die Statistik
@@ -334,12 +382,19 @@ public class Simulator extends SimulatorBase implements AnySimulator {
 		statistics.simulationData.runTime=runTime;
 		statistics.simulationData.runThreads=threadCount;
 		statistics.simulationData.runEvents=getEventCount();
+		statistics.simulationData.runEventsRemoved=getDeletedEventCount();
+		statistics.simulationData.runEventsMarked=getTombstoneEventCount();
+		statistics.simulationData.runTransporterMoves=getTransporterMoves();
 		statistics.simulationData.runRepeatCount=editModel.repeatCount;
 		statistics.simulationData.numaAwareMode=getNUMAAware();
 		statistics.simulationData.threadRunTimes=getThreadRuntimes();
 		statistics.simulationData.threadDynamicBalance=getBalancerInfo();
 		final long[] balanceData=getBalancerData();
 		if (balanceData!=null) statistics.simulationData.threadDynamicBalanceData=balanceData;
+		final long[] balancePackages=getBalancerPackages();
+		if (balancePackages!=null) statistics.simulationData.threadDynamicBalancePackages=balancePackages;
+		final long[] balanceRates=getBalancerRates();
+		if (balanceRates!=null) statistics.simulationData.threadDynamicBalanceRates=balanceRates;
 	}
 
 	/**
@@ -368,16 +423,19 @@ public class Simulator extends SimulatorBase implements AnySimulator {
 			/* Basisdaten zum Modell und zum Simulationslauf festhalten */
 			writeBaseDataToStatistics(statistics);
 
-			/* Daten von den Threads einsammeln */
+			/* Daten von den Threads einsammeln (die einzelnen Kenngren werden dabei parallel zusammengefhrt) */
+			final List<Statistics> partialStatisticsList=new ArrayList<>(threads.length);
+			for (int i=0;i<threads.length;i++) partialStatisticsList.add(((SimulationData)threads[i].simData).statistics);
+			statistics.addData(partialStatisticsList);
+
 			long count1=0;
 			long count2=0;
 			double waiting1=0;
 			double waiting2=0;
 			final List<StatisticsDataPerformanceIndicator> partialWaitingTime=new ArrayList<>();
 			for (int i=0;i<threads.length;i++) {
-				final Statistics partialStatistics=((SimulationData)threads[i].simData).statistics;
+				final Statistics partialStatistics=partialStatisticsList.get(i);
 				partialWaitingTime.add(partialStatistics.clientsAllWaitingTimes);
-				statistics.addData(partialStatistics);
 				final long count=partialStatistics.clientsAllWaitingTimes.getCount();
 				final double waiting=partialStatistics.clientsAllWaitingTimes.getSum();
 				if (count>0) { /* Daten nur bercksichtigen, wenn in dem Thread berhaupt Ergebnisse angefallen sind */
@@ -421,20 +479,64 @@ public class Simulator extends SimulatorBase implements AnySimulator {
 		return statistics;
 	}
 
+	/**
+	 * Standard-Wartezeit (in Millisekunden) von {@link #getIncompleteStatistic()} auf
+	 * die ersten Momentaufnahmen der Simulationsthreads
+	 * @see #getIncompleteStatistic()
+	 */
+	public static final long DEFAULT_INCOMPLETE_STATISTIC_TIMEOUT_MS=2*SimThread.SNAPSHOT_INTERVAL_MS;
+
 	/**
 	 * Liefert einen unvollstndigen Statistikdatensatz bezogen auf den
 	 * aktuellen Stand einer laufenden Simulation.<br>
-	 * (Voraussetzungen: Die Simulation muss im Single-Core-Modus laufen
-	 * und sie muss momentan pausiert sein.)
-	 * @return	Liefert im Erfolgsfall ein von dem internen Zustand entkoppeltes Statistikobjekt oder <code>null</code>, wenn die Voraussetzungen nicht erfllt sind
+	 * Ist die Simulation im Single-Core-Modus pausiert, so wird der aktuelle
+	 * Stand direkt ausgelesen. Ansonsten werden die von den Simulationsthreads
+	 * verffentlichten Momentaufnahmen zusammengefhrt, ohne dass die Threads
+	 * dafr angehalten werden. Liegen noch keine Momentaufnahmen vor, so wird
+	 * bis zu {@link #DEFAULT_INCOMPLETE_STATISTIC_TIMEOUT_MS} Millisekunden auf diese gewartet.
+	 * @return	Liefert im Erfolgsfall ein von dem internen Zustand entkoppeltes Statistikobjekt oder <code>null</code>, wenn (noch) keine Daten vorliegen
+	 * @see #getIncompleteStatistic(long)
 	 */
 	public Statistics getIncompleteStatistic() {
-		if (!isPaused() || !isRunning()) return null;
-		if (threads.length!=1) return null;
+		return getIncompleteStatistic(DEFAULT_INCOMPLETE_STATISTIC_TIMEOUT_MS);
+	}
+
+	/**
+	 * Liefert einen unvollstndigen Statistikdatensatz bezogen auf den
+	 * aktuellen Stand einer laufenden Simulation.<br>
+	 * Ist die Simulation im Single-Core-Modus pausiert, so wird der aktuelle
+	 * Stand direkt ausgelesen. Ansonsten werden die von den Simulationsthreads
+	 * verffentlichten Momentaufnahmen zusammengefhrt, ohne dass die Threads
+	 * dafr angehalten werden. Der erste Aufruf aktiviert die Momentaufnahmen;
+	 * liegen diese noch nicht vor, so wird bis zu der angegebenen Zeit auf sie gewartet.
+	 * @param timeoutMS	Maximale Wartezeit auf die ersten Momentaufnahmen in Millisekunden (Werte &le;0 bedeuten, dass nicht gewartet wird, so dass z.B. bei periodischen Abfragen beim ersten Aufruf noch <code>null</code> geliefert werden kann)
+	 * @return	Liefert im Erfolgsfall ein von dem internen Zustand entkoppeltes Statistikobjekt oder <code>null</code>, wenn (noch) keine Daten vorliegen
+	 * @see SimThread#getSnapshot(long)
+	 */
+	@Override
+	public Statistics getIncompleteStatistic(final long timeoutMS) {
+		if (!isRunning() || runModel==null) return null;
+
+		final Statistics[] parts=new Statistics[threads.length];
+		if (threads.length==1 && isPaused()) {
+			parts[0]=((SimulationData)threads[0].simData).statistics;
+		} else {
+			/* Zunchst von allen Threads Momentaufnahmen anfordern, erst dann (ggf. wartend) abrufen */
+			for (int i=0;i<threads.length;i++) if (threads[i]!=null) {
+				final Object snapshot=threads[i].getSnapshot(0);
+				if (snapshot instanceof Statistics) parts[i]=(Statistics)snapshot;
+			}
+			final long deadline=System.currentTimeMillis()+Math.max(0,timeoutMS);
+			for (int i=0;i<threads.length;i++) if (parts[i]==null && threads[i]!=null) {
+				final Object snapshot=threads[i].getSnapshot(deadline-System.currentTimeMillis());
+				if (snapshot instanceof Statistics) parts[i]=(Statistics)snapshot;
+			}
+			for (Statistics part: parts) if (part==null) return null;
+		}
 
 		final Statistics statistics=new Statistics(runModel.correlationRange,runModel.correlationMode,runModel.batchMeansSize,runModel.collectWaitingTimes,runModel.distributionRecordHours,runModel.distributionRecordClientDataValues,runModel.useWelford);
 		writeBaseDataToStatistics(statistics);
-		statistics.addData(((SimulationData)threads[0].simData).statistics);
+		for (Statistics part: parts) statistics.addData(part);
 		statistics.calc();
 
 		return statistics;
@@ -466,6 +568,7 @@ public class Simulator extends SimulatorBase implements AnySimulator {
 			runModel=this.runModel;
 		}
 		data=new SimulationData(threadNr,threadCount,this,runModel,null,dynamicLoadBalancer);
+		if (replicationScheduler!=null) ((SimulationData)data).setReplicationScheduler(replicationScheduler);
 
 		if (logging!=null) {
 			final SimulationData simData=(SimulationData)data;
@@ -15,12 +15,15 @@
  */
 package simulator;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import mathtools.NumberTools;
 import net.calc.SimulationClient;
+import net.calc.SimulationFarm;
 import simcore.logging.SimLogging;
 import simulator.editmodel.EditModel;
 import simulator.runmodel.RunModel;
@@ -57,6 +60,13 @@ public class StartAnySimulator {
 	 */
 	private SimulationClient remoteSimulator;
 
+	/**
+	 * Hlt im Falle einer auf mehrere Server verteilten Simulation die Koordinator-Instanz vor.
+	 * @see #prepare()
+	 * @see #start()
+	 */
+	private SimulationFarm farmSimulator;
+
 	/**
 	 * Hlt im Falle einer lokalen Simulation die Simulator-Instanz vor.
 	 * @see #prepare()
@@ -136,6 +146,21 @@ public class StartAnySimulator {
 		}
 	}
 
+	/**
+	 * Liefert die Liste der weiteren Simulationsserver, auf die eine Simulation verteilt werden soll.
+	 * @return	Liste der Server (ist leer, wenn keine verteilte Simulation stattfinden soll)
+	 * @see SimulationFarm
+	 */
+	public static List<SimulationFarm.Server> getServerFarmSetup() {
+		final SetupData setup=SetupData.getSetup();
+		if (!setup.serverUse) return new ArrayList<>();
+		final List<SimulationFarm.Server> servers=SimulationFarm.Server.parse(setup.serverFarm);
+		if (servers.isEmpty()) return servers;
+		final Object[] serverSettings=getServerSetup();
+		if (serverSettings!=null) servers.add(0,new SimulationFarm.Server((String)serverSettings[0],(Integer)serverSettings[1],(String)serverSettings[2]));
+		return servers;
+	}
+
 	/**
 	 * Prft das Modell und bereitet die Simulation vor.
 	 * @return	Gibt im Erfolgsfall <code>null</code> zurck, sonst eine Fehlermeldung.
@@ -154,14 +179,6 @@ public class StartAnySimulator {
 		final PrepareError prepareError=testModel(editModel,editModelPath);
 		if (prepareError!=null) return prepareError;
 
-		if (isRemoveSimulateable(editModel)) {
-			final Object[] serverSettings=getServerSetup();
-			if (serverSettings!=null) {
-				remoteSimulator=new SimulationClient(editModel,(String)serverSettings[0],(Integer)serverSettings[1],(String)serverSettings[2]);
-				if (remoteSimulator.prepare()==null) return null; else remoteSimulator=null;
-			}
-		}
-
 		int maxThreadsReal=maxThreads;
 		final SetupData setup=SetupData.getSetup();
 		if (setup.useMultiCoreSimulation) {
@@ -171,6 +188,20 @@ public class StartAnySimulator {
 		}
 		maxThreadsReal=Math.max(maxThreadsReal,1);
 
+		if (isRemoveSimulateable(editModel)) {
+			final List<SimulationFarm.Server> farm=getServerFarmSetup();
+			if (!farm.isEmpty()) {
+				farmSimulator=new SimulationFarm(editModel,editModelPath,farm,maxThreadsReal);
+				if (farmSimulator.prepare()==null && !farmSimulator.getHosts().isEmpty()) return null; else farmSimulator=null;
+			}
+
+			final Object[] serverSettings=getServerSetup();
+			if (serverSettings!=null) {
+				remoteSimulator=new SimulationClient(editModel,(String)serverSettings[0],(Integer)serverSettings[1],(String)serverSettings[2]);
+				if (remoteSimulator.prepare()==null) return null; else remoteSimulator=null;
+			}
+		}
+
 		localSimulator=new Simulator(maxThreadsReal,editModel,editModelPath,logging,loggingIDs,logType);
 		return localSimulator.prepare(allowLoadBalancer);
 	}
@@ -181,6 +212,18 @@ public class StartAnySimulator {
 	 * @return	Liefert in Erfolgsfall ein Interface auf den gestarteten Simulator; im Fehlerfall <code>null</code>.
 	 */
 	public AnySimulator start() {
+		if (farmSimulator!=null) {
+			final String error=farmSimulator.start();
+			if (error==null) {
+				return farmSimulator;
+			} else {
+				farmSimulator.cancel();
+				farmSimulator=null;
+				localSimulator=new Simulator(editModel,editModelPath,logging,loggingIDs,logType);
+				if (localSimulator.prepare()!=null) localSimulator=null;
+			}
+		}
+
 		if (remoteSimulator!=null) {
 			final String error=remoteSimulator.start();
 			if (error==null) {
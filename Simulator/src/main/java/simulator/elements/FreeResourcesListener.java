@@ -45,4 +45,13 @@ public interface FreeResourcesListener {
 	 * @return	Prioritt fr die Zuweisung von verfgbaren Ressourcen
 	 */
 	double getSecondaryResourcePriority(final SimulationData simData);
+
+	/**
+	 * Liefert die von dieser Station bentigten Ressourcen.<br>
+	 * ber diese Angabe wird beim Aufbau des Laufzeitmodells bestimmt, welche Stationen
+	 * bei der Freigabe welcher Ressourcen benachrichtigt werden mssen.
+	 * @return	Alternativen der bentigten Ressourcen (jeweils Anzahl an bentigten Bedienern pro Ressourcen-Index) oder <code>null</code>, wenn die Station bei der Freigabe beliebiger Ressourcen benachrichtigt werden soll
+	 * @see simulator.runmodel.RunModel#freeResourcesListenerByResource
+	 */
+	int[][] getNeededResources();
 }
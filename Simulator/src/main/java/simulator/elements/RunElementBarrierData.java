@@ -15,12 +15,12 @@
  */
 package simulator.elements;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import simulator.coreelements.RunElementData;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 
 /**
  * Laufzeitdaten eines {@link RunElementBarrier}-Laufzeit-Objekts
@@ -57,7 +57,7 @@ public class RunElementBarrierData extends RunElementData implements RunElementD
 		super(station);
 		queueLockedForPickUp=false;
 		this.initialClients=Arrays.copyOf(initialClients,initialClients.length);
-		waitingClients=new ArrayList<>();
+		waitingClients=new RunDataQueue<>();
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import simulator.runmodel.RunDataClient;
 import simulator.runmodel.RunModel;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionCalc;
+import simulator.simparser.ExpressionDependencies;
 import ui.modeleditor.coreelements.ModelElement;
 import ui.modeleditor.elements.ModelElementBarrierPull;
 import ui.modeleditor.elements.ModelElementSub;
@@ -135,6 +136,7 @@ public class RunElementBarrierPull extends RunElementPassThrough implements Stat
 			simData.runData.logClientEntersStationQueue(simData,this,data,client);
 
 			/* System ber Status-nderung benachrichtigen */
+			simData.runData.requestStateChangeNotify(this);
 			simData.runData.fireStateChangeNotify(simData);
 		} finally {
 			data.queueLockedForPickUp=false;
@@ -174,6 +176,7 @@ public class RunElementBarrierPull extends RunElementPassThrough implements Stat
 
 		/* Zeit der aktuellen Freigabe festhalten */
 		data.lastSendTime=simData.currentTime;
+		simData.runData.requestStateChangeNotify(this);
 
 		/* Kunden an Station in Statistik */
 		simData.runData.logClientLeavesStationQueue(simData,this,data,client);
@@ -192,6 +195,7 @@ public class RunElementBarrierPull extends RunElementPassThrough implements Stat
 		/* Haben wir gerade einen Kunden losgeschickt und ist dieser evtl. noch nicht an der Zielstation? */
 		if (data.lastSendTime==simData.currentTime) {
 			if (simData.runData.stopp) return false;
+			simData.runData.requestStateChangeNotify(this);
 			final ReleaseRecheckEvent event=(ReleaseRecheckEvent)simData.getEvent(ReleaseRecheckEvent.class);
 			event.init(simData.currentTime+1);
 			event.station=this;
@@ -207,4 +211,9 @@ public class RunElementBarrierPull extends RunElementPassThrough implements Stat
 
 		return true;
 	}
+
+	@Override
+	public ExpressionDependencies getStateChangeDependencies(final SimulationData simData) {
+		return getData(simData).getDependencies(simData);
+	}
 }
\ No newline at end of file
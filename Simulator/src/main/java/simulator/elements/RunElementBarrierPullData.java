@@ -16,6 +16,7 @@
 package simulator.elements;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.math3.util.FastMath;
@@ -24,8 +25,10 @@ import parser.MathCalcError;
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionCalc;
+import simulator.simparser.ExpressionDependencies;
 
 /**
  * Laufzeitdaten eines <code>RunElementBarrierPull</code>-Laufzeit-Objekts
@@ -84,7 +87,7 @@ public class RunElementBarrierPullData extends RunElementData implements RunElem
 	public RunElementBarrierPullData(final RunElement station, final int nextControlledID, final String maxClients, final String[] variableNames) {
 		super(station);
 		queueLockedForPickUp=false;
-		waitingClients=new ArrayList<>();
+		waitingClients=new RunDataQueue<>();
 		lastSendTime=-1;
 		this.nextControlledID=nextControlledID;
 		this.maxClients=new ExpressionCalc(variableNames);
@@ -177,6 +180,36 @@ public class RunElementBarrierPullData extends RunElementData implements RunElem
 		return (sum<maxClients);
 	}
 
+	/**
+	 * Liefert die Zustandsgren, von denen {@link #releaseOK(SimulationData)} abhngt.
+	 * @param simData	Simulationsdatenobjekt
+	 * @return	Zustandsgren, von denen die Freigabe abhngt, oder <code>null</code>, wenn diese nicht vollstndig erfasst werden knnen
+	 * @see StateChangeListener#getStateChangeDependencies(SimulationData)
+	 */
+	public ExpressionDependencies getDependencies(final SimulationData simData) {
+		/* Verknpfungen vorbereiten */
+		if (nextDirect==null) initConnections(simData);
+
+		/* Bei Quellen und Zuweisungen wrde WIP(id) sich auf den Kundentyp und nicht auf die Station beziehen */
+		final List<RunElement> stations=new ArrayList<>(Arrays.asList(nextControlledAddon));
+		stations.add(nextDirect);
+		stations.add(nextControlled);
+		for (RunElement element: stations) if (element instanceof RunElementSource || element instanceof RunElementAssign) return null;
+
+		/* Erlaubte Maximalanzahl */
+		final ExpressionDependencies dependencies=new ExpressionDependencies();
+		if (!maxClients.getDependencies(dependencies)) return null;
+
+		/* Die Kundenvariablen w, t und p werden bei der Berechnung stets auf 0 gesetzt */
+		final int userVariables=simData.runData.variableValues.length-3;
+		if (dependencies.variables.length()>userVariables) dependencies.variables.clear(userVariables,dependencies.variables.length());
+
+		/* Anzahl an Kunden im Segment */
+		for (RunElement element: stations) dependencies.stationWIP.set(element.id);
+
+		return dependencies;
+	}
+
 	@Override
 	public List<RunDataClient> getWaitingClients() {
 		return waitingClients;
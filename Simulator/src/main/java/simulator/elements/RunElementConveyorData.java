@@ -15,7 +15,6 @@
  */
 package simulator.elements;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import language.Language;
@@ -25,6 +24,7 @@ import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
 import simulator.events.ConveyorSystemChangeEvent;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionCalc;
 
@@ -84,7 +84,7 @@ public class RunElementConveyorData extends RunElementData implements RunElement
 	public RunElementConveyorData(final RunElement station, final String[] capacityNeededStrings, final String[] variableNames, final double freeCapacity, final long transportTimeMS) {
 		super(station);
 		queueLockedForPickUp=false;
-		waitingClients=new ArrayList<>(DEFAULT_QUEUE_SIZE);
+		waitingClients=new RunDataQueue<>(DEFAULT_QUEUE_SIZE);
 
 		capacityNeeded=new ExpressionCalc[capacityNeededStrings.length];
 		for (int i=0;i<capacityNeededStrings.length;i++) if (capacityNeededStrings[i]!=null) {
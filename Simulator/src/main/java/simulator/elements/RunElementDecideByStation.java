@@ -21,7 +21,6 @@ import java.util.List;
 import org.apache.commons.math3.util.FastMath;
 
 import language.Language;
-import mathtools.distribution.tools.DistributionRandomNumber;
 import simulator.builder.RunModelCreatorStatus;
 import simulator.coreelements.RunElement;
 import simulator.editmodel.EditModel;
@@ -254,10 +253,10 @@ public class RunElementDecideByStation extends RunElement {
 				nr=bestIndices[bestIndicesUsed-1];
 				break;
 			case RANDOM: /* Bei gleichem Wert Ziel zufllig whlen. */
-				nr=bestIndices[(int)FastMath.round(FastMath.floor(bestIndicesUsed*DistributionRandomNumber.nextDouble()))];
+				nr=bestIndices[(int)FastMath.round(FastMath.floor(bestIndicesUsed*simData.random.nextDouble()))];
 				break;
 			default:
-				nr=bestIndices[(int)FastMath.round(FastMath.floor(bestIndicesUsed*DistributionRandomNumber.nextDouble()))];
+				nr=bestIndices[(int)FastMath.round(FastMath.floor(bestIndicesUsed*simData.random.nextDouble()))];
 				break;
 			}
 		}
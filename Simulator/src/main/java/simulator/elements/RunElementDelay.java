@@ -23,7 +23,6 @@ import org.apache.commons.math3.distribution.AbstractRealDistribution;
 
 import language.Language;
 import mathtools.TimeTools;
-import mathtools.distribution.tools.DistributionRandomNumber;
 import mathtools.distribution.tools.DistributionTools;
 import parser.MathCalcError;
 import simulator.builder.RunModelCreatorStatus;
@@ -86,7 +85,7 @@ public class RunElementDelay extends RunElementPassThrough implements DelayWithC
 		for (int i=0;i<delay.distribution.length;i++) {
 			AbstractRealDistribution dist=delayElement.getDelayTime(runModel.clientTypes[i]);
 			if (dist!=null) {
-				delay.distribution[i]=DistributionTools.cloneDistribution(dist);
+				delay.distribution[i]=runModel.distributionSamplers.get(DistributionTools.cloneDistribution(dist));
 				continue;
 			}
 
@@ -100,7 +99,7 @@ public class RunElementDelay extends RunElementPassThrough implements DelayWithC
 
 			dist=delayElement.getDelayTime();
 			if (dist!=null) {
-				delay.distribution[i]=DistributionTools.cloneDistribution(dist);
+				delay.distribution[i]=runModel.distributionSamplers.get(DistributionTools.cloneDistribution(dist));
 				continue;
 			}
 
@@ -148,7 +147,7 @@ public class RunElementDelay extends RunElementPassThrough implements DelayWithC
 		RunElementDelayData data;
 		data=(RunElementDelayData)(simData.runData.getStationData(this));
 		if (data==null) {
-			data=new RunElementDelayData(this,expression,simData.runModel.variableNames,costs,hasClientsList);
+			data=new RunElementDelayData(this,expression,simData.runModel.variableNames,costs,hasClientsList,simData.runModel.distributionRandomBufferSize);
 			simData.runData.setStationData(this,data);
 		}
 		return data;
@@ -159,7 +158,7 @@ public class RunElementDelay extends RunElementPassThrough implements DelayWithC
 		/* Verzgerung bestimmen */
 		double value;
 		if (distribution[client.type]!=null) {
-			value=DistributionRandomNumber.randomNonNegative(distribution[client.type]);
+			value=getData(simData).randomBuffer.randomNonNegative(client.type,simData.random,distribution[client.type]);
 		} else {
 			simData.runData.setClientVariableValues(client);
 			try {
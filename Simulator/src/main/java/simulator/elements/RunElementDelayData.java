@@ -18,6 +18,7 @@ package simulator.elements;
 import java.util.HashMap;
 import java.util.Map;
 
+import mathtools.distribution.tools.DistributionRandomBuffer;
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
 import simulator.events.StationLeaveEvent;
@@ -46,6 +47,11 @@ public class RunElementDelayData extends RunElementData {
 	 */
 	public final Map<RunDataClient,StationLeaveEvent> clientsList;
 
+	/**
+	 * Puffer fr die Zufallszahlen gem den Verzgerungsverteilungen (ein Platz pro Kundentyp)
+	 */
+	public final DistributionRandomBuffer randomBuffer;
+
 	/**
 	 * Konstruktor der Klasse <code>RunElementDelayData</code>
 	 * @param station	Station zu diesem Datenelement
@@ -53,8 +59,9 @@ public class RunElementDelayData extends RunElementData {
 	 * @param variableNames	Liste der global verfgbaren Variablennamen
 	 * @param costs	Kosten pro Bedienvorgang (kann <code>null</code> sein)
 	 * @param hasClientsList	Soll eine Liste der Kunden an der Station gefhrt werden?
+	 * @param randomBufferSize	Anzahl an Zufallszahlen, die pro Verteilung blockweise im Voraus erzeugt werden sollen (Werte &le;1 bedeuten, dass die Zufallszahlen einzeln erzeugt werden)
 	 */
-	public RunElementDelayData(final RunElement station, final String[] expresionStrings, final String[] variableNames, final String costs, final boolean hasClientsList) {
+	public RunElementDelayData(final RunElement station, final String[] expresionStrings, final String[] variableNames, final String costs, final boolean hasClientsList, final int randomBufferSize) {
 		super(station);
 
 		/* Verzgerungsausdrucke */
@@ -74,5 +81,8 @@ public class RunElementDelayData extends RunElementData {
 
 		/* Liste der Kunden an der Station (kann <code>null</code> sein) */
 		clientsList=hasClientsList?new HashMap<>():null;
+
+		/* Puffer fr die Zufallszahlen */
+		randomBuffer=new DistributionRandomBuffer(expresionStrings.length,randomBufferSize);
 	}
 }
@@ -26,6 +26,7 @@ import simulator.runmodel.RunDataClient;
 import simulator.runmodel.RunModel;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionCalc;
+import simulator.simparser.ExpressionDependencies;
 import simulator.simparser.ExpressionMultiEval;
 import ui.modeleditor.coreelements.ModelElement;
 import ui.modeleditor.elements.ModelElementHold;
@@ -136,6 +137,7 @@ public class RunElementHold extends RunElementPassThrough implements StateChange
 			simData.runData.logClientEntersStationQueue(simData,this,data,client);
 
 			/* System ber Status-nderung benachrichtigen */
+			simData.runData.requestStateChangeNotify(this);
 			simData.runData.fireStateChangeNotify(simData);
 
 			/* Interesse an zeitabhngigen Prfungen anmelden */
@@ -164,6 +166,7 @@ public class RunElementHold extends RunElementPassThrough implements StateChange
 		StationLeaveEvent.addLeaveEvent(simData,client,this,0);
 		StationLeaveEvent.unannounceClient(simData,client,getNext());
 		data.lastRelease=simData.currentTime;
+		simData.runData.requestStateChangeNotify(this);
 
 		/* Wartezeit in Statistik */
 		final long waitingTime=simData.currentTime-client.lastWaitingStart;
@@ -343,6 +346,7 @@ public class RunElementHold extends RunElementPassThrough implements StateChange
 					return releaseTestPriority(simData,data);
 				}
 			} else {
+				simData.runData.requestStateChangeNotify(this);
 				SystemChangeEvent.triggerEvent(simData,1);
 				return false;
 			}
@@ -352,6 +356,24 @@ public class RunElementHold extends RunElementPassThrough implements StateChange
 		}
 	}
 
+	@Override
+	public ExpressionDependencies getStateChangeDependencies(final SimulationData simData) {
+		/* Kundenbasierende Prfungen hngen auch von den Zeiten der wartenden Kunden ab */
+		if (useClientBasedCheck) return null;
+
+		final RunElementHoldData data=getData(simData);
+		if (data.condition==null) return null;
+
+		/* Bedingungen, die auch von nicht erfassbaren Simulationsdaten (Analogwerte, Kundendaten, Zeit, ...) abhngen, liefern hier false; dann erfolgt die Benachrichtigung bei jeder Zustandsnderung */
+		final ExpressionDependencies dependencies=new ExpressionDependencies();
+		if (!data.condition.getDependencies(dependencies)) return null;
+
+		/* Die Kundenvariablen w, t und p werden bei der Prfung stets auf 0 gesetzt */
+		final int userVariables=simData.runData.variableValues.length-3;
+		if (dependencies.variables.length()>userVariables) dependencies.variables.clear(userVariables,dependencies.variables.length());
+		return dependencies;
+	}
+
 	@Override
 	public RunDataClient getClient(final SimulationData simData) {
 		final RunElementHoldData data=getData(simData);
@@ -15,12 +15,12 @@
  */
 package simulator.elements;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionCalc;
 import simulator.simparser.ExpressionMultiEval;
@@ -74,7 +74,7 @@ public class RunElementHoldData extends RunElementData implements RunElementData
 	public RunElementHoldData(final RunElement station, final String condition, final String[] priority, final String[] variableNames) {
 		super(station);
 		queueLockedForPickUp=false;
-		waitingClients=new ArrayList<>();
+		waitingClients=new RunDataQueue<>();
 		lastRelease=-Long.MAX_VALUE;
 
 		if (condition==null || condition.trim().isEmpty()) {
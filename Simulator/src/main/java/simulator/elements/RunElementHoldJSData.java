@@ -15,7 +15,6 @@
  */
 package simulator.elements;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import scripting.java.ClientsImpl;
@@ -26,6 +25,7 @@ import scripting.js.JSRunSimulationData;
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionMultiEval;
 import ui.modeleditor.elements.ModelElementHoldJS;
@@ -97,7 +97,7 @@ public class RunElementHoldJSData extends RunElementData implements RunElementDa
 
 		this.script=script;
 		queueLockedForPickUp=false;
-		waitingClients=new ArrayList<>();
+		waitingClients=new RunDataQueue<>();
 		lastRelease=-Long.MAX_VALUE;
 
 		switch (mode) {
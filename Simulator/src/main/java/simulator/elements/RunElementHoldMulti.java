@@ -27,6 +27,7 @@ import simulator.events.SystemChangeEvent;
 import simulator.runmodel.RunDataClient;
 import simulator.runmodel.RunModel;
 import simulator.runmodel.SimulationData;
+import simulator.simparser.ExpressionDependencies;
 import simulator.simparser.ExpressionMultiEval;
 import ui.modeleditor.coreelements.ModelElement;
 import ui.modeleditor.elements.ModelElementEdge;
@@ -134,6 +135,7 @@ public class RunElementHoldMulti extends RunElement implements StateChangeListen
 			simData.runData.logClientEntersStationQueue(simData,this,data,client);
 
 			/* System ber Status-nderung benachrichtigen */
+			simData.runData.requestStateChangeNotify(this);
 			SystemChangeEvent.triggerEvent(simData,1);
 
 			/* Interesse an zeitabhngigen Prfungen anmelden */
@@ -157,7 +159,10 @@ public class RunElementHoldMulti extends RunElement implements StateChangeListen
 		if (data.waitingClients.size()==0) return false;
 
 		/* Letzte Freigabe zum selben Zeitschritt? */
-		if (data.lastRelease==simData.currentTime) return false;
+		if (data.lastRelease==simData.currentTime) {
+			simData.runData.requestStateChangeNotify(this);
+			return false;
+		}
 
 		data.queueLockedForPickUp=true;
 		try {
@@ -177,6 +182,7 @@ public class RunElementHoldMulti extends RunElement implements StateChangeListen
 			StationLeaveEvent.addLeaveEvent(simData,client,this,0);
 			StationLeaveEvent.announceClient(simData,client,connections[nr]);
 			data.lastRelease=simData.currentTime;
+			simData.runData.requestStateChangeNotify(this);
 
 			/* Wartezeit in Statistik */
 			final long waitingTime=simData.currentTime-client.lastWaitingStart;
@@ -201,6 +207,20 @@ public class RunElementHoldMulti extends RunElement implements StateChangeListen
 		}
 	}
 
+	@Override
+	public ExpressionDependencies getStateChangeDependencies(final SimulationData simData) {
+		final RunElementHoldMultiData data=getData(simData);
+
+		/* Bedingungen, die auch von nicht erfassbaren Simulationsdaten (Analogwerte, Kundendaten, Zeit, ...) abhngen, liefern hier false; dann erfolgt die Benachrichtigung bei jeder Zustandsnderung */
+		final ExpressionDependencies dependencies=new ExpressionDependencies();
+		for (ExpressionMultiEval condition: data.conditions) if (!condition.getDependencies(dependencies)) return null;
+
+		/* Die Kundenvariablen w, t und p werden bei der Prfung stets auf 0 gesetzt */
+		final int userVariables=simData.runData.variableValues.length-3;
+		if (dependencies.variables.length()>userVariables) dependencies.variables.clear(userVariables,dependencies.variables.length());
+		return dependencies;
+	}
+
 	@Override
 	public RunDataClient getClient(final SimulationData simData) {
 		final RunElementHoldMultiData data=getData(simData);
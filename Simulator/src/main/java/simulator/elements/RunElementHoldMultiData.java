@@ -15,12 +15,12 @@
  */
 package simulator.elements;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionMultiEval;
 
@@ -71,7 +71,7 @@ public class RunElementHoldMultiData extends RunElementData {
 			this.conditions[i]=eval;
 		}
 
-		waitingClients=new ArrayList<>();
+		waitingClients=new RunDataQueue<>();
 
 		lastRelease=-Long.MAX_VALUE;
 
@@ -23,6 +23,7 @@ import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
 import simulator.coreelements.RunElementMultiQueueData;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionMultiEval;
 
@@ -36,7 +37,7 @@ public class RunElementMatchData extends RunElementData implements RunElementMul
 	/**
 	 * Liste der wartenden Kunden in den Schlangen
 	 */
-	public final ArrayList<RunDataClient>[] waitingClients;
+	public final RunDataQueue<RunDataClient>[] waitingClients;
 
 	/**
 	 * Kunden, die gemeinsam weitergeleitet werden, werden fr die Animation hier gesammelt
@@ -75,12 +76,10 @@ public class RunElementMatchData extends RunElementData implements RunElementMul
 	 * @param condition	Optionale zustzliche Freigabebedingung (kann <code>null</code> sein)
 	 * @param variableNames	Liste der global verfgbaren Variablennamen
 	 */
-	@SuppressWarnings("unchecked")
 	public RunElementMatchData(final RunElement station, final int numberOfQueues, final String condition, final String[] variableNames) {
 		super(station);
 
-		waitingClients=new ArrayList[numberOfQueues];
-		for (int i=0;i<numberOfQueues;i++) waitingClients[i]=new ArrayList<>();
+		waitingClients=RunDataQueue.createQueues(numberOfQueues);
 
 		moveClientsList=new RunDataClient[numberOfQueues];
 
@@ -192,12 +192,13 @@ public class RunElementOutput extends RunElementPassThrough {
 	 * @param simData	Simulationsdatenobjekt
 	 * @param client	Aktueller Kunde
 	 * @param outputRecord	Zu verwendende Liste mit den Ausgabeelementen
-	 * @return	Tabellenzeile
+	 * @param sb	Puffer, an den die Textzeile angehngt werden soll
+	 * @return	Puffer mit der Textzeile
 	 * @see #processOutput(SimulationData, RunDataClient)
+	 * @see RunDataOutputWriter#getLineBuilder()
 	 */
-	private String getOutputString(final SimulationData simData, final RunDataClient client, final ModelElementOutput.OutputRecord[] outputRecord) {
+	private CharSequence getOutputString(final SimulationData simData, final RunDataClient client, final ModelElementOutput.OutputRecord[] outputRecord, final StringBuilder sb) {
 		double number;
-		final StringBuilder sb=new StringBuilder();
 		for (int i=0;i<outputRecord.length;i++) switch (outputRecord[i].mode) {
 		case MODE_TIMESTAMP:
 			sb.append(systemFormat?SimData.formatSimTimeSystem(simData.currentTime):SimData.formatSimTime(simData.currentTime));
@@ -260,7 +261,7 @@ public class RunElementOutput extends RunElementPassThrough {
 			sb.append(client.getUserDataString(outputRecord[i].data));
 			break;
 		}
-		return sb.toString();
+		return sb;
 	}
 
 	/**
@@ -401,7 +402,7 @@ public class RunElementOutput extends RunElementPassThrough {
 				if (tableMode) {
 					outputWriter.output(getOutputTableLine(simData,client,outputHeadingRecord));
 				} else {
-					outputWriter.output(getOutputString(simData,client,outputHeadingRecord));
+					outputWriter.output(getOutputString(simData,client,outputHeadingRecord,outputWriter.getLineBuilder()));
 				}
 				break;
 			}
@@ -409,7 +410,7 @@ public class RunElementOutput extends RunElementPassThrough {
 		if (tableMode) {
 			outputWriter.output(getOutputTableLine(simData,client,outputRecord));
 		} else {
-			outputWriter.output(getOutputString(simData,client,outputRecord));
+			outputWriter.output(getOutputString(simData,client,outputRecord,outputWriter.getLineBuilder()));
 		}
 	}
 
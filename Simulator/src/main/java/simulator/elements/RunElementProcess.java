@@ -183,7 +183,7 @@ public class RunElementProcess extends RunElement implements FreeResourcesListen
 				if (error>=0) return String.format(Language.tr("Simulation.Creator.ProcessExpressionProcessing"),element.getId(),runModel.clientTypes[i],data,error+1);
 				process.expressionProcess[i]=(String)data;
 			} else {
-				process.distributionProcess[i]=DistributionTools.cloneDistribution((AbstractRealDistribution)data);
+				process.distributionProcess[i]=runModel.distributionSamplers.get(DistributionTools.cloneDistribution((AbstractRealDistribution)data));
 			}
 		}
 
@@ -199,7 +199,7 @@ public class RunElementProcess extends RunElement implements FreeResourcesListen
 					if (error>=0) return String.format(Language.tr("Simulation.Creator.ProcessExpressionPostProcessing"),element.getId(),runModel.clientTypes[i],data,error+1);
 					process.expressionPostProcess[i]=(String)data;
 				} else {
-					process.distributionPostProcess[i]=DistributionTools.cloneDistribution((AbstractRealDistribution)data);
+					process.distributionPostProcess[i]=runModel.distributionSamplers.get(DistributionTools.cloneDistribution((AbstractRealDistribution)data));
 				}
 			}
 		}
@@ -218,7 +218,7 @@ public class RunElementProcess extends RunElement implements FreeResourcesListen
 					if (error>=0) return String.format(Language.tr("Simulation.Creator.ProcessExpressionCancel"),element.getId(),runModel.clientTypes[i],data,error+1);
 					process.expressionCancel[i]=(String)data;
 				} else {
-					process.distributionCancel[i]=DistributionTools.cloneDistribution((AbstractRealDistribution)data);
+					process.distributionCancel[i]=runModel.distributionSamplers.get(DistributionTools.cloneDistribution((AbstractRealDistribution)data));
 				}
 			}
 		}
@@ -336,6 +336,14 @@ public class RunElementProcess extends RunElement implements FreeResourcesListen
 		if (connectionIdCancel>=0) connectionCancel=runModel.elements.get(connectionIdCancel);
 	}
 
+	/**
+	 * Arbeitet die Station im Kampagnen-Modus?
+	 * @return	Liefert <code>true</code>, wenn die Station bevorzugt Kunden desselben Typs wie beim letzten Bedienvorgang bedient
+	 */
+	public boolean isCampaignMode() {
+		return campaignMode;
+	}
+
 	@Override
 	public RunElementProcessData getData(final SimulationData simData) {
 		RunElementProcessData data;
@@ -481,10 +489,15 @@ public class RunElementProcess extends RunElement implements FreeResourcesListen
 				}
 			}
 			/* Kunden mit dem hchsten Score whlen */
+			if (selected==null && data.priorityQueue!=null) {
+				/* Die Reihenfolge der Kunden ndert sich whrend des Wartens nicht, daher steht der Kunde mit dem hchsten Score vorne in der Prioritts-Warteschlange. */
+				selected=data.priorityQueue.peek();
+				bestIndex=-1;
+			}
 			if (selected==null) {
 				selected=data.waitingClients.get(0);
 				double bestScore=-Double.MAX_VALUE;
-				if (count>1) for (int i=1;i<count;i++) {
+				if (count>1) for (int i=0;i<count;i++) {
 					final RunDataClient client=data.waitingClients.get(i);
 					final double score=getClientScore(simData,data,client);
 					if (score>bestScore) {
@@ -829,6 +842,13 @@ public class RunElementProcess extends RunElement implements FreeResourcesListen
 	public double getSecondaryResourcePriority(SimulationData simData) {
 		final RunElementProcessData data=getData(simData);
 
+		if (data.priorityQueue!=null) {
+			final RunDataClient client=data.priorityQueue.peek();
+			if (client==null) return 0.0;
+			final double score=getClientScore(simData,data,client);
+			return (score>-Double.MAX_VALUE)?score:0.0;
+		}
+
 		double maxPriority=-Double.MAX_VALUE;
 		boolean hasScore=false;
 		/* Bentigt viel, viel mehr Speicher: for (RunDataClient client: data.waitingClients) */
@@ -843,6 +863,11 @@ public class RunElementProcess extends RunElement implements FreeResourcesListen
 		return 0.0;
 	}
 
+	@Override
+	public int[][] getNeededResources() {
+		return resources;
+	}
+
 	@Override
 	public RunDataClient getClient(SimulationData simData) {
 		final RunElementProcessData data=getData(simData);
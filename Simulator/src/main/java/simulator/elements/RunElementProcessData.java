@@ -15,7 +15,6 @@
  */
 package simulator.elements;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.math3.distribution.AbstractRealDistribution;
@@ -23,11 +22,13 @@ import org.apache.commons.math3.util.FastMath;
 
 import language.Language;
 import mathtools.TimeTools;
+import mathtools.distribution.tools.DistributionRandomBuffer;
 import mathtools.distribution.tools.DistributionRandomNumber;
 import parser.MathCalcError;
 import simulator.coreelements.RunElementData;
 import simulator.events.WaitingCancelEvent;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionCalc;
 import statistics.StatisticsDataPerformanceIndicator;
@@ -67,6 +68,8 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 	private final RunElementProcess station;
 	/** Minimale Bedien-Batch-Gre */
 	private final int batchMinSize;
+	/** Puffer fr die Zufallszahlen gem den Bedien-, Nachbearbeitungs- und Wartezeittoleranzenverteilungen (wird erst bei Bedarf angelegt) */
+	private DistributionRandomBuffer randomBuffer;
 
 	/** Rechenausdrcke fr Rstzeiten */
 	private final ExpressionCalc[][] expressionSetup;
@@ -85,6 +88,21 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 	/** Arbeitet die gesamte Station in Bezug auf die Kunden im FIFO-Modus? Dann brauchen die Kundenprioritten gar nicht weiter bercksichtigt werden */
 	public boolean allFirstComeFirstServe;
 
+	/**
+	 * Prioritts-Warteschlange, die parallel zu {@link #waitingClients} gefhrt wird und in der der Kunde mit dem hchsten Score-Wert stets vorne steht.<br>
+	 * Ist <code>null</code>, wenn sich die Reihenfolge der Kunden gem der Score-Werte whrend des Wartens verndern kann
+	 * (oder ohnehin nur FIFO gilt bzw. Batch- oder Kampagnen-Bedienung verwendet wird). Dann muss bei jeder Bedienung
+	 * der Kunde mit dem hchsten Score-Wert in {@link #waitingClients} gesucht werden.
+	 * @see #getPriorityWaitingTimeFactor(ExpressionCalc[])
+	 */
+	public final RunElementProcessPriorityQueue priorityQueue;
+
+	/**
+	 * Gemeinsamer Faktor vor der Wartezeit "w" in den Score-Formeln aller Kundentypen
+	 * (wird nur verwendet, wenn {@link #priorityQueue} nicht <code>null</code> ist)
+	 */
+	private final double priorityWaitingTimeFactor;
+
 	/* Nur als Speicher-Bereich-Cache, damit das nicht immer wieder neu angelegt werden muss. */
 
 	/** Cache-Array fr die Score-Wert-Berechnung */
@@ -152,8 +170,8 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		super(station);
 		allFirstComeFirstServe=true;
 		queueLockedForPickUp=false;
-		waitingClients=new ArrayList<>(INITIAL_QUEUE_SIZE);
-		/* Wird unten initialisiert (nur wenn es berhaupt Abbrche geben kann): waitingCancelEvents=new ArrayList<>(DEFAULT_QUEUE_SIZE); */
+		waitingClients=new RunDataQueue<>(INITIAL_QUEUE_SIZE);
+		/* Wird unten initialisiert (nur wenn es berhaupt Abbrche geben kann): waitingCancelEvents=new RunDataQueue<>(DEFAULT_QUEUE_SIZE); */
 
 		this.station=station;
 		distributionSetup=station.distributionSetup;
@@ -173,6 +191,15 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 			}
 		}
 
+		final Double waitingTimeFactor=(station.batchMaxSize==1 && !station.isCampaignMode())?getPriorityWaitingTimeFactor(priority):null;
+		if (waitingTimeFactor==null) {
+			priorityQueue=null;
+			priorityWaitingTimeFactor=0.0;
+		} else {
+			priorityQueue=new RunElementProcessPriorityQueue(INITIAL_QUEUE_SIZE);
+			priorityWaitingTimeFactor=waitingTimeFactor;
+		}
+
 		expressionSetup=new ExpressionCalc[station.expressionSetup.length][];
 		for (int i=0;i<expressionSetup.length;i++) {
 			expressionSetup[i]=new ExpressionCalc[station.expressionSetup[i].length];
@@ -204,7 +231,7 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		for (AbstractRealDistribution dist: distributionCancel) if (dist!=null) {b=true; break;}
 		if (!b) for (ExpressionCalc expression: expressionCancel) if (expression!=null) {b=true; break;}
 		hasWaitingCancelations=b;
-		if (hasWaitingCancelations) waitingCancelEvents=new ArrayList<>(INITIAL_QUEUE_SIZE); else waitingCancelEvents=null;
+		if (hasWaitingCancelations) waitingCancelEvents=new RunDataQueue<>(INITIAL_QUEUE_SIZE); else waitingCancelEvents=null;
 
 		if (costs==null || costs.trim().isEmpty()) {
 			this.costs=null;
@@ -230,6 +257,33 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		hasCosts=(this.costs!=null || this.costsPerProcessSecond!=null || this.costsPerPostProcessSecond!=null);
 	}
 
+	/**
+	 * Prft, ob sich die Reihenfolge der Kunden gem der Score-Werte whrend des Wartens nicht verndert.<br>
+	 * Dies ist der Fall, wenn alle Score-Formeln die Form <code>a*w+f</code> mit demselben Faktor <code>a</code> fr alle Kundentypen
+	 * besitzen und sich <code>f</code> whrend des Wartens nicht verndert. Dann gengt es, die Kunden beim Eintreffen
+	 * gem <code>f-a*Ankunftszeit</code> in die Prioritts-Warteschlange einzusortieren.
+	 * @param priority	Rechenausdrcke fr die Kundenprioritten (einzelne Eintrge knnen <code>null</code> sein; fr diese gilt dann "w")
+	 * @return	Gemeinsamer Faktor <code>a</code> oder <code>null</code>, wenn keine Prioritts-Warteschlange verwendet werden kann
+	 * @see ExpressionCalc#getTimeInvariantWaitingTimeFactor()
+	 */
+	private static Double getPriorityWaitingTimeFactor(final ExpressionCalc[] priority) {
+		Double factor=null;
+		boolean allFirstComeFirstServe=true;
+		for (ExpressionCalc calc: priority) {
+			final Double value;
+			if (calc==null) {
+				value=1.0;
+			} else {
+				allFirstComeFirstServe=false;
+				value=calc.getTimeInvariantWaitingTimeFactor();
+				if (value==null) return null;
+			}
+			if (factor==null) factor=value; else if (factor.doubleValue()!=value.doubleValue()) return null;
+		}
+		if (allFirstComeFirstServe) return null; /* Reine FIFO-Stationen bentigen keine Prioritts-Warteschlange */
+		return factor;
+	}
+
 	/**
 	 * Fgt einen Kunden zu der Liste der wartenden Kunden hinzu
 	 * @param client	Hinzuzufgender Kunde
@@ -241,6 +295,7 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		/* Kunden an Warteschlange anstellen */
 		waitingClients.add(client);
 		client.lastWaitingStart=time;
+		if (priorityQueue!=null) addClientToPriorityQueue(client,time,simData);
 
 		/* Logging */
 		if (simData.loggingActive) station.log(simData,Language.tr("Simulation.Log.ProcessArrival"),String.format(Language.tr("Simulation.Log.ProcessArrival.Info"),client.logInfo(simData),station.name));
@@ -252,7 +307,7 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		if (distributionCancel[client.type]!=null || expressionCancel[client.type]!=null) {
 			double maxWaitingTime;
 			if (distributionCancel[client.type]!=null) {
-				maxWaitingTime=DistributionRandomNumber.randomNonNegative(distributionCancel[client.type]);
+				maxWaitingTime=getRandomBuffer(simData).randomNonNegative(2*distributionCancel.length+client.type,simData.random,distributionCancel[client.type]);
 			} else {
 				simData.runData.setClientVariableValues(client);
 				try {
@@ -287,7 +342,38 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 	}
 
 	/**
-	 * Entfernt einen Kunden aus der Warteschlange
+	 * Fgt einen Kunden zu der Prioritts-Warteschlange hinzu.<br>
+	 * Der Sortierschlssel entspricht dem Score-Wert des Kunden bei Wartezeit 0, vermindert um den Faktor vor der Wartezeit
+	 * multipliziert mit der Ankunftszeit. Die Differenz der Sortierschlssel zweier Kunden ist damit gleich der Differenz
+	 * ihrer Score-Werte zu einem beliebigen spteren Zeitpunkt.
+	 * @param client	Hinzuzufgender Kunde
+	 * @param time	Zeitpunkt an dem der Kunde an der <code>RunElementProcess</code>-Station eingetroffen ist
+	 * @param simData	Simulationsdatenobjekt
+	 * @see #priorityQueue
+	 */
+	private void addClientToPriorityQueue(final RunDataClient client, final long time, final SimulationData simData) {
+		final ExpressionCalc calc=priority[client.type];
+		double score;
+		if (calc==null) {
+			score=0.0;
+		} else {
+			simData.runData.setClientVariableValues(0,client.transferTime,client.processTime);
+			try {
+				score=calc.calc(simData.runData.variableValues,simData,client);
+			} catch (MathCalcError e) {
+				simData.calculationErrorStation(calc,this);
+				score=0.0;
+			}
+		}
+		double key=score-priorityWaitingTimeFactor*(time*toSecFactor);
+		if (Double.isNaN(key)) key=Double.NEGATIVE_INFINITY;
+		priorityQueue.add(client,key);
+	}
+
+	/**
+	 * Entfernt einen Kunden aus der Warteschlange<br>
+	 * Das Entfernen aus {@link #waitingClients} (und ggf. die Suche nach dem Index) bentigt O(n) Schritte;
+	 * nur das Entfernen aus {@link #priorityQueue} erfolgt in O(log n).
 	 * @param client	Zu entfernender Kunde
 	 * @param indexOfClientInQueue	Index des Kunden in der <code>waitingClients</code>-Liste. Kann -1 sein, dann wird der Index gem dem <code>client</code>-Objekt selbst ermittelt
 	 * @param time	Zeitpunkt, an dem der Kunde entfernt werden soll
@@ -314,6 +400,7 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		/* Kunde aus Warteschlange austragen */
 		waitingClients.remove(index);
 		if (hasWaitingCancelations) waitingCancelEvents.remove(index);
+		if (priorityQueue!=null) priorityQueue.remove(client);
 
 		/* Statistik */
 		simData.runData.logClientLeavesStationQueue(simData,station,this,client);
@@ -340,6 +427,17 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 	/** Umrechnungsfaktor von Millisekunden auf Sekunden, um die Division whrend der Simulation zu vermeiden */
 	private static final double toSecFactor=1.0/1000.0;
 
+	/**
+	 * Liefert den Puffer fr die Zufallszahlen gem den Verteilungen der Station.<br>
+	 * Pltze: Bedienzeiten (Kundentyp), Nachbearbeitungszeiten (Anzahl an Kundentypen plus Kundentyp) und Wartezeittoleranzen (zweimal Anzahl an Kundentypen plus Kundentyp)
+	 * @param simData	Simulationsdatenobjekt
+	 * @return	Puffer fr die Zufallszahlen
+	 */
+	private DistributionRandomBuffer getRandomBuffer(final SimulationData simData) {
+		if (randomBuffer==null) randomBuffer=new DistributionRandomBuffer(3*distributionProcess.length,simData.runModel.distributionRandomBufferSize);
+		return randomBuffer;
+	}
+
 	/**
 	 * Liefert die Bedienzeit fr einen Kunden (ber eine Verteilungsfunktion oder durch Auswertung eines Ausdrucks)
 	 * @param simData	Simulationsdaten (wird bentigt, falls die Zeit per Auswertung eines Ausdrucks bestimmt werden soll)
@@ -350,7 +448,7 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		final int type=client.type;
 		if (expressionProcess[type]==null) {
 			if (distributionProcess[type]==null) return 0.0;
-			return DistributionRandomNumber.randomNonNegative(distributionProcess[type])*station.timeBaseMultiply;
+			return getRandomBuffer(simData).randomNonNegative(type,simData.random,distributionProcess[type])*station.timeBaseMultiply;
 		} else {
 			final double additionalWaitingTime=(simData.currentTime-client.lastWaitingStart)*toSecFactor;
 			simData.runData.setClientVariableValues(client,additionalWaitingTime);
@@ -376,7 +474,7 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		if (lastClientIndex>=0) {
 			if (expressionSetup[lastClientIndex][nextClientIndex]==null) {
 				if (distributionSetup[lastClientIndex][nextClientIndex]!=null) {
-					time=DistributionRandomNumber.randomNonNegative(distributionSetup[lastClientIndex][nextClientIndex])*station.timeBaseMultiply;
+					time=DistributionRandomNumber.randomNonNegative(simData.random,distributionSetup[lastClientIndex][nextClientIndex])*station.timeBaseMultiply;
 				}
 			} else {
 				final double additionalWaitingTime=(simData.currentTime-client.lastWaitingStart)*toSecFactor;
@@ -403,7 +501,7 @@ public class RunElementProcessData extends RunElementData implements RunElementD
 		final int type=client.type;
 		if (expressionPostProcess[type]==null) {
 			if (distributionPostProcess[type]==null) return 0.0;
-			return DistributionRandomNumber.randomNonNegative(distributionPostProcess[type])*station.timeBaseMultiply;
+			return getRandomBuffer(simData).randomNonNegative(distributionPostProcess.length+type,simData.random,distributionPostProcess[type])*station.timeBaseMultiply;
 		} else {
 			final double additionalWaitingTime=(simData.currentTime-client.lastWaitingStart)*toSecFactor;
 			simData.runData.setClientVariableValues(client,additionalWaitingTime);
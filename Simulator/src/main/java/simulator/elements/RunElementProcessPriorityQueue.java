@@ -0,0 +1,179 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator.elements;
+
+import java.util.Arrays;
+
+import simulator.runmodel.RunDataClient;
+
+/**
+ * Prioritts-Warteschlange fr die wartenden Kunden an einer {@link RunElementProcess}-Station.<br>
+ * Die Warteschlange kann verwendet werden, wenn sich die Reihenfolge der Kunden gem ihrer Score-Werte
+ * whrend des Wartens nicht verndert (siehe {@link simulator.simparser.ExpressionCalc#getTimeInvariantWaitingTimeFactor()}).
+ * Dann kann fr jeden Kunden beim Eintreffen ein fester Sortierschlssel bestimmt werden.<br>
+ * Die Kunden werden in einem binren Heap gespeichert, wobei die Position jedes Kunden in
+ * {@link RunDataClient#waitingQueuePosition} mitgefhrt wird. Einfgen, Entnehmen und Entfernen
+ * (z.B. bei Warteabbrchen) erfolgen im Heap dadurch in O(log n).<br>
+ * Die parallel gefhrte Liste {@link RunElementProcessData#waitingClients} wird beim Entfernen eines Kunden
+ * jedoch weiterhin ber Index-Suche und Verschieben der brigen Eintrge aktualisiert (O(n)). Der Heap erspart
+ * damit die Berechnung der Score-Werte aller wartenden Kunden bei der Auswahl, nicht aber die Listenoperationen.<br>
+ * Bei gleichen Sortierschlsseln wird der Kunde bevorzugt, der zuerst eingetroffen ist.
+ * @author Alexander Herzog
+ * @see RunElementProcessData#priorityQueue
+ */
+public final class RunElementProcessPriorityQueue {
+	/** Heap-Array der Kunden (der Kunde mit dem hchsten Sortierschlssel steht an Position 0) */
+	private RunDataClient[] clients;
+	/** Sortierschlssel der Kunden (parallel zu {@link #clients}) */
+	private double[] keys;
+	/** Laufende Nummern der Kunden zur Auflsung von Gleichstnden (parallel zu {@link #clients}) */
+	private long[] sequence;
+	/** Anzahl an Kunden im Heap */
+	private int size;
+	/** Laufende Nummer fr den nchsten einzufgenden Kunden */
+	private long nextSequence;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param initialSize	Anfngliche Gre der internen Arrays
+	 */
+	public RunElementProcessPriorityQueue(final int initialSize) {
+		final int length=Math.max(16,initialSize);
+		clients=new RunDataClient[length];
+		keys=new double[length];
+		sequence=new long[length];
+	}
+
+	/**
+	 * Prft, ob ein Eintrag vor dem Eintrag an Position <code>pos2</code> bedient werden soll.
+	 * @param key1	Sortierschlssel des ersten Eintrags
+	 * @param sequence1	Laufende Nummer des ersten Eintrags
+	 * @param pos2	Position des zweiten Eintrags
+	 * @return	Liefert <code>true</code>, wenn der erste Eintrag vor dem zweiten Eintrag steht
+	 */
+	private boolean isBefore(final double key1, final long sequence1, final int pos2) {
+		final double key2=keys[pos2];
+		if (key1!=key2) return key1>key2;
+		return sequence1<sequence[pos2];
+	}
+
+	/**
+	 * Trgt einen Kunden an einer Position im Heap ein.
+	 * @param pos	Position
+	 * @param client	Kunde
+	 * @param key	Sortierschlssel
+	 * @param seq	Laufende Nummer
+	 */
+	private void set(final int pos, final RunDataClient client, final double key, final long seq) {
+		clients[pos]=client;
+		keys[pos]=key;
+		sequence[pos]=seq;
+		client.waitingQueuePosition=pos;
+	}
+
+	/**
+	 * Verschiebt einen Eintrag im Heap so weit nach oben, bis die Heap-Bedingung wieder erfllt ist.
+	 * @param client	Zu verschiebender Kunde
+	 * @param key	Sortierschlssel des Kunden
+	 * @param seq	Laufende Nummer des Kunden
+	 * @param pos	Aktuelle (freie) Position des Kunden
+	 */
+	private void siftUp(final RunDataClient client, final double key, final long seq, int pos) {
+		while (pos>0) {
+			final int parentPos=(pos-1)>>>1;
+			if (!isBefore(key,seq,parentPos)) break;
+			set(pos,clients[parentPos],keys[parentPos],sequence[parentPos]);
+			pos=parentPos;
+		}
+		set(pos,client,key,seq);
+	}
+
+	/**
+	 * Verschiebt einen Eintrag im Heap so weit nach unten, bis die Heap-Bedingung wieder erfllt ist.
+	 * @param client	Zu verschiebender Kunde
+	 * @param key	Sortierschlssel des Kunden
+	 * @param seq	Laufende Nummer des Kunden
+	 * @param pos	Aktuelle (freie) Position des Kunden
+	 */
+	private void siftDown(final RunDataClient client, final double key, final long seq, int pos) {
+		final int half=size>>>1;
+		while (pos<half) {
+			int childPos=2*pos+1;
+			final int rightPos=childPos+1;
+			if (rightPos<size && isBefore(keys[rightPos],sequence[rightPos],childPos)) childPos=rightPos;
+			if (isBefore(key,seq,childPos)) break;
+			set(pos,clients[childPos],keys[childPos],sequence[childPos]);
+			pos=childPos;
+		}
+		set(pos,client,key,seq);
+	}
+
+	/**
+	 * Fgt einen Kunden in die Warteschlange ein.
+	 * @param client	Kunde
+	 * @param key	Sortierschlssel (Kunden mit hheren Werten werden zuerst bedient)
+	 */
+	public void add(final RunDataClient client, final double key) {
+		if (size==clients.length) {
+			clients=Arrays.copyOf(clients,size*2);
+			keys=Arrays.copyOf(keys,size*2);
+			sequence=Arrays.copyOf(sequence,size*2);
+		}
+		size++;
+		siftUp(client,key,nextSequence++,size-1);
+	}
+
+	/**
+	 * Liefert den Kunden, der als nchstes bedient werden soll, ohne ihn aus der Warteschlange zu entfernen.
+	 * @return	Kunde mit dem hchsten Sortierschlssel oder <code>null</code>, wenn die Warteschlange leer ist
+	 */
+	public RunDataClient peek() {
+		if (size==0) return null;
+		return clients[0];
+	}
+
+	/**
+	 * Entfernt einen Kunden aus der Warteschlange.
+	 * @param client	Zu entfernender Kunde
+	 * @return	Liefert <code>true</code>, wenn sich der Kunde in der Warteschlange befunden hat und entfernt wurde
+	 */
+	public boolean remove(final RunDataClient client) {
+		final int pos=client.waitingQueuePosition;
+		if (pos<0 || pos>=size || clients[pos]!=client) return false;
+		client.waitingQueuePosition=-1;
+
+		size--;
+		if (pos==size) {
+			clients[size]=null;
+			return true;
+		}
+		final RunDataClient last=clients[size];
+		final double lastKey=keys[size];
+		final long lastSequence=sequence[size];
+		clients[size]=null;
+		siftDown(last,lastKey,lastSequence,pos);
+		if (clients[pos]==last) siftUp(last,lastKey,lastSequence,pos);
+		return true;
+	}
+
+	/**
+	 * Liefert die Anzahl an Kunden in der Warteschlange.
+	 * @return	Anzahl an Kunden in der Warteschlange
+	 */
+	public int size() {
+		return size;
+	}
+}
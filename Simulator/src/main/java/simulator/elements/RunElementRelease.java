@@ -99,7 +99,7 @@ public class RunElementRelease extends RunElementPassThrough {
 					if (error>=0) return String.format(Language.tr("Simulation.Creator.ReleaseDelayed"),element.getId(),runModel.clientTypes[i],data,error+1);
 					release.expressionDelayedRelease[i]=(String)data;
 				} else {
-					release.distributionDelayedRelease[i]=DistributionTools.cloneDistribution((AbstractRealDistribution)data);
+					release.distributionDelayedRelease[i]=runModel.distributionSamplers.get(DistributionTools.cloneDistribution((AbstractRealDistribution)data));
 				}
 			}
 		}
@@ -154,7 +154,7 @@ public class RunElementRelease extends RunElementPassThrough {
 			/* Verzgerung bei der Ressourcenfreigabe bestimmen */
 			double value=0.0;
 			if (distributionDelayedRelease[client.type]!=null) {
-				value=DistributionRandomNumber.randomNonNegative(distributionDelayedRelease[client.type]);
+				value=DistributionRandomNumber.randomNonNegative(simData.random,distributionDelayedRelease[client.type]);
 			} else {
 				final ExpressionCalc calc=getData(simData).delayExpression[client.type];
 				if (calc!=null) {
@@ -199,7 +199,7 @@ public class RunElementRelease extends RunElementPassThrough {
 		}
 
 		/* Prfen, ob andere Stationen auf diese Ressourcen warten */
-		simData.runData.fireReleasedResourcesNotify(simData);
+		simData.runData.fireReleasedResourcesNotify(simData,resources);
 
 		/* Kunde zur nchsten Station leiten */
 		StationLeaveEvent.addLeaveEvent(simData,client,this,0);
@@ -21,6 +21,7 @@ import simulator.coreelements.RunElementPassThrough;
 import simulator.editmodel.EditModel;
 import simulator.events.StationLeaveEvent;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataStationTimes;
 import simulator.runmodel.RunModel;
 import simulator.runmodel.SimulationData;
 import ui.modeleditor.coreelements.ModelElement;
@@ -114,15 +115,19 @@ public class RunElementSectionStart extends RunElementPassThrough {
 		simData.runData.logClientLeavesStation(simData,this,null,client);
 
 		/* Zeitdauern fr Station (=Bereich) erfassen */
-		Long L;
-		L=client.sectionEnterWaitingTime.remove(this);
-		final long waiting=client.waitingTime-((L!=null)?L.longValue():0);
-		L=client.sectionEnterTransferTime.remove(this);
-		final long transfer=client.transferTime-((L!=null)?L.longValue():0);
-		L=client.sectionEnterProcessTime.remove(this);
-		final long process=client.processTime-((L!=null)?L.longValue():0);
-		L=client.sectionEnterResidenceTime.remove(this);
-		final long residence=client.residenceTime-((L!=null)?L.longValue():0);
+		long waiting=client.waitingTime;
+		long transfer=client.transferTime;
+		long process=client.processTime;
+		long residence=client.residenceTime;
+		final RunDataStationTimes enterTimes=client.sectionEnterTimes;
+		final int index=(enterTimes==null)?-1:enterTimes.indexOf(id);
+		if (index>=0) {
+			waiting-=enterTimes.getWaitingTime(index);
+			transfer-=enterTimes.getTransferTime(index);
+			process-=enterTimes.getProcessTime(index);
+			residence-=enterTimes.getResidenceTime(index);
+			enterTimes.removeAt(index);
+		}
 
 		simData.runData.logStationProcess(simData,this,client,waiting,transfer,process,residence);
 
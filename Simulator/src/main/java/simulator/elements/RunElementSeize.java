@@ -194,6 +194,11 @@ public class RunElementSeize extends RunElement implements FreeResourcesListener
 		return 0.0;
 	}
 
+	@Override
+	public int[][] getNeededResources() {
+		return new int[][] {resources};
+	}
+
 	@Override
 	public RunElement getNext() {
 		return connectionSuccess;
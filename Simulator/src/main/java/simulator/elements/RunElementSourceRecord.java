@@ -24,7 +24,6 @@ import org.apache.commons.math3.util.FastMath;
 
 import language.Language;
 import mathtools.NumberTools;
-import mathtools.distribution.tools.DistributionRandomNumber;
 import mathtools.distribution.tools.DistributionTools;
 import parser.MathCalcError;
 import simcore.SimData;
@@ -171,7 +170,7 @@ public class RunElementSourceRecord {
 		double arrivalStart;
 		if (record.hasOwnArrivals()) switch (record.getNextMode()) {
 		case NEXT_DISTRIBUTION:
-			distribution=DistributionTools.cloneDistribution(record.getInterarrivalTimeDistribution());
+			distribution=runModel.distributionSamplers.get(DistributionTools.cloneDistribution(record.getInterarrivalTimeDistribution()));
 			arrivalStart=record.getArrivalStart();
 			if (arrivalStart<0) return new RunModelCreatorStatus(String.format(Language.tr("Simulation.Creator.SourceArrivalStart"),NumberTools.formatNumber(arrivalStart),id),RunModelCreatorStatus.Status.NEGATIVE_ARRIVAL_START_TIME);
 			arrivalStartMS=FastMath.round(arrivalStart*arrivalStartTimeBaseMultiply*1000);
@@ -430,7 +429,7 @@ public class RunElementSourceRecord {
 	 * @return	Ankunfts-Batch-Gre
 	 */
 	public int getMultiBatchSize(final SimulationData simData) {
-		final double p=DistributionRandomNumber.nextDouble();
+		final double p=simData.random.nextDouble();
 		for (int i=0;i<batchSizesPSums.length;i++) if (batchSizesPSums[i]>=p) return i+1;
 		return batchSizesPSums.length-1;
 	}
@@ -522,7 +521,7 @@ public class RunElementSourceRecord {
 					arrivalCount++;
 
 					/* Ankunftszeitpunkt */
-					long timeMS=FastMath.round((nextSlotNr*duration+duration*DistributionRandomNumber.nextDouble())*1000);
+					long timeMS=FastMath.round((nextSlotNr*duration+duration*simData.random.nextDouble())*1000);
 
 					/* Ankunfts-Event-Objekt holen */
 					final SystemArrivalEvent nextArrival=(SystemArrivalEvent)simData.getEvent(SystemArrivalEvent.class);
@@ -664,7 +663,7 @@ public class RunElementSourceRecord {
 			final SystemArrivalEvent nextArrival=(SystemArrivalEvent)simData.getEvent(SystemArrivalEvent.class);
 
 			/* Ausfhrungszeitpunkt festlegen */
-			final double rnd=DistributionRandomNumber.nextDouble();
+			final double rnd=simData.random.nextDouble();
 			final long arrivalTime=(intervalStartSec+Math.round(intervalExpressionsIntervalTime*rnd))*1000;
 			nextArrival.init(arrivalTime);
 
@@ -762,7 +761,7 @@ public class RunElementSourceRecord {
 			if (isFirstArrival && firstArrivalAt0) {
 				rawTimeDelta=0;
 			} else {
-				rawTimeDelta=DistributionRandomNumber.randomNonNegative(distribution);
+				rawTimeDelta=recordData.randomBuffer.randomNonNegative(0,simData.random,distribution);
 			}
 			return scheduleNextArrivalTime(simData,rawTimeDelta,isFirstArrival,element,stationName);
 		}
@@ -15,6 +15,7 @@
  */
 package simulator.elements;
 
+import mathtools.distribution.tools.DistributionRandomBuffer;
 import parser.MathCalcError;
 import simulator.coreelements.RunElementData;
 import simulator.runmodel.SimulationData;
@@ -69,6 +70,9 @@ public class RunElementSourceRecordData {
 	/** Ausdrcke fr Zuweisungen von Zahlen-Eigenschaften zu neuen Kunden */
 	public final RunElementSourceRecord.SourceSetExpressions setData;
 
+	/** Puffer fr die Zufallszahlen gem der Zwischenankunftszeitenverteilung */
+	public final DistributionRandomBuffer randomBuffer;
+
 	/**
 	 * Konstruktor der Klasse <code>RunElementSourceData</code>
 	 * @param simData	Simulationsdatenobjekt
@@ -79,6 +83,7 @@ public class RunElementSourceRecordData {
 		arrivalCount=0;
 		arrivalClientCount=0;
 		arrivalTime=-1;
+		randomBuffer=new DistributionRandomBuffer(1,simData.runModel.distributionRandomBufferSize);
 
 		if (record.batchSize==null) {
 			this.batchSize=null;
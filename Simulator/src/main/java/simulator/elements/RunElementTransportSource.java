@@ -124,7 +124,7 @@ public class RunElementTransportSource extends RunElement implements FreeResourc
 						if (err>=0) return String.format(Language.tr("Simulation.Creator.TransportSourceResourceReleaseDelayed"),element.getId(),runModel.clientTypes[i],data,err+1);
 						source.releaseDelayExpressions[i]=(String)data;
 					} else {
-						source.releaseDelayDistributions[i]=DistributionTools.cloneDistribution((AbstractRealDistribution)data);
+						source.releaseDelayDistributions[i]=runModel.distributionSamplers.get(DistributionTools.cloneDistribution((AbstractRealDistribution)data));
 					}
 				}
 			}
@@ -196,7 +196,7 @@ public class RunElementTransportSource extends RunElement implements FreeResourc
 	 */
 	private double getReleaseDelay(final SimulationData simData, final int targetID) {
 		if (releaseDelayDistributions!=null && releaseDelayDistributions[targetID]!=null) {
-			return DistributionRandomNumber.randomNonNegative(releaseDelayDistributions[targetID])*releaseDelayTimeBaseMultiply;
+			return DistributionRandomNumber.randomNonNegative(simData.random,releaseDelayDistributions[targetID])*releaseDelayTimeBaseMultiply;
 		}
 		if (releaseDelayExpressions!=null && releaseDelayExpressions[targetID]!=null) {
 			final RunElementTransportSourceData data=getData(simData);
@@ -320,4 +320,10 @@ public class RunElementTransportSource extends RunElement implements FreeResourc
 	public double getSecondaryResourcePriority(SimulationData simData) {
 		return 0.0;
 	}
+
+	@Override
+	public int[][] getNeededResources() {
+		if (resources==null) return new int[0][]; /* Wir brauchen gar keine Ressourcen. */
+		return new int[][] {resources};
+	}
 }
\ No newline at end of file
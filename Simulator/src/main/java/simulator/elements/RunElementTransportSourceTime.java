@@ -99,7 +99,7 @@ public class RunElementTransportSourceTime {
 			if (!(e instanceof ModelElementTransportDestination)) continue;
 			final Object delay=distributionSystem.getOrDefault(e.getName());
 			if (delay instanceof AbstractRealDistribution) {
-				distribution[i]=DistributionTools.cloneDistribution((AbstractRealDistribution)delay);
+				distribution[i]=runModel.distributionSamplers.get(DistributionTools.cloneDistribution((AbstractRealDistribution)delay));
 			} else {
 				if (!(delay instanceof String)) return String.format(Language.tr("Simulation.Creator.TransportSourceInternalError"),e.getId(),element.getId());
 				final String expr=(String)delay;
@@ -126,7 +126,7 @@ public class RunElementTransportSourceTime {
 	public double getTransportTime(final SimulationData simData, final RunDataClient client, final ExpressionCalc[] delayExpression, final String stationName) {
 		double value;
 		if (distribution[client.stationInformationInt]!=null) {
-			value=DistributionRandomNumber.randomNonNegative(distribution[client.stationInformationInt]);
+			value=DistributionRandomNumber.randomNonNegative(simData.random,distribution[client.stationInformationInt]);
 		} else {
 			final double additionalWaitingTime=(simData.currentTime-client.lastWaitingStart)*toSec;
 			simData.runData.setClientVariableValues(client,additionalWaitingTime);
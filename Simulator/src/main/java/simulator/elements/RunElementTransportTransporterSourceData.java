@@ -15,13 +15,13 @@
  */
 package simulator.elements;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import language.Language;
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
 import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunDataQueue;
 import simulator.runmodel.SimulationData;
 import simulator.simparser.ExpressionCalc;
 import simulator.simparser.ExpressionMultiEval;
@@ -102,7 +102,7 @@ public class RunElementTransportTransporterSourceData extends RunElementData {
 
 		count=0;
 		moving=0;
-		queue=new ArrayList<>();
+		queue=new RunDataQueue<>();
 
 		priorityParking=new ExpressionCalc(variableNames);
 		priorityParking.parse(priorityWaitingString);
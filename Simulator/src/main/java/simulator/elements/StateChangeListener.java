@@ -17,6 +17,7 @@ package simulator.elements;
 
 import simulator.runmodel.RunData;
 import simulator.runmodel.SimulationData;
+import simulator.simparser.ExpressionDependencies;
 
 /**
  * Alle Laufzeitelemente, die dieses Interface implementieren, werden benachrichtigt, wenn
@@ -40,4 +41,21 @@ public interface StateChangeListener {
 	default boolean interestedInChangeNotifiesAtTheMoment(final SimulationData simData) {
 		return true;
 	}
+
+	/**
+	 * Liefert die Zustandsgren, von denen die Reaktion auf {@link #systemStateChangeNotify(SimulationData)} ausschlielich abhngt.<br>
+	 * Wird hier ein Objekt geliefert, so wird der Listener nur dann benachrichtigt, wenn sich seit seiner letzten Benachrichtigung
+	 * mindestens eine dieser Zustandsgren verndert hat, wenn er bei der letzten Benachrichtigung selbst Vernderungen vorgenommen hat oder
+	 * wenn er die Benachrichtigung per {@link RunData#requestStateChangeNotify(StateChangeListener)} angefordert hat.<br>
+	 * Die Methode wird einmal zu Beginn der Simulation aufgerufen.<br>
+	 * Es knnen Abhngigkeiten von globalen Variablen, von der Anzahl an Kunden an bzw. in der Warteschlange an einzelnen Stationen
+	 * sowie von der Belegung, der Anzahl und den Ausfllen einzelner Ressourcen angegeben werden. Hngt die Reaktion auch von anderen
+	 * Zustandsgren ab (z.B. Analogwerte, Kundendaten oder die Simulationszeit), so muss <code>null</code> geliefert werden.
+	 * @param simData	Simulationsdatenobjekt
+	 * @return	Zustandsgren, von denen die Reaktion abhngt, oder <code>null</code>, wenn der Listener bei jeder Zustandsnderung benachrichtigt werden soll
+	 * @see ExpressionDependencies
+	 */
+	default ExpressionDependencies getStateChangeDependencies(final SimulationData simData) {
+		return null;
+	}
 }
@@ -59,7 +59,7 @@ public class ProcessReleaseResources extends Event {
 		if (simData.loggingActive) station.log(simData,Language.tr("Simulation.Log.ReleaseResource"),String.format(Language.tr("Simulation.Log.ReleaseResource.Info"),station.name));
 
 		/* Prfen, ob andere Stationen auf diese Ressourcen warten */
-		simData.runData.fireReleasedResourcesNotify(simData);
+		simData.runData.fireReleasedResourcesNotify(simData,station.resources[resourceAlternative]);
 
 		/* System ber Status-nderung benachrichtigen */
 		simData.runData.fireStateChangeNotify(simData);
@@ -52,7 +52,7 @@ public class ReleaseReleaseResources extends Event {
 		if (simData.loggingActive) station.log(simData,Language.tr("Simulation.Log.Release"),String.format(Language.tr("Simulation.Log.Release.InfoDelay2"),station.name));
 
 		/* Prfen, ob andere Stationen auf diese Ressourcen warten */
-		simData.runData.fireReleasedResourcesNotify(simData);
+		simData.runData.fireReleasedResourcesNotify(simData,resources);
 
 		/* System ber Status-nderung benachrichtigen */
 		simData.runData.fireStateChangeNotify(simData);
@@ -1,23 +1,55 @@
 package simulator.runmodel;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 /**
  * ber alle Threads synchronisierte Zhlung der Anknfte, um so die Kunden
- * pro Thread dynamisch anpassen zu knnen.
+ * pro Thread dynamisch anpassen zu knnen.<br>
+ * Die Pakete werden ohne Sperren (per Compare-and-Set auf den verbleibenden Anknften)
+ * vergeben. Die Gre eines Pakets richtet sich nach der gemessenen Geschwindigkeit
+ * (Anknfte pro Sekunde) des anfragenden Threads und nach der voraussichtlichen
+ * Restlaufzeit aller Threads, so dass die Pakete gegen Ende kleiner werden und
+ * alle Threads mglichst gleichzeitig fertig werden.
  * @author Alexander Herzog
  * @see RunData#nextClientIsLast(SimulationData)
  */
 public class DynamicLoadBalancer {
 	/** Minimale Gre fr ein Anknfte-Paket */
-	private static final long MIN_LOAD_PACKAGE_SIZE=1_000;
+	private static final long MIN_LOAD_PACKAGE_SIZE=100;
+
+	/** Angestrebte Bearbeitungszeit fr ein Anknfte-Paket (in Sekunden) */
+	private static final double TARGET_PACKAGE_SECONDS=0.1;
+
+	/** Anteil der voraussichtlichen Restlaufzeit, den ein Paket gegen Ende hchstens umfassen soll */
+	private static final double TAIL_FRACTION=0.25;
 
-	/** Gesamtzahl der zu simulierenden Anknfte */
-	private volatile long arrivalsToBeSimulated;
-	/** 25% von {@link #arrivalsToBeSimulated} */
-	private final long last25Percent;
-	/** Groes Anknfte-Paket (wird vor Erreichen der letzten 25% jeweils ausgeliefert) */
-	private final long arrivalPackageLarge;
-	/** Kleines Anknfte-Paket (wird ab dem Erreichen der letzten 25% jeweils ausgeliefert) */
-	private final long arrivalPackageSmall;
+	/** Anzahl an Threads */
+	private final int threadCount;
+
+	/** Anzahl der noch zu verteilenden Anknfte */
+	private final AtomicLong arrivalsToBeSimulated;
+
+	/** Paketgre, solange fr einen Thread noch keine Geschwindigkeit gemessen wurde */
+	private final long initialPackage;
+
+	/**
+	 * Gemessene Geschwindigkeit der einzelnen Threads (in Anknften pro Sekunde, 0=noch nicht gemessen)<br>
+	 * Jeder Eintrag wird nur von dem jeweiligen Thread geschrieben, aber von allen Threads gelesen.
+	 */
+	private final AtomicLongArray arrivalsPerSecond;
+
+	/** Zeitpunkt der letzten Paketanfrage der einzelnen Threads (in Nanosekunden, wird nur von dem jeweiligen Thread verwendet) */
+	private final long[] lastRequestNanos;
+
+	/** Gre des zuletzt an die einzelnen Threads vergebenen Pakets (wird nur von dem jeweiligen Thread verwendet) */
+	private final long[] lastPackage;
+
+	/** Anzahl an vergebenen Paketen pro Thread (wird nur von dem jeweiligen Thread geschrieben) */
+	private final long[] packageCount;
+
+	/** Anzahl an vergebenen Anknften pro Thread (wird nur von dem jeweiligen Thread geschrieben) */
+	private final long[] arrivalsCount;
 
 	/**
 	 * Konstruktor der Klasse
@@ -25,31 +57,108 @@ public class DynamicLoadBalancer {
 	 * @param threadCount	Anzahl an Threads
 	 */
 	public DynamicLoadBalancer(final long arrivalsToBeSimulated, final int threadCount) {
-		this.arrivalsToBeSimulated=arrivalsToBeSimulated;
-		this.last25Percent=arrivalsToBeSimulated/4;
-		this.arrivalPackageLarge=Math.min(Math.max(MIN_LOAD_PACKAGE_SIZE,arrivalsToBeSimulated/threadCount/250),last25Percent);
-		this.arrivalPackageSmall=Math.max(MIN_LOAD_PACKAGE_SIZE,arrivalsToBeSimulated/threadCount/2000);
+		this.threadCount=threadCount;
+		this.arrivalsToBeSimulated=new AtomicLong(arrivalsToBeSimulated);
+		initialPackage=Math.max(MIN_LOAD_PACKAGE_SIZE,arrivalsToBeSimulated/threadCount/250);
+		arrivalsPerSecond=new AtomicLongArray(threadCount);
+		lastRequestNanos=new long[threadCount];
+		lastPackage=new long[threadCount];
+		packageCount=new long[threadCount];
+		arrivalsCount=new long[threadCount];
 	}
 
 	/**
-	 * Liefert (synchronisiert) das nchste Paket von zulssigen Anknften
-	 * @return	Anknfte fr den Thread (kann 0 sein, wenn der Thread keine weiteren Anknfte generieren soll)
+	 * Aktualisiert die gemessene Geschwindigkeit eines Threads auf Basis des zuletzt abgearbeiteten Pakets.
+	 * @param threadNr	Nummer des Threads
+	 * @param now	Aktuelle Zeit in Nanosekunden
+	 * @return	Gemessene Geschwindigkeit des Threads (in Anknften pro Sekunde, 0=noch nicht bekannt)
 	 */
-	public long getArrivals() {
-		synchronized(this) {
-			if (arrivalsToBeSimulated>last25Percent) {
-				arrivalsToBeSimulated-=arrivalPackageLarge;
-				return arrivalPackageLarge;
-			} else {
-				if (arrivalsToBeSimulated>arrivalPackageSmall) {
-					arrivalsToBeSimulated-=arrivalPackageSmall;
-					return arrivalPackageSmall;
-				} else {
-					final long arrivalThisPackage=arrivalsToBeSimulated;
-					arrivalsToBeSimulated=0;
-					return arrivalThisPackage;
-				}
+	private long updateRate(final int threadNr, final long now) {
+		long rate=arrivalsPerSecond.get(threadNr);
+		if (lastPackage[threadNr]>0) {
+			final long delta=now-lastRequestNanos[threadNr];
+			if (delta>0) {
+				final long measured=Math.max(1,Math.round(lastPackage[threadNr]*1_000_000_000.0/delta));
+				rate=(rate==0)?measured:((rate+measured)/2);
+				arrivalsPerSecond.set(threadNr,rate);
 			}
 		}
+		lastRequestNanos[threadNr]=now;
+		return rate;
+	}
+
+	/**
+	 * Berechnet die gewnschte Paketgre fr einen Thread.
+	 * @param rate	Geschwindigkeit des Threads (in Anknften pro Sekunde, 0=noch nicht bekannt)
+	 * @param remaining	Noch zu verteilende Anknfte
+	 * @return	Gewnschte Paketgre
+	 */
+	private long getPackageSize(final long rate, final long remaining) {
+		if (rate==0) return initialPackage;
+
+		/* Threads ohne Messwert werden mit der Geschwindigkeit des anfragenden Threads angesetzt */
+		long sumRate=0;
+		for (int i=0;i<threadCount;i++) {
+			final long r=arrivalsPerSecond.get(i);
+			sumRate+=(r==0)?rate:r;
+		}
+
+		final double remainingSeconds=((double)remaining)/sumRate;
+		final double packageSeconds=Math.min(TARGET_PACKAGE_SECONDS,remainingSeconds*TAIL_FRACTION);
+		final long size=Math.round(rate*packageSeconds);
+		return Math.max(MIN_LOAD_PACKAGE_SIZE,Math.min(size,remaining/threadCount));
+	}
+
+	/**
+	 * Liefert das nchste Paket von zulssigen Anknften
+	 * @param threadNr	Nummer des anfragenden Threads (0-basierend)
+	 * @return	Anknfte fr den Thread (kann 0 sein, wenn der Thread keine weiteren Anknfte generieren soll)
+	 */
+	public long getArrivals(final int threadNr) {
+		final long rate=updateRate(threadNr,System.nanoTime());
+
+		long arrivalThisPackage;
+		while (true) {
+			final long remaining=arrivalsToBeSimulated.get();
+			if (remaining<=0) {arrivalThisPackage=0; break;}
+			arrivalThisPackage=Math.min(remaining,getPackageSize(rate,remaining));
+			if (arrivalsToBeSimulated.compareAndSet(remaining,remaining-arrivalThisPackage)) break;
+		}
+
+		lastPackage[threadNr]=arrivalThisPackage;
+		if (arrivalThisPackage>0) {
+			packageCount[threadNr]++;
+			arrivalsCount[threadNr]+=arrivalThisPackage;
+		}
+		return arrivalThisPackage;
+	}
+
+	/**
+	 * Liefert die Anzahl an Paketen, die an einen Thread vergeben wurden.<br>
+	 * Die Werte sind erst nach dem Ende der Simulationsthreads verlsslich.
+	 * @param threadNr	Nummer des Threads (0-basierend)
+	 * @return	Anzahl an vergebenen Paketen
+	 */
+	public long getPackageCount(final int threadNr) {
+		return packageCount[threadNr];
+	}
+
+	/**
+	 * Liefert die Anzahl an Anknften, die an einen Thread vergeben wurden.<br>
+	 * Die Werte sind erst nach dem Ende der Simulationsthreads verlsslich.
+	 * @param threadNr	Nummer des Threads (0-basierend)
+	 * @return	Anzahl an vergebenen Anknften
+	 */
+	public long getArrivalsCount(final int threadNr) {
+		return arrivalsCount[threadNr];
+	}
+
+	/**
+	 * Liefert die zuletzt gemessene Geschwindigkeit eines Threads.
+	 * @param threadNr	Nummer des Threads (0-basierend)
+	 * @return	Anknfte pro Sekunde (0, wenn noch kein Messwert vorliegt)
+	 */
+	public long getArrivalsPerSecond(final int threadNr) {
+		return arrivalsPerSecond.get(threadNr);
 	}
 }
@@ -29,7 +29,6 @@ import org.apache.commons.math3.util.FastMath;
 
 import language.Language;
 import mathtools.NumberTools;
-import mathtools.distribution.tools.DistributionRandomNumber;
 import parser.MathCalcError;
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementAnalogProcessing;
@@ -48,6 +47,7 @@ import simulator.events.EndWarmUpEvent;
 import simulator.events.SystemChangeEvent;
 import simulator.events.TimedCheckEvent;
 import simulator.simparser.ExpressionCalc;
+import simulator.simparser.ExpressionDependencies;
 import simulator.statistics.Statistics;
 import statistics.StatisticsDataPerformanceIndicator;
 import statistics.StatisticsMultiPerformanceIndicator;
@@ -455,10 +455,6 @@ public class RunData {
 			runtimeMapGlobal.putAll(runModel.globalMapInitial);
 		}
 
-		if (nr==0 && simData.runModel.useFixedSeed) {
-			DistributionRandomNumber.generator.setSeed(simData.runModel.fixedSeed+simData.threadNr);
-		}
-
 		for (RunElement element: runModel.elementsFast) {
 			if (element instanceof RunSource) ((RunSource)element).scheduleInitialArrivals(simData);
 		}
@@ -1570,6 +1566,13 @@ public class RunData {
 	 */
 	private double[] globalFreeResourcesListenerCurrentPriority;
 
+	/**
+	 * Cache des Arrays zur Erfassung, welche Listener von einer Ressourcenfreigabe betroffen sind
+	 * (wird nur whrend der Priorittsbestimmung und damit vor dem Aufruf der Listener verwendet)
+	 * @see #fireReleasedResourcesNotify(SimulationData, int[])
+	 */
+	private boolean[] globalFreeResourcesListenerAffected;
+
 	/**
 	 * Globale Liste zur Erfassung der Indices der zu benachrichtigen Listener fr freie Bediener
 	 * @see #fireReleasedResourcesNotify(SimulationData)
@@ -1652,7 +1655,7 @@ public class RunData {
 				if (bestIndex.size()==1) {
 					return bestIndex.get(0).intValue();
 				} else {
-					return bestIndex.get((int)FastMath.round(FastMath.floor(bestIndex.size()*DistributionRandomNumber.nextDouble()))).intValue();
+					return bestIndex.get((int)FastMath.round(FastMath.floor(bestIndex.size()*simData.random.nextDouble()))).intValue();
 				}
 			} finally {
 				if (secondaryPriorityListInUse) canUseGlobalSecondaryPriorityList=true;
@@ -1660,23 +1663,17 @@ public class RunData {
 		}
 
 		/* Zufllige Auswahl der Station */
-		return (int)FastMath.round(FastMath.floor(indexList.size()*DistributionRandomNumber.nextDouble()));
+		return (int)FastMath.round(FastMath.floor(indexList.size()*simData.random.nextDouble()));
 	}
 
 	/**
-	 * Diese Methode muss aufgerufen werden, wenn Ressourcen freigegeben wurden.
-	 * Es werden dann alle Elemente, die sich fr diese Tatsache interessieren
-	 * (die das {@link FreeResourcesListener}-Interface implementieren),
-	 * darber benachrichtigt.
+	 * Initialisiert beim ersten Aufruf die Daten zu den Listenern, die ber freigegebene Ressourcen benachrichtigt werden sollen.
 	 * @param simData	Simulationsdatenobjekt
-	 * @see FreeResourcesListener
+	 * @see #freeResourcesListener
 	 */
-	public void fireReleasedResourcesNotify(final SimulationData simData) {
-		/* Beim ersten Aufruf: Array mit relevanten Eintrgen aufbauen */
+	private void initFreeResourcesListener(final SimulationData simData) {
 		if (freeResourcesListener==null) {
-			final List<FreeResourcesListener> elements=new ArrayList<>();
-			for (Map.Entry<Integer,RunElement> entry: runModel.elements.entrySet()) if (entry.getValue() instanceof FreeResourcesListener) elements.add((FreeResourcesListener)(entry.getValue()));
-			freeResourcesListener=elements.toArray(new FreeResourcesListener[0]);
+			freeResourcesListener=runModel.freeResourcesListener;
 			freeResourcesListenerPriority=new ExpressionCalc[freeResourcesListener.length];
 			freeResourcesListenerPriorityConst=new Double[freeResourcesListener.length];
 			for (int i=0;i<freeResourcesListener.length;i++) {
@@ -1686,7 +1683,72 @@ public class RunData {
 				} catch (MathCalcError e) {}
 			}
 		}
+	}
+
+	/**
+	 * Diese Methode muss aufgerufen werden, wenn Ressourcen freigegeben wurden.
+	 * Es werden dann alle Elemente, die sich fr diese Tatsache interessieren
+	 * (die das {@link FreeResourcesListener}-Interface implementieren),
+	 * darber benachrichtigt.
+	 * @param simData	Simulationsdatenobjekt
+	 * @see FreeResourcesListener
+	 * @see #fireReleasedResourcesNotify(SimulationData, int[])
+	 */
+	public void fireReleasedResourcesNotify(final SimulationData simData) {
+		/* Beim ersten Aufruf: Array mit relevanten Eintrgen aufbauen */
+		initFreeResourcesListener(simData);
+
+		notifyFreeResourcesListener(simData,null);
+	}
+
+	/**
+	 * Diese Methode muss aufgerufen werden, wenn bestimmte Ressourcen freigegeben wurden.
+	 * Es werden dann nur die Elemente benachrichtigt, die mindestens eine der
+	 * freigegebenen Ressourcen verwenden knnen
+	 * (siehe {@link RunModel#freeResourcesListenerByResource}).
+	 * @param simData	Simulationsdatenobjekt
+	 * @param releasedResources	Anzahl an freigegebenen Bedienern pro Ressourcen-Index (ist dieser Wert <code>null</code>, so werden alle Elemente benachrichtigt)
+	 * @see FreeResourcesListener
+	 * @see #fireReleasedResourcesNotify(SimulationData)
+	 */
+	public void fireReleasedResourcesNotify(final SimulationData simData, final int[] releasedResources) {
+		/* Beim ersten Aufruf: Array mit relevanten Eintrgen aufbauen */
+		initFreeResourcesListener(simData);
 
+		if (releasedResources==null) {
+			notifyFreeResourcesListener(simData,null);
+			return;
+		}
+
+		/* Betroffene Listener bestimmen */
+		if (globalFreeResourcesListenerAffected==null) globalFreeResourcesListenerAffected=new boolean[freeResourcesListener.length];
+		final boolean[] affected=globalFreeResourcesListenerAffected;
+		Arrays.fill(affected,false);
+		final int[][] byResource=runModel.freeResourcesListenerByResource;
+		boolean anyAffected=false;
+		final int count=FastMath.min(releasedResources.length,byResource.length);
+		for (int i=0;i<count;i++) if (releasedResources[i]>0) {
+			for (int index: byResource[i]) affected[index]=true;
+			if (byResource[i].length>0) anyAffected=true;
+		}
+
+		if (!anyAffected) {
+			/* Wenn Ereignis getriggert durch Pausenzeitende, dann System Mglichkeit geben, nchsten Pausenbeginn gem Ausdruck zu berechnen */
+			resources.updateStatus(simData);
+			return;
+		}
+
+		notifyFreeResourcesListener(simData,affected);
+	}
+
+	/**
+	 * Benachrichtigt die Listener gem ihrer Prioritten ber freigegebene Ressourcen.
+	 * @param simData	Simulationsdatenobjekt
+	 * @param affected	Gibt an, welche Listener benachrichtigt werden sollen (ist dieser Wert <code>null</code>, so werden alle Listener benachrichtigt). Das Array wird nur zur Bestimmung der Prioritten, d.h. vor dem ersten Aufruf eines Listeners, verwendet.
+	 * @see #fireReleasedResourcesNotify(SimulationData)
+	 * @see #fireReleasedResourcesNotify(SimulationData, int[])
+	 */
+	private void notifyFreeResourcesListener(final SimulationData simData, final boolean[] affected) {
 		/* Wenn Ereignis getriggert durch Pausenzeitende, dann System Mglichkeit geben, nchsten Pausenbeginn gem Ausdruck zu berechnen */
 		resources.updateStatus(simData);
 
@@ -1706,13 +1768,19 @@ public class RunData {
 		canUseGlobalFreeResourcesListenerCurrentPriority=false;
 		boolean allTheSamePriority=true;
 		double samePriorityValue=0;
+		boolean isFirst=true;
 		try {
 			simData.runData.setClientVariableValues(null);
 			for (int i=0;i<freeResourcesListenerPriority.length;i++) {
+				if (affected!=null && !affected[i]) {
+					/* Listener kann die freigegebenen Ressourcen nicht verwenden */
+					freeResourcesListenerCurrentPriority[i]=-Double.MAX_VALUE;
+					continue;
+				}
 				if (freeResourcesListenerPriorityConst[i]!=null) {
 					final double value=freeResourcesListenerCurrentPriority[i]=freeResourcesListenerPriorityConst[i];
 					if (allTheSamePriority) {
-						if (i==0) samePriorityValue=value; else {
+						if (isFirst) {samePriorityValue=value; isFirst=false;} else {
 							if (value!=samePriorityValue) allTheSamePriority=false;
 						}
 					}
@@ -1721,7 +1789,7 @@ public class RunData {
 						final double value=freeResourcesListenerPriority[i].calc(variableValues,simData,null);
 						freeResourcesListenerCurrentPriority[i]=value;
 						if (allTheSamePriority) {
-							if (i==0) samePriorityValue=value; else {
+							if (isFirst) {samePriorityValue=value; isFirst=false;} else {
 								if (value!=samePriorityValue) allTheSamePriority=false;
 							}
 						}
@@ -1863,7 +1931,7 @@ public class RunData {
 					if (maxIndex.size()==1) {
 						select=0;
 					} else {
-						select=(int)FastMath.round(FastMath.floor(maxIndex.size()*DistributionRandomNumber.nextDouble()));
+						select=(int)FastMath.round(FastMath.floor(maxIndex.size()*simData.random.nextDouble()));
 					}
 					final int index=maxIndex.remove(select);
 
@@ -1891,6 +1959,14 @@ public class RunData {
 	 */
 	private StateChangeListener stateChangeListenerRemove=null;
 
+	/**
+	 * Erfassung, welche Listener in {@link #stateChangeListener} bersprungen werden knnen,
+	 * weil sich die Zustandsgren, von denen sie abhngen, nicht verndert haben
+	 * (<code>null</code>, wenn kein Listener Abhngigkeiten gemeldet hat)
+	 * @see StateChangeListener#getStateChangeDependencies(SimulationData)
+	 */
+	private StateChangeDependencies stateChangeDependencies;
+
 	/**
 	 * Zeitpunkt der letzten Zustandsnderung
 	 * @see #fireStateChangeNotify(SimulationData)
@@ -1923,6 +1999,7 @@ public class RunData {
 			}
 			stateChangeListener=list.toArray(new StateChangeListener[0]);
 			lastStateChange=-1;
+			initStateChangeDependencies(simData);
 		}
 
 		/* Es gibt nichts zu tun - und das wird sich auch nicht ndern. Daher gar kein retriggern nach einer ms und hnliches planen. */
@@ -1943,8 +2020,17 @@ public class RunData {
 
 		if (stateChangeListener.length>0) {
 
+			/* Vernderte Variablen und Zustandsgren erfassen */
+			final StateChangeDependencies dependencies=stateChangeDependencies;
+			if (dependencies!=null) dependencies.nextRound(variableValues,simData);
+
 			for (StateChangeListener listener: stateChangeListener) {
+				final int id=((RunElement)listener).id;
+				/* Listener, deren Reaktion nur von seit der letzten Benachrichtigung unvernderten Zustandsgren abhngt, berspringen */
+				if (dependencies!=null && !dependencies.startNotify(id)) continue;
 				if (listener.systemStateChangeNotify(simData)) {
+					/* Der Listener hat selbst Vernderungen vorgenommen, daher muss er in der nchsten Runde auf jeden Fall wieder benachrichtigt werden. */
+					if (dependencies!=null) dependencies.requestNotify(id);
 					/* Es wurden Vernderungen (in Form von angelegten neuen Ereignissen) vorgenommen, die nun erstmal regulr abgearbeitet werden mssen. Erst danach (nach einer ms) hier fortsetzen, sonst erfolgen z.B. Freigaben, auf Basis veralteter Systemzustnde. */
 					systemChangedByChangedListener=true;
 					break;
@@ -2121,6 +2207,15 @@ public class RunData {
 		return writer;
 	}
 
+	/**
+	 * Schliet alle ber {@link #getOutputWriter(File, boolean)} geffneten Ausgabedateien.<br>
+	 * Bereits geschlossene Ausgabedateien werden dabei nicht erneut geschrieben.
+	 * @see SimulationData#releaseResources()
+	 */
+	public void closeOutputWriters() {
+		for (RunDataOutputWriter writer: outputWriter.values()) writer.close();
+	}
+
 	/**
 	 * Stellt die Variablen "w", "t" und "p" gem den Daten eines Kunden ein
 	 * @param client	Kunden-Objekt von dem die Zeitdaten ausgelesen und in die Variablen geschrieben werden sollen
@@ -2169,6 +2264,31 @@ public class RunData {
 		variableValues[len-1]=processTime*scale;
 	}
 
+	/**
+	 * Ermittelt beim ersten Aufruf von {@link #fireStateChangeNotify(SimulationData)}, von welchen Zustandsgren
+	 * die einzelnen Listener abhngen.
+	 * @param simData	Simulationsdatenobjekt
+	 * @see StateChangeListener#getStateChangeDependencies(SimulationData)
+	 */
+	private void initStateChangeDependencies(final SimulationData simData) {
+		final ExpressionDependencies[] dependencies=new ExpressionDependencies[simData.runModel.elementsFast.length];
+		for (StateChangeListener listener: stateChangeListener) dependencies[((RunElement)listener).id]=listener.getStateChangeDependencies(simData);
+
+		/* Liefert null, wenn alle Listener bei jeder Zustandsnderung benachrichtigt werden sollen */
+		stateChangeDependencies=StateChangeDependencies.build(dependencies,simData);
+	}
+
+	/**
+	 * Fordert an, dass ein <code>StateChangeListener</code> bei der nchsten Benachrichtigungsrunde auf jeden Fall benachrichtigt wird,
+	 * auch wenn sich die Zustandsgren, von denen er gem {@link StateChangeListener#getStateChangeDependencies(SimulationData)}
+	 * abhngt, nicht verndert haben (z.B. weil an der Station ein neuer Kunde eingetroffen ist).
+	 * @param listener	Listener, der bei der nchsten Runde benachrichtigt werden soll
+	 */
+	public void requestStateChangeNotify(final StateChangeListener listener) {
+		if (stateChangeDependencies==null) return; /* Noch keine Runde erfolgt oder keine Abhngigkeiten erfasst, dann werden ohnehin alle Listener benachrichtigt. */
+		stateChangeDependencies.requestNotify(((RunElement)listener).id);
+	}
+
 	/**
 	 * Informiert das <code>RunData</code>-Objekt, dass ein <code>StateChangeListener</code> keine Nachrichten mehr erhalten mchte.<br>
 	 * Dies kann whrend einer Benachrichtigungsrunde erfolgen. Der Listener wird erst nach Abschluss der Runde aus der Liste entfernt, so dass es keine konkurrierenden Zugriffe gibt.
@@ -2388,7 +2508,7 @@ public class RunData {
 			return clientsArrived>=arrivalsToBeSimulated;
 		} else {
 			/* Anknfte beim Load-Balancer anfragen */
-			if (currentArrivalPackage<=0) currentArrivalPackage=dynamicLoadBalancer.getArrivals();
+			if (currentArrivalPackage<=0) currentArrivalPackage=dynamicLoadBalancer.getArrivals(simData.threadNr);
 			currentArrivalPackage--;
 			return currentArrivalPackage<0;
 		}
@@ -122,28 +122,11 @@ public class RunDataClient {
 	public long residenceTime;
 
 	/**
-	 * Zuordnung von Stations-IDs zu Wartezeit-Zeitendauern, die der jeweilige Kunde insgesamt (evtl. in mehreren Anlufen) an der Station war
+	 * Warte-, Transfer-, Bedien- und Verweilzeiten, die der jeweilige Kunde insgesamt (evtl. in mehreren Anlufen) an den Stationen war
+	 * (ist <code>null</code>, wenn diese Daten nicht erfasst werden sollen)
 	 * @see #recordStationTotalClientTimes
 	 */
-	public Map<Integer,Long> stationTotalWaitingTime;
-
-	/**
-	 * Zuordnung von Stations-IDs zu Transferzeit-Zeitendauern, die der jeweilige Kunde insgesamt (evtl. in mehreren Anlufen) an der Station war
-	 * @see #recordStationTotalClientTimes
-	 */
-	public Map<Integer,Long> stationTotalTransferTime;
-
-	/**
-	 * Zuordnung von Stations-IDs zu Bedienzeit-Zeitendauern, die der jeweilige Kunde insgesamt (evtl. in mehreren Anlufen) an der Station war
-	 * @see #recordStationTotalClientTimes
-	 */
-	public Map<Integer,Long> stationTotalProcessTime;
-
-	/**
-	 * Zuordnung von Stations-IDs zu Verweilzeit-Zeitendauern, die der jeweilige Kunde insgesamt (evtl. in mehreren Anlufen) an der Station war
-	 * @see #recordStationTotalClientTimes
-	 */
-	public Map<Integer,Long> stationTotalResidenceTime;
+	public RunDataStationTimes stationTotalTimes;
 
 	/**
 	 * Zustzliche Kosten, die am Ende mit als Wartezeit-Kosten gezhlt werden sollen
@@ -170,6 +153,13 @@ public class RunDataClient {
 	 */
 	public long lastWaitingStart;
 
+	/**
+	 * Position des Kunden in der Prioritts-Warteschlange einer Bedienstation<br>
+	 * (Ist nur gltig, solange der Kunde in der Warteschlange wartet.)
+	 * @see simulator.elements.RunElementProcessPriorityQueue
+	 */
+	public int waitingQueuePosition=-1;
+
 	/**
 	 * Letzter zu zhlender Kunde fr die Simulation.
 	 */
@@ -290,44 +280,13 @@ public class RunDataClient {
 	private List<RunElementSectionStart> sections;
 
 	/**
-	 * Hlt den aktuellen Wert der Wartezeit des Kunden beim Betreten eines Bereichs fest,
-	 * um so beim Verlassen des Bereichs ermitteln zu knnen, wie viel Wartezeit in dem
-	 * Bereich entstanden ist.
-	 * (Die ganze Liste kann <code>null</code> sein, wenn der Kunde (noch)
-	 * in keinem Bereich ist. Wenn die Wartezeit beim Betreten des Bereichs 0 war,
-	 * wird kein Wert in die HashMap aufgenommen.)
+	 * Hlt die aktuellen Werte der Warte-, Transfer-, Bedien- und Verweilzeit des Kunden
+	 * beim Betreten eines Bereichs (Schlssel ist die ID des Bereichs) fest, um so beim
+	 * Verlassen des Bereichs ermitteln zu knnen, wie viel Zeit in dem Bereich entstanden ist.
+	 * (Das Objekt kann <code>null</code> sein, wenn der Kunde (noch)
+	 * in keinem Bereich war.)
 	 */
-	public Map<RunElementSectionStart,Long> sectionEnterWaitingTime;
-
-	/**
-	 * Hlt den aktuellen Wert der Transferzeit des Kunden beim Betreten eines Bereichs fest,
-	 * um so beim Verlassen des Bereichs ermitteln zu knnen, wie viel Transferzeit in dem
-	 * Bereich entstanden ist.
-	 * (Die ganze Liste kann <code>null</code> sein, wenn der Kunde (noch)
-	 * in keinem Bereich ist. Wenn die Transferzeit beim Betreten des Bereichs 0 war,
-	 * wird kein Wert in die HashMap aufgenommen.)
-	 */
-	public Map<RunElementSectionStart,Long> sectionEnterTransferTime;
-
-	/**
-	 * Hlt den aktuellen Wert der Bedienzeit des Kunden beim Betreten eines Bereichs fest,
-	 * um so beim Verlassen des Bereichs ermitteln zu knnen, wie viel Bedienzeit in dem
-	 * Bereich entstanden ist.
-	 * (Die ganze Liste kann <code>null</code> sein, wenn der Kunde (noch)
-	 * in keinem Bereich ist. Wenn die Bedienzeit beim Betreten des Bereichs 0 war,
-	 * wird kein Wert in die HashMap aufgenommen.)
-	 */
-	public Map<RunElementSectionStart,Long> sectionEnterProcessTime;
-
-	/**
-	 * Hlt den aktuellen Wert der Verweilzeit des Kunden beim Betreten eines Bereichs fest,
-	 * um so beim Verlassen des Bereichs ermitteln zu knnen, wie viel Verweilzeit in dem
-	 * Bereich entstanden ist.
-	 * (Die ganze Liste kann <code>null</code> sein, wenn der Kunde (noch)
-	 * in keinem Bereich ist. Wenn die Verweilzeit beim Betreten des Bereichs 0 war,
-	 * wird kein Wert in die HashMap aufgenommen.)
-	 */
-	public Map<RunElementSectionStart,Long> sectionEnterResidenceTime;
+	public RunDataStationTimes sectionEnterTimes;
 
 	/**
 	 * Gibt an, wenn sich der Kunde in einem Logik-Abschnitt befindet,
@@ -393,10 +352,7 @@ public class RunDataClient {
 		processTime=0;
 		residenceTime=0;
 		if (recordStationTotalClientTimes) {
-			if (stationTotalWaitingTime==null) stationTotalWaitingTime=new HashMap<>(); else stationTotalWaitingTime.clear();
-			if (stationTotalTransferTime==null) stationTotalTransferTime=new HashMap<>(); else stationTotalTransferTime.clear();
-			if (stationTotalProcessTime==null) stationTotalProcessTime=new HashMap<>(); else stationTotalProcessTime.clear();
-			if (stationTotalResidenceTime==null) stationTotalResidenceTime=new HashMap<>(); else stationTotalResidenceTime.clear();
+			if (stationTotalTimes==null) stationTotalTimes=new RunDataStationTimes(); else stationTotalTimes.clear();
 		}
 		waitingAdditionalCosts=0;
 		transferAdditionalCosts=0;
@@ -413,10 +369,7 @@ public class RunDataClient {
 		sequenceNr=-1;
 		sequenceStep=0;
 		if (sections!=null) sections.clear();
-		if (sectionEnterWaitingTime!=null) sectionEnterWaitingTime.clear();
-		if (sectionEnterTransferTime!=null) sectionEnterTransferTime.clear();
-		if (sectionEnterProcessTime!=null) sectionEnterProcessTime.clear();
-		if (sectionEnterResidenceTime!=null) sectionEnterResidenceTime.clear();
+		if (sectionEnterTimes!=null) sectionEnterTimes.clear();
 		if (logic!=null) logic.clear();
 		isAnnouncedToStation=false;
 		pathRecordingUsed=0;
@@ -440,14 +393,7 @@ public class RunDataClient {
 		processTime=client.processTime;
 		residenceTime=client.residenceTime;
 		if (recordStationTotalClientTimes) {
-			stationTotalWaitingTime.clear();
-			stationTotalWaitingTime.putAll(client.stationTotalWaitingTime);
-			stationTotalTransferTime.clear();
-			stationTotalTransferTime.putAll(client.stationTotalTransferTime);
-			stationTotalProcessTime.clear();
-			stationTotalProcessTime.putAll(client.stationTotalProcessTime);
-			stationTotalResidenceTime.clear();
-			stationTotalResidenceTime.putAll(client.stationTotalResidenceTime);
+			stationTotalTimes.copyFrom(client.stationTotalTimes);
 		}
 		waitingAdditionalCosts=client.waitingAdditionalCosts;
 		transferAdditionalCosts=client.transferAdditionalCosts;
@@ -502,10 +448,7 @@ public class RunDataClient {
 
 		if (recordStationTotalClientTimes) {
 			/* Zeiten==0 drfen nicht weggelassen werden, weil diese sonst evtl. in der Zhlung am Ende fehlen */
-			stationTotalWaitingTime.compute(stationID,(k,v)->(v==null)?addWaitingTimeMS:v+addWaitingTimeMS);
-			stationTotalTransferTime.compute(stationID,(k,v)->(v==null)?addTransferTimeMS:v+addTransferTimeMS);
-			stationTotalProcessTime.compute(stationID,(k,v)->(v==null)?addProcessTimeMS:v+addProcessTimeMS);
-			stationTotalResidenceTime.compute(stationID,(k,v)->(v==null)?addResidenceTimeMS:v+addResidenceTimeMS);
+			stationTotalTimes.add(stationID,addWaitingTimeMS,addTransferTimeMS,addProcessTimeMS,addResidenceTimeMS);
 		}
 	}
 
@@ -798,10 +741,7 @@ public class RunDataClient {
 			client.processTime+=processTime;
 			client.residenceTime+=residenceTime;
 			if (client.recordStationTotalClientTimes) {
-				for (Map.Entry<Integer,Long> entry: stationTotalWaitingTime.entrySet()) client.stationTotalWaitingTime.merge(entry.getKey(),entry.getValue(),Long::sum);
-				for (Map.Entry<Integer,Long> entry: stationTotalTransferTime.entrySet()) client.stationTotalTransferTime.merge(entry.getKey(),entry.getValue(),Long::sum);
-				for (Map.Entry<Integer,Long> entry: stationTotalProcessTime.entrySet()) client.stationTotalProcessTime.merge(entry.getKey(),entry.getValue(),Long::sum);
-				for (Map.Entry<Integer,Long> entry: stationTotalResidenceTime.entrySet()) client.stationTotalResidenceTime.merge(entry.getKey(),entry.getValue(),Long::sum);
+				client.stationTotalTimes.addAll(stationTotalTimes);
 			}
 			client.waitingAdditionalCosts+=waitingAdditionalCosts;
 			client.transferAdditionalCosts+=transferAdditionalCosts;
@@ -829,17 +769,8 @@ public class RunDataClient {
 		if (sections==null) sections=new ArrayList<>();
 		if (!sections.contains(section)) sections.add(section);
 
-		if (sectionEnterWaitingTime==null) sectionEnterWaitingTime=new HashMap<>();
-		if (waitingTime>0) sectionEnterWaitingTime.put(section,waitingTime);
-
-		if (sectionEnterTransferTime==null) sectionEnterTransferTime=new HashMap<>();
-		if (transferTime>0) sectionEnterTransferTime.put(section,transferTime);
-
-		if (sectionEnterProcessTime==null) sectionEnterProcessTime=new HashMap<>();
-		if (processTime>0) sectionEnterProcessTime.put(section,processTime);
-
-		if (sectionEnterResidenceTime==null) sectionEnterResidenceTime=new HashMap<>();
-		if (residenceTime>0) sectionEnterResidenceTime.put(section,residenceTime);
+		if (sectionEnterTimes==null) sectionEnterTimes=new RunDataStationTimes();
+		sectionEnterTimes.set(section.id,waitingTime,transferTime,processTime,residenceTime);
 	}
 
 	/**
@@ -17,12 +17,12 @@ package simulator.runmodel;
 
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 
 import language.Language;
 import mathtools.NumberTools;
+import simulator.coreelements.RunElement;
 import simulator.statistics.Statistics;
 import statistics.StatisticsDataPerformanceIndicator;
 import statistics.StatisticsValuePerformanceIndicator;
@@ -269,17 +269,14 @@ public final class RunDataClients {
 				cacheStationsTotalResidenceTimes=simData.runData.new IndicatorAccessCacheStations(statistics.stationsTotalResidenceTimes);
 			}
 			/* Speichern der Gesamt-Zeiten der Kunden an den Stationen */
-			for (Map.Entry<Integer,Long> entry: client.stationTotalWaitingTime.entrySet()) {
-				((StatisticsDataPerformanceIndicator)cacheStationsTotalWaitingTimes.get(simData.runModel.elementsFast[entry.getKey()])).add(scale*entry.getValue());
-			}
-			for (Map.Entry<Integer,Long> entry: client.stationTotalTransferTime.entrySet()) {
-				((StatisticsDataPerformanceIndicator)cacheStationsTotalTransferTimes.get(simData.runModel.elementsFast[entry.getKey()])).add(scale*entry.getValue());
-			}
-			for (Map.Entry<Integer,Long> entry: client.stationTotalProcessTime.entrySet()) {
-				((StatisticsDataPerformanceIndicator)cacheStationsTotalProcessingTimes.get(simData.runModel.elementsFast[entry.getKey()])).add(scale*entry.getValue());
-			}
-			for (Map.Entry<Integer,Long> entry: client.stationTotalResidenceTime.entrySet()) {
-				((StatisticsDataPerformanceIndicator)cacheStationsTotalResidenceTimes.get(simData.runModel.elementsFast[entry.getKey()])).add(scale*entry.getValue());
+			final RunDataStationTimes stationTotalTimes=client.stationTotalTimes;
+			final int size=stationTotalTimes.size();
+			for (int i=0;i<size;i++) {
+				final RunElement station=simData.runModel.elementsFast[stationTotalTimes.getStationID(i)];
+				((StatisticsDataPerformanceIndicator)cacheStationsTotalWaitingTimes.get(station)).add(scale*stationTotalTimes.getWaitingTime(i));
+				((StatisticsDataPerformanceIndicator)cacheStationsTotalTransferTimes.get(station)).add(scale*stationTotalTimes.getTransferTime(i));
+				((StatisticsDataPerformanceIndicator)cacheStationsTotalProcessingTimes.get(station)).add(scale*stationTotalTimes.getProcessTime(i));
+				((StatisticsDataPerformanceIndicator)cacheStationsTotalResidenceTimes.get(station)).add(scale*stationTotalTimes.getResidenceTime(i));
 			}
 		}
 
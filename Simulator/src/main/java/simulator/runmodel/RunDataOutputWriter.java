@@ -18,23 +18,55 @@ package simulator.runmodel;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import mathtools.Table;
 
 /**
- * Gepufferte Ausgabe von Textdaten in einer Datei
+ * Gepufferte Ausgabe von Textdaten in einer Datei<br>
+ * Im Text- und im CSV-Modus werden die Zeilen direkt UTF-8-codiert in einen Byte-Puffer geschrieben.
+ * Volle Puffer werden ber eine begrenzte Warteschlange an einen Hintergrund-Thread bergeben,
+ * der die eigentliche Dateiausgabe bernimmt, so dass der Simulationsthread nicht auf die Festplatte warten muss.
+ * Der Hintergrund-Thread wird erst beim ersten vollen Puffer gestartet; kleine Ausgaben werden beim
+ * Schlieen direkt geschrieben.<br>
+ * Die Ausgabe erfolgt ber einen {@link FileOutputStream} (und nicht ber einen unterbrechbaren <code>FileChannel</code>)
+ * und das Schlieen ignoriert ein evtl. gesetztes Interrupt-Flag des Simulationsthreads, so dass beim Abbruch einer
+ * Simulation die bis dahin erzeugten Ausgaben vollstndig in die Datei geschrieben werden.<br>
+ * Da jedes {@link RunData}-Objekt eigene <code>RunDataOutputWriter</code>-Objekte verwendet, gibt es
+ * pro Simulationsthread einen eigenen Puffer.
  * @author Alexander Herzog
+ * @see RunData#getOutputWriter(File, boolean)
  */
 public class RunDataOutputWriter {
 	/**
-	 * Gibt an bei welchem Fllstand Eintrge
-	 * aus {@link #outputBuffer} in
-	 * {@link #outputFileWriter} ausgegeben werden sollen.
-	 * @see #output(String)
+	 * Gre eines Ausgabepuffers (in Bytes)
+	 * @see #output(CharSequence)
+	 */
+	private static final int BUFFER_SIZE=1<<18;
+
+	/**
+	 * Maximale Anzahl an vollen Puffern, die auf die Ausgabe durch den Hintergrund-Thread warten knnen.
+	 * Ist die Warteschlange voll, so wartet der Simulationsthread, bis wieder ein Platz frei ist.
+	 */
+	private static final int QUEUE_SIZE=4;
+
+	/**
+	 * Anzahl an Zeilen, die beim Streaming-Schreiben von xlsx-Dateien im Speicher gehalten werden
+	 */
+	private static final int XLSX_ROW_WINDOW=100;
+
+	/**
+	 * Markierung fr das Ende der Ausgabe in {@link #fullBuffers}
 	 */
-	private static final int BUFFER_SIZE=2^18;
+	private static final ByteBuffer END_OF_OUTPUT=ByteBuffer.allocate(0);
 
 	/** Datei, in die die Ausgabe erfolgen soll */
 	private final File outputFile;
@@ -48,6 +80,8 @@ public class RunDataOutputWriter {
 		MODE_TEXT,
 		/** Ausgabe als CSV-Tabelle */
 		MODE_CSV,
+		/** Schrittweise Ausgabe als xlsx-Tabelle */
+		MODE_XLSX,
 		/** Ausgabe ber ein Tabellenobjekt */
 		MODE_TABLE
 	}
@@ -58,26 +92,70 @@ public class RunDataOutputWriter {
 	private Mode mode;
 
 	/**
-	 * Ist <code>true</code>, wenn mindestens eine Zeile nicht ausgegeben werden konnte.
+	 * Ist <code>true</code>, wenn mindestens eine Zeile nicht ausgegeben werden konnte.<br>
+	 * (Kann auch durch den Hintergrund-Thread gesetzt werden.)
 	 * @see #hasOutputErrors()
 	 */
-	private boolean outputErrors;
+	private volatile boolean outputErrors;
 
 	/**
-	 * File-Writer-Objekt fr die Ausgabe in den Modi {@link Mode#MODE_TEXT} und {@link Mode#MODE_CSV}
+	 * Ausgabestrom fr die Modi {@link Mode#MODE_TEXT} und {@link Mode#MODE_CSV}
 	 */
-	private OutputStreamWriter outputFileWriter;
+	private FileOutputStream outputStream;
 
 	/**
-	 * Puffer, der die Ergebnisse zwischenspeichert bis diese in {@link #outputFileWriter} bertragen werden
-	 * @see #outputFileWriter
+	 * Puffer, der die UTF-8-codierten Ergebnisse zwischenspeichert bis diese in {@link #outputStream} bertragen werden
+	 * @see #outputStream
 	 * @see #BUFFER_SIZE
 	 */
-	private StringBuilder outputBuffer;
+	private ByteBuffer outputBuffer;
+
+	/**
+	 * Volle Puffer, die auf die Ausgabe durch den Hintergrund-Thread warten
+	 * @see #writerThread
+	 */
+	private BlockingQueue<ByteBuffer> fullBuffers;
+
+	/**
+	 * Bereits geschriebene Puffer, die wiederverwendet werden knnen
+	 */
+	private BlockingQueue<ByteBuffer> freeBuffers;
+
+	/**
+	 * Hintergrund-Thread, der die Puffer in die Datei schreibt (wird erst bei Bedarf gestartet)
+	 * @see #handOffBuffer()
+	 */
+	private Thread writerThread;
+
+	/**
+	 * Wiederverwendbarer Puffer zum Zusammenstellen einer Textzeile
+	 * @see #getLineBuilder()
+	 */
+	private final StringBuilder lineBuilder;
+
+	/**
+	 * Arbeitsmappe fr die Ausgabe im Modus {@link Mode#MODE_XLSX}
+	 */
+	private SXSSFWorkbook workbook;
+
+	/**
+	 * Tabellenblatt fr die Ausgabe im Modus {@link Mode#MODE_XLSX}
+	 */
+	private Sheet sheet;
+
+	/**
+	 * Zellenformat fr Prozentwerte im Modus {@link Mode#MODE_XLSX}
+	 */
+	private CellStyle stylePercent;
+
+	/**
+	 * Anzahl an bereits ausgegebenen Zeilen im Modus {@link Mode#MODE_XLSX}
+	 */
+	private int sheetRows;
 
 	/**
-	 * Tabelle, die die Ergebnisse aufnimmt, wenn die Ausgabe nicht in den Text-Modi
-	 * {@link Mode#MODE_TEXT} oder {@link Mode#MODE_CSV} erfolgt.
+	 * Tabelle, die die Ergebnisse aufnimmt, wenn die Ausgabe nicht in den Modi
+	 * {@link Mode#MODE_TEXT}, {@link Mode#MODE_CSV} oder {@link Mode#MODE_XLSX} erfolgt.
 	 */
 	private Table table;
 
@@ -90,44 +168,185 @@ public class RunDataOutputWriter {
 		this.outputFile=outputFile;
 		this.outputFileOverwrite=overwrite;
 		outputErrors=false;
+		lineBuilder=new StringBuilder();
 		if (outputFile==null) return;
 
 		final String nameLower=outputFile.toString().toLowerCase();
 		mode=Mode.MODE_TEXT;
 		if (nameLower.endsWith(".csv")) mode=Mode.MODE_CSV;
 
-		if (Table.SaveMode.SAVEMODE_XLSX.fileNameMatch(nameLower)) mode=Mode.MODE_TABLE;
+		if (Table.SaveMode.SAVEMODE_XLSX.fileNameMatch(nameLower)) mode=Mode.MODE_XLSX;
 		if (Table.SaveMode.SAVEMODE_XLS.fileNameMatch(nameLower)) mode=Mode.MODE_TABLE;
 		if (Table.SaveMode.SAVEMODE_DIF.fileNameMatch(nameLower)) mode=Mode.MODE_TABLE;
 		if (Table.SaveMode.SAVEMODE_HTML.fileNameMatch(nameLower)) mode=Mode.MODE_TABLE;
 		if (Table.SaveMode.SAVEMODE_DOCX.fileNameMatch(nameLower)) mode=Mode.MODE_TABLE;
 
-		if (mode==Mode.MODE_TEXT || mode==Mode.MODE_CSV) {
-			try {outputFileWriter=new OutputStreamWriter(new FileOutputStream(outputFile,!outputFileOverwrite),StandardCharsets.UTF_8);} catch (IOException e) {
-				outputFileWriter=null;
+		switch (mode) {
+		case MODE_TEXT:
+		case MODE_CSV:
+			try {outputStream=new FileOutputStream(outputFile,!outputFileOverwrite);} catch (IOException e) {
+				outputStream=null;
 				return;
 			}
-			outputBuffer=new StringBuilder(BUFFER_SIZE);
-		} else {
+			outputBuffer=ByteBuffer.allocate(BUFFER_SIZE);
+			break;
+		case MODE_XLSX:
+			workbook=new SXSSFWorkbook(XLSX_ROW_WINDOW);
+			sheet=workbook.createSheet(Table.TableFileTableName);
+			stylePercent=workbook.createCellStyle();
+			stylePercent.setDataFormat(workbook.createDataFormat().getFormat("0.0%"));
+			sheetRows=0;
+			break;
+		case MODE_TABLE:
 			table=new Table();
+			break;
 		}
 	}
 
 	/**
-	 * Ausgabe einer Textzeile im Textdatei-Modus
-	 * @param outputText	Text, der ausgegeben werden soll
+	 * Schreibt einen Puffer vollstndig in die Ausgabedatei.
+	 * @param buffer	Auszugebender Puffer (muss sich im Lesemodus befinden)
+	 * @throws IOException	Wird ausgelst, wenn die Daten nicht geschrieben werden konnten
 	 */
-	public void output(final String outputText) {
-		if (outputFileWriter==null) return;
+	private void writeBuffer(final ByteBuffer buffer) throws IOException {
+		outputStream.write(buffer.array(),buffer.arrayOffset()+buffer.position(),buffer.remaining());
+		buffer.position(buffer.limit());
+	}
 
-		outputBuffer.append(outputText);
+	/**
+	 * bergibt einen Puffer an den Hintergrund-Thread.<br>
+	 * Ein evtl. gesetztes Interrupt-Flag (z.B. beim Abbruch der Simulation) fhrt nicht
+	 * zum Verlust des Puffers, sondern wird nach der bergabe wiederhergestellt.
+	 * @param buffer	Zu bergebender Puffer (muss sich im Lesemodus befinden) oder {@link #END_OF_OUTPUT}
+	 */
+	private void putFullBuffer(final ByteBuffer buffer) {
+		boolean interrupted=false;
+		while (true) {
+			try {
+				fullBuffers.put(buffer);
+				break;
+			} catch (InterruptedException e) {
+				interrupted=true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
 
-		if (outputBuffer.length()>9*BUFFER_SIZE/10) {
-			try {outputFileWriter.write(outputBuffer.toString());} catch (IOException e) {outputErrors=true;}
-			outputBuffer=new StringBuilder(BUFFER_SIZE);
+	/**
+	 * Arbeitsschleife des Hintergrund-Threads:
+	 * Schreibt die vollen Puffer in die Datei und gibt sie danach zur Wiederverwendung frei.
+	 * Tritt ein Fehler auf, so werden die weiteren Puffer nur noch entgegengenommen (aber nicht mehr geschrieben),
+	 * damit der Simulationsthread nicht blockiert wird.
+	 * @see #writerThread
+	 */
+	private void writerLoop() {
+		try {
+			while (true) {
+				final ByteBuffer buffer=fullBuffers.take();
+				if (buffer==END_OF_OUTPUT) return;
+				if (!outputErrors) try {writeBuffer(buffer);} catch (IOException e) {outputErrors=true;}
+				buffer.clear();
+				freeBuffers.offer(buffer);
+			}
+		} catch (InterruptedException e) {
+			outputErrors=true;
 		}
 	}
 
+	/**
+	 * bergibt den aktuellen (vollen) Ausgabepuffer an den Hintergrund-Thread
+	 * und stellt einen neuen, leeren Puffer bereit.
+	 */
+	private void handOffBuffer() {
+		if (writerThread==null) {
+			fullBuffers=new ArrayBlockingQueue<>(QUEUE_SIZE);
+			freeBuffers=new ArrayBlockingQueue<>(QUEUE_SIZE+1);
+			writerThread=new Thread(this::writerLoop,"Output writer ("+outputFile.getName()+")");
+			writerThread.setDaemon(true);
+			writerThread.start();
+		}
+
+		outputBuffer.flip();
+		putFullBuffer(outputBuffer);
+		outputBuffer=freeBuffers.poll();
+		if (outputBuffer==null) outputBuffer=ByteBuffer.allocate(BUFFER_SIZE);
+	}
+
+	/**
+	 * Stellt sicher, dass im Ausgabepuffer noch Platz fr ein vollstndig codiertes Zeichen ist.
+	 */
+	private void ensureSpace() {
+		if (outputBuffer.remaining()<4) handOffBuffer();
+	}
+
+	/**
+	 * Schreibt ein Zeichen UTF-8-codiert in den Ausgabepuffer.
+	 * @param text	Text, aus dem das Zeichen stammt (fr die Verarbeitung von Surrogat-Paaren)
+	 * @param index	Index des Zeichens in dem Text
+	 * @return	Index des nchsten zu verarbeitenden Zeichens
+	 */
+	private int encodeChar(final CharSequence text, final int index) {
+		ensureSpace();
+		final ByteBuffer buffer=outputBuffer;
+		final char c=text.charAt(index);
+		if (c<0x80) {
+			buffer.put((byte)c);
+			return index+1;
+		}
+		if (c<0x800) {
+			buffer.put((byte)(0xC0|(c>>6)));
+			buffer.put((byte)(0x80|(c&0x3F)));
+			return index+1;
+		}
+		if (Character.isSurrogate(c)) {
+			if (Character.isHighSurrogate(c) && index+1<text.length() && Character.isLowSurrogate(text.charAt(index+1))) {
+				final int codePoint=Character.toCodePoint(c,text.charAt(index+1));
+				buffer.put((byte)(0xF0|(codePoint>>18)));
+				buffer.put((byte)(0x80|((codePoint>>12)&0x3F)));
+				buffer.put((byte)(0x80|((codePoint>>6)&0x3F)));
+				buffer.put((byte)(0x80|(codePoint&0x3F)));
+				return index+2;
+			}
+			buffer.put((byte)'?');
+			return index+1;
+		}
+		buffer.put((byte)(0xE0|(c>>12)));
+		buffer.put((byte)(0x80|((c>>6)&0x3F)));
+		buffer.put((byte)(0x80|(c&0x3F)));
+		return index+1;
+	}
+
+	/**
+	 * Schreibt einen Text UTF-8-codiert in den Ausgabepuffer.
+	 * @param text	Auszugebender Text
+	 */
+	private void encode(final CharSequence text) {
+		final int length=text.length();
+		int i=0;
+		while (i<length) i=encodeChar(text,i);
+	}
+
+	/**
+	 * Liefert einen (geleerten) wiederverwendbaren Puffer, in dem eine Textzeile
+	 * zusammengestellt werden kann, die anschlieend per {@link #output(CharSequence)}
+	 * ausgegeben wird. Auf diese Weise muss nicht fr jede Zeile ein neues String-Objekt angelegt werden.
+	 * @return	Leerer Puffer fr eine Textzeile
+	 */
+	public StringBuilder getLineBuilder() {
+		lineBuilder.setLength(0);
+		return lineBuilder;
+	}
+
+	/**
+	 * Ausgabe einer Textzeile im Textdatei-Modus
+	 * @param outputText	Text, der ausgegeben werden soll
+	 * @see #getLineBuilder()
+	 */
+	public void output(final CharSequence outputText) {
+		if (outputStream==null) return;
+		encode(outputText);
+	}
+
 	/**
 	 * Gibt an, ob es whrend der Ausgabe Fehler gab.
 	 * @return	Gibt <code>true</code> zurck, wenn mindestens eine Zeile nicht ausgegeben werden konnte.
@@ -137,24 +356,58 @@ public class RunDataOutputWriter {
 	}
 
 	/**
-	 * Wandelt eine Tabellenzeile in CSV-Code um
+	 * Schreibt eine Tabellenzeile CSV-codiert direkt in den Ausgabepuffer
+	 * (ohne Umweg ber zwischengespeicherte Zeichenketten).
 	 * @param outputTableLine	Tabellenzeile in Form einzelner Zellen
-	 * @return	CSV-codierte Tabellenzeile
 	 */
-	private String toCSV(final String[] outputTableLine) {
-		final StringBuilder sb=new StringBuilder();
-
+	private void outputCSV(final String[] outputTableLine) {
 		for (int i=0;i<outputTableLine.length;i++) {
-			String cell=outputTableLine[i];
-			cell=cell.replace("\"","\"\"");
-			if (cell.indexOf('"')!=-1 || cell.indexOf(';')!=-1) cell='"'+cell+'"';
-			sb.append(cell);
-			if (i<outputTableLine.length-1) sb.append(';');
+			if (i>0) {ensureSpace(); outputBuffer.put((byte)';');}
+			final String cell=outputTableLine[i];
+			if (cell==null) continue;
+			if (cell.indexOf('"')<0 && cell.indexOf(';')<0) {
+				encode(cell);
+				continue;
+			}
+			ensureSpace();
+			outputBuffer.put((byte)'"');
+			final int length=cell.length();
+			int j=0;
+			while (j<length) {
+				if (cell.charAt(j)=='"') {ensureSpace(); outputBuffer.put((byte)'"');}
+				j=encodeChar(cell,j);
+			}
+			ensureSpace();
+			outputBuffer.put((byte)'"');
 		}
+		ensureSpace();
+		outputBuffer.put((byte)'\n');
+	}
 
-		sb.append('\n');
-
-		return sb.toString();
+	/**
+	 * Schreibt eine Tabellenzeile direkt in das Tabellenblatt der xlsx-Arbeitsmappe.
+	 * @param outputTableLine	Tabellenzeile in Form einzelner Zellen
+	 * @see Table#saveToSheet(org.apache.poi.ss.usermodel.Workbook, Sheet)
+	 */
+	private void outputXLSX(final String[] outputTableLine) {
+		if (sheetRows>=Table.MAX_EXCEL_ROW_COUNT) {outputErrors=true; return;}
+		final Row row=sheet.createRow(sheetRows++);
+		for (int i=0;i<outputTableLine.length;i++) {
+			final String cellData=outputTableLine[i];
+			final Cell cell=row.createCell(i);
+			if (cellData==null) continue;
+			if (cellData.startsWith("=")) {
+				cell.setCellFormula(cellData.substring(1));
+			} else {
+				final Double cellDataNumber=Table.convertToNumeric(cellData);
+				if (cellDataNumber==null) {
+					cell.setCellValue(cellData);
+				} else {
+					cell.setCellValue(cellDataNumber);
+					if (cellData.endsWith("%")) cell.setCellStyle(stylePercent);
+				}
+			}
+		}
 	}
 
 	/**
@@ -163,24 +416,55 @@ public class RunDataOutputWriter {
 	 */
 	public void output(final String[] outputTableLine) {
 		/* csv */
-		if (outputFileWriter!=null) output(toCSV(outputTableLine));
+		if (outputStream!=null) outputCSV(outputTableLine);
+
+		/* xlsx */
+		if (workbook!=null) outputXLSX(outputTableLine);
 
 		/* Table */
 		if (table!=null) table.addLine(outputTableLine);
 	}
 
 	/**
-	 * Leert den Puffer und schliet die Datei
+	 * Leert den Puffer und schliet die Datei.<br>
+	 * Die Methode kann auch mehrfach aufgerufen werden; weitere Aufrufe haben keine Wirkung.
+	 * Ein evtl. gesetztes Interrupt-Flag des aufrufenden Threads (z.B. beim Abbruch der Simulation)
+	 * wird whrend des Schlieens ignoriert und danach wiederhergestellt.
 	 */
 	public void close() {
 		/* Texte */
-		if (outputFileWriter!=null) {
-			try {
-				if (outputBuffer.length()>0) outputFileWriter.write(outputBuffer.toString());
-				outputFileWriter.flush();
-				outputFileWriter.close();
-			} catch (IOException e) {}
-			outputFileWriter=null;
+		if (outputStream!=null) {
+			final boolean interrupted=Thread.interrupted();
+			if (writerThread!=null) {
+				if (outputBuffer.position()>0) handOffBuffer();
+				putFullBuffer(END_OF_OUTPUT);
+				while (writerThread.isAlive()) {
+					try {writerThread.join();} catch (InterruptedException e) {}
+				}
+				writerThread=null;
+			} else {
+				outputBuffer.flip();
+				try {writeBuffer(outputBuffer);} catch (IOException e) {outputErrors=true;}
+			}
+			try {outputStream.close();} catch (IOException e) {outputErrors=true;}
+			outputStream=null;
+			outputBuffer=null;
+			fullBuffers=null;
+			freeBuffers=null;
+			if (interrupted) Thread.currentThread().interrupt();
+		}
+
+		/* xlsx */
+		if (workbook!=null) {
+			try (FileOutputStream output=new FileOutputStream(outputFile)) {
+				workbook.write(output);
+			} catch (IOException e) {
+				outputErrors=true;
+			}
+			workbook.dispose();
+			try {workbook.close();} catch (IOException e) {}
+			workbook=null;
+			sheet=null;
 		}
 
 		/* Tabellen */
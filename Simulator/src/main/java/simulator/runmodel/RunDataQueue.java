@@ -0,0 +1,205 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator.runmodel;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Liste auf Basis eines Ringpuffers fr die Warteschlangen an den Stationen.<br>
+ * Im Gegensatz zu einer <code>ArrayList</code> erfolgt das Entfernen des ersten Elements
+ * (FIFO-Bedienung) in O(1), da keine Elemente verschoben werden mssen. Der wahlfreie
+ * Zugriff per {@link #get(int)} erfolgt ebenfalls in O(1), so dass die Klasse berall
+ * dort verwendet werden kann, wo bislang eine <code>ArrayList</code> zum Einsatz kam
+ * (Animation, Skripte, PickUp usw.).<br>
+ * Beim Entfernen eines Elements aus der Mitte der Liste wird jeweils der krzere Teil verschoben.<br>
+ * Die Klasse ist nicht thread-sicher.
+ * @author Alexander Herzog
+ * @param <E>	Typ der Elemente in der Liste
+ */
+public final class RunDataQueue<E> extends AbstractList<E> implements RandomAccess {
+	/** Minimale Gre des Ringpuffers */
+	private static final int MIN_CAPACITY=16;
+
+	/** Ringpuffer (die Lnge ist stets eine Zweierpotenz) */
+	private Object[] data;
+	/** Bitmaske zur Umrechnung von logischen in physische Indices (<code>data.length-1</code>) */
+	private int mask;
+	/** Physischer Index des ersten Elements */
+	private int head;
+	/** Anzahl an Elementen in der Liste */
+	private int size;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunDataQueue() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param initialCapacity	Anfngliche Gre des Ringpuffers
+	 */
+	public RunDataQueue(final int initialCapacity) {
+		int capacity=MIN_CAPACITY;
+		while (capacity<initialCapacity && capacity<(1<<30)) capacity*=2;
+		data=new Object[capacity];
+		mask=capacity-1;
+	}
+
+	/**
+	 * Legt ein Array mit leeren Warteschlangen an.
+	 * @param <E>	Typ der Elemente in den Listen
+	 * @param count	Anzahl an Warteschlangen
+	 * @return	Array mit <code>count</code> leeren Warteschlangen
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> RunDataQueue<E>[] createQueues(final int count) {
+		final RunDataQueue<E>[] queues=(RunDataQueue<E>[])new RunDataQueue<?>[count];
+		for (int i=0;i<count;i++) queues[i]=new RunDataQueue<>();
+		return queues;
+	}
+
+	/**
+	 * Prft, ob ein Index gltig ist.
+	 * @param index	Zu prfender Index
+	 */
+	private void checkIndex(final int index) {
+		if (index<0 || index>=size) throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+	}
+
+	/**
+	 * Verdoppelt die Gre des Ringpuffers.
+	 */
+	private void grow() {
+		final Object[] newData=new Object[data.length*2];
+		final int firstPart=Math.min(size,data.length-head);
+		System.arraycopy(data,head,newData,0,firstPart);
+		System.arraycopy(data,0,newData,firstPart,size-firstPart);
+		data=newData;
+		mask=newData.length-1;
+		head=0;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E get(final int index) {
+		checkIndex(index);
+		return (E)data[(head+index)&mask];
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E set(final int index, final E element) {
+		checkIndex(index);
+		final int pos=(head+index)&mask;
+		final E old=(E)data[pos];
+		data[pos]=element;
+		return old;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(final E element) {
+		if (size==data.length) grow();
+		data[(head+size)&mask]=element;
+		size++;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public void add(final int index, final E element) {
+		if (index<0 || index>size) throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+		if (index==size) {add(element); return;}
+		if (size==data.length) grow();
+
+		if (index<size/2) {
+			/* Vorderen Teil nach vorne verschieben */
+			head=(head-1)&mask;
+			for (int i=0;i<index;i++) data[(head+i)&mask]=data[(head+i+1)&mask];
+		} else {
+			/* Hinteren Teil nach hinten verschieben */
+			for (int i=size;i>index;i--) data[(head+i)&mask]=data[(head+i-1)&mask];
+		}
+		data[(head+index)&mask]=element;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Entfernt das erste Element aus der Liste.
+	 * @return	Liefert das bisherige erste Element oder <code>null</code>, wenn die Liste leer ist
+	 */
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		if (size==0) return null;
+		final E element=(E)data[head];
+		data[head]=null;
+		head=(head+1)&mask;
+		size--;
+		if (size==0) head=0;
+		modCount++;
+		return element;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public E remove(final int index) {
+		checkIndex(index);
+		if (index==0) return poll();
+
+		final E element=(E)data[(head+index)&mask];
+		if (index<size/2) {
+			/* Vorderen Teil nach hinten verschieben */
+			for (int i=index;i>0;i--) data[(head+i)&mask]=data[(head+i-1)&mask];
+			data[head]=null;
+			head=(head+1)&mask;
+		} else {
+			/* Hinteren Teil nach vorne verschieben */
+			for (int i=index;i<size-1;i++) data[(head+i)&mask]=data[(head+i+1)&mask];
+			data[(head+size-1)&mask]=null;
+		}
+		size--;
+		modCount++;
+		return element;
+	}
+
+	@Override
+	public int indexOf(final Object o) {
+		if (o==null) {
+			for (int i=0;i<size;i++) if (data[(head+i)&mask]==null) return i;
+		} else {
+			for (int i=0;i<size;i++) if (o.equals(data[(head+i)&mask])) return i;
+		}
+		return -1;
+	}
+
+	@Override
+	public void clear() {
+		if (size==0) return;
+		Arrays.fill(data,null);
+		head=0;
+		size=0;
+		modCount++;
+	}
+}
@@ -710,6 +710,14 @@ public final class RunDataResource implements Cloneable {
 		return true;
 	}
 
+	/**
+	 * Gibt an, wie viele Bediener eines bestimmten Typs momentan belegt sind
+	 * @return	Anzahl an belegten Bedienern
+	 */
+	public int getInUse() {
+		return inUse;
+	}
+
 	/**
 	 * Gibt an, wie viele Bediener eines bestimmten Typs zu einem Zeitpunkt in Ausfallzeit sind
 	 * @param simData	Simulationsdaten
@@ -153,7 +153,7 @@ public class RunDataResourceFailure {
 	 */
 	public void scheduleDownTime(final SimulationData simData, final long availableStartTime, final String resourceName) {
 		if (failureMode==ModelResourceFailure.FailureMode.FAILURE_BY_DISTRIBUTION) {
-			double d=DistributionRandomNumber.randomNonNegative(failureDistribution);
+			double d=DistributionRandomNumber.randomNonNegative(simData.random,failureDistribution);
 			pauseStartTime=availableStartTime+FastMath.round(d*1000);
 			if (pauseStartTime<=simData.currentTime) pauseStartTime=simData.currentTime+1;
 			scheduleResourceCheckEvent(simData,pauseStartTime);
@@ -193,7 +193,7 @@ public class RunDataResourceFailure {
 				return 0;
 			}
 		} else {
-			return FastMath.round(DistributionRandomNumber.randomNonNegative(downTimeDistribution)*1000);
+			return FastMath.round(DistributionRandomNumber.randomNonNegative(simData.random,downTimeDistribution)*1000);
 		}
 	}
 
@@ -137,7 +137,7 @@ public class RunDataResourceOperator {
 		double additionalTime=0;
 		if (stationID!=stationIDLast && stationIDLast>=0) {
 			if (moveDistribution!=null) {
-				additionalTime=DistributionRandomNumber.randomNonNegative(moveDistribution);
+				additionalTime=DistributionRandomNumber.randomNonNegative(simData.random,moveDistribution);
 			} else {
 				if (moveExpression!=null) {
 					if (moveExpressionObj==null) {
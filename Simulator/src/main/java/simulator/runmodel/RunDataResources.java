@@ -175,6 +175,14 @@ public final class RunDataResources implements Cloneable {
 		for (int i=0;i<list.length;i++) if (usedResources[i]>0) list[i].releaseDo(usedResources[i],simData);
 	}
 
+	/**
+	 * Liefert die Anzahl an Bedienergruppen.
+	 * @return	Anzahl an Bedienergruppen
+	 */
+	public int size() {
+		return names.length;
+	}
+
 	/**
 	 * Gibt an, wie viele Bediener eines bestimmten Typs zu einem Zeitpunkt insgesamt im System vorhanden sind (arbeitend und im Leerlauf)
 	 * @param index	0-basierender Index der Bedienergruppe
@@ -209,6 +217,16 @@ public final class RunDataResources implements Cloneable {
 		return sum;
 	}
 
+	/**
+	 * Gibt an, wie viele Bediener eines bestimmten Typs momentan belegt sind
+	 * @param index	0-basierender Index der Bedienergruppe
+	 * @return	Anzahl an belegten Bedienern (im Falle eines ungltigen Index "0")
+	 */
+	public int getInUse(final int index) {
+		if (index<0 || index>=names.length) return 0;
+		return list[index].getInUse();
+	}
+
 	/**
 	 * Gibt an, wie viele Bediener eines bestimmten Typs zu einem Zeitpunkt in Ausfallzeit sind
 	 * @param index	0-basierender Index der Bedienergruppe
@@ -0,0 +1,283 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator.runmodel;
+
+import java.util.Arrays;
+
+/**
+ * Speichert pro Station (identifiziert ber die Stations-ID) jeweils eine Warte-, Transfer-,
+ * Bedien- und Verweilzeit eines Kunden.<br>
+ * Die Daten werden in primitiven Arrays abgelegt, so dass beim Erfassen der Zeiten weder
+ * Boxing noch das Anlegen von Map-Eintrgen erfolgt. Da die Objekte zusammen mit den
+ * {@link RunDataClient}-Objekten wiederverwendet werden, entstehen im Laufe der Simulation
+ * praktisch keine neuen Objekte.<br>
+ * Solange nur wenige Stationen erfasst sind, erfolgt die Suche linear; bei mehr Stationen
+ * wird zustzlich ein Hash-Index (offene Adressierung) verwendet.
+ * @author Alexander Herzog
+ * @see RunDataClient#stationTotalTimes
+ * @see RunDataClient#sectionEnterTimes
+ */
+public final class RunDataStationTimes {
+	/** Anzahl an Eintrgen, bis zu der linear gesucht wird */
+	private static final int LINEAR_SEARCH_LIMIT=8;
+
+	/** Stations-IDs */
+	private int[] stationIDs;
+	/** Wartezeiten (in MS) */
+	private long[] waitingTimes;
+	/** Transferzeiten (in MS) */
+	private long[] transferTimes;
+	/** Bedienzeiten (in MS) */
+	private long[] processTimes;
+	/** Verweilzeiten (in MS) */
+	private long[] residenceTimes;
+	/** Anzahl an belegten Eintrgen */
+	private int size;
+
+	/**
+	 * Hash-Index (offene Adressierung mit linearer Sondierung; gespeichert wird jeweils die Position+1, 0 steht fr einen freien Platz).<br>
+	 * Ist <code>null</code>, solange nicht mehr als {@link #LINEAR_SEARCH_LIMIT} Eintrge vorhanden sind.
+	 */
+	private int[] index;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunDataStationTimes() {
+		stationIDs=new int[LINEAR_SEARCH_LIMIT];
+		waitingTimes=new long[LINEAR_SEARCH_LIMIT];
+		transferTimes=new long[LINEAR_SEARCH_LIMIT];
+		processTimes=new long[LINEAR_SEARCH_LIMIT];
+		residenceTimes=new long[LINEAR_SEARCH_LIMIT];
+	}
+
+	/**
+	 * Berechnet die Startposition einer Stations-ID im Hash-Index.
+	 * @param stationID	Stations-ID
+	 * @return	Startposition im Hash-Index
+	 */
+	private int hash(final int stationID) {
+		return (stationID*0x9E3779B9)>>>(32-Integer.numberOfTrailingZeros(index.length));
+	}
+
+	/**
+	 * Trgt eine Position in den Hash-Index ein.
+	 * @param position	Position in den Daten-Arrays
+	 */
+	private void addToIndex(final int position) {
+		final int mask=index.length-1;
+		int pos=hash(stationIDs[position]);
+		while (index[pos]!=0) pos=(pos+1)&mask;
+		index[pos]=position+1;
+	}
+
+	/**
+	 * Baut den Hash-Index neu auf (bzw. verwirft ihn, wenn er nicht bentigt wird).
+	 */
+	private void rebuildIndex() {
+		if (size<=LINEAR_SEARCH_LIMIT) {
+			index=null;
+			return;
+		}
+		int length=16;
+		while (length<stationIDs.length*2) length*=2;
+		if (index==null || index.length!=length) index=new int[length]; else Arrays.fill(index,0);
+		for (int i=0;i<size;i++) addToIndex(i);
+	}
+
+	/**
+	 * Sucht die Position einer Station.
+	 * @param stationID	Stations-ID
+	 * @return	Position der Station oder -1, wenn fr die Station keine Daten vorliegen
+	 */
+	public int indexOf(final int stationID) {
+		if (index==null) {
+			for (int i=0;i<size;i++) if (stationIDs[i]==stationID) return i;
+			return -1;
+		}
+		final int mask=index.length-1;
+		int pos=hash(stationID);
+		while (true) {
+			final int entry=index[pos];
+			if (entry==0) return -1;
+			if (stationIDs[entry-1]==stationID) return entry-1;
+			pos=(pos+1)&mask;
+		}
+	}
+
+	/**
+	 * Legt einen neuen Eintrag (mit Zeiten 0) an.
+	 * @param stationID	Stations-ID
+	 * @return	Position des neuen Eintrags
+	 */
+	private int addEntry(final int stationID) {
+		if (size==stationIDs.length) {
+			final int newLength=size*2;
+			stationIDs=Arrays.copyOf(stationIDs,newLength);
+			waitingTimes=Arrays.copyOf(waitingTimes,newLength);
+			transferTimes=Arrays.copyOf(transferTimes,newLength);
+			processTimes=Arrays.copyOf(processTimes,newLength);
+			residenceTimes=Arrays.copyOf(residenceTimes,newLength);
+		}
+		final int position=size;
+		stationIDs[position]=stationID;
+		waitingTimes[position]=0;
+		transferTimes[position]=0;
+		processTimes[position]=0;
+		residenceTimes[position]=0;
+		size++;
+
+		if (index!=null) {
+			/* Ein einmal angelegter Hash-Index bleibt (auch nach clear()) erhalten und wird weiter gepflegt */
+			if (index.length<stationIDs.length*2) rebuildIndex(); else addToIndex(position);
+		} else {
+			if (size>LINEAR_SEARCH_LIMIT) rebuildIndex();
+		}
+		return position;
+	}
+
+	/**
+	 * Addiert Zeiten zu den Zeiten einer Station.
+	 * @param stationID	Stations-ID
+	 * @param waitingTime	Wartezeit (in MS)
+	 * @param transferTime	Transferzeit (in MS)
+	 * @param processTime	Bedienzeit (in MS)
+	 * @param residenceTime	Verweilzeit (in MS)
+	 */
+	public void add(final int stationID, final long waitingTime, final long transferTime, final long processTime, final long residenceTime) {
+		int position=indexOf(stationID);
+		if (position<0) position=addEntry(stationID);
+		waitingTimes[position]+=waitingTime;
+		transferTimes[position]+=transferTime;
+		processTimes[position]+=processTime;
+		residenceTimes[position]+=residenceTime;
+	}
+
+	/**
+	 * Stellt die Zeiten einer Station ein (bisherige Werte werden berschrieben).
+	 * @param stationID	Stations-ID
+	 * @param waitingTime	Wartezeit (in MS)
+	 * @param transferTime	Transferzeit (in MS)
+	 * @param processTime	Bedienzeit (in MS)
+	 * @param residenceTime	Verweilzeit (in MS)
+	 */
+	public void set(final int stationID, final long waitingTime, final long transferTime, final long processTime, final long residenceTime) {
+		int position=indexOf(stationID);
+		if (position<0) position=addEntry(stationID);
+		waitingTimes[position]=waitingTime;
+		transferTimes[position]=transferTime;
+		processTimes[position]=processTime;
+		residenceTimes[position]=residenceTime;
+	}
+
+	/**
+	 * Entfernt den Eintrag an einer bestimmten Position.<br>
+	 * Der bisher letzte Eintrag rckt dabei an die freigewordene Position.
+	 * @param position	Position des zu entfernenden Eintrags
+	 * @see #indexOf(int)
+	 */
+	public void removeAt(final int position) {
+		if (position<0 || position>=size) return;
+		size--;
+		if (position<size) {
+			stationIDs[position]=stationIDs[size];
+			waitingTimes[position]=waitingTimes[size];
+			transferTimes[position]=transferTimes[size];
+			processTimes[position]=processTimes[size];
+			residenceTimes[position]=residenceTimes[size];
+		}
+		if (index!=null) rebuildIndex();
+	}
+
+	/**
+	 * Addiert alle Zeiten eines anderen Objektes zu den Zeiten in diesem Objekt.
+	 * @param other	Objekt dessen Zeiten hinzugefgt werden sollen
+	 */
+	public void addAll(final RunDataStationTimes other) {
+		for (int i=0;i<other.size;i++) add(other.stationIDs[i],other.waitingTimes[i],other.transferTimes[i],other.processTimes[i],other.residenceTimes[i]);
+	}
+
+	/**
+	 * Ersetzt alle Zeiten in diesem Objekt durch die Zeiten eines anderen Objektes.
+	 * @param other	Objekt dessen Zeiten bernommen werden sollen
+	 */
+	public void copyFrom(final RunDataStationTimes other) {
+		clear();
+		addAll(other);
+	}
+
+	/**
+	 * Lscht alle Eintrge.
+	 */
+	public void clear() {
+		if (size==0) return;
+		size=0;
+		if (index!=null) Arrays.fill(index,0);
+	}
+
+	/**
+	 * Liefert die Anzahl an Stationen, fr die Zeiten vorliegen.
+	 * @return	Anzahl an Stationen
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Liefert die Stations-ID zu einer Position.
+	 * @param position	Position (0 bis {@link #size()}-1)
+	 * @return	Stations-ID
+	 */
+	public int getStationID(final int position) {
+		return stationIDs[position];
+	}
+
+	/**
+	 * Liefert die Wartezeit zu einer Position.
+	 * @param position	Position (0 bis {@link #size()}-1)
+	 * @return	Wartezeit (in MS)
+	 */
+	public long getWaitingTime(final int position) {
+		return waitingTimes[position];
+	}
+
+	/**
+	 * Liefert die Transferzeit zu einer Position.
+	 * @param position	Position (0 bis {@link #size()}-1)
+	 * @return	Transferzeit (in MS)
+	 */
+	public long getTransferTime(final int position) {
+		return transferTimes[position];
+	}
+
+	/**
+	 * Liefert die Bedienzeit zu einer Position.
+	 * @param position	Position (0 bis {@link #size()}-1)
+	 * @return	Bedienzeit (in MS)
+	 */
+	public long getProcessTime(final int position) {
+		return processTimes[position];
+	}
+
+	/**
+	 * Liefert die Verweilzeit zu einer Position.
+	 * @param position	Position (0 bis {@link #size()}-1)
+	 * @return	Verweilzeit (in MS)
+	 */
+	public long getResidenceTime(final int position) {
+		return residenceTimes[position];
+	}
+}
@@ -161,6 +161,36 @@ public class RunDataTransporter {
 	 */
 	private int inDownTime;
 
+	/**
+	 * Position des Transporters in der Liste der Transporter seines Typs
+	 * @see RunDataTransporters#updateTransporterState(RunDataTransporter)
+	 */
+	int listSlot;
+
+	/**
+	 * Ist der Transporter in den Zustandsindizes von {@link RunDataTransporters} erfasst?
+	 * @see RunDataTransporters#updateTransporterState(RunDataTransporter)
+	 */
+	boolean indexed;
+
+	/**
+	 * Station, an der der Transporter in den Zustandsindizes erfasst ist
+	 * @see #indexed
+	 */
+	int indexedPosition;
+
+	/**
+	 * Ist der Transporter in den Zustandsindizes als unterwegs erfasst?
+	 * @see #indexed
+	 */
+	boolean indexedWorking;
+
+	/**
+	 * Ist der Transporter in den Zustandsindizes als wartend und verfgbar erfasst?
+	 * @see #indexed
+	 */
+	boolean indexedIdle;
+
 	/**
 	 * Konstruktor der Klasse
 	 * @param type	Typ des Transporters
@@ -248,6 +278,7 @@ public class RunDataTransporter {
 		final RunDataTransporter clone=new RunDataTransporter(type,index,capacity,load,unload,iconEastEmpty,iconWestEmpty,iconEastLoaded,iconWestLoaded,failures,list,variables);
 		clone.position=position;
 		clone.lastPosition=lastPosition;
+		clone.listSlot=listSlot;
 		return clone;
 	}
 
@@ -282,7 +313,7 @@ public class RunDataTransporter {
 		} else {
 			initialMove=false;
 			transferDistance=list.getTransferDistance(type,position,stationID);
-			transferTime=list.getTransferTime(this,transferDistance,clientCount>0,simData);
+			transferTime=list.getTransferTime(this,position,stationID,transferDistance,clientCount>0,simData);
 		}
 		final long transferTimeMS=FastMath.round(transferTime*1000);
 
@@ -295,8 +326,10 @@ public class RunDataTransporter {
 			if (simData.loggingActive && simData.logInfoSystem) simData.logEventExecution(Language.tr("Simulation.Log.Transporter"),-1,String.format(Language.tr("Simulation.Log.Transporter.Move"),"\""+list.type[type]+"\"("+hashCode()+")",position,stationID,TimeTools.formatExactSystemTime(transferTime)));
 
 			/* Daten in Transporter eintragen */
+			simData.transporterMoves++;
 			position=stationID;
 			inTransfer=true;
+			list.updateTransporterState(this);
 
 			/* Ausgangsstation benachrichtigen */
 			if (lastStation instanceof TransporterPosition) ((TransporterPosition)lastStation).transporterLeave(this,simData);
@@ -335,6 +368,7 @@ public class RunDataTransporter {
 	public void arrival(final SimulationData simData, final long arrivalTime) {
 		/* Status: nicht mehr in Bewegung */
 		inTransfer=false;
+		list.updateTransporterState(this);
 
 		/* System ber Bewegung des Transporters benachrichtigen */
 		simData.runData.fireTransporterMoveNotify(simData,this);
@@ -370,9 +404,13 @@ public class RunDataTransporter {
 	 */
 	public void free(final SimulationData simData) {
 		if (failures.length>0) {
-			if (testStartPause(simData)) return; /* Doch nicht frei, geht in Pause */
+			if (testStartPause(simData)) { /* Doch nicht frei, geht in Pause */
+				list.updateTransporterState(this);
+				return;
+			}
 		}
 
+		list.updateTransporterState(this); /* Ggf. Ende einer Pause */
 		list.transporterFree(this,simData);
 	}
 
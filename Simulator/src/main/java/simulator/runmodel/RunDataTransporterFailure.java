@@ -119,7 +119,7 @@ public class RunDataTransporterFailure {
 	 */
 	public void scheduleDownTime(final SimulationData simData, final long availableStartTime, final String logTransporterName) {
 		if (failureMode==ModelTransporterFailure.FailureMode.FAILURE_BY_DISTRIBUTION) {
-			double d=DistributionRandomNumber.randomNonNegative(failureDistribution);
+			double d=DistributionRandomNumber.randomNonNegative(simData.random,failureDistribution);
 			pauseStartTime=availableStartTime+FastMath.round(d*1000);
 			if (pauseStartTime<=simData.currentTime) pauseStartTime=simData.currentTime+1;
 		}
@@ -151,7 +151,7 @@ public class RunDataTransporterFailure {
 				return 0;
 			}
 		} else {
-			return FastMath.round(DistributionRandomNumber.randomNonNegative(downTimeDistribution)*1000);
+			return FastMath.round(DistributionRandomNumber.randomNonNegative(simData.random,downTimeDistribution)*1000);
 		}
 	}
 
@@ -17,6 +17,7 @@ package simulator.runmodel;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +73,20 @@ public final class RunDataTransporters implements Cloneable {
 	 */
 	private double[][][] distances;
 
+	/**
+	 * Gibt fr jeden Transportertyp an, ob die Fahrtzeit ausschlielich von der Entfernung abhngt
+	 * und daher in {@link #transferTimeCache} zwischengespeichert werden kann
+	 * (wird beim Vorbereiten des jeweiligen Ausdrucks in {@link #getTransferDistance(int, int, int)} bestimmt)
+	 */
+	private boolean[] transferTimeCacheable;
+
+	/**
+	 * Bereits berechnete Fahrtzeiten pro Transportertyp, Ausgangs- und Zielstation fr die Typen,
+	 * fr die {@link #transferTimeCacheable} gesetzt ist (<code>NaN</code> fr noch nicht berechnete Eintrge;
+	 * einzelne Teil-Arrays knnen <code>null</code> sein)
+	 */
+	private double[][][] transferTimeCache;
+
 	/**
 	 * Liste der Variablen - ergnzt um die Distanz-Variable
 	 */
@@ -82,6 +97,30 @@ public final class RunDataTransporters implements Cloneable {
 	 */
 	private RunDataTransporter[][] transporters;
 
+	/**
+	 * Wartende und verfgbare Transporter pro Typ (Bit=Position in {@link #transporters})
+	 * @see #updateTransporterState(RunDataTransporter)
+	 */
+	private BitSet[] idle;
+
+	/**
+	 * Wartende und verfgbare Transporter pro Typ und Station (einzelne Eintrge werden erst bei Bedarf angelegt)
+	 * @see #updateTransporterState(RunDataTransporter)
+	 */
+	private BitSet[][] idleAtStation;
+
+	/**
+	 * Anzahl an nicht fahrenden Transportern (einschlielich der Transporter in Pausenzeit) pro Typ und Station
+	 * @see #updateTransporterState(RunDataTransporter)
+	 */
+	private int[][] availableAtStation;
+
+	/**
+	 * Anzahl an fahrenden Transportern pro Typ
+	 * @see #updateTransporterState(RunDataTransporter)
+	 */
+	private int[] working;
+
 	/**
 	 * Konstruktor der Klasse
 	 */
@@ -257,7 +296,10 @@ public final class RunDataTransporters implements Cloneable {
 		distances=distancesList.toArray(new double[0][][]);
 		expressionString=expressionList.toArray(new String[0]);
 		expression=new ExpressionCalc[expressionString.length];
+		transferTimeCacheable=new boolean[expressionString.length];
+		transferTimeCache=new double[expressionString.length][][];
 		this.transporters=transporterList.toArray(new RunDataTransporter[0][]);
+		for (RunDataTransporter[] list: this.transporters) for (int i=0;i<list.length;i++) list[i].listSlot=i;
 
 		return null;
 	}
@@ -269,6 +311,8 @@ public final class RunDataTransporters implements Cloneable {
 		clone.type=type; /* brauchen wir nicht kopieren, ist statisch - Arrays.copyOf(type,type.length); */
 		clone.expressionString=expressionString; /* brauchen wir nicht kopieren, ist statisch -  Arrays.copyOf(expressionString,expressionString.length); */
 		clone.expression=new ExpressionCalc[clone.expressionString.length];
+		clone.transferTimeCacheable=new boolean[clone.expressionString.length];
+		clone.transferTimeCache=new double[clone.expressionString.length][][];
 		clone.distances=distances;
 		/* brauchen wir nicht kopieren, ist statisch
 		clone.distances=new double[distances.length][][];
@@ -290,6 +334,7 @@ public final class RunDataTransporters implements Cloneable {
 	 * @param simData	Simulationsdatenobjekt
 	 */
 	public void prepare(final SimulationData simData) {
+		buildIndex();
 		for (RunDataTransporter[] type: transporters) for (RunDataTransporter transporter: type) {
 			transporter.prepareFailureSystem(simData,this.type[transporter.type]);
 			transporter.moveTo(transporter.position,0,simData);
@@ -306,8 +351,17 @@ public final class RunDataTransporters implements Cloneable {
 	public double getTransferDistance(final int indexTransporter, final int idFrom, final int idTo) {
 		/* Wenn ntig Ausdruck vorbereiten */
 		if (this.expression[indexTransporter]==null) {
-			this.expression[indexTransporter]=new ExpressionCalc(variableNamesWithDistance);
-			this.expression[indexTransporter].parse(expressionString[indexTransporter]);
+			final ExpressionCalc expression=new ExpressionCalc(variableNamesWithDistance);
+			expression.parse(expressionString[indexTransporter]);
+			/* Die Entfernung wird nicht an das Variablen-Array angehngt, sondern separat bergeben */
+			final int distanceIndex=variableNamesWithDistance.length-1;
+			expression.setExtraValueIndex(distanceIndex);
+			final BitSet dependencies=new BitSet();
+			if (expression.getVariableDependencies(dependencies)) {
+				dependencies.clear(distanceIndex);
+				transferTimeCacheable[indexTransporter]=dependencies.isEmpty();
+			}
+			this.expression[indexTransporter]=expression;
 		}
 
 		/* Entfernung bestimmen */
@@ -319,46 +373,82 @@ public final class RunDataTransporters implements Cloneable {
 	}
 
 	/**
-	 * Cache fr das Variablenwerte-Array zur Nutzung in {@link #getTransferTime(RunDataTransporter, double, boolean, SimulationData)}
-	 * @see #getTransferTime(RunDataTransporter, double, boolean, SimulationData)
+	 * Berechnet die reine Fahrtzeit (ohne Lade- und Entladezeiten) ber den Ausdruck des Transportertyps.
+	 * @param indexTransporter	Typ des Transporters
+	 * @param distance	Zurckzulegende Distanz
+	 * @param simData	Simulationdatenobjekt
+	 * @return	Fahrtzeit in Sekunden oder <code>NaN</code>, wenn der Ausdruck nicht berechnet werden konnte (der Fehler wurde dann bereits gemeldet)
+	 */
+	private double calcDriveTime(final int indexTransporter, final double distance, final SimulationData simData) {
+		final ExpressionCalc expression=this.expression[indexTransporter];
+		try {
+			final double d=expression.calc(simData.runData.variableValues,distance,simData,null);
+			return (d>0)?d:0.0;
+		} catch (MathCalcError e) {
+			simData.calculationErrorStation(expression,type[indexTransporter]);
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * Liefert die reine Fahrtzeit (ohne Lade- und Entladezeiten) zwischen zwei Stationen.<br>
+	 * Hngt der Ausdruck des Transportertyps nur von der Entfernung ab, so wird die Fahrtzeit
+	 * pro Stationspaar nur einmal berechnet und danach aus {@link #transferTimeCache} gelesen.
+	 * @param indexTransporter	Typ des Transporters
+	 * @param idFrom	ID der Ausgangsstation
+	 * @param idTo	ID der Zielstation
+	 * @param distance	Zurckzulegende Distanz (siehe {@link #getTransferDistance(int, int, int)})
+	 * @param simData	Simulationdatenobjekt
+	 * @return	Fahrtzeit in Sekunden
 	 */
-	private double[] variableValues=null;
+	private double getDriveTime(final int indexTransporter, final int idFrom, final int idTo, final double distance, final SimulationData simData) {
+		double[] cacheRow=null;
+		if (transferTimeCacheable[indexTransporter] && idFrom>=0 && idTo>=0) {
+			final double[][] distanceRows=distances[indexTransporter];
+			final double[] distanceRow=(distanceRows==null || idFrom>=distanceRows.length)?null:distanceRows[idFrom];
+			if (distanceRow!=null && idTo<distanceRow.length) {
+				double[][] cacheRows=transferTimeCache[indexTransporter];
+				if (cacheRows==null) transferTimeCache[indexTransporter]=cacheRows=new double[distanceRows.length][];
+				cacheRow=cacheRows[idFrom];
+				if (cacheRow==null) {
+					cacheRows[idFrom]=cacheRow=new double[distanceRow.length];
+					Arrays.fill(cacheRow,Double.NaN);
+				}
+				final double cached=cacheRow[idTo];
+				if (!Double.isNaN(cached)) return cached;
+			}
+		}
+
+		final double time=calcDriveTime(indexTransporter,distance,simData);
+		if (Double.isNaN(time)) return 0.0; /* Fehler nicht zwischenspeichern, damit er bei jeder Fahrt gemeldet wird */
+		if (cacheRow!=null) cacheRow[idTo]=time;
+		return time;
+	}
 
 	/**
 	 * Liefert die Zeit, die ein Transporter bentigt, um eine bestimmte Distanz zurckzulegen
 	 * @param transporter	Transporter fr den die Fahrtzeit (und zustzlich ggf. die Lade- und Entladezeit) bestimmt werden soll
-	 * @param distance	Zurckzulegende Distanz
+	 * @param idFrom	ID der Ausgangsstation
+	 * @param idTo	ID der Zielstation
+	 * @param distance	Zurckzulegende Distanz (siehe {@link #getTransferDistance(int, int, int)})
 	 * @param carriesClients	Gibt an, ob der Transporter bei der Fahrt Kunden transportiert
 	 * @param simData	Simulationdatenobjekt
 	 * @return	Fahrtzeit in Sekunden
 	 */
-	public double getTransferTime(final RunDataTransporter transporter, final double distance, final boolean carriesClients, final SimulationData simData) {
-		/* Passenden Ausdruck whlen */
-		final ExpressionCalc expression=this.expression[transporter.type];
-
-		double time=0;
-
-		/* Ausdruck berechnen */
-		if (variableValues==null) variableValues=new double[simData.runData.variableValues.length+1];
-		for (int i=0;i<simData.runData.variableValues.length;i++) variableValues[i]=simData.runData.variableValues[i];
-		variableValues[variableValues.length-1]=distance;
-		try {
-			final double d=expression.calc(variableValues,simData,null);
-			if (d>0) time+=d;
-		} catch (MathCalcError e) {
-			simData.calculationErrorStation(expression,type[transporter.type]);
-		}
+	public double getTransferTime(final RunDataTransporter transporter, final int idFrom, final int idTo, final double distance, final boolean carriesClients, final SimulationData simData) {
+		/* Fahrtzeit ber den Ausdruck des Transportertyps */
+		double time=getDriveTime(transporter.type,idFrom,idTo,distance,simData);
 
 		if (carriesClients) {
 			/* Lade- und Entladezeiten */
 			if (transporter.loadDistribution!=null) {
-				time+=DistributionRandomNumber.randomNonNegative(transporter.loadDistribution);
+				time+=DistributionRandomNumber.randomNonNegative(simData.random,transporter.loadDistribution);
 			}
 			if (transporter.loadExpression!=null) {
 				time+=FastMath.max(0,transporter.loadExpression.calcOrDefault(simData.runData.variableValues,0.0));
 			}
 			if (transporter.unloadDistribution!=null) {
-				time+=DistributionRandomNumber.randomNonNegative(transporter.unloadDistribution);
+				time+=DistributionRandomNumber.randomNonNegative(simData.random,transporter.unloadDistribution);
 			}
 			if (transporter.unloadExpression!=null) {
 				time+=FastMath.max(0,transporter.unloadExpression.calcOrDefault(simData.runData.variableValues,0.0));
@@ -368,6 +458,100 @@ public final class RunDataTransporters implements Cloneable {
 		return time;
 	}
 
+	/**
+	 * Legt die Zustandsindizes fr alle Transporter auf Basis ihres aktuellen Zustands an.
+	 * @see #updateTransporterState(RunDataTransporter)
+	 */
+	private void buildIndex() {
+		idle=new BitSet[transporters.length];
+		idleAtStation=new BitSet[transporters.length][];
+		availableAtStation=new int[transporters.length][];
+		working=new int[transporters.length];
+		for (int i=0;i<transporters.length;i++) {
+			idle[i]=new BitSet(transporters[i].length);
+			idleAtStation[i]=new BitSet[0];
+			availableAtStation[i]=new int[0];
+			for (RunDataTransporter transporter: transporters[i]) {
+				transporter.indexed=false;
+				updateTransporterState(transporter);
+			}
+		}
+	}
+
+	/**
+	 * Liefert die Menge der an einer Station wartenden und verfgbaren Transporter eines Typs
+	 * @param indexTransporter	Typ des Transporters
+	 * @param stationID	ID der Station (muss nicht-negativ sein)
+	 * @param create	Soll die Menge angelegt werden, wenn sie noch nicht existiert?
+	 * @return	Menge der Transporter (oder <code>null</code>, wenn es keine Menge gibt und diese nicht angelegt werden sollte)
+	 */
+	private BitSet getIdleAtStation(final int indexTransporter, final int stationID, final boolean create) {
+		BitSet[] sets=idleAtStation[indexTransporter];
+		if (stationID>=sets.length) {
+			if (!create) return null;
+			sets=idleAtStation[indexTransporter]=Arrays.copyOf(sets,stationID+1);
+		}
+		BitSet set=sets[stationID];
+		if (set==null && create) set=sets[stationID]=new BitSet(transporters[indexTransporter].length);
+		return set;
+	}
+
+	/**
+	 * Verndert die Anzahl an nicht fahrenden Transportern eines Typs an einer Station
+	 * @param indexTransporter	Typ des Transporters
+	 * @param stationID	ID der Station
+	 * @param delta	Vernderung der Anzahl
+	 */
+	private void changeAvailableAtStation(final int indexTransporter, final int stationID, final int delta) {
+		if (stationID<0) return;
+		int[] counts=availableAtStation[indexTransporter];
+		if (stationID>=counts.length) counts=availableAtStation[indexTransporter]=Arrays.copyOf(counts,stationID+1);
+		counts[stationID]+=delta;
+	}
+
+	/**
+	 * Aktualisiert die Zustandsindizes (wartend, fahrend, pro Station) fr einen Transporter.<br>
+	 * Muss nach jeder Vernderung von {@link RunDataTransporter#position}, {@link RunDataTransporter#inTransfer}
+	 * oder {@link RunDataTransporter#onlineAgainAt} aufgerufen werden.
+	 * @param transporter	Transporter, dessen Zustand sich verndert hat
+	 */
+	void updateTransporterState(final RunDataTransporter transporter) {
+		if (idle==null) return; /* Indizes werden erst in prepare(...) angelegt */
+		final int typeIndex=transporter.type;
+		final int slot=transporter.listSlot;
+
+		/* Bisherigen Zustand austragen */
+		if (transporter.indexed) {
+			if (transporter.indexedWorking) {
+				working[typeIndex]--;
+			} else {
+				changeAvailableAtStation(typeIndex,transporter.indexedPosition,-1);
+			}
+			if (transporter.indexedIdle) {
+				idle[typeIndex].clear(slot);
+				if (transporter.indexedPosition>=0) getIdleAtStation(typeIndex,transporter.indexedPosition,true).clear(slot);
+			}
+		}
+
+		/* Neuen Zustand eintragen */
+		final int position=transporter.position;
+		final boolean isWorking=transporter.inTransfer;
+		final boolean isIdle=!isWorking && transporter.onlineAgainAt<=0;
+		if (isWorking) {
+			working[typeIndex]++;
+		} else {
+			changeAvailableAtStation(typeIndex,position,1);
+		}
+		if (isIdle) {
+			idle[typeIndex].set(slot);
+			if (position>=0) getIdleAtStation(typeIndex,position,true).set(slot);
+		}
+		transporter.indexed=true;
+		transporter.indexedPosition=position;
+		transporter.indexedWorking=isWorking;
+		transporter.indexedIdle=isIdle;
+	}
+
 	/**
 	 * Findet einen an einer bestimmten Station wartenden Transporter
 	 * @param indexTransporter	Typ des Transporters
@@ -375,8 +559,12 @@ public final class RunDataTransporters implements Cloneable {
 	 * @return	Transporter-Objekt oder <code>null</code>, wenn kein Transporter an der Station verfgbar ist
 	 */
 	public RunDataTransporter getWaitingTransporter(final int indexTransporter, final int stationID) {
-		for (RunDataTransporter transporter: transporters[indexTransporter]) if (!transporter.inTransfer && transporter.onlineAgainAt<=0 && transporter.position==stationID) return transporter;
-		return null;
+		if (idle==null) buildIndex();
+		if (stationID<0) return null;
+		final BitSet set=getIdleAtStation(indexTransporter,stationID,false);
+		if (set==null) return null;
+		final int slot=set.nextSetBit(0);
+		return (slot<0)?null:transporters[indexTransporter][slot];
 	}
 
 	/**
@@ -388,7 +576,12 @@ public final class RunDataTransporters implements Cloneable {
 	 * @return	Transporter-Objekt oder <code>null</code>, wenn kein Transporter verfgbar ist
 	 */
 	public RunDataTransporter getWaitingTransporterAtOtherStation(final int indexTransporter, final int ownStationID, final double requestPriority, final SimulationData simData) {
-		for (RunDataTransporter transporter: transporters[indexTransporter]) if (!transporter.inTransfer && transporter.onlineAgainAt<=0 && transporter.position!=ownStationID) {
+		if (idle==null) buildIndex();
+		final BitSet set=idle[indexTransporter];
+		final RunDataTransporter[] list=transporters[indexTransporter];
+		for (int slot=set.nextSetBit(0);slot>=0;slot=set.nextSetBit(slot+1)) {
+			final RunDataTransporter transporter=list[slot];
+			if (transporter.position==ownStationID) continue;
 			final RunElement element=(transporter.position>=0)?simData.runModel.elementsFast[transporter.position]:null;
 			if (element instanceof TransporterPosition) {
 				final Double D=((TransporterPosition)element).stayHerePriority(transporter,simData);
@@ -406,9 +599,9 @@ public final class RunDataTransporters implements Cloneable {
 	 * @return	Anzahl an momentan wartenden Transportern
 	 */
 	public int getWaitingTransporterCount(final int indexTransporter, final int stationID) {
-		int count=0;
-		for (RunDataTransporter transporter: transporters[indexTransporter]) if (!transporter.inTransfer && transporter.position==stationID) count++;
-		return count;
+		if (idle==null) buildIndex();
+		final int[] counts=availableAtStation[indexTransporter];
+		return (stationID>=0 && stationID<counts.length)?counts[stationID]:0;
 	}
 
 	/**
@@ -426,9 +619,8 @@ public final class RunDataTransporters implements Cloneable {
 	 * @return	Anzahl der Transporter des angegebenen Typs im Leerlauf
 	 */
 	public int getWorkingTransporters(final int indexTransporter) {
-		int count=0;
-		for (RunDataTransporter transporter: transporters[indexTransporter]) if (transporter.inTransfer) count++;
-		return count;
+		if (idle==null) buildIndex();
+		return working[indexTransporter];
 	}
 
 	/**
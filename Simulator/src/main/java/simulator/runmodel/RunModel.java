@@ -34,12 +34,14 @@ import org.apache.commons.math3.util.FastMath;
 
 import language.Language;
 import mathtools.NumberTools;
+import mathtools.distribution.tools.DistributionSamplerCache;
 import scripting.java.ImportSettingsBuilder;
 import simulator.StartAnySimulator;
 import simulator.StartAnySimulator.AdditionalPrepareErrorInfo;
 import simulator.builder.RunModelCreator;
 import simulator.coreelements.RunElement;
 import simulator.editmodel.EditModel;
+import simulator.elements.FreeResourcesListener;
 import simulator.elements.RunElementSourceTable;
 import simulator.elements.RunSource;
 import simulator.simparser.ExpressionCalc;
@@ -217,6 +219,20 @@ public class RunModel {
 	 */
 	public RunDataResources resourcesTemplate;
 
+	/**
+	 * Stationen, die ber freigegebene Ressourcen benachrichtigt werden mchten
+	 * @see #freeResourcesListenerByResource
+	 */
+	public FreeResourcesListener[] freeResourcesListener;
+
+	/**
+	 * Zuordnung von Ressourcen-Indices zu den Indices der Stationen in {@link #freeResourcesListener},
+	 * die die jeweilige Ressource verwenden knnen (jeweils aufsteigend sortiert)
+	 * @see #freeResourcesListener
+	 * @see FreeResourcesListener#getNeededResources()
+	 */
+	public int[][] freeResourcesListenerByResource;
+
 	/**
 	 * Globales Transporter-Objekt, welches nur bei der Initialisierung der thread-lokalen Laufzeitdaten als
 	 * Kopier-Basis verwendet wird.
@@ -308,6 +324,12 @@ public class RunModel {
 	 */
 	public boolean useWelford;
 
+	/**
+	 * Sollen Verteilungen in der Statistik in kompakter, logarithmisch-linearer Form erfasst werden?
+	 * (Wird beim Erstellen des Laufzeitmodells aus dem Setup bernommen, damit die Simulationsthreads nicht auf das Setup zugreifen mssen.)
+	 */
+	public boolean compactStatisticsDistributions;
+
 	/**
 	 * Simulation abbrechen, wenn ein Rechenausdruck nicht ausgerechnet werden kann.
 	 */
@@ -354,6 +376,19 @@ public class RunModel {
 	 */
 	public boolean cancelSimulationOnScriptError;
 
+	/**
+	 * Vorab berechnete Tabellen zur Erzeugung von Zufallszahlen gem den im Modell verwendeten Verteilungen.<br>
+	 * Die Stationen verwenden beim Aufbau des Laufzeitmodells die hier gelieferten Verteilungsobjekte;
+	 * diese werden von allen Simulationsthreads gemeinsam (read-only) genutzt.
+	 */
+	public DistributionSamplerCache distributionSamplers=new DistributionSamplerCache(0);
+
+	/**
+	 * Anzahl an Zufallszahlen, die in den Simulationsthreads pro Verteilung blockweise im Voraus erzeugt werden
+	 * (Werte &le;1 bedeuten, dass die Zufallszahlen einzeln erzeugt werden)
+	 */
+	public int distributionRandomBufferSize;
+
 	/**
 	 * Sollen auch Kunden, die das System am Ende noch nicht verlassen haben, in der Statistik erfasst werden knnen (<code>true</code>). Dies verlangsamt die Simulation.
 	 */
@@ -493,6 +528,10 @@ public class RunModel {
 		runModel.repeatCount=editModel.repeatCount;
 		runModel.repeatAllowSplit=SetupData.getSetup().useMultiCoreSimulationOnRepeatedSimulations;
 
+		/* Tabellen zur Erzeugung von Zufallszahlen */
+		runModel.distributionSamplers=new DistributionSamplerCache(SetupData.getSetup().distributionSamplingTableSize,SetupData.getSetup().distributionSamplingAccuracy);
+		runModel.distributionRandomBufferSize=SetupData.getSetup().distributionRandomBufferSize;
+
 		/* Simulation bei Rechenfehlern abbrechen */
 		runModel.stoppOnCalcError=editModel.stoppOnCalcError;
 
@@ -678,6 +717,9 @@ public class RunModel {
 		/* Welford-basierte Varianzerfassung */
 		runModel.useWelford=editModel.useWelford;
 
+		/* Kompakte Erfassung von Verteilungen */
+		runModel.compactStatisticsDistributions=SetupData.getSetup().compactStatisticsDistributions;
+
 		return null;
 	}
 
@@ -843,9 +885,43 @@ public class RunModel {
 		runModel.elementsFast=new RunElement[maxID+1];
 		for (int i=0;i<=maxID;i++) runModel.elementsFast[i]=runModel.elements.get(i);
 
+		/* Zuordnung von Ressourcen zu den Stationen, die diese verwenden knnen */
+		initFreeResourcesListener(runModel);
+
 		return null;
 	}
 
+	/**
+	 * Erstellt die Liste der Stationen, die ber freigegebene Ressourcen benachrichtigt werden mchten,
+	 * sowie die Zuordnung der Ressourcen zu diesen Stationen.
+	 * @param runModel	Laufzeit-Modell in das die entsprechenden Daten eingetragen werden sollen
+	 * @see #freeResourcesListener
+	 * @see #freeResourcesListenerByResource
+	 */
+	private static void initFreeResourcesListener(final RunModel runModel) {
+		final List<FreeResourcesListener> listeners=new ArrayList<>();
+		for (Map.Entry<Integer,RunElement> entry: runModel.elements.entrySet()) if (entry.getValue() instanceof FreeResourcesListener) listeners.add((FreeResourcesListener)(entry.getValue()));
+		runModel.freeResourcesListener=listeners.toArray(new FreeResourcesListener[0]);
+
+		final int resourceCount=runModel.resourcesTemplate.size();
+		final List<List<Integer>> byResource=new ArrayList<>(resourceCount);
+		for (int i=0;i<resourceCount;i++) byResource.add(new ArrayList<>());
+		for (int i=0;i<runModel.freeResourcesListener.length;i++) {
+			final int[][] neededResources=runModel.freeResourcesListener[i].getNeededResources();
+			for (int j=0;j<resourceCount;j++) {
+				boolean usesResource=(neededResources==null); /* Keine Angabe: Bei allen Freigaben benachrichtigen */
+				if (!usesResource) for (int[] alternative: neededResources) if (alternative!=null && j<alternative.length && alternative[j]>0) {
+					usesResource=true;
+					break;
+				}
+				if (usesResource) byResource.get(j).add(i);
+			}
+		}
+
+		runModel.freeResourcesListenerByResource=new int[resourceCount][];
+		for (int i=0;i<resourceCount;i++) runModel.freeResourcesListenerByResource[i]=byResource.get(i).stream().mapToInt(Integer::intValue).toArray();
+	}
+
 	/**
 	 * bertrgt die Daten zur Laufzeitstatistik-Erfassung vom Editor- in das Laufzeit-Modell.
 	 * @param editModel	Editor-Modell dem die Daten entnommen werden soll
@@ -17,13 +17,20 @@ package simulator.runmodel;
 import java.io.File;
 import java.util.Map;
 
+import org.apache.commons.math3.random.RandomGenerator;
 import org.apache.commons.math3.util.FastMath;
 
 import language.Language;
 import mathtools.NumberTools;
+import mathtools.distribution.tools.DistributionRandomNumber;
+import mathtools.distribution.tools.SeedableThreadLocalRandomGenerator;
 import scripting.java.ExternalConnect;
+import simcore.ReplicationScheduler;
 import simcore.SimData;
 import simcore.eventcache.AssociativeEventCache;
+import simcore.eventmanager.CalendarQueueEventManager;
+import simcore.eventmanager.EventManager;
+import simcore.eventmanager.IndexedHeapEventManager;
 import simcore.eventmanager.LongRunMultiSortedArrayListEventManager;
 import simcore.logging.CallbackLogger;
 import simcore.logging.SimLogging;
@@ -65,6 +72,14 @@ public class SimulationData extends SimData {
 	 */
 	public RunData runData;
 
+	/**
+	 * Zufallszahlengenerator fr diesen Simulationsthread
+	 * (thread-lokal; wird beim ersten Simulationstag im Simulationsthread gesetzt
+	 * und kann dann direkt, ohne Umweg ber eine Thread-Zuordnung, verwendet werden)
+	 * @see #initDay(long, long, boolean)
+	 */
+	public RandomGenerator random;
+
 	/**
 	 * Simulator-Objekt in dem sich dieses Datenobjekt befindet
 	 */
@@ -83,9 +98,16 @@ public class SimulationData extends SimData {
 	public final int clientCountDiv;
 
 	/**
-	 * Aktueller Simulationstag. 0-basierend.
+	 * Aktueller Simulationstag (globale Nummer ber alle Threads). 0-basierend.
+	 * @see #getCurrentRepeat()
 	 */
-	private long currentDay;
+	private long currentDayGlobal;
+
+	/**
+	 * Anzahl an Transporterfahrten (ohne die virtuellen Anknfte an den Startstationen; ber alle Simulationstage dieses Threads)
+	 * @see RunDataTransporter#moveTo(int, int, SimulationData)
+	 */
+	public long transporterMoves;
 
 	/**
 	 * Ist das Logging aktiv, so kann hier eingeschrnkt werden, dass nur Ereignisse zu bestimmten Stationen erfasst werden sollen. Ist das Feld <code>null</code>, so wird (sofern das Logging aktiv ist) alles erfasst.
@@ -144,7 +166,7 @@ public class SimulationData extends SimData {
 		/* langsam: super(new PriorityQueueEventManager(),new HashMapEventCache(),threadNr,threadCount); */
 		/* schneller: super(new LongRunMultiPriorityQueueEventManager(4),new HashMapEventCache(),threadNr,threadCount); */
 		/* ganz schnell: */
-		super(new LongRunMultiSortedArrayListEventManager(4),new AssociativeEventCache(128),threadNr,threadCount);
+		super(getEventManager(),new AssociativeEventCache(128),threadNr,threadCount);
 
 		loggingIDs=null;
 		logArrival=true;
@@ -159,13 +181,12 @@ public class SimulationData extends SimData {
 		if (useStatistics!=null) {
 			statistics=useStatistics;
 		} else {
-			statistics=new Statistics(runModel.correlationRange,runModel.correlationMode,runModel.batchMeansSize,runModel.collectWaitingTimes,runModel.distributionRecordHours,runModel.distributionRecordClientDataValues,runModel.useWelford);
+			statistics=new Statistics(runModel.correlationRange,runModel.correlationMode,runModel.batchMeansSize,runModel.collectWaitingTimes,runModel.distributionRecordHours,runModel.distributionRecordClientDataValues,runModel.useWelford,runModel.compactStatisticsDistributions);
 		}
 
 		if (runModel.repeatCount>1) {
-			int div=1;
-			int repeat=runModel.repeatCount;
-			if (runModel.repeatAllowSplit) while (repeat<threadCount) {repeat*=2; div*=2;}
+			final int div=getRepeatSplitFactor(runModel,threadCount);
+			final int repeat=runModel.repeatCount*div;
 			clientCountDiv=div;
 			int baseCount=repeat/threadCount;
 			int addCount=repeat%threadCount;
@@ -189,6 +210,51 @@ public class SimulationData extends SimData {
 		}
 
 		this.dynamicLoadBalancer=dynamicLoadBalancer;
+
+		random=DistributionRandomNumber.generator;
+	}
+
+	/**
+	 * Liefert den Faktor, um den die Wiederholungen bei mehr Threads als Wiederholungen
+	 * in Teilwiederholungen zerlegt werden (wenn dies gem Modell zulssig ist).
+	 * @param runModel	Laufzeitmodell
+	 * @param threadCount	Anzahl an Simulationsthreads
+	 * @return	Anzahl an Teilen pro Wiederholung (1, wenn die Wiederholungen nicht zerlegt werden)
+	 */
+	public static int getRepeatSplitFactor(final RunModel runModel, final int threadCount) {
+		int div=1;
+		if (runModel.repeatCount>1 && runModel.repeatAllowSplit) {
+			int repeat=runModel.repeatCount;
+			while (repeat<threadCount) {repeat*=2; div*=2;}
+		}
+		return div;
+	}
+
+	/**
+	 * Stellt ein, dass dieser Thread seine Wiederholungen nicht aus einem festen Block, sondern
+	 * dynamisch von einem gemeinsamen Verteiler bezieht. Muss vor dem Start des Threads aufgerufen werden.
+	 * @param replicationScheduler	Gemeinsamer Verteiler fr alle Threads
+	 * @see #getRepeatSplitFactor(RunModel, int)
+	 */
+	public void setReplicationScheduler(final ReplicationScheduler replicationScheduler) {
+		if (clientCountDiv!=1) throw new IllegalStateException("Split repeats cannot be scheduled dynamically");
+		this.replicationScheduler=replicationScheduler;
+		simDays=replicationScheduler.getDays();
+		simDaysByOtherThreads=0;
+	}
+
+	/**
+	 * Erstellt die gem Setup zu verwendende Ereignisverwaltung.
+	 * @return	Neue Ereignisverwaltung fr einen Simulationsthread
+	 * @see SetupData#eventManager
+	 */
+	private static EventManager getEventManager() {
+		switch (SetupData.getSetup().eventManager) {
+		case CALENDAR_QUEUE: return new CalendarQueueEventManager();
+		case INDEXED_HEAP: return new IndexedHeapEventManager();
+		case SORTED_ARRAY_LISTS: return new LongRunMultiSortedArrayListEventManager(4);
+		default: return new LongRunMultiSortedArrayListEventManager(4);
+		}
 	}
 
 	/**
@@ -205,7 +271,7 @@ public class SimulationData extends SimData {
 	 * @return	Aktuelle Wiederholung des Modells
 	 */
 	public long getCurrentRepeat() {
-		return (simDaysByOtherThreads+currentDay)/clientCountDiv;
+		return currentDayGlobal/clientCountDiv;
 	}
 
 	/**
@@ -350,15 +416,22 @@ public class SimulationData extends SimData {
 
 	@Override
 	public void initDay(final long day, final long dayGlobal, final boolean backgroundMode) {
-		currentDay=day;
+		currentDayGlobal=dayGlobal;
 		/* System.out.println(Thread.currentThread().getName()+": "+day+" "+dayGlobal); */
 
 		if (day>0) { /* Wenn mehrere Wiederholungen simuliert werden und dies nicht der erste Tag ist, Statistik sichern und RunData neu initialisieren */
 			lastDaysStatistics=statistics;
-			statistics=new Statistics(runModel.correlationRange,runModel.correlationMode,runModel.batchMeansSize,runModel.collectWaitingTimes,runModel.distributionRecordHours,runModel.distributionRecordClientDataValues,runModel.useWelford);
+			statistics=new Statistics(runModel.correlationRange,runModel.correlationMode,runModel.batchMeansSize,runModel.collectWaitingTimes,runModel.distributionRecordHours,runModel.distributionRecordClientDataValues,runModel.useWelford,runModel.compactStatisticsDistributions);
 			runData=new RunData(runModel,dynamicLoadBalancer);
 		}
 
+		if (DistributionRandomNumber.generator instanceof SeedableThreadLocalRandomGenerator) {
+			final SeedableThreadLocalRandomGenerator seedable=(SeedableThreadLocalRandomGenerator)DistributionRandomNumber.generator;
+			random=seedable.getGenerator();
+			/* Ein Teilstrom pro globaler Wiederholung, damit die Ergebnisse nicht von der Aufteilung der Wiederholungen auf die Threads abhngen */
+			if (runModel.useFixedSeed) seedable.setSeed(runModel.fixedSeed,dayGlobal);
+		}
+
 		currentTime=0;
 		runData.initRun(day,this,runModel.recordIncompleteClients);
 	}
@@ -377,12 +450,30 @@ public class SimulationData extends SimData {
 		}
 	}
 
+	/**
+	 * Liefert eine Kopie der bislang in diesem Thread erfassten Statistikdaten
+	 * (einschlielich der Daten der bereits abgeschlossenen Simulationstage).
+	 * @return	Von dem weiteren Simulationsverlauf entkoppeltes Statistikobjekt
+	 */
+	@Override
+	public Object createSnapshot() {
+		final Statistics snapshot=new Statistics(runModel.correlationRange,runModel.correlationMode,runModel.batchMeansSize,runModel.collectWaitingTimes,runModel.distributionRecordHours,runModel.distributionRecordClientDataValues,runModel.useWelford,runModel.compactStatisticsDistributions);
+		snapshot.addData(statistics);
+		if (lastDaysStatistics!=null) snapshot.addData(lastDaysStatistics);
+		return snapshot;
+	}
+
 	@Override
 	public void finalTerminateCleanUp(long eventCount) {
 		super.finalTerminateCleanUp(eventCount);
 		for (Map.Entry<Integer,RunElement> entry: runModel.elements.entrySet()) entry.getValue().finalCleanUp(this);
 	}
 
+	@Override
+	public void releaseResources() {
+		runData.closeOutputWriters();
+	}
+
 	/**
 	 * Erfasst den Abschluss eines Teil-Simulationslaufes in der Statistik
 	 * fr die Berechnung der Konfidenzintervalle auf Basis der unabhngigen
@@ -0,0 +1,349 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator.runmodel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import simulator.coreelements.RunElement;
+import simulator.elements.RunElementAssign;
+import simulator.elements.RunElementSource;
+import simulator.elements.StateChangeListener;
+import simulator.simparser.ExpressionDependencies;
+
+/**
+ * Erfasst, welche <code>StateChangeListener</code> in einer Benachrichtigungsrunde
+ * bersprungen werden knnen, weil sich die Zustandsgren, von denen ihre Reaktion ausschlielich
+ * abhngt, seit ihrer letzten Benachrichtigung nicht verndert haben.<br>
+ * Erfasst werden globale Variablen sowie die Anzahl an Kunden an bzw. in der Warteschlange an einzelnen
+ * Stationen und die Belegung, die Anzahl und die Ausflle einzelner Ressourcen (siehe {@link ExpressionDependencies}).
+ * Zu Beginn jeder Runde werden die aktuellen Werte dieser Zustandsgren mit ihren Werten bei der vorherigen Runde verglichen.
+ * Listener, die (auch) von anderen Zustandsgren (z.B. Analogwerte oder Kundendaten) abhngen,
+ * liefern keine Abhngigkeiten und werden daher bei jeder Runde benachrichtigt.
+ * @author Alexander Herzog
+ * @see RunData#fireStateChangeNotify(SimulationData)
+ * @see StateChangeListener#getStateChangeDependencies(SimulationData)
+ */
+public final class StateChangeDependencies {
+	/**
+	 * Zustandsgre auerhalb der globalen Variablen (z.B. Anzahl an Kunden an einer Station),
+	 * deren Vernderungen berwacht werden
+	 */
+	@FunctionalInterface
+	public interface Cell {
+		/**
+		 * Liefert den aktuellen Wert der Zustandsgre.
+		 * @param simData	Simulationsdatenobjekt
+		 * @return	Aktueller Wert
+		 */
+		double getValue(final SimulationData simData);
+	}
+
+	/**
+	 * Indices der Variablen, von denen die einzelnen Listener abhngen
+	 * (Index gem Listener-ID; ein <code>null</code>-Eintrag bedeutet, dass der Listener bei jeder Runde benachrichtigt wird)
+	 */
+	private final int[][] listenerVariables;
+
+	/**
+	 * Indices der Zustandsgren (in Bezug auf {@link #cells}), von denen die einzelnen Listener abhngen
+	 * (Index gem Listener-ID; kann <code>null</code>-Eintrge enthalten)
+	 */
+	private final int[][] listenerCells;
+
+	/**
+	 * Nummer der Benachrichtigungsrunde, in der der Listener zuletzt benachrichtigt wurde
+	 * (Index gem Listener-ID; -1 bedeutet, dass der Listener in der nchsten Runde auf jeden Fall benachrichtigt werden muss)
+	 */
+	private final long[] listenerRound;
+
+	/**
+	 * Indices der Variablen, deren Vernderungen berwacht werden mssen
+	 */
+	private final int[] variables;
+
+	/**
+	 * Werte der Variablen aus {@link #variables} bei der letzten Benachrichtigungsrunde
+	 * (Index gem Variablenindex)
+	 */
+	private final double[] variableValues;
+
+	/**
+	 * Nummer der Benachrichtigungsrunde, in der die letzte Vernderung der jeweiligen Variable festgestellt wurde
+	 * (Index gem Variablenindex)
+	 */
+	private final long[] variableRound;
+
+	/**
+	 * Zustandsgren auerhalb der globalen Variablen, deren Vernderungen berwacht werden mssen
+	 */
+	private final Cell[] cells;
+
+	/**
+	 * Werte der Zustandsgren aus {@link #cells} bei der letzten Benachrichtigungsrunde
+	 */
+	private final double[] cellValues;
+
+	/**
+	 * Nummer der Benachrichtigungsrunde, in der die letzte Vernderung der jeweiligen Zustandsgre aus {@link #cells} festgestellt wurde
+	 */
+	private final long[] cellRound;
+
+	/**
+	 * Nummer der aktuellen Benachrichtigungsrunde
+	 */
+	private long round;
+
+	/**
+	 * Konstruktor der Klasse
+	 * @param listenerVariables	Indices der Variablen, von denen die einzelnen Listener abhngen (Index gem Listener-ID; <code>null</code>-Eintrge fr Listener, die bei jeder Runde benachrichtigt werden sollen)
+	 * @param listenerCells	Indices der Zustandsgren (in Bezug auf <code>cells</code>), von denen die einzelnen Listener abhngen (Index gem Listener-ID; kann <code>null</code>-Eintrge enthalten)
+	 * @param cells	Zustandsgren auerhalb der globalen Variablen, deren Vernderungen berwacht werden sollen
+	 * @param variableValues	Aktuelle Werte der Variablen (das Array wird kopiert)
+	 * @param simData	Simulationsdatenobjekt (zur Ermittlung der aktuellen Werte der Zustandsgren)
+	 */
+	public StateChangeDependencies(final int[][] listenerVariables, final int[][] listenerCells, final Cell[] cells, final double[] variableValues, final SimulationData simData) {
+		this.listenerVariables=listenerVariables;
+		this.listenerCells=listenerCells;
+		listenerRound=new long[listenerVariables.length];
+		Arrays.fill(listenerRound,-1);
+
+		final BitSet used=new BitSet();
+		for (int[] dependencies: listenerVariables) if (dependencies!=null) for (int index: dependencies) used.set(index);
+		variables=used.stream().toArray();
+
+		this.variableValues=Arrays.copyOf(variableValues,variableValues.length);
+		variableRound=new long[variableValues.length];
+
+		this.cells=cells;
+		cellValues=new double[cells.length];
+		for (int i=0;i<cells.length;i++) cellValues[i]=cells[i].getValue(simData);
+		cellRound=new long[cells.length];
+	}
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Es werden nur Abhngigkeiten von Variablen erfasst.
+	 * @param listenerVariables	Indices der Variablen, von denen die einzelnen Listener abhngen (Index gem Listener-ID; <code>null</code>-Eintrge fr Listener, die bei jeder Runde benachrichtigt werden sollen)
+	 * @param variableValues	Aktuelle Werte der Variablen (das Array wird kopiert)
+	 */
+	public StateChangeDependencies(final int[][] listenerVariables, final double[] variableValues) {
+		this(listenerVariables,new int[listenerVariables.length][],new Cell[0],variableValues,null);
+	}
+
+	/**
+	 * Erstellt ein Erfassungsobjekt auf Basis der von den Listenern gemeldeten Abhngigkeiten.
+	 * @param listenerDependencies	Abhngigkeiten der einzelnen Listener (Index gem Listener-ID; <code>null</code>-Eintrge fr Listener, die bei jeder Runde benachrichtigt werden sollen)
+	 * @param simData	Simulationsdatenobjekt
+	 * @return	Erfassungsobjekt oder <code>null</code>, wenn kein Listener Abhngigkeiten gemeldet hat
+	 * @see StateChangeListener#getStateChangeDependencies(SimulationData)
+	 */
+	public static StateChangeDependencies build(final ExpressionDependencies[] listenerDependencies, final SimulationData simData) {
+		final int[][] listenerVariables=new int[listenerDependencies.length][];
+		final int[][] listenerCells=new int[listenerDependencies.length][];
+		final CellBuilder builder=new CellBuilder(simData);
+		boolean anyDependencies=false;
+
+		for (int id=0;id<listenerDependencies.length;id++) {
+			final ExpressionDependencies dependencies=listenerDependencies[id];
+			if (dependencies==null) continue;
+			listenerVariables[id]=dependencies.variables.stream().toArray();
+			listenerCells[id]=builder.getCells(dependencies);
+			anyDependencies=true;
+		}
+
+		if (!anyDependencies) return null;
+		return new StateChangeDependencies(listenerVariables,listenerCells,builder.cells.toArray(new Cell[0]),simData.runData.variableValues,simData);
+	}
+
+	/**
+	 * Beginnt eine neue Benachrichtigungsrunde und vergleicht dafr die berwachten
+	 * Variablen mit ihren Werten bei der letzten Runde.<br>
+	 * Es drfen keine Zustandsgren auerhalb der globalen Variablen erfasst werden.
+	 * @param variableValues	Aktuelle Werte der Variablen
+	 */
+	public void nextRound(final double[] variableValues) {
+		nextRound(variableValues,null);
+	}
+
+	/**
+	 * Beginnt eine neue Benachrichtigungsrunde und vergleicht dafr die berwachten
+	 * Variablen und Zustandsgren mit ihren Werten bei der letzten Runde.
+	 * @param variableValues	Aktuelle Werte der Variablen
+	 * @param simData	Simulationsdatenobjekt (zur Ermittlung der aktuellen Werte der Zustandsgren)
+	 */
+	public void nextRound(final double[] variableValues, final SimulationData simData) {
+		round++;
+		for (int index: variables) {
+			final double value=variableValues[index];
+			if (Double.doubleToLongBits(value)!=Double.doubleToLongBits(this.variableValues[index])) {
+				this.variableValues[index]=value;
+				variableRound[index]=round;
+			}
+		}
+		for (int index=0;index<cells.length;index++) {
+			final double value=cells[index].getValue(simData);
+			if (Double.doubleToLongBits(value)!=Double.doubleToLongBits(cellValues[index])) {
+				cellValues[index]=value;
+				cellRound[index]=round;
+			}
+		}
+	}
+
+	/**
+	 * Prft, ob ein Listener in der aktuellen Runde benachrichtigt werden muss.
+	 * Ist dies der Fall, so wird die Benachrichtigung in der aktuellen Runde vermerkt.
+	 * @param id	ID des Listeners
+	 * @return	Liefert <code>false</code>, wenn der Listener nur von Zustandsgren abhngt, die sich seit seiner letzten Benachrichtigung nicht verndert haben
+	 */
+	public boolean startNotify(final int id) {
+		final int[] dependencies=listenerVariables[id];
+		if (dependencies==null) return true;
+		final long lastRound=listenerRound[id];
+		listenerRound[id]=round;
+		if (lastRound<0) return true;
+		for (int index: dependencies) if (variableRound[index]>lastRound) return true;
+		final int[] cellDependencies=listenerCells[id];
+		if (cellDependencies!=null) for (int index: cellDependencies) if (cellRound[index]>lastRound) return true;
+		listenerRound[id]=lastRound;
+		return false;
+	}
+
+	/**
+	 * Legt fest, dass ein Listener bei der nchsten Runde auf jeden Fall benachrichtigt wird
+	 * (z.B. weil er selbst Vernderungen vorgenommen hat oder weil an der Station ein neuer Kunde eingetroffen ist).
+	 * @param id	ID des Listeners
+	 */
+	public void requestNotify(final int id) {
+		listenerRound[id]=-1;
+	}
+
+	/**
+	 * bersetzt die in {@link ExpressionDependencies}-Objekten erfassten Abhngigkeiten
+	 * von Stations- und Ressourcendaten in zu berwachende Zustandsgren.
+	 * Zustandsgren, von denen mehrere Listener abhngen, werden dabei nur einmal angelegt.
+	 * @see StateChangeDependencies#build(ExpressionDependencies[], SimulationData)
+	 */
+	private static class CellBuilder {
+		/** Art der Zustandsgre: Anzahl an Kunden an einer Station */
+		private static final int TYPE_STATION_WIP=0;
+		/** Art der Zustandsgre: Anzahl an wartenden Kunden an einer Station */
+		private static final int TYPE_STATION_NQ=1;
+		/** Art der Zustandsgre: Anzahl an Kunden eines Typs im System */
+		private static final int TYPE_CLIENT_TYPE_WIP=2;
+		/** Art der Zustandsgre: Anzahl an wartenden Kunden eines Typs im System */
+		private static final int TYPE_CLIENT_TYPE_NQ=3;
+		/** Art der Zustandsgre: Anzahl an belegten Bedienern einer Ressource */
+		private static final int TYPE_RESOURCE_USED=4;
+		/** Art der Zustandsgre: Anzahl an vorhandenen Bedienern einer Ressource */
+		private static final int TYPE_RESOURCE_COUNT=5;
+		/** Art der Zustandsgre: Anzahl an Bedienern einer Ressource in Ausfallzeit */
+		private static final int TYPE_RESOURCE_DOWN=6;
+
+		/** Simulationsdatenobjekt */
+		private final SimulationData simData;
+		/** Bislang angelegte Zustandsgren */
+		public final List<Cell> cells;
+		/** Zuordnung von Art und Index einer Zustandsgre zu ihrer Position in {@link #cells} */
+		private final Map<Long,Integer> cellIndex;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param simData	Simulationsdatenobjekt
+		 */
+		public CellBuilder(final SimulationData simData) {
+			this.simData=simData;
+			cells=new ArrayList<>();
+			cellIndex=new HashMap<>();
+		}
+
+		/**
+		 * Liefert die Position einer Zustandsgre in {@link #cells} und legt diese bei Bedarf an.
+		 * @param type	Art der Zustandsgre
+		 * @param index	Station, Kundentyp oder Ressource (je nach Art)
+		 * @return	Position in {@link #cells}
+		 */
+		private int getCell(final int type, final int index) {
+			final Long key=(((long)type)<<32)+index;
+			final Integer position=cellIndex.get(key);
+			if (position!=null) return position.intValue();
+
+			final RunElement station=(type==TYPE_STATION_WIP || type==TYPE_STATION_NQ)?simData.runModel.elementsFast[index]:null;
+			final Cell cell;
+			switch (type) {
+			case TYPE_STATION_WIP: cell=data->station.getData(data).reportedClientsAtStation(data); break;
+			case TYPE_STATION_NQ: cell=data->station.getData(data).clientsAtStationQueue; break;
+			case TYPE_CLIENT_TYPE_WIP: cell=data->{final int[] count=data.runData.clientsInSystemByType; return (count==null)?0:count[index];}; break;
+			case TYPE_CLIENT_TYPE_NQ: cell=data->{final int[] count=data.runData.clientsInQueuesByType; return (count==null)?0:count[index];}; break;
+			case TYPE_RESOURCE_USED: cell=data->data.runData.resources.getInUse(index); break;
+			case TYPE_RESOURCE_COUNT: cell=data->data.runData.resources.getCount(index,data); break;
+			case TYPE_RESOURCE_DOWN: cell=data->data.runData.resources.getDown(index,data); break;
+			default: throw new IllegalArgumentException();
+			}
+			cells.add(cell);
+			cellIndex.put(key,cells.size()-1);
+			return cells.size()-1;
+		}
+
+		/**
+		 * Liefert den Namen des Kundentyps, auf den sich eine Kundenquelle oder eine Zuweisung bezieht.
+		 * @param station	Station
+		 * @return	Name des Kundentyps oder <code>null</code>, wenn es sich nicht um eine Kundenquelle oder Zuweisung handelt
+		 */
+		private static String getClientTypeName(final RunElement station) {
+			if (station instanceof RunElementSource) return ((RunElementSource)station).clientTypeName;
+			if (station instanceof RunElementAssign) return ((RunElementAssign)station).clientTypeName;
+			return null;
+		}
+
+		/**
+		 * Liefert die zu berwachenden Zustandsgren fr die Abhngigkeiten eines Listeners.<br>
+		 * Wie in den zugehrigen Rechenbefehlen beziehen sich <code>WIP(id)</code> und <code>NQ(id)</code>
+		 * bei Kundenquellen und Zuweisungen auf die Anzahl an Kunden des jeweiligen Typs im System.
+		 * Abhngigkeiten von nicht existierenden Stationen oder Ressourcen (deren Werte konstant sind) werden bergangen.
+		 * @param dependencies	Abhngigkeiten des Listeners
+		 * @return	Positionen der Zustandsgren in {@link #cells}
+		 */
+		public int[] getCells(final ExpressionDependencies dependencies) {
+			final RunElement[] elements=simData.runModel.elementsFast;
+			final BitSet result=new BitSet();
+
+			dependencies.stationWIP.stream().filter(id->id<elements.length && elements[id]!=null).forEach(id->{
+				final String name=getClientTypeName(elements[id]);
+				if (name==null) {result.set(getCell(TYPE_STATION_WIP,id)); return;}
+				final Integer clientType=simData.runModel.clientTypesMap.get(name);
+				if (clientType!=null) result.set(getCell(TYPE_CLIENT_TYPE_WIP,clientType.intValue()));
+			});
+
+			dependencies.stationNQ.stream().filter(id->id<elements.length && elements[id]!=null).forEach(id->{
+				final String name=getClientTypeName(elements[id]);
+				final Integer clientType=(name==null)?null:simData.runModel.clientTypesMap.get(name);
+				if (clientType==null) result.set(getCell(TYPE_STATION_NQ,id)); else result.set(getCell(TYPE_CLIENT_TYPE_NQ,clientType.intValue()));
+			});
+
+			final int resourceCount=simData.runData.resources.size();
+			dependencies.resourceUsed.stream().filter(index->index<resourceCount).forEach(index->result.set(getCell(TYPE_RESOURCE_USED,index)));
+			dependencies.resourceCount.stream().filter(index->index<resourceCount).forEach(index->result.set(getCell(TYPE_RESOURCE_COUNT,index)));
+			dependencies.resourceDown.stream().filter(index->index<resourceCount).forEach(index->result.set(getCell(TYPE_RESOURCE_DOWN,index)));
+
+			return result.stream().toArray();
+		}
+	}
+}
@@ -17,13 +17,24 @@ package simulator.simparser;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import parser.CalcSystem;
 import parser.MathCalcError;
+import parser.coresymbols.CalcSymbol;
+import parser.coresymbols.CalcSymbolConst;
+import parser.coresymbols.CalcSymbolMiddleOperator;
+import parser.coresymbols.CalcSymbolPostOperator;
 import parser.coresymbols.CalcSymbolPreOperator;
+import parser.coresymbols.CalcSymbolSub;
+import parser.coresymbols.CalcSymbolVariable;
+import parser.symbols.CalcSymbolMiddleOperatorDivide;
+import parser.symbols.CalcSymbolMiddleOperatorMinus;
+import parser.symbols.CalcSymbolMiddleOperatorMultiply;
+import parser.symbols.CalcSymbolMiddleOperatorPlus;
 import simulator.Simulator;
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
@@ -57,6 +68,18 @@ public class ExpressionCalc extends CalcSystem {
 	/** Aktuelles Kundenobjekt */
 	private RunDataClient currentClient;
 
+	/**
+	 * Anzahl an Auswertungen, nach der der Ausdruck in Bytecode bersetzt wird
+	 * @see ExpressionCalcCompiler
+	 */
+	private static final int COMPILE_THRESHOLD=10_000;
+	/** Anzahl an bisherigen Auswertungen (-1, wenn bereits eine bersetzung angefordert wurde) */
+	private int calcCount;
+	/** Laufende bersetzung des Ausdrucks (<code>null</code>, wenn keine bersetzung luft) */
+	private ExpressionCalcCompiler.Request compileRequest;
+	/** bersetzter Ausdruck (<code>null</code>, wenn der Ausdruck interpretiert wird) */
+	private ExpressionCalcCompiler.Compiled compiled;
+
 	/**
 	 * Konstruktor der Klasse
 	 * @param variables	Liste der Variablennamen, die erkannt werden sollen
@@ -419,9 +442,43 @@ public class ExpressionCalc extends CalcSystem {
 			prepareRunElementData();
 		}
 		currentClient=client;
+		if (compiled!=null || updateCompiled()) {
+			if (variableValues!=null) values=variableValues;
+			return compiled.calc(values,this);
+		}
 		return super.calc(variableValues);
 	}
 
+	/**
+	 * Berechnet den bereits geparsten Ausdruck auf Basis der bekannten Variablennamen und der hier angegebenen Werte,
+	 * wobei der Wert der Variable mit dem Index {@link #getExtraValueIndex()} separat bergeben wird.<br>
+	 * Auf diese Weise muss fr einen zustzlichen Wert das Array mit den brigen Variablenwerten nicht kopiert werden.
+	 * @param variableValues	Liste mit den Werten der Variablen (ohne die zustzliche Variable)
+	 * @param extraValue	Wert der zustzlichen Variable mit dem Index {@link #getExtraValueIndex()}
+	 * @param simData	Simulationsdatenobjekt
+	 * @param client	Aktueller Kunde
+	 * @return	Zahlenwert des Ergebnisses.
+	 * @throws	MathCalcError	Fehler whrend der Berechnung
+	 * @see #setExtraValueIndex(int)
+	 */
+	public double calc(final double[] variableValues, final double extraValue, final SimulationData simData, final RunDataClient client) throws MathCalcError {
+		setExtraValue(getExtraValueIndex(),extraValue);
+		return calc(variableValues,simData,client);
+	}
+
+	/**
+	 * Stellt ein, welche Variable ihren Wert nicht aus dem Array der Variablenwerte, sondern aus dem
+	 * separat an {@link #calc(double[], double, SimulationData, RunDataClient)} bergebenen Wert beziehen soll.<br>
+	 * Der Index muss hinter dem Ende des bei der Berechnung bergebenen Arrays liegen.
+	 * @param extraValueIndex	Index der zustzlichen Variable (-1 fr keine solche Variable)
+	 */
+	public void setExtraValueIndex(final int extraValueIndex) {
+		setExtraValue(extraValueIndex,0.0);
+		compileRequest=null;
+		compiled=null;
+		if (calcCount<0) calcCount=0;
+	}
+
 	/**
 	 * Berechnet den bereits geparsten Ausdruck auf Basis der bekannten Variablennamen und der hier angegebenen Werte.
 	 * @param variableValues	Liste mit den Werten der Variablen
@@ -438,9 +495,139 @@ public class ExpressionCalc extends CalcSystem {
 			prepareRunElementData();
 		}
 		currentClient=client;
+		if (compiled!=null || updateCompiled()) {
+			if (variableValues!=null) values=variableValues;
+			try {
+				return compiled.calc(values,this);
+			} catch (MathCalcError e) {
+				return fallbackValue;
+			}
+		}
 		return super.calcOrDefault(variableValues,fallbackValue);
 	}
 
+	/**
+	 * Zhlt die Auswertungen, fordert bei Erreichen von {@link #COMPILE_THRESHOLD} die bersetzung
+	 * des Ausdrucks an und bernimmt den bersetzten Ausdruck, sobald die bersetzung abgeschlossen ist.
+	 * Bis dahin wird der Ausdruck weiter interpretiert.
+	 * @return	Liefert <code>true</code>, wenn ab jetzt der bersetzte Ausdruck in {@link #compiled} verwendet werden kann
+	 * @see ExpressionCalcCompiler
+	 */
+	private boolean updateCompiled() {
+		if (compileRequest!=null) {
+			if (!compileRequest.isDone()) return false;
+			compiled=compileRequest.get();
+			compileRequest=null;
+			return compiled!=null;
+		}
+
+		if (calcCount<0) return false;
+		calcCount++;
+		if (calcCount<COMPILE_THRESHOLD) return false;
+		calcCount=-1;
+		compileRequest=ExpressionCalcCompiler.compile(root,getExtraValueIndex());
+		return false;
+	}
+
+	/**
+	 * Prft, ob der Ausdruck whrend der Wartezeit eines Kunden die Form <code>a*w+f</code> besitzt,
+	 * wobei <code>a</code> eine Konstante ist und sich <code>f</code> whrend des Wartens nicht verndert
+	 * (d.h. <code>f</code> hngt nur von Konstanten, den Variablen "t" und "p" sowie von festen Kundeneigenschaften ab).<br>
+	 * Besitzen die Ausdrcke fr alle Kundentypen dieselbe Konstante <code>a</code>, so ndert sich
+	 * die Reihenfolge der Kunden gem den Score-Werten whrend des Wartens nicht.<br>
+	 * Es wird angenommen, dass die letzten drei Variablen "w", "t" und "p" sind (siehe <code>RunModel.additionalVariables</code>).
+	 * @return	Faktor <code>a</code> vor der Wartezeit oder <code>null</code>, wenn der Ausdruck nicht diese Form besitzt
+	 */
+	public Double getTimeInvariantWaitingTimeFactor() {
+		if (isConstValue()) return 0.0;
+		if (root==null || variables.length<3) return null;
+		final double factor=getWaitingTimeFactor(root);
+		if (Double.isNaN(factor) || Double.isInfinite(factor)) return null;
+		return factor;
+	}
+
+	/**
+	 * Liefert den Wert eines konstanten Symbols.
+	 * @param symbol	Symbol
+	 * @return	Wert des Symbols oder <code>null</code>, wenn es sich nicht um ein konstantes Symbol handelt
+	 * @see #getWaitingTimeFactor(CalcSymbol)
+	 */
+	private static Double getConstSymbolValue(CalcSymbol symbol) {
+		while (symbol instanceof CalcSymbolSub) {
+			final CalcSymbol[] sub=((CalcSymbolSub)symbol).getData();
+			if (sub==null || sub.length!=1) return null;
+			symbol=sub[0];
+		}
+		if (symbol instanceof CalcSymbolConst) return ((CalcSymbolConst)symbol).getValue();
+		return null;
+	}
+
+	/**
+	 * Ermittelt rekursiv den Faktor vor der Wartezeit "w" in einem Teilausdruck.
+	 * @param symbol	Teilausdruck
+	 * @return	Faktor vor der Wartezeit (0, wenn der Teilausdruck nicht von der Wartezeit abhngt) oder <code>Double.NaN</code>, wenn der Teilausdruck nicht die Form <code>a*w+f</code> besitzt
+	 * @see #getTimeInvariantWaitingTimeFactor()
+	 */
+	private double getWaitingTimeFactor(final CalcSymbol symbol) {
+		if (symbol==null) return Double.NaN;
+
+		if (symbol instanceof CalcSymbolConst) return 0.0;
+
+		if (symbol instanceof CalcSymbolVariable) {
+			final int index=((CalcSymbolVariable)symbol).getVariableIndex();
+			final int waitingTimeIndex=variables.length-3;
+			if (index==waitingTimeIndex) return 1.0; /* "w" */
+			if (index>waitingTimeIndex) return 0.0; /* "t" und "p" ndern sich whrend des Wartens nicht */
+			return Double.NaN; /* Globale Variablen knnen sich jederzeit ndern */
+		}
+
+		if (symbol instanceof CalcSymbolSub) {
+			final CalcSymbol[] sub=((CalcSymbolSub)symbol).getData();
+			if (sub==null || sub.length!=1) return Double.NaN;
+			return getWaitingTimeFactor(sub[0]);
+		}
+
+		final CalcSymbol[] parameters=symbol.getParameterSymbols();
+		if (parameters==null) return Double.NaN;
+		final double[] factors=new double[parameters.length];
+		for (int i=0;i<parameters.length;i++) {
+			factors[i]=getWaitingTimeFactor(parameters[i]);
+			if (Double.isNaN(factors[i])) return Double.NaN;
+		}
+
+		/* Lineare Verknpfungen */
+		if (parameters.length==2) {
+			if (symbol instanceof CalcSymbolMiddleOperatorPlus) return factors[0]+factors[1];
+			if (symbol instanceof CalcSymbolMiddleOperatorMinus) return factors[0]-factors[1];
+			if (symbol instanceof CalcSymbolMiddleOperatorMultiply) {
+				if (factors[0]==0.0 && factors[1]==0.0) return 0.0;
+				if (factors[0]!=0.0 && factors[1]!=0.0) return Double.NaN;
+				final Double value=getConstSymbolValue((factors[0]==0.0)?parameters[0]:parameters[1]);
+				if (value==null) return Double.NaN;
+				return ((factors[0]==0.0)?factors[1]:factors[0])*value;
+			}
+			if (symbol instanceof CalcSymbolMiddleOperatorDivide) {
+				if (factors[1]!=0.0) return Double.NaN;
+				if (factors[0]==0.0) return 0.0;
+				final Double value=getConstSymbolValue(parameters[1]);
+				if (value==null || value==0.0) return Double.NaN;
+				return factors[0]/value;
+			}
+		}
+
+		/* Alle anderen Funktionen drfen nicht von der Wartezeit abhngen */
+		for (double factor: factors) if (factor!=0.0) return Double.NaN;
+
+		/* Feste Eigenschaften des Kunden */
+		if (symbol instanceof CalcSymbolClientUserData || symbol instanceof CalcSymbolClientNumber || symbol instanceof CalcSymbolClientSourceStationID) return 0.0;
+
+		/* Funktionen mssen deterministisch sein (Zufallszahlen, Simulationsdaten usw. scheiden aus) */
+		if (symbol instanceof CalcSymbolPreOperator) return symbol.getVariableDependencies(new BitSet())?0.0:Double.NaN;
+		if (symbol instanceof CalcSymbolMiddleOperator || symbol instanceof CalcSymbolPostOperator) return 0.0;
+
+		return Double.NaN;
+	}
+
 	/**
 	 * Berechnet den bereits geparsten Ausdruck auf Basis der bekannten Variablennamen und der hier angegebenen Werte.
 	 * @param statistics	Statistikobjekt dem die Daten fr die Simulationsdaten-Funktionen entnommen werden sollen
@@ -531,6 +718,10 @@ public class ExpressionCalc extends CalcSystem {
 
 	@Override
 	public int parse(final String text) {
+		calcCount=0;
+		compileRequest=null;
+		compiled=null;
+
 		if (text==null || text.isEmpty()) return 0;
 
 		if (text.indexOf('$')<0 && text.indexOf('')<0) return super.parse(text);
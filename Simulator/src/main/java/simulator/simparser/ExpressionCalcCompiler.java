@@ -0,0 +1,610 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator.simparser;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.math3.util.FastMath;
+
+import parser.CalcSystem;
+import parser.MathCalcError;
+import parser.coresymbols.CalcSymbol;
+import parser.coresymbols.CalcSymbolConst;
+import parser.coresymbols.CalcSymbolSub;
+import parser.coresymbols.CalcSymbolVariable;
+import parser.symbols.CalcSymbolMiddleOperatorDivide;
+import parser.symbols.CalcSymbolMiddleOperatorMinus;
+import parser.symbols.CalcSymbolMiddleOperatorMultiply;
+import parser.symbols.CalcSymbolMiddleOperatorPlus;
+import parser.symbols.CalcSymbolMiddleOperatorPower;
+import parser.symbols.CalcSymbolPostOperatorPower2;
+import parser.symbols.CalcSymbolPostOperatorPower3;
+import parser.symbols.CalcSymbolPreOperatorAbs;
+import parser.symbols.CalcSymbolPreOperatorCeil;
+import parser.symbols.CalcSymbolPreOperatorExp;
+import parser.symbols.CalcSymbolPreOperatorFloor;
+import parser.symbols.CalcSymbolPreOperatorLog;
+import parser.symbols.CalcSymbolPreOperatorMax;
+import parser.symbols.CalcSymbolPreOperatorMin;
+import parser.symbols.CalcSymbolPreOperatorRound;
+import parser.symbols.CalcSymbolPreOperatorSqrt;
+import scripting.java.ClassLoaderCache;
+import scripting.java.DynamicFactory;
+import scripting.java.DynamicStatus;
+
+/**
+ * bersetzt den Symbolbaum eines {@link ExpressionCalc}-Objektes in eine Java-Klasse,
+ * die ber den auch fr Java-Skripte verwendeten internen Kompiler (siehe {@link ClassLoaderCache})
+ * in Bytecode bersetzt wird.<br>
+ * Symbole, fr die kein Code-Generator existiert (z.B. Simulationsdaten-Funktionen oder Zufallszahlen),
+ * werden im generierten Code weiterhin ber {@link CalcSymbol#getValue(CalcSystem)} interpretiert.
+ * Die Ergebnisse des bersetzten Ausdrucks sind identisch mit denen des Interpreters.<br>
+ * Die bersetzung erfolgt asynchron in einem Hintergrund-Thread; gleiche Ausdrcke werden nur einmal bersetzt.<br>
+ * Der Cache der bersetzten Ausdrcke ist auf {@link #MAX_CACHE_SIZE} Eintrge begrenzt (die am lngsten
+ * nicht mehr angeforderten Eintrge werden verworfen). Da die generierten Klassen in dem gemeinsamen
+ * Klassenlader verbleiben, werden insgesamt hchstens {@link #MAX_COMPILED_CLASSES} Klassen erzeugt;
+ * danach werden alle weiteren Ausdrcke interpretiert.
+ * @author Alexander Herzog
+ * @see ExpressionCalc
+ */
+public final class ExpressionCalcCompiler {
+	/**
+	 * Maximale Anzahl an Eintrgen in {@link #cache}
+	 */
+	private static final int MAX_CACHE_SIZE=512;
+
+	/**
+	 * Maximale Anzahl an insgesamt erzeugten Klassen
+	 * @see #classCounter
+	 */
+	private static final int MAX_COMPILED_CLASSES=8_192;
+
+	/**
+	 * Bereits bersetzte oder in bersetzung befindliche Ausdrcke
+	 * (Schlssel ist der generierte Java-Ausdruck; Reihenfolge gem letztem Zugriff)<br>
+	 * Zugriffe mssen ber das Map-Objekt synchronisiert werden.
+	 * @see #MAX_CACHE_SIZE
+	 */
+	private static final Map<String,CompletableFuture<CompiledExpression>> cache=new LinkedHashMap<String,CompletableFuture<CompiledExpression>>(16,0.75f,true) {
+		/**
+		 * Serialisierungs-ID der Klasse
+		 * @see java.io.Serializable
+		 */
+		private static final long serialVersionUID=-4388394446385004227L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String,CompletableFuture<CompiledExpression>> eldest) {
+			return size()>MAX_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Zhler fr die Vergabe eindeutiger Klassennamen
+	 */
+	private static final AtomicInteger classCounter=new AtomicInteger();
+
+	/**
+	 * Thread, in dem die bersetzungen ausgefhrt werden
+	 */
+	private static final ExecutorService executor=new ThreadPoolExecutor(0,1,5000,TimeUnit.MILLISECONDS,new LinkedBlockingQueue<>(),(ThreadFactory)r->{
+		final Thread thread=new Thread(r,"Expression Compiler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Diese Klasse stellt nur statische Methoden zur Verfgung und kann nicht instanziert werden.
+	 */
+	private ExpressionCalcCompiler() {
+	}
+
+	/**
+	 * Fordert die bersetzung eines Symbolbaums an.
+	 * @param root	Wurzel des Symbolbaums
+	 * @param extraValueIndex	Index der Variable, deren Wert aus {@link CalcSystem#getExtraValue()} gelesen werden soll (-1 fr keine solche Variable)
+	 * @return	Objekt ber das der Stand der bersetzung abgefragt werden kann oder <code>null</code>, wenn sich eine bersetzung nicht lohnt oder nicht mglich ist
+	 */
+	public static Request compile(final CalcSymbol root, final int extraValueIndex) {
+		if (root==null) return null;
+
+		final List<CalcSymbol> fallback=new ArrayList<>();
+		final StringBuilder code=new StringBuilder();
+		generate(root,extraValueIndex,code,fallback);
+
+		/* Es gibt nichts, was bersetzt werden knnte. */
+		if (fallback.size()==1 && fallback.get(0)==root) return null;
+
+		if (!DynamicFactory.hasCompiler()) return null;
+
+		final String expression=code.toString();
+		final CompletableFuture<CompiledExpression> future;
+		synchronized(cache) {
+			CompletableFuture<CompiledExpression> cached=cache.get(expression);
+			if (cached==null) {
+				if (classCounter.get()>=MAX_COMPILED_CLASSES) return null;
+				cached=CompletableFuture.supplyAsync(()->load(expression),executor);
+				cache.put(expression,cached);
+			}
+			future=cached;
+		}
+		return new Request(future,fallback.toArray(new CalcSymbol[0]));
+	}
+
+	/**
+	 * bersetzt einen generierten Java-Ausdruck und ldt die zugehrige Klasse.
+	 * @param expression	Java-Ausdruck
+	 * @return	Instanz der geladenen Klasse oder <code>null</code>, wenn die bersetzung fehlgeschlagen ist
+	 */
+	private static CompiledExpression load(final String expression) {
+		final String className="ExpressionCalcCompiled"+classCounter.incrementAndGet();
+		final StringBuilder text=new StringBuilder();
+		text.append("public class "+className+" extends "+CompiledExpression.class.getCanonicalName()+" {\n");
+		text.append("  @Override\n");
+		text.append("  public double calc(final double[] v, final parser.CalcSystem c, final parser.coresymbols.CalcSymbol[] f) throws parser.MathCalcError {\n");
+		text.append("    return "+expression+";\n");
+		text.append("  }\n");
+		text.append("}\n");
+
+		final ClassLoaderCache.ExtendedStatus status=ClassLoaderCache.process(null,className,text.toString());
+		if (status.status!=DynamicStatus.OK) return null;
+		try {
+			return (CompiledExpression)status.loadedClass.getDeclaredConstructor().newInstance();
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException | ClassCastException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Erzeugt den Java-Code fr ein Symbol.<br>
+	 * Die Reihenfolge der Auswertung der Parameter entspricht der des Interpreters.
+	 * @param symbol	Symbol
+	 * @param extraValueIndex	Index der Variable, deren Wert aus {@link CalcSystem#getExtraValue()} gelesen werden soll (-1 fr keine solche Variable)
+	 * @param code	Ausgabe fr den Java-Code
+	 * @param fallback	Liste der Symbole, die interpretiert werden mssen (wird ergnzt)
+	 */
+	private static void generate(final CalcSymbol symbol, final int extraValueIndex, final StringBuilder code, final List<CalcSymbol> fallback) {
+		if (symbol instanceof CalcSymbolConst) {
+			final double value=((CalcSymbolConst)symbol).getValue();
+			code.append("Double.longBitsToDouble("+Double.doubleToRawLongBits(value)+"L)");
+			return;
+		}
+
+		if (symbol instanceof CalcSymbolVariable) {
+			final int index=((CalcSymbolVariable)symbol).getVariableIndex();
+			if (index>=0) {
+				/* Wie im Interpreter hat ein im Werte-Array vorhandener Eintrag Vorrang vor dem zustzlichen Wert */
+				code.append((index==extraValueIndex)?("(("+index+"<v.length)?v["+index+"]:c.getExtraValue())"):("v["+index+"]"));
+				return;
+			}
+		}
+
+		if (symbol instanceof CalcSymbolSub) {
+			final CalcSymbol[] sub=((CalcSymbolSub)symbol).getData();
+			if (sub!=null && sub.length==1 && sub[0]!=null) {
+				generate(sub[0],extraValueIndex,code,fallback);
+				return;
+			}
+		}
+
+		final CalcSymbol[] parameters=getParameters(symbol);
+		if (parameters!=null) {
+			final String function=getFunction(symbol,parameters.length);
+			if (function!=null) {
+				generateCall(function,parameters,extraValueIndex,code,fallback);
+				return;
+			}
+		}
+
+		/* Kein Code-Generator vorhanden: Symbol interpretieren */
+		code.append("f["+fallback.size()+"].getValue(c)");
+		fallback.add(symbol);
+	}
+
+	/**
+	 * Erzeugt den Java-Code fr den Aufruf einer Hilfsmethode aus {@link CompiledExpression}.<br>
+	 * Methoden mit beliebig vielen Parametern (Minimum und Maximum) werden als verkettete Aufrufe
+	 * mit jeweils zwei Parametern dargestellt.
+	 * @param function	Name der Hilfsmethode
+	 * @param parameters	Parameter
+	 * @param extraValueIndex	Index der Variable, deren Wert aus {@link CalcSystem#getExtraValue()} gelesen werden soll (-1 fr keine solche Variable)
+	 * @param code	Ausgabe fr den Java-Code
+	 * @param fallback	Liste der Symbole, die interpretiert werden mssen (wird ergnzt)
+	 */
+	private static void generateCall(final String function, final CalcSymbol[] parameters, final int extraValueIndex, final StringBuilder code, final List<CalcSymbol> fallback) {
+		if (parameters.length<=2) {
+			code.append(function+"(");
+			for (int i=0;i<parameters.length;i++) {
+				if (i>0) code.append(",");
+				generate(parameters[i],extraValueIndex,code,fallback);
+			}
+			code.append(")");
+			return;
+		}
+
+		for (int i=1;i<parameters.length;i++) code.append(function+"(");
+		generate(parameters[0],extraValueIndex,code,fallback);
+		for (int i=1;i<parameters.length;i++) {
+			code.append(",");
+			generate(parameters[i],extraValueIndex,code,fallback);
+			code.append(")");
+		}
+	}
+
+	/**
+	 * Liefert die Parameter eines Operators oder einer Funktion.
+	 * @param symbol	Symbol
+	 * @return	Parameter oder <code>null</code>, wenn es sich nicht um ein Symbol mit vollstndigen Parametern handelt
+	 */
+	private static CalcSymbol[] getParameters(final CalcSymbol symbol) {
+		final CalcSymbol[] parameters=symbol.getParameterSymbols();
+		if (parameters==null) return null;
+		for (CalcSymbol parameter: parameters) if (parameter==null) return null;
+		return parameters;
+	}
+
+	/**
+	 * Liefert den Namen der Hilfsmethode aus {@link CompiledExpression}, die dieselbe Berechnung wie das Symbol durchfhrt.
+	 * @param symbol	Symbol
+	 * @param parameterCount	Anzahl an Parametern
+	 * @return	Name der Hilfsmethode oder <code>null</code>, wenn es keinen Code-Generator fr das Symbol gibt
+	 */
+	private static String getFunction(final CalcSymbol symbol, final int parameterCount) {
+		if (parameterCount==2) {
+			if (symbol instanceof CalcSymbolMiddleOperatorPlus) return "plus";
+			if (symbol instanceof CalcSymbolMiddleOperatorMinus) return "minus";
+			if (symbol instanceof CalcSymbolMiddleOperatorMultiply) return "multiply";
+			if (symbol instanceof CalcSymbolMiddleOperatorDivide) return "divide";
+			if (symbol instanceof CalcSymbolMiddleOperatorPower) return "power";
+		}
+
+		if (parameterCount==1) {
+			if (symbol instanceof CalcSymbolPostOperatorPower2) return "power2";
+			if (symbol instanceof CalcSymbolPostOperatorPower3) return "power3";
+			if (symbol instanceof CalcSymbolPreOperatorAbs) return "abs";
+			if (symbol instanceof CalcSymbolPreOperatorSqrt) return "sqrt";
+			if (symbol instanceof CalcSymbolPreOperatorExp) return "exp";
+			if (symbol instanceof CalcSymbolPreOperatorFloor) return "floor";
+			if (symbol instanceof CalcSymbolPreOperatorCeil) return "ceil";
+			if (symbol instanceof CalcSymbolPreOperatorRound) return "round";
+		}
+
+		if (parameterCount==1 || parameterCount==2) {
+			if (symbol instanceof CalcSymbolPreOperatorLog) return "log";
+		}
+
+		if (parameterCount>=1) {
+			if (symbol instanceof CalcSymbolPreOperatorMin) return "min";
+			if (symbol instanceof CalcSymbolPreOperatorMax) return "max";
+		}
+
+		return null;
+	}
+
+	/**
+	 * Stand der bersetzung eines Ausdrucks
+	 * @see ExpressionCalcCompiler#compile(CalcSymbol, int)
+	 */
+	public static final class Request {
+		/** bersetzung (luft ggf. noch) */
+		private final CompletableFuture<CompiledExpression> future;
+		/** Symbole, die auch im bersetzten Ausdruck interpretiert werden mssen */
+		private final CalcSymbol[] fallback;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param future	bersetzung (luft ggf. noch)
+		 * @param fallback	Symbole, die auch im bersetzten Ausdruck interpretiert werden mssen
+		 */
+		private Request(final CompletableFuture<CompiledExpression> future, final CalcSymbol[] fallback) {
+			this.future=future;
+			this.fallback=fallback;
+		}
+
+		/**
+		 * Gibt an, ob die bersetzung abgeschlossen ist (erfolgreich oder nicht).
+		 * @return	Liefert <code>true</code>, wenn die bersetzung abgeschlossen ist
+		 */
+		public boolean isDone() {
+			return future.isDone();
+		}
+
+		/**
+		 * Liefert den bersetzten Ausdruck.
+		 * @return	bersetzter Ausdruck oder <code>null</code>, wenn die bersetzung fehlgeschlagen oder noch nicht abgeschlossen ist
+		 */
+		public Compiled get() {
+			final CompiledExpression expression=future.getNow(null);
+			if (expression==null) return null;
+			return new Compiled(expression,fallback);
+		}
+	}
+
+	/**
+	 * bersetzter Ausdruck inkl. der zu interpretierenden Symbole des jeweiligen {@link ExpressionCalc}-Objektes
+	 * @see Request#get()
+	 */
+	public static final class Compiled {
+		/** bersetzter Ausdruck (wird von allen {@link ExpressionCalc}-Objekten mit demselben Ausdruck gemeinsam genutzt) */
+		private final CompiledExpression expression;
+		/** Zu interpretierende Symbole */
+		private final CalcSymbol[] fallback;
+
+		/**
+		 * Konstruktor der Klasse
+		 * @param expression	bersetzter Ausdruck
+		 * @param fallback	Zu interpretierende Symbole
+		 */
+		private Compiled(final CompiledExpression expression, final CalcSymbol[] fallback) {
+			this.expression=expression;
+			this.fallback=fallback;
+		}
+
+		/**
+		 * Berechnet den Ausdruck.
+		 * @param values	Werte der Variablen
+		 * @param calc	Rechensystem (wird an die zu interpretierenden Symbole weitergereicht)
+		 * @return	Ergebnis der Berechnung
+		 * @throws MathCalcError	Fehler whrend der Berechnung
+		 */
+		public double calc(final double[] values, final CalcSystem calc) throws MathCalcError {
+			try {
+				return expression.calc(values,calc,fallback);
+			} catch (MathCalcError e) {
+				throw e;
+			} catch (RuntimeException e) {
+				throw new MathCalcError(e);
+			}
+		}
+	}
+
+	/**
+	 * Basisklasse fr die generierten Klassen<br>
+	 * Die Hilfsmethoden fhren exakt dieselben Berechnungen wie die jeweiligen Symbole durch.
+	 */
+	public abstract static class CompiledExpression {
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public CompiledExpression() {
+			/*
+			 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+			 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+			 */
+		}
+
+		/**
+		 * Berechnet den Ausdruck.
+		 * @param v	Werte der Variablen
+		 * @param c	Rechensystem (wird an die zu interpretierenden Symbole weitergereicht)
+		 * @param f	Zu interpretierende Symbole
+		 * @return	Ergebnis der Berechnung
+		 * @throws MathCalcError	Fehler whrend der Berechnung
+		 */
+		public abstract double calc(final double[] v, final CalcSystem c, final CalcSymbol[] f) throws MathCalcError;
+
+		/**
+		 * Erstellt ein {@link MathCalcError}-Objekt, welches per <code>throw</code> zurckgegeben werden kann.
+		 * @return	{@link MathCalcError}-Objekt
+		 */
+		protected final MathCalcError error() {
+			return new MathCalcError(this);
+		}
+
+		/**
+		 * Addition (siehe {@link CalcSymbolMiddleOperatorPlus})
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 * @return	Ergebnis
+		 */
+		protected final double plus(final double left, final double right) {
+			return left+right;
+		}
+
+		/**
+		 * Subtraktion (siehe {@link CalcSymbolMiddleOperatorMinus})
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 * @return	Ergebnis
+		 */
+		protected final double minus(final double left, final double right) {
+			return left-right;
+		}
+
+		/**
+		 * Multiplikation (siehe {@link CalcSymbolMiddleOperatorMultiply})
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 * @return	Ergebnis
+		 */
+		protected final double multiply(final double left, final double right) {
+			return left*right;
+		}
+
+		/**
+		 * Division (siehe {@link CalcSymbolMiddleOperatorDivide})
+		 * @param left	Linker Operand
+		 * @param right	Rechter Operand
+		 * @return	Ergebnis
+		 * @throws MathCalcError	Division durch 0
+		 */
+		protected final double divide(final double left, final double right) throws MathCalcError {
+			if (right==0.0) throw error();
+			return left/right;
+		}
+
+		/**
+		 * Potenz (siehe {@link CalcSymbolMiddleOperatorPower})
+		 * @param left	Basis
+		 * @param right	Exponent
+		 * @return	Ergebnis
+		 * @throws MathCalcError	Negativer Exponent
+		 */
+		protected final double power(final double left, final double right) throws MathCalcError {
+			if (right<0) throw error();
+			return Math.pow(left,right);
+		}
+
+		/**
+		 * Quadrat (siehe {@link CalcSymbolPostOperatorPower2})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double power2(final double parameter) {
+			return parameter*parameter;
+		}
+
+		/**
+		 * Dritte Potenz (siehe {@link CalcSymbolPostOperatorPower3})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double power3(final double parameter) {
+			return parameter*parameter*parameter;
+		}
+
+		/**
+		 * Betrag (siehe {@link CalcSymbolPreOperatorAbs})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double abs(final double parameter) {
+			return Math.abs(parameter);
+		}
+
+		/**
+		 * Wurzel (siehe {@link CalcSymbolPreOperatorSqrt})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 * @throws MathCalcError	Negativer Parameter
+		 */
+		protected final double sqrt(final double parameter) throws MathCalcError {
+			if (parameter<0) throw error();
+			return Math.sqrt(parameter);
+		}
+
+		/**
+		 * Exponentialfunktion (siehe {@link CalcSymbolPreOperatorExp})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double exp(final double parameter) {
+			return FastMath.exp(parameter);
+		}
+
+		/**
+		 * Natrlicher Logarithmus (siehe {@link CalcSymbolPreOperatorLog})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 * @throws MathCalcError	Parameter kleiner oder gleich 0
+		 */
+		protected final double log(final double parameter) throws MathCalcError {
+			if (parameter<=0) throw error();
+			return Math.log(parameter);
+		}
+
+		/**
+		 * Logarithmus zu einer Basis (siehe {@link CalcSymbolPreOperatorLog})
+		 * @param parameter	Parameter
+		 * @param base	Basis
+		 * @return	Ergebnis
+		 * @throws MathCalcError	Parameter oder Basis kleiner oder gleich 0
+		 */
+		protected final double log(final double parameter, final double base) throws MathCalcError {
+			if (parameter<=0) throw error();
+			if (base<=0) throw error();
+			return Math.log(parameter)/Math.log(base);
+		}
+
+		/**
+		 * Abrunden (siehe {@link CalcSymbolPreOperatorFloor})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double floor(final double parameter) {
+			return Math.floor(parameter);
+		}
+
+		/**
+		 * Aufrunden (siehe {@link CalcSymbolPreOperatorCeil})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double ceil(final double parameter) {
+			return Math.ceil(parameter);
+		}
+
+		/**
+		 * Runden (siehe {@link CalcSymbolPreOperatorRound})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double round(final double parameter) {
+			return Math.round(parameter);
+		}
+
+		/**
+		 * Minimum (siehe {@link CalcSymbolPreOperatorMin})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double min(final double parameter) {
+			return parameter;
+		}
+
+		/**
+		 * Minimum von zwei Werten (siehe {@link CalcSymbolPreOperatorMin})<br>
+		 * Anders als bei {@link Math#min(double, double)} wird ein NaN-Wert im zweiten Parameter ignoriert.
+		 * @param a	Erster Parameter
+		 * @param b	Zweiter Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double min(final double a, final double b) {
+			return (b<a)?b:a;
+		}
+
+		/**
+		 * Maximum (siehe {@link CalcSymbolPreOperatorMax})
+		 * @param parameter	Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double max(final double parameter) {
+			return parameter;
+		}
+
+		/**
+		 * Maximum von zwei Werten (siehe {@link CalcSymbolPreOperatorMax})<br>
+		 * Anders als bei {@link Math#max(double, double)} wird ein NaN-Wert im zweiten Parameter ignoriert.
+		 * @param a	Erster Parameter
+		 * @param b	Zweiter Parameter
+		 * @return	Ergebnis
+		 */
+		protected final double max(final double a, final double b) {
+			return (b>a)?b:a;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulator.simparser;
+
+import java.util.BitSet;
+
+import parser.CalcDependencies;
+
+/**
+ * Erfasst, von welchen Variablen und Simulationsdaten das Ergebnis eines Rechenausdrucks abhngt.<br>
+ * Neben den Variablen werden die Anzahl an Kunden an bzw. in der Warteschlange an einzelnen Stationen
+ * sowie die Belegung, die Anzahl und die Ausflle einzelner Ressourcen erfasst.
+ * Wird ein solches Objekt an {@link ExpressionCalc#getDependencies(CalcDependencies)} bergeben,
+ * so knnen die entsprechenden Rechensymbole ihre Abhngigkeiten eintragen
+ * (und liefern dann <code>true</code> statt <code>false</code>).
+ * @author Alexander Herzog
+ * @see ExpressionCalc#getDependencies(CalcDependencies)
+ * @see ExpressionMultiEval#getDependencies(CalcDependencies)
+ */
+public class ExpressionDependencies extends CalcDependencies {
+	/**
+	 * IDs der Stationen, von deren Anzahl an Kunden (<code>WIP(id)</code>) das Ergebnis abhngt<br>
+	 * (Bei Kundenquellen und Zuweisungen bezieht sich der Wert auf die Anzahl an Kunden des jeweiligen Typs im System.)
+	 */
+	public final BitSet stationWIP;
+
+	/**
+	 * IDs der Stationen, von deren Anzahl an wartenden Kunden (<code>NQ(id)</code>) das Ergebnis abhngt<br>
+	 * (Bei Kundenquellen und Zuweisungen bezieht sich der Wert auf die Anzahl an wartenden Kunden des jeweiligen Typs im System.)
+	 */
+	public final BitSet stationNQ;
+
+	/**
+	 * 0-basierende Indices der Ressourcen, von deren Anzahl an belegten Bedienern das Ergebnis abhngt
+	 */
+	public final BitSet resourceUsed;
+
+	/**
+	 * 0-basierende Indices der Ressourcen, von deren Anzahl an vorhandenen Bedienern das Ergebnis abhngt
+	 */
+	public final BitSet resourceCount;
+
+	/**
+	 * 0-basierende Indices der Ressourcen, von deren Anzahl an Bedienern in Ausfallzeit das Ergebnis abhngt
+	 */
+	public final BitSet resourceDown;
+
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public ExpressionDependencies() {
+		stationWIP=new BitSet();
+		stationNQ=new BitSet();
+		resourceUsed=new BitSet();
+		resourceCount=new BitSet();
+		resourceDown=new BitSet();
+	}
+
+}
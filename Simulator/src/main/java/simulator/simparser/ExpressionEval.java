@@ -15,6 +15,7 @@
  */
 package simulator.simparser;
 
+import parser.CalcDependencies;
 import parser.MathCalcError;
 import simulator.runmodel.RunDataClient;
 import simulator.runmodel.SimulationData;
@@ -176,6 +177,16 @@ public class ExpressionEval {
 		return condition;
 	}
 
+	/**
+	 * Ermittelt alle Daten (Variablen und ggf. Simulationsdaten), von denen das Ergebnis des Vergleichs abhngt.
+	 * @param dependencies	Abhngigkeitsobjekt, das ergnzt werden soll
+	 * @return	Liefert <code>true</code>, wenn das Ergebnis ausschlielich von den eingetragenen Daten abhngt (und nicht z.B. von Zufallszahlen)
+	 * @see ExpressionCalc#getDependencies(CalcDependencies)
+	 */
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		return calcLeft.getDependencies(dependencies) && calcRight.getDependencies(dependencies);
+	}
+
 	/**
 	 * Prft direkt, ob ein als Zeichenkette angegebener Ausdruck korrekt interpretierbar ist.
 	 * @param condition	Zu prferender Ausdruck
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import language.Language;
+import parser.CalcDependencies;
 import simulator.runmodel.RunDataClient;
 import simulator.runmodel.SimulationData;
 
@@ -352,6 +353,48 @@ public class ExpressionMultiEval {
 		return evalTree(expressionTree,variableValues,simData,client);
 	}
 
+	/**
+	 * Ermittelt alle Daten, von denen das Ergebnis einer Baumstruktur abhngt.
+	 * @param tree	Baumstruktur die die einzelnen Teil-Vergleiche inkl. ihrer Verknpfungen enthlt
+	 * @param dependencies	Abhngigkeitsobjekt, das ergnzt werden soll
+	 * @return	Liefert <code>true</code>, wenn das Ergebnis ausschlielich von den eingetragenen Daten abhngt
+	 * @see #getDependencies(CalcDependencies)
+	 */
+	private boolean getDependencies(final Object[] tree, final CalcDependencies dependencies) {
+		for (Object obj: tree) {
+			if (obj instanceof String) continue;
+			if (obj instanceof ExpressionEval) {
+				if (!((ExpressionEval)obj).getDependencies(dependencies)) return false;
+				continue;
+			}
+			if (obj instanceof ExpressionMultiEval) {
+				if (!((ExpressionMultiEval)obj).getDependencies(dependencies)) return false;
+				continue;
+			}
+			if (obj instanceof List) {
+				if (!getDependencies(((List<?>)obj).toArray(),dependencies)) return false;
+				continue;
+			}
+			if (obj instanceof Object[]) {
+				if (!getDependencies((Object[])obj,dependencies)) return false;
+				continue;
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Ermittelt alle Daten (Variablen und ggf. Simulationsdaten), von denen das Ergebnis der Bedingung abhngt.
+	 * @param dependencies	Abhngigkeitsobjekt, das ergnzt werden soll
+	 * @return	Liefert <code>true</code>, wenn das Ergebnis ausschlielich von den eingetragenen Daten abhngt (und nicht z.B. von Zufallszahlen)
+	 * @see ExpressionCalc#getDependencies(CalcDependencies)
+	 */
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (expressionTree==null) return false;
+		return getDependencies(expressionTree,dependencies);
+	}
+
 	/**
 	 * Prft direkt, ob ein als Zeichenkette angegebener Ausdruck korrekt interpretierbar ist.
 	 * @param condition	Zu prfender Ausdruck
@@ -17,6 +17,8 @@ package simulator.simparser.coresymbols;
 
 import org.apache.commons.math3.util.FastMath;
 
+import parser.CalcDependencies;
+import parser.coresymbols.CalcSymbolConst;
 import parser.coresymbols.CalcSymbolPreOperator;
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
@@ -173,4 +175,16 @@ public abstract class CalcSymbolSimData extends CalcSymbolPreOperator {
 	protected boolean isDeterministic() {
 		return false;
 	}
+
+	/**
+	 * Liefert den Wert des Parameters, wenn das Symbol genau einen konstanten Parameter besitzt.<br>
+	 * (Wird verwendet, um bei {@link #getDependencies(CalcDependencies)} die betroffene Station oder Ressource zu bestimmen.)
+	 * @return	Gerundeter Wert des Parameters oder -1, wenn es nicht genau einen konstanten, nicht-negativen Parameter gibt
+	 */
+	protected final int getSingleConstParameter() {
+		if (symbols==null || symbols.length!=1 || !(symbols[0] instanceof CalcSymbolConst)) return -1;
+		final double value=((CalcSymbolConst)symbols[0]).getValue();
+		if (!(value>=0) || value>Integer.MAX_VALUE) return -1;
+		return (int)FastMath.round(value);
+	}
 }
\ No newline at end of file
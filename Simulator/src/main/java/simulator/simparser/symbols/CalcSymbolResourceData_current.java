@@ -15,6 +15,8 @@
  */
 package simulator.simparser.symbols;
 
+import parser.CalcDependencies;
+import simulator.simparser.ExpressionDependencies;
 import simulator.simparser.coresymbols.CalcSymbolResourceData;
 import statistics.StatisticsTimePerformanceIndicator;
 
@@ -44,6 +46,15 @@ public class CalcSymbolResourceData_current extends CalcSymbolResourceData {
 		return names;
 	}
 
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (!(dependencies instanceof ExpressionDependencies)) return false;
+		final int nr=getSingleConstParameter();
+		if (nr<1) return false;
+		((ExpressionDependencies)dependencies).resourceUsed.set(nr-1);
+		return true;
+	}
+
 	@Override
 	protected boolean hasAllResourceData() {return true;}
 
@@ -17,8 +17,10 @@ package simulator.simparser.symbols;
 
 import org.apache.commons.math3.util.FastMath;
 
+import parser.CalcDependencies;
 import parser.MathCalcError;
 import simulator.runmodel.SimulationData;
+import simulator.simparser.ExpressionDependencies;
 import simulator.simparser.coresymbols.CalcSymbolSimData;
 
 /**
@@ -50,6 +52,15 @@ public class CalcSymbolResourceDown extends CalcSymbolSimData {
 		return names;
 	}
 
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (!(dependencies instanceof ExpressionDependencies)) return false;
+		final int nr=getSingleConstParameter();
+		if (nr<1) return false;
+		((ExpressionDependencies)dependencies).resourceDown.set(nr-1);
+		return true;
+	}
+
 	@Override
 	protected double calc(double[] parameters) throws MathCalcError {
 		final SimulationData simData=getSimData();
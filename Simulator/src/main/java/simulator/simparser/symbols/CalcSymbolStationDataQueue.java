@@ -17,6 +17,7 @@ package simulator.simparser.symbols;
 
 import org.apache.commons.math3.util.FastMath;
 
+import parser.CalcDependencies;
 import parser.MathCalcError;
 import simulator.coreelements.RunElement;
 import simulator.coreelements.RunElementData;
@@ -24,6 +25,7 @@ import simulator.coreelements.RunElementMultiQueueData;
 import simulator.elements.RunElementAssign;
 import simulator.elements.RunElementSource;
 import simulator.runmodel.SimulationData;
+import simulator.simparser.ExpressionDependencies;
 import simulator.simparser.coresymbols.CalcSymbolSimData;
 
 /**
@@ -59,6 +61,15 @@ public class CalcSymbolStationDataQueue extends CalcSymbolSimData {
 		return names;
 	}
 
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (!(dependencies instanceof ExpressionDependencies)) return false;
+		final int id=getSingleConstParameter();
+		if (id<0) return false;
+		((ExpressionDependencies)dependencies).stationNQ.set(id);
+		return true;
+	}
+
 	/**
 	 * Kundentyp beim letzten Aufruf von {@link #calc(double[])} oder {@link #calcOrDefault(double[], double)}
 	 * @see #calc(double[])
@@ -15,8 +15,10 @@
  */
 package simulator.simparser.symbols;
 
+import parser.CalcDependencies;
 import simulator.coreelements.RunElementData;
 import simulator.runmodel.SimulationData;
+import simulator.simparser.ExpressionDependencies;
 import simulator.simparser.coresymbols.CalcSymbolStationData;
 
 /**
@@ -49,6 +51,15 @@ public class CalcSymbolStationDataWIP extends CalcSymbolStationData {
 		return names;
 	}
 
+	@Override
+	public boolean getDependencies(final CalcDependencies dependencies) {
+		if (!(dependencies instanceof ExpressionDependencies)) return false;
+		final int id=getSingleConstParameter();
+		if (id<0) return false;
+		((ExpressionDependencies)dependencies).stationWIP.set(id);
+		return true;
+	}
+
 	@Override
 	protected boolean hasAllData() {
 		return true;
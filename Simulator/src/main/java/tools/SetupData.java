@@ -39,6 +39,7 @@ import language.Language;
 import language.LanguageStaticLoader;
 import language.Messages_Java11;
 import mathtools.NumberTools;
+import mathtools.distribution.tools.DistributionSamplerCache;
 import scripting.java.SimDynamicSetup;
 import simulator.editmodel.EditModel;
 import simulator.editmodel.EditModelProcessor;
@@ -532,6 +533,116 @@ public class SetupData extends SetupBase {
 	 */
 	public boolean useDynamicThreadBalance;
 
+	/**
+	 * Art der Verteilung der Wiederholungen auf die Simulationsthreads
+	 * @see SetupData#repeatScheduling
+	 */
+	public enum RepeatSchedulingMode {
+		/** Feste, vorab bestimmte Blcke pro Thread */
+		STATIC("Static"),
+		/** Gemeinsamer Zhler, ber den sich die Threads jeweils die nchste Wiederholung holen */
+		SHARED("Shared"),
+		/** Feste Blcke, aus denen sich Threads, die bereits fertig sind, Wiederholungen der anderen Threads holen knnen (Vorgabe) */
+		WORK_STEALING("WorkStealing");
+
+		/** Name der Verteilungsart zum Speichern in der Konfiguration */
+		public final String name;
+
+		/**
+		 * Konstruktor des Enum
+		 * @param name	Name der Verteilungsart zum Speichern in der Konfiguration
+		 */
+		RepeatSchedulingMode(final String name) {
+			this.name=name;
+		}
+
+		/**
+		 * Liefert zu einem Namen das passende Verteilungsart-Enum.
+		 * @param name	Name (aus der Konfiguration geladen)
+		 * @return	Passendes Enum (oder Fallback-Wert)
+		 * @see #name
+		 */
+		public static RepeatSchedulingMode getByName(final String name) {
+			for (RepeatSchedulingMode mode: values()) if (mode.name.equalsIgnoreCase(name)) return mode;
+			return WORK_STEALING;
+		}
+	}
+
+	/**
+	 * Verteilung der Wiederholungen auf die Simulationsthreads
+	 */
+	public RepeatSchedulingMode repeatScheduling;
+
+	/**
+	 * Art der Ereignisverwaltung fr die Simulationsthreads
+	 * @see SetupData#eventManager
+	 */
+	public enum EventManagerMode {
+		/** Mehrere sortierte Arrays (Vorgabe) */
+		SORTED_ARRAY_LISTS("SortedArrayLists"),
+		/** Kalender-Warteschlange (gnstig bei sehr vielen gleichzeitig geplanten Ereignissen) */
+		CALENDAR_QUEUE("CalendarQueue"),
+		/** Heap mit Positionsangaben in den Ereignissen (gnstig bei sehr vielen gelschten Ereignissen, z.B. Warteabbrchen) */
+		INDEXED_HEAP("IndexedHeap");
+
+		/** Name der Ereignisverwaltung zum Speichern in der Konfiguration */
+		public final String name;
+
+		/**
+		 * Konstruktor des Enum
+		 * @param name	Name der Ereignisverwaltung zum Speichern in der Konfiguration
+		 */
+		EventManagerMode(final String name) {
+			this.name=name;
+		}
+
+		/**
+		 * Liefert zu einem Namen das passende Ereignisverwaltungs-Enum.
+		 * @param name	Name (aus der Konfiguration geladen)
+		 * @return	Passendes Enum (oder Fallback-Wert)
+		 * @see #name
+		 */
+		public static EventManagerMode getByName(final String name) {
+			for (EventManagerMode mode: values()) if (mode.name.equalsIgnoreCase(name)) return mode;
+			return SORTED_ARRAY_LISTS;
+		}
+	}
+
+	/**
+	 * Zu verwendende Ereignisverwaltung
+	 */
+	public EventManagerMode eventManager;
+
+	/**
+	 * Sollen die Hufigkeitsverteilungen der Statistik in den Simulationsthreads
+	 * in kompakten, logarithmisch-linearen Histogrammen erfasst werden?
+	 * (Spart bei Modellen mit vielen Stationen und Kundentypen sehr viel Speicher,
+	 * groe Werte werden dafr mit einer relativen Genauigkeit von 0,4% erfasst.)
+	 */
+	public boolean compactStatisticsDistributions;
+
+	/**
+	 * Anzahl an Intervallen in den vorab berechneten Tabellen der Umkehrfunktionen fr Verteilungen,
+	 * fr die keine direkte Erzeugung von Zufallszahlen mglich ist
+	 * (Werte &le;0 bedeuten, dass fr diese Verteilungen die exakte Umkehrfunktion verwendet wird)
+	 * @see #distributionSamplingAccuracy
+	 */
+	public int distributionSamplingTableSize;
+
+	/**
+	 * Maximal zulssige Abweichung in den Tabellen der Umkehrfunktionen
+	 * (bezogen auf die Breite des tabellierten Wertebereichs)
+	 * @see #distributionSamplingTableSize
+	 */
+	public double distributionSamplingAccuracy;
+
+	/**
+	 * Anzahl an Zufallszahlen, die in den Simulationsthreads pro Verteilung blockweise im Voraus erzeugt werden
+	 * (Werte &le;1 bedeuten, dass die Zufallszahlen einzeln erzeugt werden; bei gleichem Startwert des
+	 * Zufallszahlengenerators ndert sich durch die blockweise Erzeugung die Folge der Zufallszahlen)
+	 */
+	public int distributionRandomBufferSize;
+
 	/**
 	 * Laufzeitdaten der Stationen whrend der Animation anzeigen?
 	 */
@@ -829,6 +940,14 @@ public class SetupData extends SetupBase {
 	 */
 	public boolean serverUse;
 
+	/**
+	 * Weitere Simulationsserver, auf die eine Simulation zusammen mit dem lokalen Rechner verteilt werden soll.<br>
+	 * Durch Semikolons getrennte Eintrge der Form <code>Host:Port</code> oder <code>Host:Port:Passwort</code>.
+	 * Wird nur verwendet, wenn {@link #serverUse} aktiv ist.
+	 * @see net.calc.SimulationFarm
+	 */
+	public String serverFarm;
+
 	/**
 	 * Simulationsserver beim Start des Programmes starten.
 	 */
@@ -1485,6 +1604,12 @@ public class SetupData extends SetupBase {
 		useSlowModeAnimation=true;
 		useNUMAMode=true;
 		useDynamicThreadBalance=true;
+		repeatScheduling=RepeatSchedulingMode.WORK_STEALING;
+		eventManager=EventManagerMode.SORTED_ARRAY_LISTS;
+		compactStatisticsDistributions=false;
+		distributionSamplingTableSize=0;
+		distributionSamplingAccuracy=DistributionSamplerCache.DEFAULT_ACCURACY;
+		distributionRandomBufferSize=0;
 		showStationRunTimeData=true;
 		showSingleStepLogData=true;
 		animateResources=true;
@@ -1540,6 +1665,7 @@ public class SetupData extends SetupBase {
 		useAnimations=true;
 		serverData="localhost:8183";
 		serverUse=false;
+		serverFarm="";
 		simulationServerAutoStart=false;
 		simulationServerPort=8183;
 		simulationServerPasswort="";
@@ -2102,6 +2228,31 @@ public class SetupData extends SetupBase {
 				useNUMAMode=loadBoolean(e.getAttribute("NUMA"),false);
 				useDynamicThreadBalance=loadBoolean(e.getAttribute("Dynamic"),true);
 				useMultiCoreSimulationOnRepeatedSimulations=loadBoolean(e.getAttribute("SplitRepeatedRuns"),false);
+				repeatScheduling=RepeatSchedulingMode.getByName(e.getAttribute("RepeatScheduling"));
+				continue;
+			}
+
+			if (name.equals("eventmanager")) {
+				eventManager=EventManagerMode.getByName(e.getTextContent());
+				continue;
+			}
+
+			if (name.equals("compactstatisticsdistributions")) {
+				compactStatisticsDistributions=loadBoolean(e.getTextContent(),false);
+				continue;
+			}
+
+			if (name.equals("distributionsamplingtables")) {
+				final Long L=NumberTools.getNotNegativeLong(e.getTextContent());
+				if (L!=null && L<=1_000_000) distributionSamplingTableSize=L.intValue();
+				final Double D=NumberTools.getPositiveDouble(NumberTools.systemNumberToLocalNumber(e.getAttribute("Accuracy")));
+				if (D!=null && D<1) distributionSamplingAccuracy=D;
+				continue;
+			}
+
+			if (name.equals("distributionrandombuffer")) {
+				final Long L=NumberTools.getNotNegativeLong(e.getTextContent());
+				if (L!=null && L<=1_000_000) distributionRandomBufferSize=L.intValue();
 				continue;
 			}
 
@@ -2351,6 +2502,11 @@ public class SetupData extends SetupBase {
 				continue;
 			}
 
+			if (name.equals("networksimulationfarm")) {
+				serverFarm=e.getTextContent();
+				continue;
+			}
+
 			if (name.equals("networksimulationserver")) {
 				simulationServerAutoStart=loadBoolean(e.getAttribute("AutoStart"),false);
 				final Integer I=NumberTools.getNotNegativeInteger(e.getAttribute("Port"));
@@ -2902,13 +3058,35 @@ public class SetupData extends SetupBase {
 			node.setTextContent(autoUpdate.name);
 		}
 
-		if (!useMultiCoreSimulation || useMultiCoreSimulationMaxCount!=1024 || useNUMAMode || !useDynamicThreadBalance || useMultiCoreSimulationOnRepeatedSimulations) {
+		if (!useMultiCoreSimulation || useMultiCoreSimulationMaxCount!=1024 || useNUMAMode || !useDynamicThreadBalance || useMultiCoreSimulationOnRepeatedSimulations || repeatScheduling!=RepeatSchedulingMode.WORK_STEALING) {
 			root.appendChild(node=doc.createElement("AllCPUCoresSimulation"));
 			node.setTextContent(useMultiCoreSimulation?"1":"0");
 			if (useMultiCoreSimulationMaxCount!=1024) node.setAttribute("MaxCount",""+useMultiCoreSimulationMaxCount);
 			if (useNUMAMode) node.setAttribute("NUMA","1");
 			if (!useDynamicThreadBalance) node.setAttribute("Dynamic","0");
 			if (useMultiCoreSimulationOnRepeatedSimulations) node.setAttribute("SplitRepeatedRuns","1");
+			if (repeatScheduling!=RepeatSchedulingMode.WORK_STEALING) node.setAttribute("RepeatScheduling",repeatScheduling.name);
+		}
+
+		if (eventManager!=EventManagerMode.SORTED_ARRAY_LISTS) {
+			root.appendChild(node=doc.createElement("EventManager"));
+			node.setTextContent(eventManager.name);
+		}
+
+		if (compactStatisticsDistributions) {
+			root.appendChild(node=doc.createElement("CompactStatisticsDistributions"));
+			node.setTextContent("1");
+		}
+
+		if (distributionSamplingTableSize>0 || distributionSamplingAccuracy!=DistributionSamplerCache.DEFAULT_ACCURACY) {
+			root.appendChild(node=doc.createElement("DistributionSamplingTables"));
+			node.setTextContent(""+distributionSamplingTableSize);
+			if (distributionSamplingAccuracy!=DistributionSamplerCache.DEFAULT_ACCURACY) node.setAttribute("Accuracy",NumberTools.formatSystemNumber(distributionSamplingAccuracy));
+		}
+
+		if (distributionRandomBufferSize>0) {
+			root.appendChild(node=doc.createElement("DistributionRandomBuffer"));
+			node.setTextContent(""+distributionRandomBufferSize);
 		}
 
 		if (!useMultiCoreAnimation) {
@@ -3149,6 +3327,11 @@ public class SetupData extends SetupBase {
 			if (serverData!=null) node.setTextContent(serverData);
 		}
 
+		if (serverFarm!=null && !serverFarm.trim().isEmpty()) {
+			root.appendChild(node=doc.createElement("NetworkSimulationFarm"));
+			node.setTextContent(serverFarm);
+		}
+
 		if (simulationServerAutoStart || simulationServerPort!=8183 || (simulationServerPasswort!=null && !simulationServerPasswort.trim().isEmpty()) || simulationServerLimitThreadCount) {
 			root.appendChild(node=doc.createElement("NetworkSimulationServer"));
 			if (simulationServerAutoStart) node.setAttribute("AutoStart","1");
@@ -2399,7 +2399,9 @@ public class AnimationPanel extends JPanel implements RunModelAnimationViewer {
 	}
 
 	/**
-	 * Zeigt einen Statistikdialog zu den aktuell vorliegenden Statistikdaten an.
+	 * Zeigt einen Statistikdialog zu den aktuell vorliegenden Statistikdaten an.<br>
+	 * Luft die Simulation gerade, so wird kurz auf die erste Momentaufnahme gewartet.
+	 * @see Simulator#getIncompleteStatistic()
 	 */
 	private void showStatistics() {
 		final Statistics statistics=simulator.getIncompleteStatistic();
@@ -29,6 +29,7 @@ import mathtools.NumberTools;
 import mathtools.distribution.tools.DistributionTools;
 import simulator.editmodel.EditModel;
 import simulator.statistics.Statistics;
+import statistics.StatisticsQuery;
 import ui.modeleditor.ModelResource;
 import ui.optimizer.OptimizerSerialKernelBase;
 import ui.parameterseries.ParameterCompareRunner;
@@ -608,7 +609,9 @@ public class ModelChanger {
 	 * @return	Inhalt des Elements oder Fehlermeldung oder <code>null</code>
 	 */
 	public static String getStatisticValue(final Statistics statistics, final String xmlName) {
-		final Document xmlDoc=statistics.saveToXMLDocument();
+		/* Wenn mglich nur die Kenngre, auf die sich der Selektor bezieht, in xml-Form umwandeln */
+		final StatisticsQuery query=StatisticsQuery.compile(statistics,xmlName);
+		final Document xmlDoc=(query==null)?statistics.saveToXMLDocument():query.getXMLDocument(statistics);
 		if (xmlDoc==null) return Language.tr("Batch.Parameter.XMLTag.NotAbleToSave");
 
 		try (Scanner selectors=new Scanner(xmlName)) {
@@ -165,14 +165,15 @@ public class SetupDialogPageFileFormats extends SetupDialogPage {
 				Language.tr("SettingsDialog.Tabs.DefaultFormats.ZIP_XML"),
 				Language.tr("SettingsDialog.Tabs.DefaultFormats.TAR_XML"),
 				Language.tr("SettingsDialog.Tabs.DefaultFormats.CRYPT"),
-
+				Language.tr("SettingsDialog.Tabs.DefaultFormats.BinaryXML")
 		}));
 		defaultSaveFormatStatistics.setRenderer(new IconListCellRenderer(new Images[]{
 				Images.SETUP_PAGE_FILE_FORMATS_XML,
 				Images.SETUP_PAGE_FILE_FORMATS_JSON,
 				Images.SETUP_PAGE_FILE_FORMATS_ZIP_XML,
 				Images.SETUP_PAGE_FILE_FORMATS_TAR_XML,
-				Images.SETUP_PAGE_FILE_FORMATS_CRYPT
+				Images.SETUP_PAGE_FILE_FORMATS_CRYPT,
+				Images.SETUP_PAGE_FILE_FORMATS_XML
 		}));
 		label.setLabelFor(defaultSaveFormatStatistics);
 
@@ -344,6 +345,7 @@ public class SetupDialogPageFileFormats extends SetupDialogPage {
 		case ZIP_XML: defaultSaveFormatStatistics.setSelectedIndex(2); break;
 		case CRYPT_XML: defaultSaveFormatStatistics.setSelectedIndex(3); break;
 		case TAR_XML: defaultSaveFormatStatistics.setSelectedIndex(4); break;
+		case BINARY_XML: defaultSaveFormatStatistics.setSelectedIndex(5); break;
 		default: defaultSaveFormatStatistics.setSelectedIndex(0); break;
 		}
 		switch (setup.defaultSaveFormatParameterSeries) {
@@ -405,6 +407,7 @@ public class SetupDialogPageFileFormats extends SetupDialogPage {
 		case 2: setup.defaultSaveFormatStatistics=XMLTools.DefaultSaveFormat.ZIP_XML; break;
 		case 3: setup.defaultSaveFormatStatistics=XMLTools.DefaultSaveFormat.TAR_XML; break;
 		case 4: setup.defaultSaveFormatStatistics=XMLTools.DefaultSaveFormat.CRYPT_XML; break;
+		case 5: setup.defaultSaveFormatStatistics=XMLTools.DefaultSaveFormat.BINARY_XML; break;
 		}
 		switch (defaultSaveFormatParameterSeries.getSelectedIndex()) {
 		case 0: setup.defaultSaveFormatParameterSeries=XMLTools.DefaultSaveFormat.XML; break;
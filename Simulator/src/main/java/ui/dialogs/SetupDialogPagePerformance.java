@@ -94,6 +94,8 @@ public class SetupDialogPagePerformance extends SetupDialogPage {
 	private final SpinnerModel serverPort;
 	/** Evtl. notwendiges Passwort fr Server-basierte Simulation */
 	private final JTextField serverKey;
+	/** Weitere Server, auf die eine Simulation verteilt werden soll */
+	private final JTextField serverFarm;
 
 	/**
 	 * Konstruktor der Klasse
@@ -240,6 +242,16 @@ public class SetupDialogPagePerformance extends SetupDialogPage {
 			@Override public void keyPressed(KeyEvent e) {serverUse.setSelected(true);}
 		});
 
+		/* Weitere Server fr verteilte Simulation */
+		data=ModelElementBaseDialog.getInputPanel(Language.tr("SettingsDialog.Tabs.Simulation.Server.Farm")+":","");
+		add((JPanel)data[0]);
+		serverFarm=(JTextField)data[1];
+		serverFarm.addKeyListener(new KeyListener() {
+			@Override public void keyTyped(KeyEvent e) {serverUse.setSelected(true);}
+			@Override public void keyReleased(KeyEvent e) {serverUse.setSelected(true);}
+			@Override public void keyPressed(KeyEvent e) {serverUse.setSelected(true);}
+		});
+
 		/* Schaltflche: Verbindung prfen */
 		line=addLine();
 		button=new JButton(Language.tr("SettingsDialog.Tabs.Simulation.Server.CheckConnection"));
@@ -316,6 +328,7 @@ public class SetupDialogPagePerformance extends SetupDialogPage {
 				if (parts.length==3) serverKey.setText(parts[2]);
 			}
 		}
+		serverFarm.setText((setup.serverFarm==null)?"":setup.serverFarm);
 
 		/*
 		javaJDKpath.setText(setup.javaJDKPath);
@@ -359,6 +372,7 @@ public class SetupDialogPagePerformance extends SetupDialogPage {
 			sb.append(key);
 		}
 		setup.serverData=sb.toString();
+		setup.serverFarm=serverFarm.getText().trim();
 
 		/*
 		setup.javaJDKPath=javaJDKpath.getText();
@@ -378,6 +392,7 @@ public class SetupDialogPagePerformance extends SetupDialogPage {
 		cancelSimulationOnScriptError.setSelected(true);
 		serverPort.setValue(8183);
 		serverUse.setSelected(false);
+		serverFarm.setText("");
 		updateGUI();
 	}
 }
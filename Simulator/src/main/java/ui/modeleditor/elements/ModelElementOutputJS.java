@@ -276,7 +276,7 @@ public class ModelElementOutputJS extends ModelElementMultiInSingleOutBox implem
 		if (this.outputFile==null) return new File(modelPath+"output.txt");
 		String outputFile=this.outputFile.trim();
 
-		if (outputFile.startsWith("\\\\") || (outputFile.length()>1 && outputFile.charAt(1)==':')) return new File(outputFile);
+		if (outputFile.startsWith("\\\\") || (outputFile.length()>1 && outputFile.charAt(1)==':') || new File(outputFile).isAbsolute()) return new File(outputFile);
 
 		if (outputFile.startsWith("\\")) outputFile=outputFile.substring(1);
 
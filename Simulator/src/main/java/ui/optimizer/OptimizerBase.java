@@ -37,6 +37,7 @@ import scripting.js.JSRunDataFilter;
 import scripting.js.JSRunDataFilterTools;
 import simulator.editmodel.EditModel;
 import simulator.statistics.Statistics;
+import statistics.StatisticsQuery;
 import systemtools.MsgBox;
 import tools.SetupData;
 import ui.optimizer.OptimizerSetup.ControlVariable;
@@ -60,6 +61,10 @@ public abstract class OptimizerBase {
 	private String targetScript;
 	/** Ergebnisauswertung: XML-Eintrag auswerten */
 	private String targetXML;
+	/** Vorab aufgelster Selektor fr {@link #targetXML} (kann <code>null</code> sein, wenn sich der Selektor nicht auf eine einzelne Kenngre bezieht) */
+	private StatisticsQuery targetXMLQuery;
+	/** Wurde {@link #targetXML} bereits aufgelst? */
+	private boolean targetXMLQueryCompiled;
 	/** Liste der Ergebnisse der einzelnen Optimierungs-Teilschritte */
 	private List<OptimizationRunResults> optimizationRunResultsList;
 
@@ -177,6 +182,8 @@ public abstract class OptimizerBase {
 			targetScript=null;
 			targetXML=setup.target;
 		}
+		targetXMLQuery=null;
+		targetXMLQueryCompiled=false;
 
 		return null;
 	}
@@ -227,9 +234,27 @@ public abstract class OptimizerBase {
 	 * @return	Zielwert oder <code>null</code>, wenn ein Fehler aufgetreten ist
 	 */
 	protected final Double checkTarget(final Statistics statistics) {
+		if (targetXML!=null) {
+			if (!targetXMLQueryCompiled) {
+				targetXMLQuery=StatisticsQuery.compile(statistics,targetXML);
+				targetXMLQueryCompiled=true;
+			}
+			if (targetXMLQuery!=null) return checkTargetXML(targetXMLQuery.getXMLDocument(statistics));
+		}
 		return checkTarget(statistics.saveToXMLDocument());
 	}
 
+	/**
+	 * Gibt an, ob zur Auswertung einer Simulation das vollstndige xml-Dokument der Statistikdaten bentigt wird
+	 * (weil alle Ergebnisse gespeichert werden sollen oder weil der Zielwert per Skript bestimmt wird).
+	 * Ist dies nicht der Fall, so kann {@link #checkTarget(Statistics)} verwendet werden, welches nur die
+	 * fr den Zielwert notwendige Kenngre in xml-Form umwandelt.
+	 * @return	Liefert <code>true</code>, wenn das vollstndige xml-Dokument bentigt wird
+	 */
+	protected final boolean isStatisticsDocumentNeeded() {
+		return targetScript!=null || setup.outputMode==OptimizerSetup.OutputMode.OUTPUT_ALL;
+	}
+
 	/**
 	 * Liefert basierend auf den Statistikdaten den Zielwert
 	 * @param doc	XML-Statistik-Dokument, aus der der Zielwert ausgelesen werden soll
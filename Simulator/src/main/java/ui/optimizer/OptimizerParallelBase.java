@@ -413,12 +413,13 @@ public abstract class OptimizerParallelBase extends OptimizerBase {
 		final double[] values=new double[statistics.length];
 		final boolean[] emergencyShutDown=new boolean[statistics.length];
 
-		/* Paralleles Erstellen der XML-Dokumente */
+		/* Paralleles Erstellen der XML-Dokumente (nur, wenn die vollstndigen Dokumente bentigt werden) */
+		final boolean needDocuments=isStatisticsDocumentNeeded();
 		final int maxThreads=Math.min(10,Runtime.getRuntime().availableProcessors());
 		executorPool=new ThreadPoolExecutor(maxThreads,maxThreads,2,TimeUnit.SECONDS,new LinkedBlockingQueue<>());
 		executorPool.allowCoreThreadTimeOut(true);
 		final List<Future<Document>> documents=new ArrayList<>();
-		for (int i=0;i<statistics.length;i++) if (statistics[i]==null) {
+		for (int i=0;i<statistics.length;i++) if (statistics[i]==null || !needDocuments) {
 			documents.add(null);
 		} else {
 			final int nr=i;
@@ -446,7 +447,7 @@ public abstract class OptimizerParallelBase extends OptimizerBase {
 				}
 			} else {
 				/* Statistik speichern */
-				try {
+				if (needDocuments) try {
 					doc=documents.get(i).get();
 				} catch (InterruptedException | ExecutionException e) {done(true); return;}
 
@@ -455,7 +456,7 @@ public abstract class OptimizerParallelBase extends OptimizerBase {
 				}
 
 				/* Zielwert prfen */
-				final Double value=checkTarget(doc);
+				final Double value=(doc!=null)?checkTarget(doc):checkTarget(statistics[i]);
 				if (value==null) {
 					/* Abbruch der Optimierung wegen Fehler */
 					done(true);
@@ -513,8 +514,8 @@ public abstract class OptimizerParallelBase extends OptimizerBase {
 			}
 
 			/* Ziel erreicht ? */
-			if (doc!=null && setup.targetDirection==0 && values[i]>=setup.targetRangeMin && values[i]<=setup.targetRangeMax) {
-				if (file==null) file=saveStatistics(doc);
+			if (statistics[i]!=null && setup.targetDirection==0 && values[i]>=setup.targetRangeMin && values[i]<=setup.targetRangeMax) {
+				if (file==null) file=saveStatistics((doc!=null)?doc:statistics[i].saveToXMLDocument());
 				logOutput(String.format(Language.tr("Optimizer.Finished"),file.getName()));
 				final double[] v=Arrays.copyOf(values,i+1);
 				final boolean[] b=new boolean[v.length]; Arrays.fill(b,false);
@@ -198,14 +198,14 @@ public abstract class OptimizerSerialBase extends OptimizerBase {
 			initNextRun(stepNr+1,0,true);
 		} else {
 			/* Statistik speichern */
-			final Document doc=statistics.saveToXMLDocument();
+			final Document doc=isStatisticsDocumentNeeded()?statistics.saveToXMLDocument():null;
 			File file=null;
 			if (setup.outputMode==OptimizerSetup.OutputMode.OUTPUT_ALL) {
 				file=saveStatistics(doc);
 			}
 
 			/* Zielwert prfen */
-			final Double value=checkTarget(doc);
+			final Double value=(doc!=null)?checkTarget(doc):checkTarget(statistics);
 			if (value==null) {
 				/* Abbruch der Optimierung wegen Fehler */
 				done(false);
@@ -261,7 +261,7 @@ public abstract class OptimizerSerialBase extends OptimizerBase {
 
 			/* Ziel erreicht ? */
 			if (setup.targetDirection==0 && value>=setup.targetRangeMin && value<=setup.targetRangeMax) {
-				if (file==null) file=saveStatistics(doc);
+				if (file==null) file=saveStatistics((doc!=null)?doc:statistics.saveToXMLDocument());
 				logOutput(String.format(Language.tr("Optimizer.Finished"),(file==null)?"":file.getName()));
 				done(true);
 				return;
@@ -18,6 +18,7 @@ package ui.parameterseries;
 import java.util.function.Consumer;
 
 import org.apache.commons.math3.util.FastMath;
+import org.w3c.dom.Document;
 
 import language.Language;
 import mathtools.NumberTools;
@@ -185,12 +186,13 @@ public class ParameterCompareRunnerModel {
 	/**
 	 * Bestimmt einen Ausgabewert auf Basis eines Javascript-Programms.
 	 * @param statistics	Statistikdaten auf deren Basis der Ergebniswert bestimmt werden soll
+	 * @param doc	xml-Dokument der Statistikdaten
 	 * @param script	Auszufhrendes Skript
 	 * @return	Ausgabewert
 	 * @see #processResults(Statistics)
 	 */
-	private Double calcResultValueByScriptJS(final Statistics statistics, final String script) {
-		final JSRunDataFilter filter=new JSRunDataFilter(statistics.saveToXMLDocument(),statistics.loadedStatistics);
+	private Double calcResultValueByScriptJS(final Statistics statistics, final Document doc, final String script) {
+		final JSRunDataFilter filter=new JSRunDataFilter(doc,statistics.loadedStatistics);
 		filter.run(script);
 		if (!filter.getLastSuccess()) {
 			logOutput(String.format(Language.tr("ParameterCompare.ResultsError.ScriptError"),getNr()+1,getName(),filter.getResults()));
@@ -208,11 +210,12 @@ public class ParameterCompareRunnerModel {
 	/**
 	 * Bestimmt einen Ausgabewert auf Basis eines Java-Programms.
 	 * @param statistics	Statistikdaten auf deren Basis der Ergebniswert bestimmt werden soll
+	 * @param doc	xml-Dokument der Statistikdaten
 	 * @param script	Auszufhrendes Skript
 	 * @return	Ausgabewert
 	 * @see #processResults(Statistics)
 	 */
-	private Double calcResultValueByScriptJava(final Statistics statistics, final String script) {
+	private Double calcResultValueByScriptJava(final Statistics statistics, final Document doc, final String script) {
 		final DynamicRunner runner=DynamicFactory.getFactory().load(script,null,null);
 		if (runner.getStatus()!=DynamicStatus.OK) {
 			logOutput(DynamicFactory.getLongStatusText(runner));
@@ -221,7 +224,7 @@ public class ParameterCompareRunnerModel {
 
 		final StringBuilder results=new StringBuilder();
 		runner.parameter.output=new OutputImpl(line->results.append(line),false);
-		runner.parameter.statistics=new StatisticsImpl(line->results.append(line),statistics.saveToXMLDocument(),statistics.loadedStatistics,false);
+		runner.parameter.statistics=new StatisticsImpl(line->results.append(line),doc,statistics.loadedStatistics,false);
 		runner.run();
 		if (runner.getStatus()!=DynamicStatus.OK) {
 			logOutput(String.format(Language.tr("ParameterCompare.ResultsError.ScriptError"),getNr()+1,getName(),DynamicFactory.getLongStatusText(runner)));
@@ -242,6 +245,8 @@ public class ParameterCompareRunnerModel {
 	 * @see #model
 	 */
 	private void processResults(final Statistics statistics) {
+		/* Das vollstndige xml-Dokument wird nur fr Skripte bentigt und dann nur einmal erstellt */
+		Document doc=null;
 		if (statistics!=null) for (int i=0;i<setup.getOutput().size();i++) {
 			final ParameterCompareSetupValueOutput output=setup.getOutput().get(i);
 			final Double value;
@@ -251,10 +256,12 @@ public class ParameterCompareRunnerModel {
 				value=calcResultValue(statistics,output);
 				break;
 			case MODE_SCRIPT_JS:
-				value=calcResultValueByScriptJS(statistics,outputScripts[i]);
+				if (doc==null) doc=statistics.saveToXMLDocument();
+				value=calcResultValueByScriptJS(statistics,doc,outputScripts[i]);
 				break;
 			case MODE_SCRIPT_JAVA:
-				value=calcResultValueByScriptJava(statistics,outputScripts[i]);
+				if (doc==null) doc=statistics.saveToXMLDocument();
+				value=calcResultValueByScriptJava(statistics,doc,outputScripts[i]);
 				break;
 			default:
 				value=null;
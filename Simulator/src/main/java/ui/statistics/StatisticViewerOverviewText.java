@@ -2308,6 +2308,10 @@ public class StatisticViewerOverviewText extends StatisticViewerText {
 		if (statistics.simulationData.runTime>0) {
 			addLine(Language.tr("Statistics.SystemData.EventsPerSecond")+": "+NumberTools.formatLong(statistics.simulationData.runEvents*1000/statistics.simulationData.runTime));
 		}
+		if (statistics.simulationData.runEventsRemoved>0 || statistics.simulationData.runEventsMarked>0) {
+			addLine(Language.tr("Statistics.SystemData.DeletedEvents")+": "+NumberTools.formatLong(statistics.simulationData.runEventsRemoved+statistics.simulationData.runEventsMarked));
+			addLine(Language.tr("Statistics.SystemData.DeletedEvents.Marked")+": "+NumberTools.formatLong(statistics.simulationData.runEventsMarked));
+		}
 		double time=((double)statistics.simulationData.runTime)*statistics.simulationData.runThreads/statistics.simulationData.runEvents;
 		if (time>=1) {
 			addLine(Language.tr("Statistics.SystemData.TimePerEvent")+" (*): "+StatisticTools.formatNumber(time,2)+" ms");
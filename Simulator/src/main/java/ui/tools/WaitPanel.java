@@ -41,9 +41,11 @@ import org.apache.commons.math3.util.FastMath;
 import language.Language;
 import mathtools.NumberTools;
 import net.calc.SimulationClient;
+import net.calc.SimulationFarm;
 import simulator.AnySimulator;
 import simulator.Simulator;
 import simulator.StartAnySimulator;
+import simulator.statistics.Statistics;
 import tools.Notifier;
 import ui.images.Images;
 
@@ -102,7 +104,7 @@ public class WaitPanel extends JPanel {
 	private int lastGesamt;
 
 	/** Gestarteter Simulator, dessen Daten hier angezeigt werden sollen. */
-	private AnySimulator simulator;
+	private volatile AnySimulator simulator;
 
 	/** Wird aufgerufen, wenn die Simulation beendet wurde (erfolgreich oder per Nutzerabbruch). Wird hier <code>null</code> bergeben, so erfolgt keine Rckmeldung. */
 	private Runnable simulationDone;
@@ -194,6 +196,19 @@ public class WaitPanel extends JPanel {
 		return simulationSuccessful;
 	}
 
+	/**
+	 * Liefert einen unvollstndigen Statistikdatensatz zu der laufenden Simulation.<br>
+	 * Es wird dabei nicht auf die Momentaufnahmen der Simulationsthreads gewartet,
+	 * daher kann beim ersten Aufruf noch <code>null</code> geliefert werden.
+	 * @return	Unvollstndiger Statistikdatensatz oder <code>null</code>, wenn (noch) keine Daten vorliegen
+	 * @see AnySimulator#getIncompleteStatistic(long)
+	 */
+	public Statistics getIncompleteStatistic() {
+		final AnySimulator simulator=this.simulator;
+		if (simulator==null) return null;
+		return simulator.getIncompleteStatistic(0);
+	}
+
 	/**
 	 * Setzt das <code>Simulator</code>-Objekt, dessen Fortschritt in diesem Panel angezeigt werden soll.
 	 * @param simulator	Gestarteter Simulator, dessen Daten hier angezeigt werden sollen.
@@ -210,6 +225,8 @@ public class WaitPanel extends JPanel {
 		statusbarRight.setText("");
 		if (simulator instanceof SimulationClient) {
 			info1.setText(String.format(Language.tr("Wait.Info.StartRemote"),((SimulationClient)simulator).getHost()));
+		} else if (simulator instanceof SimulationFarm) {
+			info1.setText(String.format(Language.tr("Wait.Info.StartRemote"),String.join(", ",((SimulationFarm)simulator).getHosts())));
 		} else {
 			final Object[] server=StartAnySimulator.getServerSetup();
 			if (server==null) {
@@ -0,0 +1,253 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package calctests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.calc.SimulationFarm;
+import net.calc.SimulationServer;
+import runmodeltests.SimulationTestTools;
+import simulator.editmodel.EditModel;
+import simulator.statistics.Statistics;
+
+/**
+ * Prft die Verteilung einer Simulation auf mehrere lokal gestartete Simulationsserver.
+ * @author Alexander Herzog
+ * @see SimulationFarm
+ */
+class SimulationFarmTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public SimulationFarmTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Anzahl an zu startenden Simulationsservern
+	 */
+	private static final int SERVER_COUNT=2;
+
+	/**
+	 * Gestartete Simulationsserver
+	 * @see #startServers()
+	 */
+	private final List<SimulationServer> servers=new ArrayList<>();
+
+	/**
+	 * Zugangsdaten zu den gestarteten Simulationsservern
+	 * @see #startServers()
+	 */
+	private final List<SimulationFarm.Server> serverList=new ArrayList<>();
+
+	/**
+	 * Meldungen aller gestarteten Simulationsserver
+	 * @see #startServers()
+	 */
+	private final List<String> serverLog=Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * Liefert einen freien Port.
+	 * @return	Freier Port
+	 * @throws IOException	Es konnte kein freier Port ermittelt werden
+	 */
+	private static int getFreePort() throws IOException {
+		try (ServerSocket socket=new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	/**
+	 * Startet die Simulationsserver auf freien Ports.
+	 * @throws IOException	Es konnte kein freier Port ermittelt werden
+	 */
+	@BeforeEach
+	void startServers() throws IOException {
+		SimulationTestTools.init();
+		for (int i=0;i<SERVER_COUNT;i++) {
+			final int port=getFreePort();
+			final SimulationServer server=new SimulationServer(serverLog::add,port,null,false);
+			assertTrue(server.start());
+			servers.add(server);
+			serverList.add(new SimulationFarm.Server("localhost",port,null));
+		}
+	}
+
+	/**
+	 * Beendet die Simulationsserver.
+	 */
+	@AfterEach
+	void stopServers() {
+		for (SimulationServer server: servers) server.stop();
+		servers.clear();
+		serverList.clear();
+		serverLog.clear();
+	}
+
+	/**
+	 * Liefert das fr die Tests verwendete Modell.
+	 * @param clientCount	Anzahl an Kundenanknften
+	 * @return	Modell
+	 */
+	private static EditModel getModel(final long clientCount) {
+		final EditModel editModel=SimulationTestTools.loadExample("Kundentypen.xml");
+		editModel.useFixedSeed=true;
+		editModel.fixedSeed=1234;
+		editModel.clientCount=clientCount;
+		editModel.warmUpTime=0;
+		return editModel;
+	}
+
+	/**
+	 * Test: Die auf die Server verteilte Simulation liefert zusammengefhrte Ergebnisse,
+	 * die (im Rahmen der stochastischen Schwankungen) denen einer lokalen Simulation entsprechen.
+	 */
+	@Test
+	void mergedResultsTest() {
+		final long clientCount=200_000;
+
+		final SimulationFarm farm=new SimulationFarm(getModel(clientCount),null,serverList,0);
+		assertNull(farm.prepare());
+		assertEquals(SERVER_COUNT,farm.getHosts().size());
+		assertNull(farm.start());
+		farm.finalizeRun();
+		assertNull(farm.getError());
+		final Statistics merged=farm.getStatistic();
+		assertNotNull(merged);
+
+		final Statistics local=SimulationTestTools.simulate(getModel(clientCount),1);
+
+		/* Jeder Kunde wird hchstens einmal (auf einem der Server) simuliert; am Ende eines Teillaufs knnen sich noch einzelne Kunden im System befinden */
+		assertEquals(local.clientsAllResidenceTimes.getCount(),merged.clientsAllResidenceTimes.getCount(),SERVER_COUNT);
+		assertEquals(local.clientsResidenceTimes.getNames().length,merged.clientsResidenceTimes.getNames().length);
+
+		/* Die Kenngren stimmen im Rahmen der stochastischen Schwankungen berein */
+		assertEquals(local.clientsAllWaitingTimes.getMean(),merged.clientsAllWaitingTimes.getMean(),0.1*local.clientsAllWaitingTimes.getMean());
+		assertEquals(local.clientsAllResidenceTimes.getMean(),merged.clientsAllResidenceTimes.getMean(),0.1*local.clientsAllResidenceTimes.getMean());
+		assertEquals(local.clientsAllProcessingTimes.getMean(),merged.clientsAllProcessingTimes.getMean(),0.02*local.clientsAllProcessingTimes.getMean());
+	}
+
+	/**
+	 * Test: Whrend der verteilten Simulation senden die Server Zwischenergebnisse.
+	 * Der anschlieende Abbruch trennt die Verbindungen und kehrt zeitnah zurck.
+	 * @throws InterruptedException	Unterbrechung beim Warten auf die Zwischenergebnisse
+	 */
+	@Test
+	void incompleteStatisticAndCancelTest() throws InterruptedException {
+		final SimulationFarm farm=new SimulationFarm(getModel(1_000_000_000L),null,serverList,0);
+		assertNull(farm.prepare());
+		assertNull(farm.start());
+
+		try {
+			Statistics partial=null;
+			final long deadline=System.currentTimeMillis()+4*SimulationServer.INCOMPLETE_STATISTIC_INTERVAL_MS;
+			while (System.currentTimeMillis()<deadline) {
+				partial=farm.getIncompleteStatistic(0);
+				if (partial!=null && partial.clientsAllResidenceTimes.getCount()>0) break;
+				Thread.sleep(100);
+			}
+			assertNotNull(partial);
+			assertTrue(partial.clientsAllResidenceTimes.getCount()>0);
+		} finally {
+			final long start=System.currentTimeMillis();
+			farm.cancel();
+			assertTrue(System.currentTimeMillis()-start<10_000);
+		}
+
+		assertFalse(farm.isRunning());
+		farm.finalizeRun();
+		assertNull(farm.getStatistic());
+	}
+
+	/**
+	 * Fhrt eine verteilte Simulation aus und beendet whrend der Simulation die angegebenen Server.
+	 * @param clientCount	Anzahl an Kundenanknften
+	 * @param stopCount	Anzahl an Servern (beginnend mit dem ersten), die whrend der Simulation beendet werden sollen
+	 * @return	Zusammengefhrte Statistikergebnisse
+	 * @throws InterruptedException	Unterbrechung beim Warten auf den Simulationsfortschritt
+	 */
+	private Statistics simulateWithFailingServers(final long clientCount, final int stopCount) throws InterruptedException {
+		final SimulationFarm farm=new SimulationFarm(getModel(clientCount),null,serverList,0,2_000);
+		assertNull(farm.prepare());
+		assertEquals(SERVER_COUNT,farm.getHosts().size());
+		assertNull(farm.start());
+
+		/* Warten, bis die Server tatschlich rechnen */
+		final long deadline=System.currentTimeMillis()+30_000;
+		while (farm.getCurrentClients()==0 && System.currentTimeMillis()<deadline) Thread.sleep(20);
+		assertTrue(farm.getCurrentClients()>0);
+		assertTrue(farm.getCurrentClients()<clientCount);
+
+		for (int i=0;i<stopCount;i++) servers.get(i).stop();
+
+		farm.finalizeRun();
+		assertNull(farm.getError());
+		final Statistics merged=farm.getStatistic();
+		assertNotNull(merged);
+
+		/* Die Server haben die laufende Simulation tatschlich abgebrochen */
+		synchronized(serverLog) {
+			assertTrue(serverLog.stream().anyMatch(line->line.endsWith(SimulationServer.SIMULATION_CANCELED)));
+		}
+
+		return merged;
+	}
+
+	/**
+	 * Test: Fllt einer der Server whrend der Simulation aus, so wird seine Teilaufgabe
+	 * von dem verbliebenen Server bernommen. Das zusammengefhrte Ergebnis umfasst alle Kunden.
+	 * @throws InterruptedException	Unterbrechung beim Warten auf den Simulationsfortschritt
+	 */
+	@Test
+	void serverFailureTest() throws InterruptedException {
+		final long clientCount=2_000_000;
+		final Statistics merged=simulateWithFailingServers(clientCount,1);
+
+		/* Jeder Kunde wird genau einmal gezhlt; am Ende eines Teillaufs knnen sich noch einzelne Kunden im System befinden */
+		assertEquals(clientCount,merged.clientsAllResidenceTimes.getCount(),SERVER_COUNT);
+	}
+
+	/**
+	 * Test: Fallen alle Server whrend der Simulation aus, so wird der Rest lokal simuliert.
+	 * Das zusammengefhrte Ergebnis umfasst alle Kunden.
+	 * @throws InterruptedException	Unterbrechung beim Warten auf den Simulationsfortschritt
+	 */
+	@Test
+	void localFallbackTest() throws InterruptedException {
+		final long clientCount=2_000_000;
+		final Statistics merged=simulateWithFailingServers(clientCount,SERVER_COUNT);
+
+		/* Jeder Kunde wird genau einmal gezhlt; am Ende eines Teillaufs knnen sich noch einzelne Kunden im System befinden */
+		assertEquals(clientCount,merged.clientsAllResidenceTimes.getCount(),SERVER_COUNT);
+	}
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package elementstests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import runmodeltests.SimulationTestTools;
+import simulator.editmodel.EditModel;
+import simulator.elements.RunElementProcessPriorityQueue;
+import simulator.runmodel.RunDataClient;
+import simulator.statistics.Statistics;
+import statistics.StatisticsDataPerformanceIndicator;
+import ui.modeleditor.elements.ModelElementProcess;
+
+/**
+ * Prft, ob die Prioritts-Warteschlange {@link RunElementProcessPriorityQueue}
+ * dieselben Kunden auswhlt wie die lineare Suche ber alle wartenden Kunden.
+ * @author Alexander Herzog
+ * @see RunElementProcessPriorityQueue
+ */
+class RunElementProcessPriorityQueueTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunElementProcessPriorityQueueTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Lineare Suche wie in der Bedienstation: Der erste Kunde (in Ankunftsreihenfolge)
+	 * mit dem hchsten Sortierschlssel wird gewhlt.
+	 * @param clients	Wartende Kunden in Ankunftsreihenfolge
+	 * @param keys	Sortierschlssel der Kunden
+	 * @return	Gewhlter Kunde oder <code>null</code>, wenn keine Kunden warten
+	 */
+	private static RunDataClient scan(final List<RunDataClient> clients, final List<Double> keys) {
+		RunDataClient selected=null;
+		double bestKey=-Double.MAX_VALUE;
+		for (int i=0;i<clients.size();i++) {
+			final double key=keys.get(i);
+			if (selected==null || key>bestKey) {
+				bestKey=key;
+				selected=clients.get(i);
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * Test: Heap-Reihenfolge entspricht bei zuflligen Einfge-, Auswahl- und Abbruchoperationen der linearen Suche
+	 */
+	@Test
+	void heapMatchesScanTest() {
+		final Random random=new Random(4711);
+		final RunElementProcessPriorityQueue queue=new RunElementProcessPriorityQueue(2);
+		final List<RunDataClient> clients=new ArrayList<>();
+		final List<Double> keys=new ArrayList<>();
+		long clientNumber=0;
+
+		for (int step=0;step<20_000;step++) {
+			final int action=random.nextInt(10);
+			if (action<5 || clients.isEmpty()) {
+				/* Kunde trifft ein (wenige verschiedene Schlssel, damit Gleichstnde auftreten) */
+				final RunDataClient client=new RunDataClient(0,false,false,clientNumber++);
+				final double key=random.nextInt(20)-random.nextInt(3)*0.5;
+				queue.add(client,key);
+				clients.add(client);
+				keys.add(key);
+			} else if (action<8) {
+				/* Bedienung des Kunden mit dem hchsten Score */
+				final RunDataClient expected=scan(clients,keys);
+				assertSame(expected,queue.peek());
+				assertTrue(queue.remove(expected));
+				final int index=clients.indexOf(expected);
+				clients.remove(index);
+				keys.remove(index);
+			} else {
+				/* Warteabbruch eines beliebigen Kunden */
+				final int index=random.nextInt(clients.size());
+				final RunDataClient client=clients.remove(index);
+				keys.remove(index);
+				assertTrue(queue.remove(client));
+				assertFalse(queue.remove(client));
+			}
+			assertEquals(clients.size(),queue.size());
+			assertSame(scan(clients,keys),queue.peek());
+		}
+
+		while (!clients.isEmpty()) {
+			final RunDataClient expected=scan(clients,keys);
+			assertSame(expected,queue.peek());
+			queue.remove(expected);
+			final int index=clients.indexOf(expected);
+			clients.remove(index);
+			keys.remove(index);
+		}
+		assertNull(queue.peek());
+		assertEquals(0,queue.size());
+	}
+
+	/**
+	 * Simuliert das Beispielmodell "Kundentypen.xml" mit vorgegebenen Score-Formeln.
+	 * @param priorityA	Score-Formel fr Kundentyp A
+	 * @param priorityB	Score-Formel fr Kundentyp B
+	 * @return	Statistikergebnisse
+	 */
+	static Statistics simulateClientTypesModel(final String priorityA, final String priorityB) {
+		final EditModel editModel=SimulationTestTools.loadExample("Kundentypen.xml");
+		editModel.useFixedSeed=true;
+		editModel.fixedSeed=1234;
+		editModel.clientCount=20_000;
+		editModel.warmUpTime=0;
+		final ModelElementProcess process=SimulationTestTools.getElement(editModel,ModelElementProcess.class);
+		process.setPriority("Kunden A",priorityA);
+		process.setPriority("Kunden B",priorityB);
+		return SimulationTestTools.simulate(editModel,1);
+	}
+
+	/**
+	 * Prft, ob zwei Simulationslufe dieselben Wartezeiten je Kundentyp ergeben haben.
+	 * @param expected	Erwartete Ergebnisse
+	 * @param actual	Tatschliche Ergebnisse
+	 */
+	static void assertSameWaitingTimes(final Statistics expected, final Statistics actual) {
+		assertTrue(expected.clientsAllWaitingTimes.getCount()>0);
+		assertTrue(expected.clientsAllWaitingTimes.getMean()>0);
+		for (String clientType: new String[] {"Kunden A","Kunden B"}) {
+			final StatisticsDataPerformanceIndicator expectedIndicator=(StatisticsDataPerformanceIndicator)expected.clientsWaitingTimes.get(clientType);
+			final StatisticsDataPerformanceIndicator actualIndicator=(StatisticsDataPerformanceIndicator)actual.clientsWaitingTimes.get(clientType);
+			assertEquals(expectedIndicator.getCount(),actualIndicator.getCount(),clientType);
+			assertEquals(expectedIndicator.getMean(),actualIndicator.getMean(),clientType);
+			assertEquals(expectedIndicator.getMax(),actualIndicator.getMax(),clientType);
+		}
+	}
+
+	/**
+	 * Test: Zeitinvariante Score-Formeln (Auswahl ber die Prioritts-Warteschlange) liefern dieselben Ergebnisse wie
+	 * gleichwertige Formeln, die zustzlich von der Anzahl an wartenden Kunden abhngen (Auswahl ber die lineare Suche).
+	 */
+	@Test
+	void simulationHeapMatchesScanTest() {
+		assertSameWaitingTimes(simulateClientTypesModel("w+0*NQ()","w+100+0*NQ()"),simulateClientTypesModel("w","w+100"));
+		assertSameWaitingTimes(simulateClientTypesModel("2*w+0*NQ()","2*w-30+0*NQ()"),simulateClientTypesModel("2*w","2*w-30"));
+	}
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package elementstests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.elements.RunElementProcess;
+import simulator.statistics.Statistics;
+
+/**
+ * Prft die Auswahl des nchsten Kunden ber die Score-Werte an einer {@link RunElementProcess}-Station.
+ * @author Alexander Herzog
+ * @see RunElementProcess
+ */
+class RunElementProcessSelectionTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunElementProcessSelectionTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Ist der Score-Wert gleich der Wartezeit, so muss die lineare Suche stets den am lngsten
+	 * wartenden Kunden (d.h. den ersten Kunden in der Warteschlange) whlen und damit exakt dieselben
+	 * Ergebnisse wie die reine FIFO-Bedienung liefern.<br>
+	 * Beginnt die Suche erst beim zweiten Kunden in der Warteschlange, so wird der erste Kunde nur
+	 * dann bedient, wenn er der einzige wartende Kunde ist, und die Wartezeiten weichen deutlich ab.
+	 */
+	@Test
+	void scanSelectsFirstClientTest() {
+		final Statistics fifo=RunElementProcessPriorityQueueTest.simulateClientTypesModel("w","w");
+		final Statistics scan=RunElementProcessPriorityQueueTest.simulateClientTypesModel("w+0*NQ()","w+0*NQ()");
+		RunElementProcessPriorityQueueTest.assertSameWaitingTimes(fifo,scan);
+		assertEquals(fifo.clientsAllWaitingTimes.getMax(),scan.clientsAllWaitingTimes.getMax());
+	}
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package runmodeltests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.editmodel.EditModel;
+import simulator.runmodel.DynamicLoadBalancer;
+import simulator.statistics.Statistics;
+
+/**
+ * Prft die sperrfreie Vergabe von Anknfte-Paketen durch {@link DynamicLoadBalancer}.
+ * @author Alexander Herzog
+ * @see DynamicLoadBalancer
+ */
+class DynamicLoadBalancerTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public DynamicLoadBalancerTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Ein einzelner Thread erhlt alle Anknfte und die Pakete werden zum Ende hin nicht grer als der Rest pro Thread.
+	 */
+	@Test
+	void singleThreadTest() {
+		final long total=1_000_000;
+		final int threadCount=4;
+		final DynamicLoadBalancer balancer=new DynamicLoadBalancer(total,threadCount);
+
+		long remaining=total;
+		long packages=0;
+		while (true) {
+			final long arrivals=balancer.getArrivals(0);
+			if (arrivals==0) break;
+			assertTrue(arrivals<=Math.max(100,remaining/threadCount),"Package too large: "+arrivals+" for "+remaining+" remaining arrivals");
+			remaining-=arrivals;
+			packages++;
+		}
+
+		assertEquals(0,remaining);
+		assertEquals(0,balancer.getArrivals(0));
+		assertEquals(total,balancer.getArrivalsCount(0));
+		assertEquals(packages,balancer.getPackageCount(0));
+		assertTrue(balancer.getArrivalsPerSecond(0)>0);
+		for (int i=1;i<threadCount;i++) {
+			assertEquals(0,balancer.getArrivalsCount(i));
+			assertEquals(0,balancer.getPackageCount(i));
+			assertEquals(0,balancer.getArrivalsPerSecond(i));
+		}
+	}
+
+	/**
+	 * Test: Bei gleichzeitigen Anfragen mehrerer Threads werden alle Anknfte genau einmal vergeben.
+	 * @throws InterruptedException	Unterbrechung beim Warten auf die Threads
+	 */
+	@Test
+	void concurrentTest() throws InterruptedException {
+		final long total=5_000_000;
+		final int threadCount=8;
+		final DynamicLoadBalancer balancer=new DynamicLoadBalancer(total,threadCount);
+
+		final AtomicLongArray received=new AtomicLongArray(threadCount);
+		final AtomicLongArray packages=new AtomicLongArray(threadCount);
+		final CountDownLatch start=new CountDownLatch(1);
+		final Thread[] threads=new Thread[threadCount];
+		for (int i=0;i<threadCount;i++) {
+			final int threadNr=i;
+			threads[i]=new Thread(()->{
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				long arrivals;
+				while ((arrivals=balancer.getArrivals(threadNr))>0) {
+					received.addAndGet(threadNr,arrivals);
+					packages.incrementAndGet(threadNr);
+				}
+			});
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread: threads) thread.join();
+
+		long sum=0;
+		for (int i=0;i<threadCount;i++) {
+			sum+=received.get(i);
+			assertEquals(received.get(i),balancer.getArrivalsCount(i));
+			assertEquals(packages.get(i),balancer.getPackageCount(i));
+		}
+		assertEquals(total,sum);
+		for (int i=0;i<threadCount;i++) assertEquals(0,balancer.getArrivals(i));
+	}
+
+	/**
+	 * Test: Die gemessenen Geschwindigkeiten der Threads werden in der Statistik verffentlicht und gespeichert.
+	 */
+	@Test
+	void publishedRatesTest() {
+		/* Der Simulator begrenzt die Anzahl an Threads auf die Anzahl an verfgbaren CPU-Kernen; ohne mehrere Threads gibt es keinen Load-Balancer */
+		assumeTrue(Runtime.getRuntime().availableProcessors()>1);
+
+		final int threadCount=4;
+		final EditModel model=SimulationTestTools.loadExample("Kundentypen.xml");
+		model.clientCount=400_000;
+		final Statistics statistics=SimulationTestTools.simulate(model,threadCount);
+
+		assertTrue(statistics.simulationData.runThreads>1);
+		final long[] rates=statistics.simulationData.threadDynamicBalanceRates;
+		assertEquals(statistics.simulationData.runThreads,rates.length);
+		for (int i=0;i<rates.length;i++) if (statistics.simulationData.threadDynamicBalancePackages[i]>0) assertTrue(rates[i]>0);
+
+		final ByteArrayOutputStream output=new ByteArrayOutputStream();
+		assertTrue(statistics.saveToStream(output));
+		final Statistics loaded=new Statistics();
+		assertNull(loaded.loadFromStream(new ByteArrayInputStream(output.toByteArray())));
+		assertArrayEquals(rates,loaded.simulationData.threadDynamicBalanceRates);
+		assertArrayEquals(statistics.simulationData.threadDynamicBalancePackages,loaded.simulationData.threadDynamicBalancePackages);
+	}
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package runmodeltests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.coreelements.RunElement;
+import simulator.editmodel.EditModel;
+import simulator.elements.RunElementProcess;
+import simulator.events.ResourcesReCheckEvent;
+import simulator.runmodel.RunData;
+import simulator.runmodel.RunDataClient;
+import simulator.runmodel.RunModel;
+import simulator.runmodel.SimulationData;
+import ui.modeleditor.ModelResource;
+import ui.modeleditor.coreelements.ModelElementPosition;
+import ui.modeleditor.elements.ModelElementDispose;
+import ui.modeleditor.elements.ModelElementEdge;
+import ui.modeleditor.elements.ModelElementProcess;
+import ui.modeleditor.elements.ModelElementSource;
+
+/**
+ * Prft, dass bei der Freigabe von Ressourcen nur die Stationen benachrichtigt werden,
+ * die die freigegebenen Ressourcen verwenden knnen, und dass die ungefilterte
+ * Benachrichtigung weiterhin alle Stationen erreicht.
+ * @author Alexander Herzog
+ * @see RunData#fireReleasedResourcesNotify(SimulationData, int[])
+ * @see RunData#fireReleasedResourcesNotify(SimulationData)
+ */
+class RunDataFreeResourcesTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunDataFreeResourcesTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Verbindet zwei Stationen ber eine Kante.
+	 * @param model	Modell
+	 * @param station1	Ausgangsstation
+	 * @param station2	Zielstation
+	 */
+	private static void addEdge(final EditModel model, final ModelElementPosition station1, final ModelElementPosition station2) {
+		final ModelElementEdge edge=new ModelElementEdge(model,model.surface,station1,station2);
+		station1.addEdgeOut(edge);
+		station2.addEdgeIn(edge);
+		model.surface.add(edge);
+	}
+
+	/**
+	 * Fgt eine Kette aus Quelle, Bedienstation und Ausgang zu dem Modell hinzu.
+	 * @param model	Modell
+	 * @param y	y-Position der Stationen
+	 * @param resource	Name der von der Bedienstation verwendeten Ressource
+	 * @return	Bedienstation
+	 */
+	private static ModelElementProcess addChain(final EditModel model, final int y, final String resource) {
+		final ModelElementSource source=new ModelElementSource(model,model.surface);
+		source.setPosition(new Point(50,y));
+		source.setName("Kunden "+resource);
+		model.surface.add(source);
+
+		final ModelElementProcess process=new ModelElementProcess(model,model.surface);
+		process.setPosition(new Point(250,y));
+		process.getNeededResources().get(0).put(resource,1);
+		model.surface.add(process);
+
+		final ModelElementDispose dispose=new ModelElementDispose(model,model.surface);
+		dispose.setPosition(new Point(450,y));
+		model.surface.add(dispose);
+
+		addEdge(model,source,process);
+		addEdge(model,process,dispose);
+		return process;
+	}
+
+	/**
+	 * Liefert die Anzahl an an einer Bedienstation wartenden Kunden.
+	 * @param simData	Simulationsdatenobjekt
+	 * @param process	Bedienstation
+	 * @return	Anzahl an wartenden Kunden
+	 */
+	private static int getWaiting(final SimulationData simData, final RunElementProcess process) {
+		return process.getData(simData).waitingClients.size();
+	}
+
+	/**
+	 * Erstellt einen Ressourcen-Datensatz, in dem nur eine Ressource mit einem Bediener eingetragen ist.
+	 * @param runModel	Laufzeitmodell
+	 * @param resource	Name der Ressource
+	 * @return	Ressourcen-Datensatz (Anzahl an Bedienern pro Ressourcen-Index)
+	 */
+	private static int[] getRecord(final RunModel runModel, final String resource) {
+		final Map<String,Integer> map=new HashMap<>();
+		map.put(resource,1);
+		return runModel.resourcesTemplate.getNeededResourcesRecord(map);
+	}
+
+	/**
+	 * Test: Die Freigabe von Ressource A weckt nur die wartenden Kunden der Station, die A verwendet;
+	 * die ungefilterte erneute Prfung (wie durch {@link ResourcesReCheckEvent}) weckt auch die Kunden
+	 * der anderen Station.
+	 */
+	@Test
+	void filteredNotifyTest() {
+		SimulationTestTools.init();
+
+		final EditModel model=new EditModel();
+		model.clientCount=1000;
+		model.warmUpTime=0;
+		model.resources.add(new ModelResource("A",1));
+		model.resources.add(new ModelResource("B",1));
+		final ModelElementProcess editProcessA=addChain(model,100,"A");
+		final ModelElementProcess editProcessB=addChain(model,300,"B");
+
+		final Object obj=RunModel.getRunModel(model,null,false,false);
+		assertTrue(obj instanceof RunModel,(obj instanceof String)?((String)obj):null);
+		final RunModel runModel=(RunModel)obj;
+
+		final RunElement elementA=runModel.elements.get(editProcessA.getId());
+		final RunElement elementB=runModel.elements.get(editProcessB.getId());
+		assertTrue(elementA instanceof RunElementProcess);
+		assertTrue(elementB instanceof RunElementProcess);
+		final RunElementProcess processA=(RunElementProcess)elementA;
+		final RunElementProcess processB=(RunElementProcess)elementB;
+
+		final int[] recordA=getRecord(runModel,"A");
+		final int[] recordB=getRecord(runModel,"B");
+		assertArrayEquals(recordA,processA.resources[0]);
+		assertArrayEquals(recordB,processB.resources[0]);
+
+		final SimulationData simData=new SimulationData(0,1,null,runModel,null,null);
+		simData.initDay(0,0,false);
+
+		/* Beide Ressourcen belegen, so dass die eintreffenden Kunden warten mssen */
+		assertTrue(simData.runData.resources.tryLockResources(recordA,simData,-1)>=0);
+		assertTrue(simData.runData.resources.tryLockResources(recordB,simData,-1)>=0);
+		final RunDataClient clientA=simData.runData.clients.getClient(0,simData,-1);
+		final RunDataClient clientB=simData.runData.clients.getClient(0,simData,-1);
+		processA.processArrival(simData,clientA);
+		processB.processArrival(simData,clientB);
+		assertEquals(1,getWaiting(simData,processA));
+		assertEquals(1,getWaiting(simData,processB));
+
+		/* Beide Ressourcen freigeben (ohne Benachrichtigung), aber nur die Freigabe von A melden */
+		simData.runData.resources.releaseResources(recordA,simData);
+		simData.runData.resources.releaseResources(recordB,simData);
+		simData.runData.fireReleasedResourcesNotify(simData,recordA);
+		assertEquals(0,getWaiting(simData,processA),"Station using the released resource was not notified");
+		assertEquals(1,getWaiting(simData,processB),"Station not using the released resource was notified");
+
+		/* Freigabe einer Ressource, die an keiner Station wartende Kunden betrifft, ndert nichts */
+		simData.runData.fireReleasedResourcesNotify(simData,new int[recordA.length]);
+		assertEquals(1,getWaiting(simData,processB));
+
+		/* Ungefilterte erneute Prfung erreicht alle Stationen */
+		new ResourcesReCheckEvent().run(simData);
+		assertEquals(0,getWaiting(simData,processB),"Unfiltered re-check did not notify all stations");
+	}
+}
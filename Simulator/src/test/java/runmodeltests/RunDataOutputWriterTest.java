@@ -0,0 +1,175 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package runmodeltests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mathtools.distribution.OnePointDistributionImpl;
+import simulator.Simulator;
+import simulator.editmodel.EditModel;
+import simulator.runmodel.RunDataOutputWriter;
+import ui.modeleditor.coreelements.ModelElementPosition;
+import ui.modeleditor.elements.ModelElementDispose;
+import ui.modeleditor.elements.ModelElementEdge;
+import ui.modeleditor.elements.ModelElementOutput;
+import ui.modeleditor.elements.ModelElementSource;
+
+/**
+ * Prft, dass die gepufferte Dateiausgabe auch beim Abbruch einer Simulation vollstndig erfolgt.
+ * @author Alexander Herzog
+ * @see RunDataOutputWriter
+ */
+class RunDataOutputWriterTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunDataOutputWriterTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Verzeichnis fr die Ausgabedateien
+	 */
+	@TempDir
+	File tempDir;
+
+	/**
+	 * Prft, ob die Zeilen einer Ausgabedatei vollstndig sind und fortlaufende Nummern enthalten.
+	 * @param file	Ausgabedatei
+	 * @return	Anzahl an Zeilen
+	 * @throws IOException	Fehler beim Lesen der Datei
+	 */
+	private static int checkConsecutiveLines(final File file) throws IOException {
+		final String content=new String(Files.readAllBytes(file.toPath()),StandardCharsets.UTF_8);
+		assertFalse(content.isEmpty());
+		assertTrue(content.endsWith("\n"),"Last line is incomplete");
+		final String[] lines=content.split("\n");
+		long last=Math.round(Double.parseDouble(lines[0]));
+		for (int i=1;i<lines.length;i++) {
+			final long value=Math.round(Double.parseDouble(lines[i]));
+			assertEquals(last+1,value);
+			last=value;
+		}
+		return lines.length;
+	}
+
+	/**
+	 * Test: Ist das Interrupt-Flag des schreibenden Threads gesetzt (wie beim Abbruch einer Simulation),
+	 * so werden trotzdem alle Daten (einschlielich der durch den Hintergrund-Thread geschriebenen Puffer)
+	 * ausgegeben und das Interrupt-Flag bleibt erhalten.
+	 * @throws IOException	Fehler beim Lesen der Ausgabedatei
+	 */
+	@Test
+	void interruptedCloseTest() throws IOException {
+		final File file=new File(tempDir,"output.txt");
+		final RunDataOutputWriter writer=new RunDataOutputWriter(file,true);
+		final int count=200_000;
+		try {
+			for (int i=0;i<count/2;i++) writer.output(i+"\n");
+			Thread.currentThread().interrupt();
+			for (int i=count/2;i<count;i++) writer.output(i+"\n");
+			writer.close();
+			assertTrue(Thread.currentThread().isInterrupted());
+			writer.close();
+		} finally {
+			Thread.interrupted();
+		}
+
+		assertFalse(writer.hasOutputErrors());
+		assertEquals(count,checkConsecutiveLines(file));
+	}
+
+	/**
+	 * Fgt eine Verbindungskante zwischen zwei Stationen ein.
+	 * @param model	Modell
+	 * @param station1	Ausgangsstation
+	 * @param station2	Zielstation
+	 */
+	private static void addEdge(final EditModel model, final ModelElementPosition station1, final ModelElementPosition station2) {
+		final ModelElementEdge edge=new ModelElementEdge(model,model.surface,station1,station2);
+		station1.addEdgeOut(edge);
+		station2.addEdgeIn(edge);
+		model.surface.add(edge);
+	}
+
+	/**
+	 * Test: Wird eine Simulation abgebrochen, so enthlt die Ausgabedatei alle bis dahin
+	 * ausgegebenen Zeilen vollstndig.
+	 * @throws IOException	Fehler beim Lesen der Ausgabedatei
+	 * @throws InterruptedException	Unterbrechung beim Warten auf die Simulation
+	 */
+	@Test
+	void cancelSimulationTest() throws IOException, InterruptedException {
+		SimulationTestTools.init();
+		final File file=new File(tempDir,"cancel.txt");
+
+		final EditModel model=new EditModel();
+		model.clientCount=1_000_000_000L;
+		model.warmUpTime=0;
+
+		final ModelElementSource source=new ModelElementSource(model,model.surface);
+		source.setPosition(new Point(50,100));
+		source.getRecord().setInterarrivalTimeDistribution(new OnePointDistributionImpl(60));
+		model.surface.add(source);
+
+		final ModelElementOutput output=new ModelElementOutput(model,model.surface);
+		output.setPosition(new Point(250,100));
+		output.setOutputFile(file.toString());
+		output.setOutputFileOverwrite(true);
+		output.setSystemFormat(true);
+		output.setOutputActive(true);
+		final List<ModelElementOutput.OutputRecord> records=output.getOutput();
+		records.clear();
+		records.add(new ModelElementOutput.OutputRecord(ModelElementOutput.OutputMode.MODE_EXPRESSION,"ClientNumber"));
+		records.add(new ModelElementOutput.OutputRecord(ModelElementOutput.OutputMode.MODE_NEWLINE,""));
+		model.surface.add(output);
+
+		final ModelElementDispose dispose=new ModelElementDispose(model,model.surface);
+		dispose.setPosition(new Point(450,100));
+		model.surface.add(dispose);
+
+		addEdge(model,source,output);
+		addEdge(model,output,dispose);
+
+		final Simulator simulator=SimulationTestTools.prepare(model,1);
+		simulator.start();
+		final long deadline=System.currentTimeMillis()+30_000;
+		while (file.length()<=(1<<20) && System.currentTimeMillis()<deadline) Thread.sleep(100);
+		Thread.sleep(250);
+		assertTrue(simulator.isRunning());
+		simulator.cancel();
+		simulator.finalizeRun();
+
+		/* Es mssen mehrere Puffer ber den Hintergrund-Thread geschrieben worden sein */
+		assertTrue(file.length()>(1<<20));
+		assertTrue(checkConsecutiveLines(file)>0);
+	}
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package runmodeltests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.runmodel.RunDataQueue;
+
+/**
+ * Prft den Ringpuffer {@link RunDataQueue} gegen eine <code>ArrayList</code>.
+ * @author Alexander Herzog
+ * @see RunDataQueue
+ */
+class RunDataQueueTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunDataQueueTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Prft, ob der Ringpuffer dieselben Elemente in derselben Reihenfolge wie die Vergleichsliste enthlt.
+	 * @param expected	Vergleichsliste
+	 * @param queue	Zu prfender Ringpuffer
+	 */
+	private static void assertSameContent(final List<Integer> expected, final RunDataQueue<Integer> queue) {
+		assertEquals(expected.size(),queue.size());
+		for (int i=0;i<expected.size();i++) assertEquals(expected.get(i),queue.get(i),"Index "+i);
+		assertEquals(expected,queue);
+	}
+
+	/**
+	 * Test: Anhngen und Entnehmen am Anfang, wobei der Anfang des Ringpuffers ber das Array-Ende hinaus wandert
+	 * und der Puffer anschlieend im umgebrochenen Zustand vergrert wird.
+	 */
+	@Test
+	void wrapAroundAndGrowTest() {
+		final RunDataQueue<Integer> queue=new RunDataQueue<>();
+		final List<Integer> expected=new ArrayList<>();
+		int next=0;
+
+		/* Puffer (16 Eintrge) fllen und den Anfang weit nach hinten schieben */
+		for (int i=0;i<16;i++) {queue.add(next); expected.add(next); next++;}
+		for (int i=0;i<12;i++) assertEquals(expected.remove(0),queue.poll());
+		assertSameContent(expected,queue);
+
+		/* Neue Elemente werden physisch am Array-Anfang abgelegt (Umbruch, 12 von 16 Pltzen belegt) */
+		for (int i=0;i<8;i++) {queue.add(next); expected.add(next); next++;}
+		assertSameContent(expected,queue);
+
+		/* Einfgen und Entfernen auf beiden Seiten des Umbruchs (ohne Vergrerung) */
+		queue.add(1,-1); expected.add(1,-1);
+		queue.add(queue.size()-2,-2); expected.add(expected.size()-2,-2);
+		assertSameContent(expected,queue);
+		assertEquals(expected.remove(2),queue.remove(2));
+		assertEquals(expected.remove(expected.size()-3),queue.remove(queue.size()-3));
+		assertSameContent(expected,queue);
+
+		/* Puffer im umgebrochenen Zustand ganz fllen und dann vergrern */
+		for (int i=0;i<4;i++) {queue.add(next); expected.add(next); next++;}
+		assertEquals(16,queue.size());
+		for (int i=0;i<40;i++) {queue.add(next); expected.add(next); next++;}
+		assertSameContent(expected,queue);
+
+		/* Einfgen am Anfang im vollen, umgebrochenen Zustand */
+		while (queue.size()<64) {queue.add(next); expected.add(next); next++;}
+		for (int i=0;i<10;i++) assertEquals(expected.remove(0),queue.poll());
+		while (queue.size()<64) {queue.add(next); expected.add(next); next++;}
+		queue.add(0,-3); expected.add(0,-3);
+		assertSameContent(expected,queue);
+
+		/* Leeren */
+		while (!expected.isEmpty()) assertEquals(expected.remove(0),queue.poll());
+		assertNull(queue.poll());
+		assertTrue(queue.isEmpty());
+	}
+
+	/**
+	 * Test: Zufllige Folgen von <code>add</code>, <code>add(i)</code>, <code>remove(i)</code>, <code>poll</code>,
+	 * <code>set</code> und <code>indexOf</code> liefern dieselben Ergebnisse wie bei einer <code>ArrayList</code>.
+	 */
+	@Test
+	void randomOperationsTest() {
+		final Random random=new Random(42);
+		for (int run=0;run<20;run++) {
+			final RunDataQueue<Integer> queue=new RunDataQueue<>(1+random.nextInt(40));
+			final List<Integer> expected=new ArrayList<>();
+			int next=0;
+
+			for (int step=0;step<5_000;step++) {
+				/* Phasenweise wachsen oder schrumpfen lassen, damit es sowohl lange als auch fast leere Listen gibt */
+				final boolean growPhase=((step/500)%2==0);
+				final int op=random.nextInt(10);
+				if (op<3 || (growPhase && op<5)) {
+					queue.add(next); expected.add(next); next++;
+				} else if (op<5) {
+					final int index=random.nextInt(expected.size()+1);
+					queue.add(index,next); expected.add(index,next); next++;
+				} else if (op<7) {
+					if (expected.isEmpty()) {
+						assertThrows(IndexOutOfBoundsException.class,()->queue.remove(0));
+					} else {
+						final int index=random.nextInt(expected.size());
+						assertEquals(expected.remove(index),queue.remove(index));
+					}
+				} else if (op<9) {
+					assertEquals(expected.isEmpty()?null:expected.remove(0),queue.poll());
+				} else {
+					if (!expected.isEmpty()) {
+						final int index=random.nextInt(expected.size());
+						assertEquals(expected.set(index,-next),queue.set(index,-next));
+						assertEquals(expected.indexOf(-next),queue.indexOf(-next));
+						next++;
+					}
+				}
+				assertEquals(expected.size(),queue.size());
+				if (step%50==0) assertSameContent(expected,queue);
+			}
+			assertSameContent(expected,queue);
+
+			queue.clear();
+			expected.clear();
+			assertSameContent(expected,queue);
+			queue.add(1); expected.add(1);
+			assertSameContent(expected,queue);
+		}
+	}
+
+	/**
+	 * Test: Ungltige Indices werden wie bei einer <code>ArrayList</code> abgewiesen.
+	 */
+	@Test
+	void indexCheckTest() {
+		final RunDataQueue<Integer> queue=new RunDataQueue<>();
+		queue.add(1);
+		assertThrows(IndexOutOfBoundsException.class,()->queue.get(1));
+		assertThrows(IndexOutOfBoundsException.class,()->queue.get(-1));
+		assertThrows(IndexOutOfBoundsException.class,()->queue.add(2,2));
+		assertThrows(IndexOutOfBoundsException.class,()->queue.set(1,2));
+	}
+
+	/**
+	 * Test: Anlegen eines Arrays von Warteschlangen
+	 */
+	@Test
+	void createQueuesTest() {
+		final RunDataQueue<Integer>[] queues=RunDataQueue.createQueues(3);
+		assertEquals(3,queues.length);
+		for (RunDataQueue<Integer> queue: queues) assertTrue(queue.isEmpty());
+		queues[0].add(1);
+		assertTrue(queues[1].isEmpty());
+	}
+}
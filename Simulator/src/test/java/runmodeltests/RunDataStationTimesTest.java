@@ -0,0 +1,194 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package runmodeltests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.runmodel.RunDataStationTimes;
+
+/**
+ * Prft die Speicherung der Zeiten pro Station in {@link RunDataStationTimes}
+ * (lineare Suche und Hash-Index) gegen eine <code>HashMap</code>.
+ * @author Alexander Herzog
+ * @see RunDataStationTimes
+ */
+class RunDataStationTimesTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunDataStationTimesTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Prft, ob die gespeicherten Zeiten mit den erwarteten Zeiten bereinstimmen.
+	 * @param expected	Erwartete Zeiten (Zuordnung von Stations-ID zu Warte-, Transfer-, Bedien- und Verweilzeit)
+	 * @param times	Zu prfendes Objekt
+	 * @param absentIDs	Stations-IDs, fr die keine Eintrge vorliegen drfen (sofern sie nicht in <code>expected</code> enthalten sind)
+	 */
+	private static void assertSameContent(final Map<Integer,long[]> expected, final RunDataStationTimes times, final int[] absentIDs) {
+		assertEquals(expected.size(),times.size());
+		for (Map.Entry<Integer,long[]> entry: expected.entrySet()) {
+			final int position=times.indexOf(entry.getKey());
+			assertTrue(position>=0,"Station "+entry.getKey()+" not found");
+			assertEquals(entry.getKey().intValue(),times.getStationID(position));
+			final long[] values=new long[] {times.getWaitingTime(position),times.getTransferTime(position),times.getProcessTime(position),times.getResidenceTime(position)};
+			assertArrayEquals(entry.getValue(),values,"Station "+entry.getKey());
+		}
+		for (int id: absentIDs) if (!expected.containsKey(id)) assertEquals(-1,times.indexOf(id),"Station "+id);
+	}
+
+	/**
+	 * Addiert Zeiten sowohl in dem zu prfenden Objekt als auch in der Vergleichszuordnung.
+	 * @param expected	Vergleichszuordnung
+	 * @param times	Zu prfendes Objekt
+	 * @param id	Stations-ID
+	 * @param value	Basiswert fr die Zeiten
+	 */
+	private static void add(final Map<Integer,long[]> expected, final RunDataStationTimes times, final int id, final long value) {
+		times.add(id,value,2*value,3*value,4*value);
+		final long[] old=expected.computeIfAbsent(id,i->new long[4]);
+		old[0]+=value;
+		old[1]+=2*value;
+		old[2]+=3*value;
+		old[3]+=4*value;
+	}
+
+	/**
+	 * Test: Beim berschreiten der Grenze fr die lineare Suche werden alle Eintrge in den Hash-Index bernommen;
+	 * beim Entfernen und Wiederverwenden nach <code>clear()</code> bleiben die Daten konsistent.
+	 */
+	@Test
+	void thresholdRemoveAndClearTest() {
+		final RunDataStationTimes times=new RunDataStationTimes();
+		final Map<Integer,long[]> expected=new HashMap<>();
+		/* IDs, die sich in den unteren Bits nicht unterscheiden, um Kollisionen im Hash-Index zu erzeugen */
+		final int[] ids=new int[40];
+		for (int i=0;i<ids.length;i++) ids[i]=i*1024;
+
+		/* Lineare Suche (bis 8 Eintrge) */
+		for (int i=0;i<8;i++) add(expected,times,ids[i],i+1);
+		assertSameContent(expected,times,ids);
+
+		/* 9. Eintrag: Wechsel zum Hash-Index */
+		add(expected,times,ids[8],9);
+		assertSameContent(expected,times,ids);
+
+		/* Weiteres Wachstum (Arrays und Index werden vergrert), bestehende Eintrge werden erneut erhht */
+		for (int i=9;i<ids.length;i++) add(expected,times,ids[i],i+1);
+		for (int i=0;i<ids.length;i+=3) add(expected,times,ids[i],100);
+		assertSameContent(expected,times,ids);
+
+		/* Eintrge entfernen (der letzte Eintrag rckt jeweils an die freie Position) */
+		for (int i=0;i<ids.length;i+=2) {
+			times.removeAt(times.indexOf(ids[i]));
+			expected.remove(ids[i]);
+			assertSameContent(expected,times,ids);
+		}
+
+		/* Entfernen bis unter die Grenze (Rckkehr zur linearen Suche) */
+		for (int i=1;i<ids.length-10;i+=2) {
+			times.removeAt(times.indexOf(ids[i]));
+			expected.remove(ids[i]);
+		}
+		assertEquals(5,times.size());
+		assertSameContent(expected,times,ids);
+
+		/* Ungltige Positionen werden ignoriert */
+		times.removeAt(-1);
+		times.removeAt(times.size());
+		assertSameContent(expected,times,ids);
+
+		/* Wiederverwendung nach clear() */
+		times.clear();
+		expected.clear();
+		assertSameContent(expected,times,ids);
+		for (int i=0;i<ids.length;i++) add(expected,times,ids[ids.length-1-i],i+7);
+		assertSameContent(expected,times,ids);
+		times.clear();
+		expected.clear();
+		for (int i=0;i<3;i++) add(expected,times,ids[i],i+1);
+		assertSameContent(expected,times,ids);
+	}
+
+	/**
+	 * Test: Zufllige Folgen von <code>add</code>, <code>set</code>, <code>removeAt</code>, <code>clear</code>,
+	 * <code>addAll</code> und <code>copyFrom</code> liefern dieselben Ergebnisse wie eine <code>HashMap</code>.
+	 */
+	@Test
+	void randomOperationsTest() {
+		final Random random=new Random(17);
+		final int[] ids=new int[64];
+		for (int i=0;i<ids.length;i++) ids[i]=(i%2==0)?i:(i<<20)-3;
+
+		final RunDataStationTimes times=new RunDataStationTimes();
+		final Map<Integer,long[]> expected=new HashMap<>();
+
+		for (int step=0;step<20_000;step++) {
+			final int op=random.nextInt(100);
+			final int id=ids[random.nextInt((step/2000)%2==0?12:ids.length)];
+			if (op<50) {
+				add(expected,times,id,random.nextInt(1000));
+			} else if (op<70) {
+				final long value=random.nextInt(1000);
+				times.set(id,value,value+1,value+2,value+3);
+				expected.put(id,new long[] {value,value+1,value+2,value+3});
+			} else if (op<95) {
+				final int position=times.indexOf(id);
+				assertEquals(expected.containsKey(id),position>=0);
+				times.removeAt(position);
+				expected.remove(id);
+			} else if (op<97) {
+				times.clear();
+				expected.clear();
+			} else {
+				final RunDataStationTimes copy=new RunDataStationTimes();
+				copy.copyFrom(times);
+				assertSameContent(expected,copy,ids);
+				final RunDataStationTimes sum=new RunDataStationTimes();
+				sum.addAll(times);
+				sum.addAll(copy);
+				final Map<Integer,long[]> expectedSum=new HashMap<>();
+				for (Map.Entry<Integer,long[]> entry: expected.entrySet()) {
+					final long[] doubled=new long[4];
+					for (int i=0;i<4;i++) doubled[i]=2*entry.getValue()[i];
+					expectedSum.put(entry.getKey(),doubled);
+				}
+				assertSameContent(expectedSum,sum,ids);
+			}
+			if (step%25==0) assertSameContent(expected,times,ids);
+		}
+		assertSameContent(expected,times,ids);
+
+		/* Reihenfolge der Positionen enthlt jede Station genau einmal */
+		final List<Integer> seen=new ArrayList<>();
+		for (int i=0;i<times.size();i++) seen.add(times.getStationID(i));
+		assertEquals(expected.size(),seen.stream().distinct().count());
+	}
+}
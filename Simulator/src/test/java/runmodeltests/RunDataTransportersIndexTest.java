@@ -0,0 +1,172 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package runmodeltests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.junit.jupiter.api.Test;
+
+import simulator.editmodel.EditModel;
+import simulator.runmodel.RunDataTransporter;
+import simulator.runmodel.RunDataTransporters;
+import simulator.runmodel.RunModel;
+import simulator.runmodel.SimulationData;
+import simulator.statistics.Statistics;
+import ui.modeleditor.ModelTransporter;
+import ui.modeleditor.ModelTransporterFailure;
+
+/**
+ * Prft die inkrementell gepflegten Zustandsindizes in {@link RunDataTransporters}
+ * nach jedem Ereignis gegen eine lineare Suche ber alle Transporter.
+ * @author Alexander Herzog
+ * @see RunDataTransporters
+ */
+class RunDataTransportersIndexTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public RunDataTransportersIndexTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Liefert das Beispielmodell "Transporter.xml", bei dem alle Transportergruppen regelmig ausfallen.
+	 * @return	Modell
+	 */
+	private static EditModel getModel() {
+		final EditModel editModel=SimulationTestTools.loadExample("Transporter.xml");
+		editModel.useFixedSeed=true;
+		editModel.fixedSeed=4711;
+		editModel.clientCount=2_000;
+		editModel.warmUpTime=0;
+		for (ModelTransporter transporter: editModel.transporters.getTransporters()) {
+			final ModelTransporterFailure failure=new ModelTransporterFailure();
+			failure.setFailureByNumber(3);
+			failure.setDownTimeDistribution(new ExponentialDistribution(null,120,ExponentialDistribution.DEFAULT_INVERSE_ABSOLUTE_ACCURACY));
+			transporter.getFailures().add(failure);
+		}
+		return editModel;
+	}
+
+	/**
+	 * Zhler fr die whrend der Simulation beobachteten Zustnde
+	 */
+	private static final class Observed {
+		/** Anzahl an Prfungen, bei denen mindestens ein Transporter fuhr */
+		int moving;
+		/** Anzahl an Prfungen, bei denen mindestens ein Transporter in einer Pause war */
+		int paused;
+		/** Anzahl an Prfungen, bei denen mindestens ein Transporter wartend und verfgbar war */
+		int idle;
+	}
+
+	/**
+	 * Vergleicht alle Abfragen von {@link RunDataTransporters} mit einer linearen Suche ber alle Transporter.
+	 * @param simData	Simulationsdatenobjekt
+	 * @param observed	Zhler fr die beobachteten Zustnde
+	 */
+	private static void checkIndex(final SimulationData simData, final Observed observed) {
+		final RunDataTransporters transporters=simData.runData.transporters;
+		final RunDataTransporter[] all=transporters.getTransporters();
+		final int stationCount=simData.runModel.elementsFast.length;
+
+		boolean anyMoving=false;
+		boolean anyPaused=false;
+		boolean anyIdle=false;
+		for (int type=0;type<transporters.type.length;type++) {
+			/* Fahrende Transporter */
+			int working=0;
+			for (RunDataTransporter transporter: all) if (transporter.type==type && transporter.inTransfer) working++;
+			assertEquals(working,transporters.getWorkingTransporters(type));
+			if (working>0) anyMoving=true;
+
+			for (RunDataTransporter transporter: all) if (transporter.type==type && !transporter.inTransfer) {
+				if (transporter.onlineAgainAt>0) anyPaused=true; else anyIdle=true;
+			}
+
+			for (int station=-1;station<=stationCount;station++) {
+				/* Anzahl an nicht fahrenden Transportern (einschlielich Pausen) an der Station */
+				int count=0;
+				for (RunDataTransporter transporter: all) if (transporter.type==type && !transporter.inTransfer && transporter.position==station) count++;
+				assertEquals((station<0)?0:count,transporters.getWaitingTransporterCount(type,station),"type "+type+", station "+station);
+
+				/* Erster wartender und verfgbarer Transporter an der Station (Reihenfolge der Transporterliste) */
+				RunDataTransporter waiting=null;
+				if (station>=0) for (RunDataTransporter transporter: all) if (transporter.type==type && !transporter.inTransfer && transporter.onlineAgainAt<=0 && transporter.position==station) {waiting=transporter; break;}
+				assertSame(waiting,transporters.getWaitingTransporter(type,station),"type "+type+", station "+station);
+
+				/* Erster wartender und verfgbarer Transporter an einer anderen Station (ohne Verteidigung durch die Ausgangsstation) */
+				RunDataTransporter other=null;
+				for (RunDataTransporter transporter: all) if (transporter.type==type && !transporter.inTransfer && transporter.onlineAgainAt<=0 && transporter.position!=station) {other=transporter; break;}
+				assertSame(other,transporters.getWaitingTransporterAtOtherStation(type,station,Double.POSITIVE_INFINITY,simData),"type "+type+", station "+station);
+			}
+		}
+
+		if (anyMoving) observed.moving++;
+		if (anyPaused) observed.paused++;
+		if (anyIdle) observed.idle++;
+	}
+
+	/**
+	 * Test: Nach jedem Ereignis einer Simulation mit Transporterausfllen stimmen die Ergebnisse der
+	 * indexbasierten Abfragen mit denen einer linearen Suche berein. Die schrittweise Simulation mit
+	 * diesen Vergleichen liefert dieselben Ergebnisse wie eine normale Simulation mit demselben Startwert.
+	 */
+	@Test
+	void indexMatchesScanTest() {
+		/* Normale Simulation (installiert zugleich den Zufallszahlengenerator mit festem Startwert) */
+		final Statistics regular=SimulationTestTools.simulate(getModel(),1);
+
+		final EditModel editModel=getModel();
+		final Object obj=RunModel.getRunModel(editModel,null,false,false);
+		assertTrue(obj instanceof RunModel,(obj instanceof String)?((String)obj):null);
+		final RunModel runModel=(RunModel)obj;
+
+		final SimulationData simData=new SimulationData(0,1,null,runModel,null,null);
+		simData.initDay(0,0,false);
+		simData.eventManager.resetTime();
+
+		final Observed observed=new Observed();
+		checkIndex(simData,observed);
+		long events=0;
+		while (simData.eventManager.executeNextEvents(simData,1,1000)) {
+			checkIndex(simData,observed);
+			events++;
+		}
+		checkIndex(simData,observed);
+		simData.terminateCleanUp(simData.currentTime);
+		simData.finalTerminateCleanUp(events);
+
+		/* Es mssen alle relevanten Zustnde aufgetreten sein */
+		assertTrue(events>1000);
+		assertTrue(observed.moving>0);
+		assertTrue(observed.paused>0);
+		assertTrue(observed.idle>0);
+
+		/* Vergleich mit einer normalen Simulation */
+		final Statistics stepped=simData.statistics;
+		assertEquals(regular.clientsAllResidenceTimes.getCount(),stepped.clientsAllResidenceTimes.getCount());
+		assertEquals(regular.clientsAllResidenceTimes.getMean(),stepped.clientsAllResidenceTimes.getMean());
+		assertEquals(regular.clientsAllWaitingTimes.getMean(),stepped.clientsAllWaitingTimes.getMean());
+		assertEquals(regular.clientsAllTransferTimes.getMean(),stepped.clientsAllTransferTimes.getMean());
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package runmodeltests;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import language.Language;
+import language.LanguageStaticLoader;
+import simulator.Simulator;
+import simulator.StartAnySimulator;
+import simulator.editmodel.EditModel;
+import simulator.examples.EditModelExamples;
+import simulator.statistics.Statistics;
+import ui.modeleditor.coreelements.ModelElement;
+
+/**
+ * Hilfsfunktionen zum Laden von Beispielmodellen und zur Durchfhrung von Simulationen in Tests
+ * @author Alexander Herzog
+ */
+public final class SimulationTestTools {
+	/**
+	 * Wurde das Sprachsystem bereits initialisiert?
+	 * @see #init()
+	 */
+	private static boolean initDone=false;
+
+	/**
+	 * Konstruktor der Klasse<br>
+	 * Diese Klasse stellt nur statische Methoden zur Verfgung und kann nicht instanziert werden.
+	 */
+	private SimulationTestTools() {
+	}
+
+	/**
+	 * Initialisiert das Sprachsystem (muss vor dem Laden von Modellen aufgerufen werden).
+	 */
+	public static synchronized void init() {
+		if (initDone) return;
+		Language.init("de");
+		LanguageStaticLoader.setLanguage();
+		initDone=true;
+	}
+
+	/**
+	 * Ldt ein Beispielmodell.
+	 * @param fileName	Dateiname des Beispielmodells (siehe {@link EditModelExamples.Example#file})
+	 * @return	Beispielmodell
+	 */
+	public static EditModel loadExample(final String fileName) {
+		init();
+		final List<EditModelExamples.Example> list=EditModelExamples.getList();
+		for (int i=0;i<list.size();i++) if (list.get(i).file.equalsIgnoreCase(fileName)) {
+			final EditModel editModel=EditModelExamples.getExampleByIndex(null,i);
+			assertNotNull(editModel);
+			return editModel;
+		}
+		throw new IllegalArgumentException("Unknown example model: "+fileName);
+	}
+
+	/**
+	 * Liefert ein Element aus der Hauptebene eines Modells.
+	 * @param <T>	Typ des Elements
+	 * @param editModel	Modell
+	 * @param cls	Klasse des Elements
+	 * @return	Erstes Element des angegebenen Typs
+	 */
+	public static <T extends ModelElement> T getElement(final EditModel editModel, final Class<T> cls) {
+		for (ModelElement element: editModel.surface.getElements()) if (cls.isInstance(element)) return cls.cast(element);
+		throw new IllegalArgumentException("No element of type "+cls.getSimpleName());
+	}
+
+	/**
+	 * Bereitet eine Simulation vor.
+	 * @param editModel	Zu simulierendes Modell
+	 * @param threadCount	Maximale Anzahl an Simulationsthreads
+	 * @return	Vorbereiteter, aber noch nicht gestarteter Simulator
+	 */
+	public static Simulator prepare(final EditModel editModel, final int threadCount) {
+		init();
+		final Simulator simulator=new Simulator(threadCount,editModel,null,null,null,null);
+		final StartAnySimulator.PrepareError error=simulator.prepare();
+		assertNull(error,(error==null)?null:error.error);
+		return simulator;
+	}
+
+	/**
+	 * Fhrt eine vollstndige Simulation durch.
+	 * @param editModel	Zu simulierendes Modell
+	 * @param threadCount	Maximale Anzahl an Simulationsthreads
+	 * @return	Statistikergebnisse
+	 */
+	public static Statistics simulate(final EditModel editModel, final int threadCount) {
+		final Simulator simulator=prepare(editModel,threadCount);
+		simulator.start();
+		simulator.finalizeRun();
+		final Statistics statistics=simulator.getStatistic();
+		assertNotNull(statistics);
+		return statistics;
+	}
+}
@@ -0,0 +1,273 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package runmodeltests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.editmodel.EditModel;
+import simulator.runmodel.StateChangeDependencies;
+import simulator.statistics.Statistics;
+import ui.modeleditor.elements.ModelElementBarrierPull;
+import ui.modeleditor.elements.ModelElementHold;
+
+/**
+ * Prft die Auswahl der zu benachrichtigenden <code>StateChangeListener</code>
+ * ber {@link StateChangeDependencies}.
+ * @author Alexander Herzog
+ * @see StateChangeDependencies
+ */
+class StateChangeDependenciesTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public StateChangeDependenciesTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Test: Listener werden nur benachrichtigt, wenn sich ihre Variablen verndert haben
+	 */
+	@Test
+	void skipUnchangedTest() {
+		/* Listener 0 hngt von Variable 0 ab, Listener 1 von Variable 1 und 2, Listener 2 von allem */
+		final double[] values=new double[]{1,2,3};
+		final StateChangeDependencies dependencies=new StateChangeDependencies(new int[][]{{0},{1,2},null},values);
+
+		/* Erste Runde: alle Listener werden benachrichtigt */
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+		assertTrue(dependencies.startNotify(1));
+		assertTrue(dependencies.startNotify(2));
+
+		/* Keine Vernderung: nur Listener ohne Abhngigkeitsliste */
+		dependencies.nextRound(values);
+		assertFalse(dependencies.startNotify(0));
+		assertFalse(dependencies.startNotify(1));
+		assertTrue(dependencies.startNotify(2));
+
+		/* Vernderung von Variable 2 */
+		values[2]=4;
+		dependencies.nextRound(values);
+		assertFalse(dependencies.startNotify(0));
+		assertTrue(dependencies.startNotify(1));
+		assertTrue(dependencies.startNotify(2));
+
+		/* Danach wieder keine Vernderung */
+		dependencies.nextRound(values);
+		assertFalse(dependencies.startNotify(0));
+		assertFalse(dependencies.startNotify(1));
+	}
+
+	/**
+	 * Test: Eine Vernderung, die in einer Runde auftritt, in der der Listener nicht geprft wurde, darf nicht verloren gehen
+	 */
+	@Test
+	void changeBetweenChecksTest() {
+		final double[] values=new double[]{1};
+		final StateChangeDependencies dependencies=new StateChangeDependencies(new int[][]{{0}},values);
+
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+
+		/* Vernderung, ohne dass der Listener in dieser Runde geprft wird */
+		values[0]=5;
+		dependencies.nextRound(values);
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+		assertFalse(dependencies.startNotify(0));
+
+		/* Hin und zurck zhlt ebenfalls als Vernderung, wenn dazwischen eine Runde lag */
+		values[0]=6;
+		dependencies.nextRound(values);
+		values[0]=5;
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+	}
+
+	/**
+	 * Test: Explizit angeforderte Benachrichtigungen werden unabhngig von den Variablen ausgefhrt
+	 */
+	@Test
+	void requestNotifyTest() {
+		final double[] values=new double[]{1};
+		final StateChangeDependencies dependencies=new StateChangeDependencies(new int[][]{{0}},values);
+
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+		dependencies.nextRound(values);
+		assertFalse(dependencies.startNotify(0));
+
+		dependencies.requestNotify(0);
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+		dependencies.nextRound(values);
+		assertFalse(dependencies.startNotify(0));
+	}
+
+	/**
+	 * Test: NaN-Werte und das Vorzeichen von 0 werden als Werte verglichen
+	 */
+	@Test
+	void specialValuesTest() {
+		final double[] values=new double[]{Double.NaN};
+		final StateChangeDependencies dependencies=new StateChangeDependencies(new int[][]{{0}},values);
+
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+		dependencies.nextRound(values);
+		assertFalse(dependencies.startNotify(0));
+
+		values[0]=0.0;
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+		values[0]=-0.0;
+		dependencies.nextRound(values);
+		assertTrue(dependencies.startNotify(0));
+	}
+
+	/**
+	 * Test: Listener, die von Zustandsgren auerhalb der Variablen abhngen, werden nur benachrichtigt, wenn sich diese verndert haben
+	 */
+	@Test
+	void cellDependenciesTest() {
+		/* Listener 0 hngt von Zustandsgre 0 ab, Listener 1 von Variable 0 und Zustandsgre 1 */
+		final double[] values=new double[]{1};
+		final double[] state=new double[]{10,20};
+		final StateChangeDependencies.Cell[] cells=new StateChangeDependencies.Cell[]{simData->state[0],simData->state[1]};
+		final StateChangeDependencies dependencies=new StateChangeDependencies(new int[][]{{},{0}},new int[][]{{0},{1}},cells,values,null);
+
+		dependencies.nextRound(values,null);
+		assertTrue(dependencies.startNotify(0));
+		assertTrue(dependencies.startNotify(1));
+
+		dependencies.nextRound(values,null);
+		assertFalse(dependencies.startNotify(0));
+		assertFalse(dependencies.startNotify(1));
+
+		/* Vernderung von Zustandsgre 1 */
+		state[1]=21;
+		dependencies.nextRound(values,null);
+		assertFalse(dependencies.startNotify(0));
+		assertTrue(dependencies.startNotify(1));
+
+		/* Vernderung von Zustandsgre 0, ohne dass Listener 0 in dieser Runde geprft wird */
+		state[0]=11;
+		dependencies.nextRound(values,null);
+		dependencies.nextRound(values,null);
+		assertTrue(dependencies.startNotify(0));
+		assertFalse(dependencies.startNotify(1));
+
+		/* Vernderung der Variable betrifft nur Listener 1 */
+		values[0]=2;
+		dependencies.nextRound(values,null);
+		assertFalse(dependencies.startNotify(0));
+		assertTrue(dependencies.startNotify(1));
+	}
+
+	/**
+	 * Simuliert das Beispielmodell "Variable.xml" mit einer Bedingung an der Verzgerungsstation
+	 * @param condition	Bedingung an der Verzgerungsstation
+	 * @return	Statistikergebnisse
+	 */
+	private Statistics simulateVariableModel(final String condition) {
+		final EditModel editModel=SimulationTestTools.loadExample("Variable.xml");
+		editModel.useFixedSeed=true;
+		editModel.fixedSeed=77;
+		editModel.clientCount=20_000;
+		editModel.warmUpTime=0;
+		final ModelElementHold hold=SimulationTestTools.getElement(editModel,ModelElementHold.class);
+		hold.setCondition(condition);
+		return SimulationTestTools.simulate(editModel,1);
+	}
+
+	/**
+	 * Test: Eine Bedingung, die nur von Variablen abhngt (und daher bersprungen werden kann),
+	 * liefert dieselben Ergebnisse wie eine Bedingung, die zustzlich von der Anzahl an Kunden im System
+	 * abhngt (und daher bei jeder Zustandsnderung geprft wird).
+	 */
+	@Test
+	void skipMatchesBroadcastTest() {
+		final Statistics optimized=simulateVariableModel("a<m");
+		final Statistics broadcast=simulateVariableModel("a<m+0*WIP()");
+
+		assertTrue(optimized.clientsAllWaitingTimes.getCount()>0);
+		assertEquals(broadcast.clientsAllWaitingTimes.getCount(),optimized.clientsAllWaitingTimes.getCount());
+		assertEquals(broadcast.clientsAllWaitingTimes.getMean(),optimized.clientsAllWaitingTimes.getMean());
+		assertEquals(broadcast.clientsAllResidenceTimes.getMean(),optimized.clientsAllResidenceTimes.getMean());
+		assertEquals(broadcast.clientsAllResidenceTimes.getMax(),optimized.clientsAllResidenceTimes.getMax());
+	}
+
+	/**
+	 * Test: Bedingungen, die von der Anzahl an Kunden an einer Station oder von der Belegung einer Ressource abhngen
+	 * (und daher nur bei Vernderungen dieser Werte geprft werden), liefern dieselben Ergebnisse wie bei einer
+	 * Prfung bei jeder Zustandsnderung.
+	 */
+	@Test
+	void stationResourceMatchesBroadcastTest() {
+		/* Station 4 ist die Bedienstation, Ressource 1 die Bedienergruppe */
+		final String[] conditions=new String[]{"WIP(4)<2","NQ(4)<1","resource(1)<1","a<m && WIP(4)+NQ(4)<3"};
+
+		for (String condition: conditions) {
+			final Statistics optimized=simulateVariableModel(condition);
+			final Statistics broadcast=simulateVariableModel(condition+" && WIP()>=0");
+
+			assertTrue(optimized.clientsAllWaitingTimes.getCount()>0,condition);
+			assertEquals(broadcast.clientsAllWaitingTimes.getCount(),optimized.clientsAllWaitingTimes.getCount(),condition);
+			assertEquals(broadcast.clientsAllWaitingTimes.getMean(),optimized.clientsAllWaitingTimes.getMean(),condition);
+			assertEquals(broadcast.clientsAllResidenceTimes.getMean(),optimized.clientsAllResidenceTimes.getMean(),condition);
+			assertEquals(broadcast.clientsAllResidenceTimes.getMax(),optimized.clientsAllResidenceTimes.getMax(),condition);
+		}
+	}
+
+	/**
+	 * Simuliert das Beispielmodell "PushPull.xml" mit einer Maximalanzahl an Kunden an der Pull-Barriere
+	 * @param maxClients	Maximalanzahl an Kunden in dem berwachten Abschnitt
+	 * @return	Statistikergebnisse
+	 */
+	private Statistics simulatePullModel(final String maxClients) {
+		final EditModel editModel=SimulationTestTools.loadExample("PushPull.xml");
+		editModel.useFixedSeed=true;
+		editModel.fixedSeed=77;
+		editModel.clientCount=20_000;
+		editModel.warmUpTime=0;
+		final ModelElementBarrierPull barrier=SimulationTestTools.getElement(editModel,ModelElementBarrierPull.class);
+		barrier.setNextMax(maxClients);
+		return SimulationTestTools.simulate(editModel,1);
+	}
+
+	/**
+	 * Test: Eine Pull-Barriere, die nur bei Vernderungen der Kundenanzahlen im berwachten Abschnitt geprft wird,
+	 * liefert dieselben Ergebnisse wie bei einer Prfung bei jeder Zustandsnderung.
+	 */
+	@Test
+	void barrierPullMatchesBroadcastTest() {
+		final Statistics optimized=simulatePullModel("3");
+		final Statistics broadcast=simulatePullModel("3+0*WIP()");
+
+		assertTrue(optimized.clientsAllWaitingTimes.getCount()>0);
+		assertEquals(broadcast.clientsAllWaitingTimes.getCount(),optimized.clientsAllWaitingTimes.getCount());
+		assertEquals(broadcast.clientsAllWaitingTimes.getMean(),optimized.clientsAllWaitingTimes.getMean());
+		assertEquals(broadcast.clientsAllResidenceTimes.getMean(),optimized.clientsAllResidenceTimes.getMean());
+		assertEquals(broadcast.clientsAllResidenceTimes.getMax(),optimized.clientsAllResidenceTimes.getMax());
+	}
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simparsertests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import parser.MathCalcError;
+import parser.coresymbols.CalcSymbol;
+import scripting.java.DynamicFactory;
+import simulator.simparser.ExpressionCalc;
+import simulator.simparser.ExpressionCalcCompiler;
+
+/**
+ * Prft, ob die ber {@link ExpressionCalcCompiler} bersetzten Ausdrcke
+ * bitgenau dieselben Ergebnisse wie der Interpreter liefern.
+ * @author Alexander Herzog
+ * @see ExpressionCalcCompiler
+ */
+class ExpressionCalcCompilerTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public ExpressionCalcCompilerTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Variablennamen fr die Testausdrcke
+	 */
+	private static final String[] VARIABLES=new String[]{"a","b","c"};
+
+	/**
+	 * Testausdrcke
+	 */
+	private static final String[] EXPRESSIONS=new String[] {
+			"a+b*c",
+			"(a-b)/c",
+			"a/(b-b)",
+			"a^b+c^0.5",
+			"a+b-c",
+			"abs(a-b)*sqrt(c)",
+			"exp(a/10)-log(b)",
+			"log(c;2)+log(a)",
+			"floor(a/3)+ceil(b/3)+round(c/3)",
+			"min(a;b;c)*max(a;b;c)",
+			"min(a;b)-max(b;c)",
+			"sqrt(a-b-c)",
+			"(a+0.1)*(b+0.2)*(c+0.3)/7",
+			"a/b/c/3"
+	};
+
+	/**
+	 * Testwerte fr die Variablen
+	 */
+	private static final double[][] VALUES=new double[][] {
+		{1,2,3},
+		{0,0,0},
+		{-1.5,2.25,7},
+		{1E-300,1E300,0.1},
+		{123.456,-0.001,99},
+		{-0.0,0.0,1},
+		{Double.NaN,1,2},
+		{Double.POSITIVE_INFINITY,Double.NEGATIVE_INFINITY,5}
+	};
+
+	/**
+	 * Rechensystem mit Zugriff auf den Symbolbaum
+	 */
+	private static final class TestExpressionCalc extends ExpressionCalc {
+		/**
+		 * Konstruktor der Klasse
+		 */
+		public TestExpressionCalc() {
+			super(VARIABLES);
+		}
+
+		/**
+		 * Liefert die Wurzel des Symbolbaums.
+		 * @return	Wurzel des Symbolbaums
+		 */
+		public CalcSymbol getRoot() {
+			return root;
+		}
+	}
+
+	/**
+	 * Wertet einen Ausdruck aus und liefert das Ergebnis als Bitmuster oder <code>null</code>, wenn ein Fehler aufgetreten ist.
+	 * @param calc	Rechensystem
+	 * @param compiled	bersetzter Ausdruck (oder <code>null</code>, wenn der Interpreter verwendet werden soll)
+	 * @param values	Werte der Variablen
+	 * @return	Bitmuster des Ergebnisses oder <code>null</code> im Fehlerfall
+	 */
+	private static Long evaluate(final ExpressionCalc calc, final ExpressionCalcCompiler.Compiled compiled, final double[] values) {
+		try {
+			if (compiled==null) return Double.doubleToRawLongBits(calc.calc(values));
+			calc.values=values;
+			return Double.doubleToRawLongBits(compiled.calc(values,calc));
+		} catch (MathCalcError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Test: bersetzte und interpretierte Ausdrcke liefern bitgenau dieselben Ergebnisse
+	 * und schlagen fr dieselben Eingabewerte fehl.
+	 * @throws InterruptedException	Unterbrechung whrend des Wartens auf die bersetzung
+	 */
+	@Test
+	void compiledMatchesInterpreterTest() throws InterruptedException {
+		assertTrue(DynamicFactory.hasCompiler());
+
+		for (String expression: EXPRESSIONS) {
+			final TestExpressionCalc calc=new TestExpressionCalc();
+			assertEquals(-1,calc.parse(expression),expression);
+
+			final ExpressionCalcCompiler.Request request=ExpressionCalcCompiler.compile(calc.getRoot(),-1);
+			assertNotNull(request,expression);
+			final long end=System.currentTimeMillis()+60_000;
+			while (!request.isDone() && System.currentTimeMillis()<end) Thread.sleep(10);
+			final ExpressionCalcCompiler.Compiled compiled=request.get();
+			assertNotNull(compiled,expression);
+
+			for (double[] values: VALUES) {
+				final Long interpreted=evaluate(calc,null,values);
+				final Long result=evaluate(calc,compiled,values);
+				assertEquals(interpreted,result,expression+" @ "+values[0]+", "+values[1]+", "+values[2]);
+			}
+		}
+	}
+
+	/**
+	 * Test: Eine separat bergebene zustzliche Variable liefert im bersetzten Ausdruck dieselben Ergebnisse
+	 * wie im Interpreter, und ein im Werte-Array vorhandener Eintrag hat in beiden Fllen Vorrang.
+	 * @throws InterruptedException	Unterbrechung whrend des Wartens auf die bersetzung
+	 */
+	@Test
+	void extraValueTest() throws InterruptedException {
+		final TestExpressionCalc calc=new TestExpressionCalc();
+		assertEquals(-1,calc.parse("a*10+c"));
+		calc.setExtraValue(2,5);
+
+		final ExpressionCalcCompiler.Request request=ExpressionCalcCompiler.compile(calc.getRoot(),calc.getExtraValueIndex());
+		assertNotNull(request);
+		final long end=System.currentTimeMillis()+60_000;
+		while (!request.isDone() && System.currentTimeMillis()<end) Thread.sleep(10);
+		final ExpressionCalcCompiler.Compiled compiled=request.get();
+		assertNotNull(compiled);
+
+		/* Array ohne die zustzliche Variable: Es wird der zustzliche Wert verwendet */
+		final double[] shortValues=new double[]{1,2};
+		assertEquals(Double.doubleToRawLongBits(15),evaluate(calc,null,shortValues));
+		assertEquals(Double.doubleToRawLongBits(15),evaluate(calc,compiled,shortValues));
+
+		/* Array mit Eintrag fr die zustzliche Variable: Der Eintrag im Array hat Vorrang */
+		final double[] longValues=new double[]{1,2,3};
+		assertEquals(Double.doubleToRawLongBits(13),evaluate(calc,null,longValues));
+		assertEquals(Double.doubleToRawLongBits(13),evaluate(calc,compiled,longValues));
+	}
+
+	/**
+	 * Test: Ausdrcke, die (wie Zufallszahlen) nicht bersetzt werden knnen, werden nicht zur bersetzung angenommen
+	 */
+	@Test
+	void notCompilableTest() {
+		final TestExpressionCalc calc=new TestExpressionCalc();
+		assertEquals(-1,calc.parse("random()"));
+		assertEquals(null,ExpressionCalcCompiler.compile(calc.getRoot(),-1));
+	}
+}
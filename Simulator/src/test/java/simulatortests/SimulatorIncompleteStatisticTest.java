@@ -0,0 +1,96 @@
+/**
+ * Copyright 2026 Alexander Herzog
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package simulatortests;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.web.HandlerStatus;
+import runmodeltests.SimulationTestTools;
+import simulator.Simulator;
+import simulator.editmodel.EditModel;
+import simulator.statistics.Statistics;
+
+/**
+ * Prft das Abrufen von Zwischenergebnissen whrend einer laufenden Simulation.
+ * @author Alexander Herzog
+ * @see Simulator#getIncompleteStatistic(long)
+ */
+class SimulatorIncompleteStatisticTest {
+	/**
+	 * Konstruktor der Klasse
+	 */
+	public SimulatorIncompleteStatisticTest() {
+		/*
+		 * Wird nur bentigt, um einen JavaDoc-Kommentar fr diesen (impliziten) Konstruktor
+		 * setzen zu knnen, damit der JavaDoc-Compiler keine Warnung mehr ausgibt.
+		 */
+	}
+
+	/**
+	 * Startet eine Simulation, die so viele Kunden umfasst, dass sie whrend des Tests nicht abgeschlossen wird.
+	 * @param threadCount	Maximale Anzahl an Simulationsthreads
+	 * @return	Gestarteter Simulator
+	 */
+	private static Simulator startLongRun(final int threadCount) {
+		final EditModel editModel=SimulationTestTools.loadExample("Kundentypen.xml");
+		editModel.clientCount=1_000_000_000L;
+		editModel.warmUpTime=0;
+		final Simulator simulator=SimulationTestTools.prepare(editModel,threadCount);
+		simulator.start();
+		return simulator;
+	}
+
+	/**
+	 * Test: Der erste Abruf whrend einer laufenden (nicht pausierten) Simulation wartet
+	 * auf die Momentaufnahmen aller Threads und liefert daher bereits Daten.
+	 * Sptere Abrufe liefern mindestens so viele Kunden wie die vorherigen.
+	 */
+	@Test
+	void runningSimulationTest() {
+		final Simulator simulator=startLongRun(2);
+		try {
+			final Statistics first=simulator.getIncompleteStatistic();
+			assertNotNull(first);
+			final long firstCount=first.clientsAllResidenceTimes.getCount();
+			assertTrue(firstCount>0);
+
+			final Statistics second=simulator.getIncompleteStatistic(0);
+			assertNotNull(second);
+			assertTrue(second.clientsAllResidenceTimes.getCount()>=firstCount);
+
+			final String json=HandlerStatus.getPartialResultsJSON(second,"");
+			assertTrue(json.contains("\"clients\": \""+second.clientsAllResidenceTimes.getCount()+"\""));
+		} finally {
+			simulator.cancel();
+			simulator.finalizeRun();
+		}
+	}
+
+	/**
+	 * Test: Nach dem Ende der Simulation stehen keine Zwischenergebnisse mehr zur Verfgung.
+	 */
+	@Test
+	void finishedSimulationTest() {
+		final Simulator simulator=startLongRun(1);
+		simulator.cancel();
+		simulator.finalizeRun();
+		assertNull(simulator.getIncompleteStatistic(0));
+	}
+}